@@ -0,0 +1,90 @@
+package com.fream_v2.sell_service.domain.sell;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fream_v2.sell_service.domain.sell.domain.model.Sell;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellStatus;
+import com.fream_v2.sell_service.domain.sell.infrastructure.persistence.converter.LazyJsonMetadata;
+import com.fream_v2.sell_service.infrastructure.persistence.entity.SellEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 판매 도메인 복사 메서드 / 엔티티 매핑 벤치마크
+ * 불변 모델을 빌더로 다시 만드는 비용(시간, gc.alloc.rate.norm)을 측정
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class SellModelBenchmark {
+
+    private static final long NOW = System.currentTimeMillis();
+
+    private Sell sell;
+    private SellEntity entity;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+        entity = SellEntity.builder()
+                .id(1L)
+                .sellerId(10L)
+                .productId(100L)
+                .price(120_000L)
+                .minPrice(100_000L)
+                .description("미개봉 새상품, 정품 인증서 포함")
+                .status(SellStatus.PENDING.name())
+                .viewCount(42)
+                .metadata(LazyJsonMetadata.ofRaw("{\"size\":\"270\",\"color\":\"black\"}"
+                        .getBytes(StandardCharsets.UTF_8), new ObjectMapper()))
+                .listedAt(now)
+                .expiresAt(now.plusDays(30))
+                .updatedAt(now)
+                .version(3L)
+                .build();
+        sell = entity.toDomain();
+    }
+
+    @Benchmark
+    public Sell updatePrice() {
+        return sell.updatePrice(110_000L, null, NOW);
+    }
+
+    @Benchmark
+    public Sell changeStatus() {
+        return sell.changeStatus(SellStatus.MATCHED, NOW);
+    }
+
+    @Benchmark
+    public Sell incrementViewCount() {
+        return sell.incrementViewCount();
+    }
+
+    @Benchmark
+    public Sell createSell() {
+        return Sell.createSell(10L, 100L, 120_000L, 100_000L, "미개봉 새상품", NOW);
+    }
+
+    @Benchmark
+    public Sell entityToDomain() {
+        return entity.toDomain();
+    }
+
+    @Benchmark
+    public SellEntity entityFromDomain() {
+        return SellEntity.fromDomain(sell);
+    }
+
+    @Benchmark
+    public SellEntity entityUpdateFromDomain() {
+        return SellEntity.updateFromDomain(sell);
+    }
+}
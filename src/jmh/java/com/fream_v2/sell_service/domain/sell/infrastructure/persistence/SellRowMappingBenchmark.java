@@ -0,0 +1,107 @@
+package com.fream_v2.sell_service.domain.sell.infrastructure.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fream_v2.sell_service.domain.sell.domain.model.Sell;
+import com.fream_v2.sell_service.domain.sell.infrastructure.persistence.converter.SellRowMapper;
+import com.fream_v2.sell_service.domain.sell.infrastructure.persistence.repository.SellR2dbcRepository;
+import com.fream_v2.sell_service.domain.sell.infrastructure.persistence.repository.SellRepositoryAdapter;
+import com.fream_v2.sell_service.global.config.R2dbcConfig;
+import com.fream_v2.sell_service.infrastructure.persistence.entity.SellEntity;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.r2dbc.convert.MappingR2dbcConverter;
+import org.springframework.data.r2dbc.convert.R2dbcCustomConversions;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.dialect.DialectResolver;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactory;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 10만 행 스캔 시 행 매핑 경로 비교 (H2 R2DBC)
+ *
+ * - entityPath: Row → 리플렉션 SellEntity → toDomain() (기존 경로)
+ * - rowMapperPath: Row → SellRowMapper → Sell (컬럼 인덱스 직접 읽기)
+ *
+ * 결과는 행 1건 기준 (ns/row, gc.alloc.rate.norm B/row)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+public class SellRowMappingBenchmark {
+
+    private static final int ROWS = 100_000;
+    private static final int INSERT_BATCH = 1_000;
+
+    private R2dbcEntityTemplate template;
+    private SellRepositoryAdapter repository;
+
+    @Setup
+    public void setUp() {
+        ConnectionFactory connectionFactory = ConnectionFactories.get(
+                "r2dbc:h2:mem:///" + UUID.randomUUID() + "?options=DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("schema-h2.sql"))
+                .populate(connectionFactory)
+                .block();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        R2dbcCustomConversions conversions = new R2dbcConfig().r2dbcCustomConversions(connectionFactory, objectMapper);
+        R2dbcMappingContext mappingContext = new R2dbcMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        template = new R2dbcEntityTemplate(DatabaseClient.create(connectionFactory),
+                DialectResolver.getDialect(connectionFactory), new MappingR2dbcConverter(mappingContext, conversions));
+        repository = new SellRepositoryAdapter(
+                new R2dbcRepositoryFactory(template).getRepository(SellR2dbcRepository.class), template,
+                new SellRowMapper(objectMapper));
+
+        long nowMillis = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        Flux.range(0, ROWS / INSERT_BATCH)
+                .concatMap(batch -> repository.insertAll(IntStream.range(0, INSERT_BATCH)
+                        .mapToObj(i -> Sell.createSell((long) i % 500, (long) batch, 10_000L + i, 9_000L, "item " + i, nowMillis))
+                        .toList()))
+                .blockLast();
+        long matchable = repository.findAllMatchable(now).count().block();
+        if (matchable != ROWS) {
+            throw new IllegalStateException("적재된 행 수가 다릅니다: " + matchable);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long entityPath() {
+        return template.select(SellEntity.class)
+                .all()
+                .map(SellEntity::toDomain)
+                .reduce(0L, (sum, sell) -> sum + sell.getPrice())
+                .block();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long rowMapperPath() {
+        return repository.findAllMatchable(LocalDateTime.MIN)
+                .reduce(0L, (sum, sell) -> sum + sell.getPrice())
+                .block();
+    }
+}
@@ -0,0 +1,195 @@
+package com.fream_v2.sell_service.global.presentation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fream_v2.sell_service.domain.sell.domain.exception.SellErrorCode;
+import com.fream_v2.sell_service.domain.sell.domain.exception.SellException;
+import com.fream_v2.sell_service.domain.sell.domain.model.Sell;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellStatus;
+import com.fream_v2.sell_service.domain.sell.presentation.dto.response.SellResponse;
+import com.fream_v2.sell_service.global.common.dto.PageInfo;
+import com.fream_v2.sell_service.global.presentation.codec.StreamingApiResponseEncoder;
+import com.fream_v2.sell_service.global.presentation.dto.ApiResponse;
+import com.fream_v2.sell_service.global.presentation.dto.ErrorResponse;
+import com.fream_v2.sell_service.global.presentation.dto.PageResponse;
+import com.fream_v2.sell_service.global.presentation.dto.StreamingApiResponse;
+import com.fream_v2.sell_service.global.presentation.exception.ErrorResponseTemplate;
+import com.fream_v2.sell_service.global.presentation.exception.GlobalExceptionHandler;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * 공통 응답(ApiResponse / PageResponse / StreamingApiResponse) JSON 직렬화와 전역 예외 처리기 에러 응답 인코딩 벤치마크
+ * ObjectMapper는 Spring Boot 기본 설정과 같은 Jackson2ObjectMapperBuilder로 생성
+ *
+ * 에러 경로는 미리 인코딩한 템플릿(errorClientTemplate*)과 이전 방식인 ErrorResponse + ObjectMapper 직렬화(errorClientJackson*)를,
+ * 예외 생성은 스택 없는 비즈니스 예외와 스택 트레이스를 수집하는 예외를 비교 (할당량은 gc.alloc.rate.norm 참고)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ResponseEncodingBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final String ERROR_PATH = "/api/v1/sells/1";
+    private static final ResolvableType STREAMING_TYPE = ResolvableType.forClass(StreamingApiResponse.class);
+
+    private ObjectMapper objectMapper;
+    private GlobalExceptionHandler exceptionHandler;
+    private StreamingApiResponseEncoder streamingEncoder;
+    private NettyDataBufferFactory pooledBufferFactory;
+    private SellResponse sellResponse;
+    private List<SellResponse> page;
+    private SellException clientError;
+    private IllegalStateException serverError;
+    private DefaultDataBufferFactory bufferFactory;
+    private ErrorResponseTemplate alreadyMatchedTemplate;
+    private ErrorResponseTemplate notFoundTemplate;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        exceptionHandler = new GlobalExceptionHandler();
+        streamingEncoder = new StreamingApiResponseEncoder(objectMapper);
+        pooledBufferFactory = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+        bufferFactory = DefaultDataBufferFactory.sharedInstance;
+        alreadyMatchedTemplate = ErrorResponseTemplate.of(SellErrorCode.ALREADY_MATCHED);
+        notFoundTemplate = ErrorResponseTemplate.of(SellErrorCode.SELL_ID_NOT_FOUND);
+
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+        page = LongStream.rangeClosed(1, PAGE_SIZE)
+                .mapToObj(i -> SellResponse.from(Sell.builder()
+                        .sellId(i)
+                        .sellerId(10L)
+                        .productId(100L)
+                        .price(100_000L + i * 1_000L)
+                        .minPrice(90_000L)
+                        .description("미개봉 새상품 " + i)
+                        .status(SellStatus.PENDING)
+                        .viewCount((int) i)
+                        .listedAt(now)
+                        .expiresAt(now.plusDays(30))
+                        .updatedAt(now)
+                        .build()))
+                .toList();
+        sellResponse = page.get(0);
+        clientError = SellException.notFound(1L);
+        serverError = new IllegalStateException("unexpected");
+    }
+
+    @Benchmark
+    public byte[] apiResponseSingle() throws Exception {
+        return objectMapper.writeValueAsBytes(ApiResponse.success(sellResponse));
+    }
+
+    @Benchmark
+    public byte[] apiResponsePage() throws Exception {
+        PageResponse<SellResponse> response = PageResponse.of(page,
+                PageInfo.of(0, PAGE_SIZE, 1_000, 1_000 / PAGE_SIZE, PAGE_SIZE));
+        return objectMapper.writeValueAsBytes(ApiResponse.success(response));
+    }
+
+    /**
+     * 같은 페이지를 요소 단위로 풀링 버퍼에 기록 (Reactor Netty 서버와 같은 버퍼 팩토리,
+     * 버퍼는 소켓에 쓴 것처럼 바로 해제하고 기록한 바이트 수를 반환)
+     */
+    @Benchmark
+    public long apiResponsePageStreaming() {
+        StreamingApiResponse<SellResponse> response = StreamingApiResponse.page(Flux.fromIterable(page),
+                Mono.just(PageInfo.of(0, PAGE_SIZE, 1_000, 1_000 / PAGE_SIZE, PAGE_SIZE)));
+        return streamingEncoder.encode(Mono.just(response), pooledBufferFactory, STREAMING_TYPE, MediaType.APPLICATION_JSON,
+                        Map.of())
+                .map(buffer -> {
+                    int written = buffer.readableByteCount();
+                    DataBufferUtils.release(buffer);
+                    return (long) written;
+                })
+                .reduce(0L, Long::sum)
+                .block();
+    }
+
+    @Benchmark
+    public MockServerWebExchange errorClient() {
+        return handle(clientError);
+    }
+
+    @Benchmark
+    public MockServerWebExchange errorServer() {
+        return handle(serverError);
+    }
+
+    /**
+     * 예외 생성부터 인코딩까지 (4xx 비즈니스 예외는 스택 트레이스 없음)
+     */
+    @Benchmark
+    public MockServerWebExchange errorClientWithThrow() {
+        return handle(new SellException(SellErrorCode.ALREADY_MATCHED));
+    }
+
+    /**
+     * 미리 인코딩한 템플릿으로 에러 응답 본문 작성 (기본 메시지)
+     */
+    @Benchmark
+    public DataBuffer errorClientTemplate() {
+        SellException ex = new SellException(SellErrorCode.ALREADY_MATCHED);
+        return alreadyMatchedTemplate.write(bufferFactory, ex.getMessage(), ERROR_PATH, System.currentTimeMillis());
+    }
+
+    /**
+     * 미리 인코딩한 템플릿으로 에러 응답 본문 작성 (ID가 포함된 사용자 정의 메시지)
+     */
+    @Benchmark
+    public DataBuffer errorClientTemplateCustomMessage() {
+        SellException ex = SellException.notFound(1L);
+        return notFoundTemplate.write(bufferFactory, ex.getMessage(), ERROR_PATH, System.currentTimeMillis());
+    }
+
+    /**
+     * 이전 방식의 예외 생성(스택 트레이스 수집) + ErrorResponse 생성 + ObjectMapper 직렬화
+     */
+    @Benchmark
+    public DataBuffer errorClientJackson() throws Exception {
+        RuntimeException ex = new RuntimeException(SellErrorCode.ALREADY_MATCHED.getMessage());
+        byte[] bytes = objectMapper.writeValueAsBytes(ErrorResponse.of(SellErrorCode.ALREADY_MATCHED,
+                ex.getMessage(), ERROR_PATH));
+        return bufferFactory.wrap(bytes);
+    }
+
+    @Benchmark
+    public SellException exceptionStackless() {
+        return new SellException(SellErrorCode.ALREADY_MATCHED);
+    }
+
+    @Benchmark
+    public RuntimeException exceptionWithStackTrace() {
+        return new RuntimeException(SellErrorCode.ALREADY_MATCHED.getMessage());
+    }
+
+    private MockServerWebExchange handle(Throwable ex) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/sells/1"));
+        exceptionHandler.handle(exchange, ex).block();
+        return exchange;
+    }
+}
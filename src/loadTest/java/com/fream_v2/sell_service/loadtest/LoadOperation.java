@@ -0,0 +1,29 @@
+package com.fream_v2.sell_service.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 부하 테스트 요청 종류 (mix 설정과 결과 파일의 키는 key 값)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum LoadOperation {
+    REGISTER("register"),           // POST /api/v1/sells
+    UPDATE_PRICE("updatePrice"),    // PATCH /api/v1/sells/{sellId}/price
+    VIEW("view"),                   // GET /api/v1/sells/{sellId}
+    CHANGE_STATUS("changeStatus"),  // PATCH /api/v1/sells/{sellId}/status (PENDING ↔ MATCHED)
+    LIST("list"),                   // GET /api/v1/sells/products/{productId} (커서 페이지)
+    SEARCH("search");               // GET /api/v1/sells/search (조건 검색 NDJSON 스트리밍)
+
+    private final String key;
+
+    public static LoadOperation fromKey(String key) {
+        for (LoadOperation operation : values()) {
+            if (operation.key.equalsIgnoreCase(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 부하 테스트 요청 종류입니다: " + key);
+    }
+}
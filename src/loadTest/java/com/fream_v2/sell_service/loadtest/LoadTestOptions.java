@@ -0,0 +1,96 @@
+package com.fream_v2.sell_service.loadtest;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (시스템 프로퍼티 loadTest.* 로 지정, gradle -PloadTest.* 가 그대로 전달됨)
+ *
+ * @param rps 목표 초당 요청 수 (응답 속도와 무관하게 이 간격으로 요청을 보냄 - open loop)
+ * @param durationSeconds 측정 구간 길이
+ * @param warmupSeconds 측정 전 워밍업 구간 길이 (결과에 포함하지 않음)
+ * @param maxInFlight 동시에 진행 중인 최대 요청 수 (초과분은 보내지 않고 dropped로 집계)
+ * @param timeoutMs 요청 하나의 응답 대기 한도 (초과 시 error)
+ * @param mix 요청 종류별 가중치
+ * @param products 요청에 쓰는 상품 ID 범위 (1 ~ products)
+ * @param sellers 요청에 쓰는 판매자 ID 범위 (1 ~ sellers)
+ * @param seedSells 워밍업 전에 미리 등록해 두는 판매 수
+ * @param outputDir 결과 파일 디렉터리
+ * @param commit 결과 파일에 기록하는 커밋 (실행 간 비교용)
+ */
+public record LoadTestOptions(int rps,
+                              int durationSeconds,
+                              int warmupSeconds,
+                              int maxInFlight,
+                              long timeoutMs,
+                              Map<LoadOperation, Integer> mix,
+                              int products,
+                              int sellers,
+                              int seedSells,
+                              Path outputDir,
+                              String commit) {
+
+    private static final String PREFIX = "loadTest.";
+    private static final String DEFAULT_MIX = "register:20,updatePrice:10,view:40,changeStatus:10,list:10,search:10";
+
+    public LoadTestOptions {
+        if (rps <= 0 || durationSeconds <= 0 || warmupSeconds < 0 || maxInFlight <= 0 || timeoutMs <= 0) {
+            throw new IllegalArgumentException("rps/durationSeconds/maxInFlight/timeoutMs는 0보다 커야 합니다.");
+        }
+        if (products <= 0 || sellers <= 0 || seedSells < 0) {
+            throw new IllegalArgumentException("products/sellers는 0보다 커야 합니다.");
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("mix 가중치 합은 0보다 커야 합니다.");
+        }
+        mix = Collections.unmodifiableMap(new EnumMap<>(mix));
+    }
+
+    public static LoadTestOptions fromSystemProperties() {
+        return new LoadTestOptions(
+                intProperty("rps", 200),
+                intProperty("durationSeconds", 60),
+                intProperty("warmupSeconds", 15),
+                intProperty("maxInFlight", 512),
+                intProperty("timeoutMs", 10_000),
+                parseMix(property("mix", DEFAULT_MIX)),
+                intProperty("products", 200),
+                intProperty("sellers", 20_000),
+                intProperty("seedSells", 2_000),
+                Path.of(property("outputDir", "build/load-test")),
+                property("commit", "unknown"));
+    }
+
+    /**
+     * "register:20,view:80" 형식의 가중치 파싱 (지정하지 않은 종류는 0)
+     */
+    static Map<LoadOperation, Integer> parseMix(String value) {
+        Map<LoadOperation, Integer> mix = new EnumMap<>(LoadOperation.class);
+        for (String entry : value.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] pair = entry.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("mix 형식이 올바르지 않습니다 (종류:가중치): " + entry);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("mix 가중치는 0 이상이어야 합니다: " + entry);
+            }
+            mix.put(LoadOperation.fromKey(pair[0].trim()), weight);
+        }
+        return mix;
+    }
+
+    private static String property(String name, String defaultValue) {
+        String value = System.getProperty(PREFIX + name);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(property(name, String.valueOf(defaultValue)));
+    }
+}
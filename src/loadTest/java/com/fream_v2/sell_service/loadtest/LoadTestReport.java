@@ -0,0 +1,104 @@
+package com.fream_v2.sell_service.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과 (JSON 파일 한 개, 커밋 간 비교용)
+ *
+ * 파일명: sell-load-test-{commit}-{시작 시각 UTC}.json
+ */
+public record LoadTestReport(String commit,
+                             Instant startedAt,
+                             Config config,
+                             Result total,
+                             Map<String, Result> operations) {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+
+    public record Config(int rps, int durationSeconds, int warmupSeconds, int maxInFlight, long timeoutMs,
+                         Map<String, Integer> mix, int products, int sellers, int seedSells) {
+    }
+
+    /**
+     * @param throughputRps 측정 구간 동안 서버가 응답한 요청 수(ok + rejected) / 측정 시간
+     */
+    public record Result(long requests, long ok, long rejected, long errors, long dropped,
+                         double throughputRps,
+                         double p50Ms, double p99Ms, double p999Ms, double maxMs, double meanMs) {
+    }
+
+    static LoadTestReport of(LoadTestOptions options, Instant startedAt, double measuredSeconds,
+                             EnumMap<LoadOperation, OperationStats> stats) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        options.mix().forEach((operation, weight) -> mix.put(operation.getKey(), weight));
+        Config config = new Config(options.rps(), options.durationSeconds(), options.warmupSeconds(),
+                options.maxInFlight(), options.timeoutMs(), mix, options.products(), options.sellers(),
+                options.seedSells());
+
+        Histogram totalLatency = new Histogram(3);
+        long ok = 0, rejected = 0, errors = 0, dropped = 0;
+        Map<String, Result> operations = new LinkedHashMap<>();
+        for (Map.Entry<LoadOperation, OperationStats> entry : stats.entrySet()) {
+            OperationStats operation = entry.getValue();
+            Histogram latency = operation.latencyMicros().copy();
+            totalLatency.add(latency);
+            ok += operation.ok();
+            rejected += operation.rejected();
+            errors += operation.errors();
+            dropped += operation.dropped();
+            operations.put(entry.getKey().getKey(), result(operation.ok(), operation.rejected(),
+                    operation.errors(), operation.dropped(), latency, measuredSeconds));
+        }
+        Result total = result(ok, rejected, errors, dropped, totalLatency, measuredSeconds);
+        return new LoadTestReport(options.commit(), startedAt, config, total, operations);
+    }
+
+    /**
+     * 결과 파일 기록
+     *
+     * @return 기록한 파일 경로
+     */
+    Path write(Path outputDir) throws IOException {
+        Files.createDirectories(outputDir);
+        Path file = outputDir.resolve("sell-load-test-" + commit + "-" + FILE_TIMESTAMP.format(startedAt) + ".json");
+        ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT);
+        objectMapper.writeValue(file.toFile(), this);
+        return file;
+    }
+
+    private static Result result(long ok, long rejected, long errors, long dropped,
+                                 Histogram latencyMicros, double measuredSeconds) {
+        long responded = ok + rejected;
+        return new Result(responded + errors + dropped, ok, rejected, errors, dropped,
+                round(responded / measuredSeconds),
+                millis(latencyMicros.getValueAtPercentile(50.0)),
+                millis(latencyMicros.getValueAtPercentile(99.0)),
+                millis(latencyMicros.getValueAtPercentile(99.9)),
+                millis(latencyMicros.getMaxValue()),
+                round(latencyMicros.getTotalCount() == 0 ? 0 : latencyMicros.getMean() / 1_000.0));
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1_000.0) / 1_000.0;
+    }
+}
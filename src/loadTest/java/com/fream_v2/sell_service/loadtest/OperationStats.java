@@ -0,0 +1,66 @@
+package com.fream_v2.sell_service.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 종류 하나의 결과 집계
+ *
+ * - 지연은 요청을 "보냈어야 할" 시각부터 응답 완료까지 (coordinated omission 보정)
+ *   서버가 밀려 요청 발사가 늦어져도 그 대기 시간이 지연에 포함됨
+ * - ok(2xx), rejected(4xx: 일일 한도/중복/상태 전이 불가 등 정상적인 업무 거절), error(5xx/타임아웃/연결 실패),
+ *   dropped(동시 요청 한도 초과로 보내지 못함)를 구분해 집계
+ * - 지연 분포에는 서버가 응답한 요청(ok + rejected)만 기록
+ */
+final class OperationStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final Histogram latencyMicros = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder ok = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    void recordResponse(int statusCode, long latencyNanos) {
+        latencyMicros.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, Math.max(0, latencyNanos / 1_000)));
+        if (statusCode < 400) {
+            ok.increment();
+        } else if (statusCode < 500) {
+            rejected.increment();
+        } else {
+            errors.increment();
+        }
+    }
+
+    void recordError() {
+        errors.increment();
+    }
+
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    Histogram latencyMicros() {
+        return latencyMicros;
+    }
+
+    long ok() {
+        return ok.sum();
+    }
+
+    long rejected() {
+        return rejected.sum();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+}
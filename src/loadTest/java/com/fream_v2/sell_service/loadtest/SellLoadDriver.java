@@ -0,0 +1,244 @@
+package com.fream_v2.sell_service.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 판매 API 부하 발생기 (open loop)
+ *
+ * - 응답을 기다리지 않고 목표 RPS 간격으로 요청을 발사하므로, 서버가 느려지면 동시 요청 수와 지연이 함께 늘어남
+ *   (closed loop처럼 서버 속도에 맞춰 부하가 줄어들어 지연이 과소 측정되지 않음)
+ * - 요청 종류는 mix 가중치로 무작위 선택, 판매 ID가 필요한 요청은 이번 실행에서 등록된 판매 중에서 고름
+ * - 상태 변경은 판매별로 PENDING ↔ MATCHED를 번갈아 요청
+ */
+@Slf4j
+final class SellLoadDriver implements AutoCloseable {
+
+    private static final String BASE_PATH = "/api/v1/sells";
+    private static final int SELL_POOL_CAPACITY = 1 << 16;
+
+    private final LoadTestOptions options;
+    private final WebClient webClient;
+    private final ConnectionProvider connectionProvider;
+    private final LoadOperation[] weightedOperations;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * 등록된 판매 ID (최근 SELL_POOL_CAPACITY 건만 유지하는 링)
+     */
+    private final AtomicLongArray sellIds = new AtomicLongArray(SELL_POOL_CAPACITY);
+    private final AtomicLong registeredSells = new AtomicLong();
+    private final Set<Long> matchedSells = ConcurrentHashMap.newKeySet();
+
+    SellLoadDriver(String baseUrl, LoadTestOptions options) {
+        this.options = options;
+        this.connectionProvider = ConnectionProvider.builder("sell-load-test")
+                .maxConnections(options.maxInFlight())
+                .pendingAcquireMaxCount(-1)
+                .build();
+        this.webClient = WebClient.builder()
+                .baseUrl(baseUrl + BASE_PATH)
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)))
+                .build();
+        this.weightedOperations = weightedOperations(options.mix());
+    }
+
+    /**
+     * 측정 전에 판매를 미리 등록 (판매 ID가 필요한 요청이 빈 풀을 만나지 않도록)
+     */
+    void seed(int count) {
+        OperationStats ignored = new OperationStats();
+        Flux.range(0, count)
+                .flatMap(i -> send(LoadOperation.REGISTER, System.nanoTime(), ignored), 64)
+                .blockLast(Duration.ofMinutes(5));
+        log.info("판매 {}건 사전 등록 완료 (성공 {}건)", count, ignored.ok());
+    }
+
+    /**
+     * durationSeconds 동안 목표 RPS로 요청을 발사하고 응답 대기 중인 요청이 끝날 때까지 기다림
+     *
+     * @return 요청 종류별 집계
+     */
+    EnumMap<LoadOperation, OperationStats> run(int durationSeconds) {
+        EnumMap<LoadOperation, OperationStats> stats = new EnumMap<>(LoadOperation.class);
+        for (LoadOperation operation : options.mix().keySet()) {
+            stats.put(operation, new OperationStats());
+        }
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rps();
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(durationSeconds);
+        long next = start;
+        while (next < end) {
+            long now = System.nanoTime();
+            while (next <= now && next < end) {
+                fire(next, stats);
+                next += intervalNanos;
+            }
+            LockSupport.parkNanos(Math.min(next - System.nanoTime(), TimeUnit.MILLISECONDS.toNanos(1)));
+        }
+        awaitInFlight();
+        return stats;
+    }
+
+    private void fire(long intendedNanos, EnumMap<LoadOperation, OperationStats> stats) {
+        LoadOperation operation = weightedOperations[ThreadLocalRandom.current().nextInt(weightedOperations.length)];
+        OperationStats operationStats = stats.get(operation);
+        if (inFlight.incrementAndGet() > options.maxInFlight()) {
+            inFlight.decrementAndGet();
+            operationStats.recordDropped();
+            return;
+        }
+        send(operation, intendedNanos, operationStats)
+                .doFinally(signal -> inFlight.decrementAndGet())
+                .subscribe();
+    }
+
+    private Mono<Void> send(LoadOperation operation, long intendedNanos, OperationStats stats) {
+        return request(operation)
+                .timeout(Duration.ofMillis(options.timeoutMs()))
+                .doOnNext(status -> stats.recordResponse(status, System.nanoTime() - intendedNanos))
+                .doOnError(e -> stats.recordError())
+                .onErrorResume(e -> Mono.empty())
+                .then();
+    }
+
+    private Mono<Integer> request(LoadOperation operation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (operation) {
+            case REGISTER -> webClient.post()
+                    .bodyValue(Map.of(
+                            "sellerId", 1 + random.nextLong(options.sellers()),
+                            "productId", 1 + random.nextLong(options.products()),
+                            "price", randomPrice(random),
+                            "description", "load test"))
+                    .exchangeToMono(this::registered);
+            case UPDATE_PRICE -> webClient.patch()
+                    .uri("/{sellId}/price", randomSellId(random))
+                    .bodyValue(Map.of("price", randomPrice(random)))
+                    .exchangeToMono(SellLoadDriver::status);
+            case VIEW -> webClient.get()
+                    .uri("/{sellId}", randomSellId(random))
+                    .exchangeToMono(SellLoadDriver::status);
+            case CHANGE_STATUS -> {
+                long sellId = randomSellId(random);
+                boolean toMatched = matchedSells.add(sellId);
+                if (!toMatched) {
+                    matchedSells.remove(sellId);
+                }
+                yield webClient.patch()
+                        .uri("/{sellId}/status", sellId)
+                        .bodyValue(Map.of("status", toMatched ? "MATCHED" : "PENDING"))
+                        .exchangeToMono(SellLoadDriver::status)
+                        .doOnNext(status -> {
+                            // 매칭 요청이 거절되면 다음 요청도 매칭을 시도
+                            if (toMatched && status >= 300) {
+                                matchedSells.remove(sellId);
+                            }
+                        });
+            }
+            case LIST -> webClient.get()
+                    .uri(uri -> uri.path("/products/{productId}")
+                            .queryParam("sort", random.nextBoolean() ? "LATEST" : "PRICE_ASC")
+                            .queryParam("size", 20)
+                            .build(1 + random.nextLong(options.products())))
+                    .exchangeToMono(SellLoadDriver::status);
+            case SEARCH -> {
+                // 상품 + 진행 중 상태 + 가격 범위 조건, 응답 스트림을 끝까지 읽은 시점까지를 지연으로 측정
+                long minPrice = randomPrice(random);
+                yield webClient.get()
+                        .uri(uri -> uri.path("/search")
+                                .queryParam("productId", 1 + random.nextLong(options.products()))
+                                .queryParam("status", "PENDING")
+                                .queryParam("minPrice", minPrice)
+                                .queryParam("maxPrice", minPrice + 50_000)
+                                .build())
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .exchangeToMono(SellLoadDriver::status);
+            }
+        };
+    }
+
+    /**
+     * 등록 응답에서 판매 ID를 꺼내 풀에 추가
+     */
+    private Mono<Integer> registered(ClientResponse response) {
+        HttpStatusCode status = response.statusCode();
+        if (!status.is2xxSuccessful()) {
+            return status(response);
+        }
+        return response.bodyToMono(JsonNode.class)
+                .doOnNext(body -> addSell(body.path("data").path("sellId").asLong()))
+                .thenReturn(status.value());
+    }
+
+    private static Mono<Integer> status(ClientResponse response) {
+        return response.releaseBody().thenReturn(response.statusCode().value());
+    }
+
+    private void addSell(long sellId) {
+        if (sellId > 0) {
+            int slot = (int) (registeredSells.getAndIncrement() & (SELL_POOL_CAPACITY - 1));
+            sellIds.set(slot, sellId);
+        }
+    }
+
+    private long randomSellId(ThreadLocalRandom random) {
+        int size = (int) Math.min(registeredSells.get(), SELL_POOL_CAPACITY);
+        if (size == 0) {
+            return 1;
+        }
+        long sellId = sellIds.get(random.nextInt(size));
+        return sellId > 0 ? sellId : 1;
+    }
+
+    private static long randomPrice(ThreadLocalRandom random) {
+        return 10_000 + random.nextLong(2_000) * 100;
+    }
+
+    private void awaitInFlight() {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(options.timeoutMs() * 2);
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+    }
+
+    private static LoadOperation[] weightedOperations(Map<LoadOperation, Integer> mix) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        LoadOperation[] operations = new LoadOperation[total];
+        int index = 0;
+        for (Map.Entry<LoadOperation, Integer> entry : mix.entrySet()) {
+            for (int i = 0; i < entry.getValue(); i++) {
+                operations[index++] = entry.getKey();
+            }
+        }
+        return operations;
+    }
+
+    @Override
+    public void close() {
+        connectionProvider.dispose();
+    }
+}
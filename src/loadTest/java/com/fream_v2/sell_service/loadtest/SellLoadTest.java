@@ -0,0 +1,84 @@
+package com.fream_v2.sell_service.loadtest;
+
+import com.fream_v2.sell_service.SellServiceApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.UUID;
+
+/**
+ * 판매 서비스 부하 테스트 진입점 (./gradlew loadTest)
+ *
+ * 1. 임베디드 Kafka(KRaft) 브로커 기동
+ * 2. loadtest 프로파일로 서비스 기동 (H2 인메모리 R2DBC, Config Server/Eureka 없이, 임의 포트)
+ * 3. 판매 사전 등록 → 워밍업(결과 제외) → 측정
+ * 4. 요청 종류별 p50/p99/p999 지연과 처리량을 JSON 파일로 기록
+ *
+ * 같은 설정으로 커밋마다 실행해 결과 파일을 비교
+ */
+@Slf4j
+public final class SellLoadTest {
+
+    private static final String[] TOPICS = {"sell-events", "order-events", "payment-events"};
+
+    private SellLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+
+        EmbeddedKafkaKraftBroker broker = new EmbeddedKafkaKraftBroker(1, 4, TOPICS);
+        broker.afterPropertiesSet();
+        try (ConfigurableApplicationContext context = start(broker.getBrokersAsString());
+             SellLoadDriver driver = new SellLoadDriver(baseUrl(context), options)) {
+            Path report = run(driver, options);
+            log.info("부하 테스트 결과: {}", report.toAbsolutePath());
+        } finally {
+            broker.destroy();
+        }
+        System.exit(0);
+    }
+
+    /**
+     * 서비스 기동
+     * application.yaml 값보다 우선해야 하는 항목(Config Server import 여부 포함)은 명령행 인자로 전달
+     */
+    private static ConfigurableApplicationContext start(String kafkaBootstrapServers) {
+        return new SpringApplicationBuilder(SellServiceApplication.class)
+                .profiles("loadtest")
+                .run("--spring.cloud.config.enabled=false",
+                        "--spring.cloud.config.discovery.enabled=false",
+                        "--spring.kafka.bootstrap-servers=" + kafkaBootstrapServers,
+                        "--spring.r2dbc.url=r2dbc:h2:mem:///sell-load-test-" + UUID.randomUUID()
+                                + "?options=DB_CLOSE_DELAY=-1");
+    }
+
+    private static Path run(SellLoadDriver driver, LoadTestOptions options) throws Exception {
+        log.info("부하 테스트 시작: {}", options);
+        driver.seed(options.seedSells());
+        if (options.warmupSeconds() > 0) {
+            driver.run(options.warmupSeconds());
+            log.info("워밍업 {}초 완료", options.warmupSeconds());
+        }
+
+        Instant startedAt = Instant.now();
+        long start = System.nanoTime();
+        EnumMap<LoadOperation, OperationStats> stats = driver.run(options.durationSeconds());
+        double measuredSeconds = Math.max(options.durationSeconds(), (System.nanoTime() - start) / 1e9);
+
+        LoadTestReport report = LoadTestReport.of(options, startedAt, measuredSeconds, stats);
+        log.info("전체 결과: {}", report.total());
+        return report.write(options.outputDir());
+    }
+
+    private static String baseUrl(ConfigurableApplicationContext context) {
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        return "http://localhost:" + port;
+    }
+}
@@ -0,0 +1,41 @@
+package com.fream_v2.sell_service.domain.sell.application.cache;
+
+import com.fream_v2.sell_service.domain.sell.application.consumer.NodeLocalSellEventHandler;
+import com.fream_v2.sell_service.domain.sell.application.readrouting.SellReadRouting;
+import com.fream_v2.sell_service.domain.sell.domain.event.SellLifecycleEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 노드의 판매 변경 이벤트로 near cache 무효화
+ * 무효화한 판매는 잠시 primary에서 읽도록 기록 (복제본의 이전 값으로 캐시가 다시 채워지지 않도록)
+ * 기동 전 이벤트는 받을 필요가 없으므로 기동 이후 이벤트만 받음 (캐시가 비어 있음)
+ */
+@Component
+public class SellCacheInvalidationConsumer implements NodeLocalSellEventHandler {
+
+    private final SellNearCache sellNearCache;
+    private final SellReadRouting readRouting;
+
+    public SellCacheInvalidationConsumer(SellNearCache sellNearCache, SellReadRouting readRouting) {
+        this.sellNearCache = sellNearCache;
+        this.readRouting = readRouting;
+    }
+
+    @Override
+    public void handle(SellLifecycleEvent event) {
+        readRouting.recordWrite(event.sellId(), event.productId());
+        sellNearCache.invalidate(event.sellId());
+    }
+
+    /**
+     * 해석할 수 없으면 키(판매 ID)로 무효화
+     */
+    @Override
+    public void onUnreadable(String key) {
+        if (key != null) {
+            Long sellId = Long.valueOf(key);
+            readRouting.recordWrite(sellId, null);
+            sellNearCache.invalidate(sellId);
+        }
+    }
+}
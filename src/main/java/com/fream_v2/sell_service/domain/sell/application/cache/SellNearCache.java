@@ -0,0 +1,120 @@
+package com.fream_v2.sell_service.domain.sell.application.cache;
+
+import com.fream_v2.sell_service.domain.sell.domain.event.SellChangedEvent;
+import com.fream_v2.sell_service.domain.sell.domain.event.SellsExpiredEvent;
+import com.fream_v2.sell_service.domain.sell.domain.model.Sell;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+/**
+ * 판매 단건 조회용 인프로세스 near cache (Caffeine, W-TinyLFU admission)
+ *
+ * - 크기 상한 초과 시 빈도가 낮은 항목부터 제외되고, 한 번 스쳐 가는 조회가 자주 읽히는 항목을 밀어내지 않음
+ * - 종료 상태(SOLD/CANCELLED/EXPIRED) 판매는 더 바뀌지 않으므로 진행 중 판매보다 길게 보관
+ * - 같은 판매의 동시 miss는 하나의 DB 조회로 합쳐짐
+ * - 자기 노드의 변경은 커밋 직후 새 값으로 덮어써 바로 읽히고(read-your-own-writes),
+ *   다른 노드의 변경은 Kafka 판매 이벤트로 무효화 (진행 중 판매 TTL은 이벤트 유실 대비 안전망)
+ */
+@Component
+public class SellNearCache {
+
+    private final AsyncCache<Long, Sell> cache;
+
+    @Autowired
+    public SellNearCache(MeterRegistry meterRegistry,
+                         @Value("${sell.cache.max-size:100000}") long maxSize,
+                         @Value("${sell.cache.active-ttl-ms:30000}") long activeTtlMs,
+                         @Value("${sell.cache.finished-ttl-ms:3600000}") long finishedTtlMs) {
+        this(maxSize, Duration.ofMillis(activeTtlMs), Duration.ofMillis(finishedTtlMs),
+                Ticker.systemTicker(), ForkJoinPool.commonPool());
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "sell.near-cache");
+    }
+
+    SellNearCache(long maxSize, Duration activeTtl, Duration finishedTtl, Ticker ticker, Executor executor) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new StatusAwareExpiry(activeTtl.toNanos(), finishedTtl.toNanos()))
+                .ticker(ticker)
+                .executor(executor)
+                .recordStats()
+                .buildAsync();
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 읽어 적재 (loader가 empty면 적재하지 않음)
+     * 캐시 확인과 적재는 구독 시점에 시작되고, 재구독하면 다시 확인 (실패한 적재는 캐시에 남지 않음)
+     */
+    public Mono<Sell> get(Long sellId, Function<Long, Mono<Sell>> loader) {
+        return Mono.defer(() -> {
+            CompletableFuture<Sell> future = cache.get(sellId, (id, executor) -> loader.apply(id).toFuture());
+            // 같은 future를 기다리는 다른 구독자가 있으므로 구독 취소가 적재를 취소하지 않도록 함
+            return Mono.fromFuture(future, true);
+        });
+    }
+
+    public void put(Sell sell) {
+        cache.synchronous().put(sell.getSellId(), sell);
+    }
+
+    public void invalidate(Long sellId) {
+        cache.synchronous().invalidate(sellId);
+    }
+
+    public void invalidateAll(Collection<Long> sellIds) {
+        cache.synchronous().invalidateAll(sellIds);
+    }
+
+    public long estimatedSize() {
+        return cache.synchronous().estimatedSize();
+    }
+
+    /**
+     * 자기 노드 변경은 커밋된 새 값으로 갱신
+     */
+    @EventListener
+    public void onSellChanged(SellChangedEvent event) {
+        put(event.after());
+    }
+
+    @EventListener
+    public void onSellsExpired(SellsExpiredEvent event) {
+        invalidateAll(event.sells().stream().map(SellsExpiredEvent.ExpiredSell::sellId).toList());
+    }
+
+    /**
+     * 판매 상태에 따른 보관 시간 (조회로는 연장하지 않음)
+     */
+    private record StatusAwareExpiry(long activeTtlNanos, long finishedTtlNanos) implements Expiry<Long, Sell> {
+
+        @Override
+        public long expireAfterCreate(Long sellId, Sell sell, long currentTime) {
+            return sell.getStatus().isFinished() ? finishedTtlNanos : activeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Long sellId, Sell sell, long currentTime, long currentDuration) {
+            return expireAfterCreate(sellId, sell, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long sellId, Sell sell, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
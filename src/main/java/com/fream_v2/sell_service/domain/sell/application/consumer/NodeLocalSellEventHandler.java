@@ -0,0 +1,26 @@
+package com.fream_v2.sell_service.domain.sell.application.consumer;
+
+import com.fream_v2.sell_service.domain.sell.domain.event.SellLifecycleEvent;
+
+/**
+ * 다른 노드의 판매 이벤트를 노드 로컬 상태(near cache, 일일 한도, 진행 중 판매 집합)에 반영하는 처리기
+ * NodeLocalSellEventReceiver가 판매 이벤트 토픽을 한 번만 읽어 모든 처리기에 나눠 줌 (자기 노드 이벤트는 제외)
+ */
+public interface NodeLocalSellEventHandler {
+
+    /**
+     * 기동 시 이 시각 이후 이벤트부터 다시 읽어야 하는지 (DB 복구 스냅샷 시각 이하)
+     * Long.MAX_VALUE면 기동 이후 이벤트만 받음
+     */
+    default long replayFromMillis() {
+        return Long.MAX_VALUE;
+    }
+
+    void handle(SellLifecycleEvent event);
+
+    /**
+     * 해석할 수 없는 이벤트 (키 = 판매 ID, 없으면 null)
+     */
+    default void onUnreadable(String key) {
+    }
+}
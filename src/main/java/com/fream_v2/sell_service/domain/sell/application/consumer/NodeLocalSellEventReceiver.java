@@ -0,0 +1,151 @@
+package com.fream_v2.sell_service.domain.sell.application.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fream_v2.sell_service.domain.sell.domain.event.SellLifecycleEvent;
+import com.fream_v2.sell_service.global.common.util.NodeIdUtils;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.kafka.receiver.KafkaReceiver;
+import reactor.kafka.receiver.ReceiverOptions;
+import reactor.kafka.receiver.ReceiverPartition;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 판매 이벤트 토픽을 노드마다 한 번만 읽어 노드 로컬 처리기에 나눠 주는 수신기
+ *
+ * - consumer 그룹 없이 토픽의 모든 파티션을 직접 할당받고 offset을 커밋하지 않으므로, 노드가 교체되어도 브로커에 그룹이 남지 않음
+ * - 처음 할당 시 처리기들이 요구하는 가장 이른 시각(DB 복구 스냅샷 시각)부터 읽어, 복구와 수신 사이에 빠지는 이벤트가 없도록 함
+ * - 재연결 시에는 마지막으로 처리한 위치 다음부터 이어 읽음
+ */
+@Slf4j
+@Component
+public class NodeLocalSellEventReceiver {
+
+    private final ReceiverOptions<String, byte[]> receiverOptions;
+    private final List<NodeLocalSellEventHandler> handlers;
+    private final ObjectMapper objectMapper;
+    private final String topic;
+    private final Map<TopicPartition, Long> positions = new ConcurrentHashMap<>();
+    private Disposable subscription;
+
+    public NodeLocalSellEventReceiver(@Qualifier("sellNodeEventReceiverOptions")
+                                      ReceiverOptions<String, byte[]> receiverOptions,
+                                      List<NodeLocalSellEventHandler> handlers,
+                                      ObjectMapper objectMapper,
+                                      @Value("${sell.outbox.topic:sell-events}") String topic) {
+        this.receiverOptions = receiverOptions;
+        this.handlers = handlers;
+        this.objectMapper = objectMapper;
+        this.topic = topic;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (subscription != null) {
+            return;
+        }
+        subscription = partitions()
+                .flatMapMany(partitions -> KafkaReceiver.create(receiverOptions
+                                .assignment(partitions)
+                                .addAssignListener(this::seek))
+                        .receive())
+                .doOnNext(this::dispatch)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofSeconds(30))
+                        .doBeforeRetry(signal -> log.warn("노드 로컬 판매 이벤트 수신이 중단되어 재연결합니다.", signal.failure())))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+            subscription = null;
+        }
+    }
+
+    /**
+     * 토픽의 현재 파티션 목록 (재연결 때마다 다시 조회)
+     */
+    private Mono<List<TopicPartition>> partitions() {
+        return Mono.fromCallable(() -> {
+                    try (KafkaConsumer<String, byte[]> consumer = new KafkaConsumer<>(receiverOptions.consumerProperties(),
+                            new StringDeserializer(), new ByteArrayDeserializer())) {
+                        List<PartitionInfo> infos = consumer.partitionsFor(topic);
+                        if (infos == null || infos.isEmpty()) {
+                            throw new IllegalStateException("판매 이벤트 토픽의 파티션을 찾을 수 없습니다: " + topic);
+                        }
+                        return infos.stream()
+                                .map(info -> new TopicPartition(info.topic(), info.partition()))
+                                .toList();
+                    }
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private void seek(Collection<ReceiverPartition> partitions) {
+        long replayFrom = handlers.stream()
+                .mapToLong(NodeLocalSellEventHandler::replayFromMillis)
+                .min()
+                .orElse(Long.MAX_VALUE);
+        for (ReceiverPartition partition : partitions) {
+            Long position = positions.get(partition.topicPartition());
+            if (position != null) {
+                partition.seek(position);
+            } else if (replayFrom != Long.MAX_VALUE) {
+                // 해당 시각 이후 레코드가 없으면 끝으로 이동
+                partition.seekToTimestamp(replayFrom);
+            } else {
+                partition.seekToEnd();
+            }
+        }
+    }
+
+    void dispatch(ConsumerRecord<String, byte[]> record) {
+        positions.put(new TopicPartition(record.topic(), record.partition()), record.offset() + 1);
+        SellLifecycleEvent event;
+        try {
+            event = objectMapper.readValue(record.value(), SellLifecycleEvent.class);
+        } catch (IOException e) {
+            log.debug("판매 이벤트 해석 실패. offset={}", record.offset(), e);
+            for (NodeLocalSellEventHandler handler : handlers) {
+                handler.onUnreadable(record.key());
+            }
+            return;
+        }
+        if (NodeIdUtils.isCurrent(event.originNodeId())) {
+            return;
+        }
+        for (NodeLocalSellEventHandler handler : handlers) {
+            try {
+                handler.handle(event);
+            } catch (RuntimeException e) {
+                // 한 처리기의 실패가 다른 처리기 반영이나 수신을 멈추지 않도록 함
+                log.warn("노드 로컬 판매 이벤트 처리 실패. handler={}, sellId={}",
+                        handler.getClass().getSimpleName(), event.sellId(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.fream_v2.sell_service.domain.sell.application.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fream_v2.sell_service.domain.sell.application.service.SellCommandService;
+import com.fream_v2.sell_service.domain.sell.domain.event.SellTradeEvent;
+import com.fream_v2.sell_service.domain.sell.domain.exception.SellException;
+import com.fream_v2.sell_service.domain.sell.domain.repository.SellInboxRepository;
+import com.fream_v2.sell_service.global.common.time.EpochClock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.kafka.receiver.KafkaReceiver;
+import reactor.kafka.receiver.ReceiverOptions;
+import reactor.kafka.receiver.ReceiverRecord;
+import reactor.kafka.sender.KafkaSender;
+import reactor.kafka.sender.SenderRecord;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 구매/결제 거래 이벤트 consumer (MATCHED → RESERVED → SOLD, 구매자 취소 시 재판매)
+ *
+ * 레코드를 판매 ID 해시로 lane에 나눠 lane 안에서는 순서대로, lane끼리는 병렬로 처리
+ * 파티션이 아니라 판매 단위로 직렬화하므로 느린 판매 하나는 자기 lane만 막고 같은 파티션의 다른 판매는 계속 처리됨
+ * 처리 완료 순서대로 ack하고, 커밋은 파티션별로 연속된 offset까지만 batch로 반영 (deferred commit)
+ *
+ * - 이미 처리한 이벤트(이벤트 ID), 이미 반영된 상태는 건너뜀 (멱등)
+ * - 상태상 반영할 수 없는 이벤트(SellException)는 기록 후 건너뜀
+ * - DB 장애 등 일시 오류는 해당 lane에서 최대 max-retries번 backoff 재시도하고,
+ *   그래도 실패하면 원본 레코드를 dead letter 토픽으로 보낸 뒤 ack (lane과 파티션 커밋이 무한정 멈추지 않음)
+ *   dead letter 발행까지 실패하면 수신 스트림을 재시작해 커밋된 offset부터 다시 처리
+ */
+@Slf4j
+@Component
+public class SellTradeEventConsumer {
+
+    static final String HEADER_ORIGINAL_TOPIC = "dlt-original-topic";
+    static final String HEADER_ORIGINAL_PARTITION = "dlt-original-partition";
+    static final String HEADER_ORIGINAL_OFFSET = "dlt-original-offset";
+    static final String HEADER_EXCEPTION = "dlt-exception";
+
+    private final ReceiverOptions<String, byte[]> receiverOptions;
+    private final SellCommandService sellCommandService;
+    private final SellInboxRepository sellInboxRepository;
+    private final KafkaSender<String, byte[]> kafkaSender;
+    private final ObjectMapper objectMapper;
+    private final EpochClock clock;
+    private final int laneCount;
+    private final Duration inboxRetention;
+    private final int maxRetries;
+    private final String deadLetterTopic;
+
+    private final Map<Outcome, Counter> outcomeCounters = new EnumMap<>(Outcome.class);
+    private Disposable subscription;
+
+    public SellTradeEventConsumer(@Qualifier("sellTradeEventReceiverOptions")
+                                  ReceiverOptions<String, byte[]> receiverOptions,
+                                  SellCommandService sellCommandService,
+                                  SellInboxRepository sellInboxRepository,
+                                  KafkaSender<String, byte[]> kafkaSender,
+                                  ObjectMapper objectMapper,
+                                  EpochClock clock,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${sell.trade-events.lanes:32}") int laneCount,
+                                  @Value("${sell.trade-events.inbox-retention-days:7}") long inboxRetentionDays,
+                                  @Value("${sell.trade-events.max-retries:8}") int maxRetries,
+                                  @Value("${sell.trade-events.dead-letter-topic:sell-trade-events.DLT}") String deadLetterTopic) {
+        this.receiverOptions = receiverOptions;
+        this.sellCommandService = sellCommandService;
+        this.sellInboxRepository = sellInboxRepository;
+        this.kafkaSender = kafkaSender;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.laneCount = laneCount;
+        this.inboxRetention = Duration.ofDays(inboxRetentionDays);
+        this.maxRetries = maxRetries;
+        this.deadLetterTopic = deadLetterTopic;
+
+        for (Outcome outcome : Outcome.values()) {
+            outcomeCounters.put(outcome, Counter.builder("sell.trade-event.processed")
+                    .description("처리한 거래 이벤트 수")
+                    .tag("outcome", outcome.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (subscription != null) {
+            return;
+        }
+        subscription = Flux.defer(() -> consume(KafkaReceiver.create(receiverOptions).receive()))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofSeconds(30))
+                        .doBeforeRetry(signal -> log.warn("거래 이벤트 수신이 중단되어 재연결합니다.", signal.failure())))
+                .subscribe();
+        log.info("거래 이벤트 consumer 시작: topics={}, lanes={}", receiverOptions.subscriptionTopics(), laneCount);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+            subscription = null;
+        }
+    }
+
+    /**
+     * 판매 ID lane 단위 순차 처리, lane 간 병렬 처리
+     */
+    Flux<Outcome> consume(Flux<ReceiverRecord<String, byte[]>> records) {
+        return records
+                .groupBy(this::laneOf)
+                .flatMap(lane -> lane.concatMap(this::handle), laneCount);
+    }
+
+    /**
+     * 보관 기간이 지난 처리 이력 정리
+     */
+    @Scheduled(fixedDelayString = "${sell.trade-events.inbox-purge-interval-ms:3600000}")
+    public void purgeInbox() {
+        sellInboxRepository.deleteProcessedBefore(clock.now().minus(inboxRetention))
+                .subscribe(
+                        deleted -> log.debug("거래 이벤트 처리 이력 정리: {}건", deleted),
+                        e -> log.warn("거래 이벤트 처리 이력 정리에 실패했습니다.", e));
+    }
+
+    private Mono<Outcome> handle(ReceiverRecord<String, byte[]> record) {
+        SellTradeEvent event = parse(record);
+        Mono<Outcome> outcome = event == null
+                ? Mono.just(Outcome.INVALID)
+                : sellCommandService.applyTradeEvent(event)
+                .map(applied -> Outcome.APPLIED)
+                .defaultIfEmpty(Outcome.SKIPPED)
+                .doOnError(e -> !(e instanceof SellException),
+                        e -> log.warn("거래 이벤트 처리 실패, 재시도합니다. 판매 ID: {}", event.sellId(), e))
+                .retryWhen(Retry.backoff(maxRetries, Duration.ofMillis(100))
+                        .maxBackoff(Duration.ofSeconds(5))
+                        .filter(e -> !(e instanceof SellException)))
+                .onErrorResume(SellException.class, e -> {
+                    log.info("반영할 수 없는 거래 이벤트를 건너뜁니다. 이벤트: {}, 사유: {}", event, e.getMessage());
+                    return Mono.just(Outcome.REJECTED);
+                })
+                .onErrorResume(e -> deadLetter(record, e));
+
+        return outcome.doOnNext(result -> {
+            outcomeCounters.get(result).increment();
+            record.receiverOffset().acknowledge();
+        });
+    }
+
+    /**
+     * 재시도 한도를 넘긴 레코드를 원본 위치 헤더와 함께 dead letter 토픽으로 발행
+     */
+    private Mono<Outcome> deadLetter(ReceiverRecord<String, byte[]> record, Throwable error) {
+        Throwable cause = Exceptions.isRetryExhausted(error) && error.getCause() != null ? error.getCause() : error;
+        log.error("거래 이벤트 재시도 한도({})를 넘겨 dead letter 토픽으로 보냅니다. topic={}, partition={}, offset={}",
+                maxRetries, record.topic(), record.partition(), record.offset(), cause);
+
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(HEADER_ORIGINAL_TOPIC, record.topic().getBytes(StandardCharsets.UTF_8));
+        headers.add(HEADER_ORIGINAL_PARTITION, String.valueOf(record.partition()).getBytes(StandardCharsets.UTF_8));
+        headers.add(HEADER_ORIGINAL_OFFSET, String.valueOf(record.offset()).getBytes(StandardCharsets.UTF_8));
+        headers.add(HEADER_EXCEPTION, String.valueOf(cause).getBytes(StandardCharsets.UTF_8));
+        ProducerRecord<String, byte[]> deadLetter = new ProducerRecord<>(deadLetterTopic, null,
+                record.key(), record.value(), headers);
+
+        return kafkaSender.send(Mono.just(SenderRecord.create(deadLetter, record.offset())))
+                .next()
+                .map(result -> {
+                    if (result.exception() != null) {
+                        throw new IllegalStateException("거래 이벤트 dead letter 발행에 실패했습니다.", result.exception());
+                    }
+                    return Outcome.DEAD_LETTERED;
+                });
+    }
+
+    private SellTradeEvent parse(ReceiverRecord<String, byte[]> record) {
+        try {
+            SellTradeEvent event = objectMapper.readValue(record.value(), SellTradeEvent.class);
+            if (event.eventId() == null || event.eventType() == null || event.sellId() == null) {
+                throw new IOException("필수 항목 누락");
+            }
+            return event;
+        } catch (IOException e) {
+            log.warn("해석할 수 없는 거래 이벤트를 건너뜁니다. topic={}, partition={}, offset={}",
+                    record.topic(), record.partition(), record.offset(), e);
+            return null;
+        }
+    }
+
+    /**
+     * 레코드 키(판매 ID) 기준 lane (키가 없으면 파티션 기준)
+     */
+    private int laneOf(ReceiverRecord<String, byte[]> record) {
+        int hash = record.key() != null ? record.key().hashCode() : record.partition();
+        return Math.floorMod(hash, laneCount);
+    }
+
+    enum Outcome {
+        APPLIED,
+        SKIPPED,
+        REJECTED,
+        INVALID,
+        DEAD_LETTERED
+    }
+}
@@ -0,0 +1,190 @@
+package com.fream_v2.sell_service.domain.sell.application.expiry;
+
+import java.util.Arrays;
+
+/**
+ * 계층형 타이밍 휠 (단일 스레드 전용)
+ *
+ * 기본 tick 단위 버킷 wheelSize개를 한 단계로 두고, 범위를 넘는 만료는 상위 단계(tick x wheelSize)에 저장
+ * 상위 단계 버킷은 시계가 해당 구간에 들어설 때 하위 단계로 재배치(cascade)됨
+ * 등록/만료 처리 비용은 전체 항목 수와 무관하게 O(1) (tick당 버킷 하나)
+ *
+ * 항목은 (id, 첨부값, 만료 시각) 세 개의 long으로 원시 배열 버킷에 저장
+ */
+public class HierarchicalTimingWheel {
+
+    /**
+     * 만료된 항목 수신자
+     */
+    @FunctionalInterface
+    public interface ExpiryConsumer {
+        void accept(long id, long attachment, long deadlineMillis);
+    }
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final Level[] levels;
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param tickMillis 기본 tick 크기 (만료 정밀도)
+     * @param wheelSize 단계별 버킷 수
+     * @param levelCount 단계 수 (표현 가능한 범위 = tick x wheelSize^levelCount)
+     * @param startMillis 시작 시각
+     */
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, int levelCount, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.levels = new Level[levelCount];
+        long levelTicks = 1;
+        for (int i = 0; i < levelCount; i++) {
+            levels[i] = new Level(levelTicks, wheelSize);
+            levelTicks *= wheelSize;
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * 항목 등록
+     *
+     * @return 등록되면 true, 이미 만료 시각이 지났으면 false (호출 측에서 즉시 처리)
+     */
+    public boolean add(long id, long attachment, long deadlineMillis) {
+        long deadlineTick = ceilDiv(deadlineMillis, tickMillis);
+        long delta = deadlineTick - currentTick;
+        if (delta <= 0) {
+            return false;
+        }
+
+        int levelIndex = 0;
+        long span = wheelSize;
+        while (delta >= span && levelIndex < levels.length - 1) {
+            levelIndex++;
+            span *= wheelSize;
+        }
+        Level level = levels[levelIndex];
+        // 최상위 단계 범위를 넘는 항목은 최상위 단계의 가장 먼 버킷에 두고 cascade 때 재배치
+        long slotTick = Math.min(deadlineTick, currentTick + span - 1);
+        level.bucketAt(slotTick).add(id, attachment, deadlineMillis);
+        size++;
+        return true;
+    }
+
+    /**
+     * 시계를 nowMillis까지 진행하며 만료된 항목을 전달
+     *
+     * @return 만료된 항목 수
+     */
+    public int advance(long nowMillis, ExpiryConsumer consumer) {
+        long targetTick = nowMillis / tickMillis;
+        int expired = 0;
+
+        while (currentTick < targetTick) {
+            currentTick++;
+
+            // 상위 단계부터 이번 tick에 시작하는 구간의 버킷을 하위 단계로 재배치
+            for (int i = levels.length - 1; i >= 1; i--) {
+                Level level = levels[i];
+                if (currentTick % level.ticksPerSlot == 0) {
+                    Bucket bucket = level.bucketAt(currentTick);
+                    expired += cascade(bucket, consumer);
+                }
+            }
+
+            Bucket due = levels[0].bucketAt(currentTick);
+            for (int j = 0; j < due.count; j++) {
+                consumer.accept(due.ids[j], due.attachments[j], due.deadlines[j]);
+            }
+            expired += due.count;
+            size -= due.count;
+            due.clear();
+        }
+        return expired;
+    }
+
+    /**
+     * 등록된 항목 수
+     */
+    public int size() {
+        return size;
+    }
+
+    private int cascade(Bucket bucket, ExpiryConsumer consumer) {
+        if (bucket.count == 0) {
+            return 0;
+        }
+        long[] ids = Arrays.copyOf(bucket.ids, bucket.count);
+        long[] attachments = Arrays.copyOf(bucket.attachments, bucket.count);
+        long[] deadlines = Arrays.copyOf(bucket.deadlines, bucket.count);
+        size -= bucket.count;
+        bucket.clear();
+
+        int expired = 0;
+        for (int j = 0; j < ids.length; j++) {
+            if (!add(ids[j], attachments[j], deadlines[j])) {
+                consumer.accept(ids[j], attachments[j], deadlines[j]);
+                expired++;
+            }
+        }
+        return expired;
+    }
+
+    private static long ceilDiv(long value, long divisor) {
+        return -Math.floorDiv(-value, divisor);
+    }
+
+    /**
+     * 휠 한 단계 (버킷 하나 = ticksPerSlot개의 기본 tick)
+     */
+    private static final class Level {
+        private final long ticksPerSlot;
+        private final Bucket[] buckets;
+
+        private Level(long ticksPerSlot, int wheelSize) {
+            this.ticksPerSlot = ticksPerSlot;
+            this.buckets = new Bucket[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new Bucket();
+            }
+        }
+
+        private Bucket bucketAt(long tick) {
+            return buckets[(int) ((tick / ticksPerSlot) % buckets.length)];
+        }
+    }
+
+    /**
+     * 원시 배열 기반 버킷 (항목당 long 3개)
+     */
+    private static final class Bucket {
+        private static final int INITIAL_CAPACITY = 4;
+
+        private long[] ids = new long[INITIAL_CAPACITY];
+        private long[] attachments = new long[INITIAL_CAPACITY];
+        private long[] deadlines = new long[INITIAL_CAPACITY];
+        private int count;
+
+        private void add(long id, long attachment, long deadline) {
+            if (count == ids.length) {
+                int capacity = ids.length * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                attachments = Arrays.copyOf(attachments, capacity);
+                deadlines = Arrays.copyOf(deadlines, capacity);
+            }
+            ids[count] = id;
+            attachments[count] = attachment;
+            deadlines[count] = deadline;
+            count++;
+        }
+
+        private void clear() {
+            count = 0;
+            if (ids.length > 1024) {
+                ids = new long[INITIAL_CAPACITY];
+                attachments = new long[INITIAL_CAPACITY];
+                deadlines = new long[INITIAL_CAPACITY];
+            }
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.fream_v2.sell_service.domain.sell.application.expiry;
+
+import com.fream_v2.sell_service.domain.sell.application.outbox.SellEventOutbox;
+import com.fream_v2.sell_service.domain.sell.domain.event.SellChangedEvent;
+import com.fream_v2.sell_service.domain.sell.domain.event.SellLifecycleEvent;
+import com.fream_v2.sell_service.domain.sell.domain.event.SellsExpiredEvent;
+import com.fream_v2.sell_service.domain.sell.domain.model.Sell;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellExpiration;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellStatus;
+import com.fream_v2.sell_service.domain.sell.domain.repository.SellRepository;
+import com.fream_v2.sell_service.global.common.time.EpochClock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 판매 만료 스케줄러 (계층형 타이밍 휠)
+ *
+ * expires_at < now() 테이블 스캔 대신 PENDING 판매 ID를 만료 시각별 휠 버킷에 넣어 두고,
+ * tick마다 만료된 버킷만 꺼내 set 기반 UPDATE 한 번으로 EXPIRED 처리
+ * (실제로 만료된 판매의 STATUS_CHANGED 이벤트는 같은 트랜잭션으로 아웃박스에 기록)
+ * 기동 시 DB의 PENDING 판매로 휠을 복구하고, 이후에는 SellChangedEvent로 증분 등록
+ *
+ * 휠은 스케줄러 스레드에서만 접근하며, 다른 스레드의 등록은 큐를 거쳐 tick 때 반영
+ */
+@Slf4j
+@Component
+public class SellExpiryScheduler {
+
+    private static final int WHEEL_LEVELS = 3;
+
+    private final SellRepository sellRepository;
+    private final SellEventOutbox sellEventOutbox;
+    private final TransactionalOperator transactionalOperator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EpochClock clock;
+    private final int batchSize;
+
+    private final HierarchicalTimingWheel wheel;
+    private final ConcurrentLinkedQueue<SellExpiration> incoming = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean expiring = new AtomicBoolean(false);
+    private volatile int scheduledCount;
+
+    private final Timer expiryLag;
+    private final Counter expiredCounter;
+
+    public SellExpiryScheduler(SellRepository sellRepository,
+                               SellEventOutbox sellEventOutbox,
+                               TransactionalOperator transactionalOperator,
+                               ApplicationEventPublisher eventPublisher,
+                               EpochClock clock,
+                               MeterRegistry meterRegistry,
+                               @Value("${sell.expiry.tick-ms:1000}") long tickMillis,
+                               @Value("${sell.expiry.wheel-size:512}") int wheelSize,
+                               @Value("${sell.expiry.batch-size:1000}") int batchSize) {
+        this.sellRepository = sellRepository;
+        this.sellEventOutbox = sellEventOutbox;
+        this.transactionalOperator = transactionalOperator;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.wheel = new HierarchicalTimingWheel(tickMillis, wheelSize, WHEEL_LEVELS, clock.currentTimeMillis());
+
+        this.expiryLag = Timer.builder("sell.expiry.lag")
+                .description("만료 시각부터 EXPIRED 반영까지의 지연")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.expiredCounter = Counter.builder("sell.expiry.expired")
+                .description("만료 처리된 판매 수")
+                .register(meterRegistry);
+        Gauge.builder("sell.expiry.scheduled", () -> scheduledCount + incoming.size())
+                .description("만료 대기 중인 판매 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기동 시 DB의 PENDING 판매로 휠 복구
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        sellRepository.findPendingExpirations()
+                .doOnNext(incoming::add)
+                .count()
+                .subscribe(
+                        count -> log.info("판매 만료 스케줄 복구 완료: {}건", count),
+                        e -> log.error("판매 만료 스케줄 복구에 실패했습니다.", e));
+    }
+
+    /**
+     * 새로 PENDING이 된 판매를 만료 예약
+     * 종료/매칭된 판매는 휠에서 지우지 않고, 만료 UPDATE의 status 조건으로 걸러냄
+     */
+    @EventListener
+    public void onSellChanged(SellChangedEvent event) {
+        Sell after = event.after();
+        boolean becamePending = after.getStatus() == SellStatus.PENDING
+                && (event.isCreated() || event.before().getStatus() != SellStatus.PENDING);
+        if (becamePending) {
+            incoming.add(new SellExpiration(after.getSellId(), after.getProductId(), after.getExpiresAtMillis()));
+        }
+    }
+
+    /**
+     * tick: 대기 큐 반영 → 휠 진행 → 만료 대상 일괄 UPDATE
+     * UPDATE는 구독만 걸고 반환하며, 이전 tick의 UPDATE가 끝나지 않았으면 이번 tick은 건너뜀
+     * (휠은 다음 tick에서 지난 시간만큼 한 번에 진행하므로 만료 대상이 누락되지 않음)
+     */
+    @Scheduled(fixedDelayString = "${sell.expiry.tick-ms:1000}")
+    public void tick() {
+        if (!expiring.compareAndSet(false, true)) {
+            return;
+        }
+        long nowMillis = clock.currentTimeMillis();
+        List<DueSell> due = new ArrayList<>();
+
+        SellExpiration expiration;
+        while ((expiration = incoming.poll()) != null) {
+            long deadline = expiration.expiresAtMillis();
+            if (!wheel.add(expiration.sellId(), expiration.productId(), deadline)) {
+                due.add(new DueSell(expiration.sellId(), expiration.productId(), deadline));
+            }
+        }
+        wheel.advance(nowMillis, (sellId, productId, deadline) -> due.add(new DueSell(sellId, productId, deadline)));
+        scheduledCount = wheel.size();
+
+        List<List<DueSell>> batches = new ArrayList<>();
+        for (int from = 0; from < due.size(); from += batchSize) {
+            batches.add(due.subList(from, Math.min(from + batchSize, due.size())));
+        }
+        Flux.fromIterable(batches)
+                .concatMap(this::expire)
+                .doFinally(signal -> expiring.set(false))
+                .subscribe();
+    }
+
+    /**
+     * 만료 UPDATE가 돌려준 행(이번 UPDATE로 EXPIRED가 된 판매)만 아웃박스에 기록
+     */
+    private Mono<Void> expire(List<DueSell> batch) {
+        List<Long> sellIds = batch.stream().map(DueSell::sellId).toList();
+
+        return sellRepository.expireAll(sellIds, clock.now())
+                .collectList()
+                .flatMap(sells -> sellEventOutbox.appendAll(sells.stream()
+                                .map(sell -> SellLifecycleEvent.statusChanged(sell, SellStatus.PENDING))
+                                .toList())
+                        .thenReturn(sells))
+                .as(transactionalOperator::transactional)
+                .doOnNext(expired -> {
+                    long nowMillis = clock.currentTimeMillis();
+                    batch.forEach(sell -> expiryLag.record(Math.max(0, nowMillis - sell.deadline()), TimeUnit.MILLISECONDS));
+                    if (expired.isEmpty()) {
+                        return;
+                    }
+                    expiredCounter.increment(expired.size());
+
+                    eventPublisher.publishEvent(new SellsExpiredEvent(expired.stream()
+                            .map(sell -> new SellsExpiredEvent.ExpiredSell(
+                                    sell.getSellId(), sell.getSellerId(), sell.getProductId()))
+                            .toList()));
+                })
+                .onErrorResume(e -> {
+                    log.warn("판매 만료 처리 실패, 다음 tick에 재시도합니다. {}건", batch.size(), e);
+                    batch.forEach(sell -> incoming.add(new SellExpiration(sell.sellId(), sell.productId(),
+                            sell.deadline())));
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private record DueSell(long sellId, long productId, long deadline) {
+    }
+}
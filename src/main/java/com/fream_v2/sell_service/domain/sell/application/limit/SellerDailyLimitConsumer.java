@@ -0,0 +1,32 @@
+package com.fream_v2.sell_service.domain.sell.application.limit;
+
+import com.fream_v2.sell_service.domain.sell.application.consumer.NodeLocalSellEventHandler;
+import com.fream_v2.sell_service.domain.sell.domain.event.SellLifecycleEvent;
+import com.fream_v2.sell_service.global.common.util.TimeUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 노드의 판매 등록 이벤트로 일일 등록 한도 카운터 동기화
+ * 노드 로컬 수신기가 DB 복구 스냅샷 시각부터 다시 읽어 주므로, 복구와 수신 사이의 등록도 빠지지 않음
+ */
+@Component
+public class SellerDailyLimitConsumer implements NodeLocalSellEventHandler {
+
+    private final SellerDailyLimiter sellerDailyLimiter;
+
+    public SellerDailyLimitConsumer(SellerDailyLimiter sellerDailyLimiter) {
+        this.sellerDailyLimiter = sellerDailyLimiter;
+    }
+
+    @Override
+    public long replayFromMillis() {
+        return sellerDailyLimiter.snapshotCutoffMillis();
+    }
+
+    @Override
+    public void handle(SellLifecycleEvent event) {
+        if (event.eventType() == SellLifecycleEvent.Type.CREATED) {
+            sellerDailyLimiter.record(event.sellerId(), TimeUtils.toEpochMillis(event.occurredAt()));
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.fream_v2.sell_service.domain.sell.application.limit;
+
+import com.fream_v2.sell_service.domain.sell.domain.exception.SellException;
+import com.fream_v2.sell_service.domain.sell.domain.repository.SellRepository;
+import com.fream_v2.sell_service.global.common.time.EpochClock;
+import com.fream_v2.sell_service.global.common.util.TimeUtils;
+import com.fream_v2.sell_service.global.presentation.exception.CommonException;
+import com.fream_v2.sell_service.global.presentation.exception.GlobalErrorCode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 판매자별 일일 등록 한도 (인메모리 슬라이딩 윈도, 24시간 / 버킷 단위)
+ *
+ * - 등록 시 판매자 카운터 하나만 확인/증가하므로 DB 조회 없이 O(1)
+ * - 카운터는 Caffeine 맵(내부 분할 잠금)에 판매자별로 두고, 잠금은 판매자 카운터 단위
+ * - 마지막 기록 후 윈도 길이가 지나면 카운터가 비어 있으므로 만료 제거, 최대 판매자 수를 넘으면 크기 기준 제거
+ * - 기동 시 스냅샷 시각(생성 시각) 이전 윈도 안의 등록분을 DB에서 읽어 복구하고,
+ *   스냅샷 시각 이후 다른 노드의 등록은 판매 이벤트로 반영 (두 경로가 겹치지 않도록 시각으로 나눔)
+ * - 복구가 끝나기 전에는 한도를 판단할 수 없으므로 등록을 SERVICE_UNAVAILABLE로 거절
+ */
+@Slf4j
+@Component
+public class SellerDailyLimiter {
+
+    private static final long WINDOW_MILLIS = TimeUnit.DAYS.toMillis(1);
+
+    private final SellRepository sellRepository;
+    private final EpochClock clock;
+    private final int limit;
+    private final int bucketCount;
+    private final long bucketMillis;
+    private final Cache<Long, SlidingWindowCounter> counters;
+    private final Counter rejected;
+    private final long snapshotCutoffMillis;
+    private volatile boolean ready = false;
+
+    public SellerDailyLimiter(SellRepository sellRepository,
+                              EpochClock clock,
+                              MeterRegistry meterRegistry,
+                              @Value("${sell.daily-limit.max-per-day:100}") int limit,
+                              @Value("${sell.daily-limit.buckets:24}") int bucketCount,
+                              @Value("${sell.daily-limit.max-sellers:200000}") long maxSellers) {
+        this.sellRepository = sellRepository;
+        this.clock = clock;
+        this.limit = limit;
+        this.bucketCount = bucketCount;
+        this.bucketMillis = WINDOW_MILLIS / bucketCount;
+        this.snapshotCutoffMillis = clock.currentTimeMillis();
+        this.counters = Caffeine.newBuilder()
+                .maximumSize(maxSellers)
+                .expireAfterWrite(Duration.ofMillis(WINDOW_MILLIS))
+                .build();
+
+        this.rejected = Counter.builder("sell.daily-limit.rejected")
+                .description("일일 등록 한도 초과로 거절된 등록 수")
+                .register(meterRegistry);
+        Gauge.builder("sell.daily-limit.tracked-sellers", counters, Cache::estimatedSize)
+                .description("카운터를 보관 중인 판매자 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기동 시 스냅샷 시각 이전 24시간 등록분으로 카운터 복구 (실패 시 재시도)
+     * 복구 중 이벤트로 들어온 스냅샷 이후 등록분과 합침
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        Mono.defer(() -> {
+                    Map<Long, SlidingWindowCounter> loaded = new HashMap<>();
+                    return sellRepository.findListingsBetween(
+                                    TimeUtils.toLocalDateTime(snapshotCutoffMillis - WINDOW_MILLIS),
+                                    TimeUtils.toLocalDateTime(snapshotCutoffMillis))
+                            .doOnNext(listing -> loaded
+                                    .computeIfAbsent(listing.sellerId(), id -> newCounter(listing.listedAtMillis()))
+                                    .record(listing.listedAtMillis(), 1))
+                            .then(Mono.fromSupplier(() -> loaded));
+                })
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofSeconds(30))
+                        .doBeforeRetry(signal -> log.warn("일일 등록 한도 카운터 복구에 실패해 다시 시도합니다.", signal.failure())))
+                .subscribe(loaded -> {
+                    loaded.forEach((sellerId, counter) ->
+                            counters.asMap().merge(sellerId, counter, SlidingWindowCounter::merge));
+                    ready = true;
+                    log.info("일일 등록 한도 카운터 복구 완료: 판매자 {}명", loaded.size());
+                });
+    }
+
+    /**
+     * DB 복구 범위의 끝 (이 시각 이후 등록은 판매 이벤트로 반영)
+     */
+    public long snapshotCutoffMillis() {
+        return snapshotCutoffMillis;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 등록 1건 선점 (한도 초과 시 DAILY_LIMIT_EXCEEDED)
+     *
+     * @return 선점 시각 (저장 실패 시 release에 전달)
+     */
+    public long acquire(Long sellerId) {
+        if (!ready) {
+            throw new CommonException(GlobalErrorCode.SERVICE_UNAVAILABLE);
+        }
+        long nowMillis = clock.currentTimeMillis();
+        // compute로 갱신해 expireAfterWrite 기준 시각을 함께 늘림
+        boolean[] acquired = new boolean[1];
+        counters.asMap().compute(sellerId, (id, counter) -> {
+            SlidingWindowCounter target = counter != null ? counter : newCounter(nowMillis);
+            acquired[0] = target.tryIncrement(nowMillis, limit);
+            return target;
+        });
+        if (!acquired[0]) {
+            rejected.increment();
+            throw SellException.dailyLimitExceeded(sellerId, limit);
+        }
+        return nowMillis;
+    }
+
+    /**
+     * 선점 취소 (저장 실패)
+     */
+    public void release(Long sellerId, long acquiredAtMillis) {
+        SlidingWindowCounter counter = counters.getIfPresent(sellerId);
+        if (counter != null) {
+            counter.record(acquiredAtMillis, -1);
+        }
+    }
+
+    /**
+     * 다른 노드 등록 반영 (한도 검사 없음)
+     * 스냅샷 시각 이전 등록은 DB 복구분에 이미 포함되어 있으므로 무시
+     */
+    public void record(Long sellerId, long listedAtMillis) {
+        if (listedAtMillis < snapshotCutoffMillis || listedAtMillis <= clock.currentTimeMillis() - WINDOW_MILLIS) {
+            return;
+        }
+        counters.asMap().compute(sellerId, (id, counter) -> {
+            SlidingWindowCounter target = counter != null ? counter : newCounter(listedAtMillis);
+            target.record(listedAtMillis, 1);
+            return target;
+        });
+    }
+
+    /**
+     * 최근 24시간 등록 수
+     */
+    public int count(Long sellerId) {
+        SlidingWindowCounter counter = counters.getIfPresent(sellerId);
+        return counter != null ? counter.total(clock.currentTimeMillis()) : 0;
+    }
+
+    private SlidingWindowCounter newCounter(long nowMillis) {
+        return new SlidingWindowCounter(bucketCount, bucketMillis, nowMillis);
+    }
+}
@@ -0,0 +1,92 @@
+package com.fream_v2.sell_service.domain.sell.application.limit;
+
+/**
+ * 버킷 링 기반 슬라이딩 윈도 카운터 (판매자 1명분)
+ *
+ * 윈도를 bucketCount개의 고정 길이 버킷으로 나누고 합계를 함께 유지하므로
+ * 조회/증가는 O(1), 시간이 흐른 만큼 지난 버킷을 비우는 비용도 최대 bucketCount
+ * 정밀도는 버킷 길이 단위 (가장 오래된 버킷은 통째로 윈도에서 빠짐)
+ */
+final class SlidingWindowCounter {
+
+    private final int[] counts;
+    private final long bucketMillis;
+    private long headBucket;
+    private int total;
+
+    SlidingWindowCounter(int bucketCount, long bucketMillis, long nowMillis) {
+        this.counts = new int[bucketCount];
+        this.bucketMillis = bucketMillis;
+        this.headBucket = nowMillis / bucketMillis;
+    }
+
+    /**
+     * 한도 안이면 현재 버킷에 1 증가
+     *
+     * @return 증가했으면 true, 한도 초과면 false
+     */
+    synchronized boolean tryIncrement(long nowMillis, int limit) {
+        advance(nowMillis / bucketMillis);
+        if (total >= limit) {
+            return false;
+        }
+        counts[(int) (headBucket % counts.length)]++;
+        total++;
+        return true;
+    }
+
+    /**
+     * 주어진 시각의 버킷에 기록 (다른 노드 등록 / DB 복구분, 한도와 무관)
+     * 이미 윈도를 벗어난 시각이면 무시
+     */
+    synchronized void record(long atMillis, int delta) {
+        long bucket = atMillis / bucketMillis;
+        if (bucket > headBucket) {
+            advance(bucket);
+        } else if (bucket <= headBucket - counts.length) {
+            return;
+        }
+        int index = (int) (bucket % counts.length);
+        int applied = Math.max(delta, -counts[index]);
+        counts[index] += applied;
+        total += applied;
+    }
+
+    /**
+     * 다른 카운터의 기록을 더함 (두 카운터의 버킷 길이/개수가 같아야 함)
+     *
+     * @return this
+     */
+    SlidingWindowCounter merge(SlidingWindowCounter other) {
+        synchronized (this) {
+            synchronized (other) {
+                long head = Math.max(headBucket, other.headBucket);
+                advance(head);
+                other.advance(head);
+                for (int i = 0; i < counts.length; i++) {
+                    counts[i] += other.counts[i];
+                }
+                total += other.total;
+            }
+        }
+        return this;
+    }
+
+    synchronized int total(long nowMillis) {
+        advance(nowMillis / bucketMillis);
+        return total;
+    }
+
+    private void advance(long bucket) {
+        if (bucket <= headBucket) {
+            return;
+        }
+        long steps = Math.min(bucket - headBucket, counts.length);
+        for (long i = 1; i <= steps; i++) {
+            int index = (int) ((headBucket + i) % counts.length);
+            total -= counts[index];
+            counts[index] = 0;
+        }
+        headBucket = bucket;
+    }
+}
@@ -0,0 +1,36 @@
+package com.fream_v2.sell_service.domain.sell.application.listing;
+
+import com.fream_v2.sell_service.domain.sell.application.consumer.NodeLocalSellEventHandler;
+import com.fream_v2.sell_service.domain.sell.domain.event.SellLifecycleEvent;
+import com.fream_v2.sell_service.global.common.time.EpochClock;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 노드의 판매 등록/상태 변경 이벤트로 진행 중 판매 집합 동기화
+ * (일괄 만료도 아웃박스에 STATUS_CHANGED로 기록되므로 함께 반영됨)
+ * 집합 복구(기동 완료 시)보다 앞선 생성 시각부터 다시 읽어, 복구와 수신 사이의 변경도 빠지지 않음
+ * 추가/제거만 하므로 복구에 이미 들어간 변경을 다시 반영해도 결과는 같음
+ */
+@Component
+public class ActiveListingConsumer implements NodeLocalSellEventHandler {
+
+    private final ActiveListingIndex activeListingIndex;
+    private final long createdAtMillis;
+
+    public ActiveListingConsumer(ActiveListingIndex activeListingIndex, EpochClock clock) {
+        this.activeListingIndex = activeListingIndex;
+        this.createdAtMillis = clock.currentTimeMillis();
+    }
+
+    @Override
+    public long replayFromMillis() {
+        return createdAtMillis;
+    }
+
+    @Override
+    public void handle(SellLifecycleEvent event) {
+        if (event.eventType() != SellLifecycleEvent.Type.PRICE_UPDATED) {
+            activeListingIndex.apply(event.sellerId(), event.productId(), event.previousStatus(), event.status());
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.fream_v2.sell_service.domain.sell.application.listing;
+
+import com.fream_v2.sell_service.domain.sell.domain.event.SellChangedEvent;
+import com.fream_v2.sell_service.domain.sell.domain.event.SellsExpiredEvent;
+import com.fream_v2.sell_service.domain.sell.domain.exception.SellException;
+import com.fream_v2.sell_service.domain.sell.domain.model.ActiveListing;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellStatus;
+import com.fream_v2.sell_service.domain.sell.domain.repository.SellRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 진행 중 판매의 (판매자 ID, 상품 ID) 인메모리 집합 - "이미 판매 중" 중복 등록 검사용
+ *
+ * - 두 ID를 long 하나(상위 32비트 판매자, 하위 32비트 상품)로 묶어 오픈 어드레싱 집합에 저장
+ *   (HashSet&lt;Pair&lt;Long, Long&gt;&gt; 대비 원소당 객체 4개와 엔트리 노드가 없음)
+ * - 등록 검사는 "없으면 넣기"이므로 조회와 삽입이 한 번의 탐색으로 끝남 (앞단 필터를 두지 않음)
+ * - 32비트를 넘는 ID 쌍은 드물어 별도 HashSet에 보관
+ * - 기동 시 DB에서 진행 중 판매를 한 번 읽어 복구하고, 이후에는 상태 전이 이벤트로만 갱신
+ *   (복구가 끝나기 전에는 DB 존재 여부 조회로 대신 검사)
+ */
+@Slf4j
+@Component
+public class ActiveListingIndex {
+
+    private static final long UNSIGNED_INT_MASK = 0xFFFFFFFFL;
+
+    private final SellRepository sellRepository;
+    private final Counter rejected;
+
+    // 아래 상태는 모두 this 잠금 안에서 읽고 변경
+    private final PackedLongSet packed;
+    private final Set<ActiveListing> wide = new HashSet<>();
+
+    /**
+     * 복구 중 이벤트로 제거된 쌍 (복구 스트림의 오래된 행이 되살리지 않도록 함)
+     */
+    private final Set<ActiveListing> removedDuringWarmUp = new HashSet<>();
+    private volatile boolean ready = false;
+
+    public ActiveListingIndex(SellRepository sellRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${sell.active-listing.expected-size:1000000}") int expectedSize) {
+        this.sellRepository = sellRepository;
+        this.packed = new PackedLongSet(expectedSize);
+
+        this.rejected = Counter.builder("sell.active-listing.rejected")
+                .description("이미 판매 중이어서 거절된 등록 수")
+                .register(meterRegistry);
+        Gauge.builder("sell.active-listing.size", this, ActiveListingIndex::size)
+                .description("진행 중 판매 (판매자, 상품) 쌍 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기동 시 진행 중 판매로 집합 복구 (실패 시 재시도)
+     * 재시도 중에도 이전 시도에서 읽은 쌍과 복구 중 제거 기록은 유지 (추가는 멱등이고 제거 기록이 오래된 행을 걸러냄)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        Mono.defer(() -> sellRepository.findActiveListings()
+                        .doOnNext(listing -> load(listing.sellerId(), listing.productId()))
+                        .count())
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofSeconds(30))
+                        .doBeforeRetry(signal -> log.warn("진행 중 판매 집합 복구에 실패해 다시 시도합니다.", signal.failure())))
+                .subscribe(
+                        count -> {
+                            synchronized (this) {
+                                ready = true;
+                                removedDuringWarmUp.clear();
+                            }
+                            log.info("진행 중 판매 집합 복구 완료: {}건", count);
+                        });
+    }
+
+    /**
+     * 등록 전 (판매자, 상품) 쌍 선점 (이미 진행 중 판매가 있으면 ALREADY_ON_SALE)
+     * 저장에 실패하면 release로 되돌림
+     */
+    public Mono<Void> reserve(Long sellerId, Long productId) {
+        if (ready) {
+            return Mono.fromRunnable(() -> reserveNow(sellerId, productId));
+        }
+        return sellRepository.existsActiveListing(sellerId, productId)
+                .doOnNext(exists -> {
+                    if (exists) {
+                        rejected.increment();
+                        throw SellException.alreadyOnSale(productId);
+                    }
+                    reserveNow(sellerId, productId);
+                })
+                .then();
+    }
+
+    /**
+     * 선점 취소 (저장 실패)
+     */
+    public void release(Long sellerId, Long productId) {
+        remove(sellerId, productId);
+    }
+
+    /**
+     * 진행 중 판매 존재 여부
+     */
+    public synchronized boolean contains(Long sellerId, Long productId) {
+        if (!fits(sellerId, productId)) {
+            return wide.contains(new ActiveListing(sellerId, productId));
+        }
+        return packed.contains(pack(sellerId, productId));
+    }
+
+    public synchronized int size() {
+        return packed.size() + wide.size();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 판매 변경 이벤트로 집합 갱신 (같은 노드의 커밋된 변경)
+     */
+    @EventListener
+    public void onSellChanged(SellChangedEvent event) {
+        apply(event.after().getSellerId(), event.after().getProductId(),
+                event.isCreated() ? null : event.before().getStatus(), event.after().getStatus());
+    }
+
+    /**
+     * 일괄 만료된 판매 제거
+     */
+    @EventListener
+    public void onSellsExpired(SellsExpiredEvent event) {
+        for (SellsExpiredEvent.ExpiredSell expired : event.sells()) {
+            remove(expired.sellerId(), expired.productId());
+        }
+    }
+
+    /**
+     * 상태 전이 반영 (진행 중으로 들어오면 추가, 진행 중에서 벗어나면 제거)
+     *
+     * @param previous 이전 상태 (등록이면 null)
+     */
+    public void apply(Long sellerId, Long productId, SellStatus previous, SellStatus current) {
+        boolean wasActive = previous != null && previous.isInProgress();
+        boolean isActive = current.isInProgress();
+        if (isActive && !wasActive) {
+            add(sellerId, productId);
+        } else if (wasActive && !isActive) {
+            remove(sellerId, productId);
+        }
+    }
+
+    private synchronized void reserveNow(Long sellerId, Long productId) {
+        if (!add(sellerId, productId)) {
+            rejected.increment();
+            throw SellException.alreadyOnSale(productId);
+        }
+    }
+
+    private synchronized void load(Long sellerId, Long productId) {
+        if (!removedDuringWarmUp.contains(new ActiveListing(sellerId, productId))) {
+            add(sellerId, productId);
+        }
+    }
+
+    private synchronized boolean add(Long sellerId, Long productId) {
+        if (!fits(sellerId, productId)) {
+            return wide.add(new ActiveListing(sellerId, productId));
+        }
+        return packed.add(pack(sellerId, productId));
+    }
+
+    private synchronized void remove(Long sellerId, Long productId) {
+        if (!ready) {
+            removedDuringWarmUp.add(new ActiveListing(sellerId, productId));
+        }
+        if (!fits(sellerId, productId)) {
+            wide.remove(new ActiveListing(sellerId, productId));
+            return;
+        }
+        packed.remove(pack(sellerId, productId));
+    }
+
+    private static boolean fits(Long sellerId, Long productId) {
+        return (sellerId & ~UNSIGNED_INT_MASK) == 0 && (productId & ~UNSIGNED_INT_MASK) == 0;
+    }
+
+    private static long pack(long sellerId, long productId) {
+        return sellerId << 32 | productId;
+    }
+}
@@ -0,0 +1,147 @@
+package com.fream_v2.sell_service.domain.sell.application.listing;
+
+/**
+ * long 키 전용 오픈 어드레싱 집합 (선형 탐사, 삭제 시 뒤 원소를 당겨 채움)
+ *
+ * - 키를 long[] 한 칸에 그대로 저장하므로 원소당 객체/박싱이 없음 (적재율 최대 1/2 → 원소당 16~32바이트)
+ * - 0은 빈 칸 표시로 쓰므로 별도 플래그로 보관
+ * - 스레드 안전하지 않음 (호출 측 잠금 필요)
+ */
+final class PackedLongSet {
+
+    private static final long EMPTY = 0L;
+
+    private long[] table;
+    private int mask;
+    private int size;
+    private boolean containsZero;
+
+    PackedLongSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize) * 2 - 1) << 1;
+        this.table = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    boolean add(long key) {
+        if (key == EMPTY) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        int slot = slot(key);
+        while (table[slot] != EMPTY) {
+            if (table[slot] == key) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = key;
+        if (++size * 2 > table.length) {
+            resize(table.length << 1);
+        }
+        return true;
+    }
+
+    boolean contains(long key) {
+        if (key == EMPTY) {
+            return containsZero;
+        }
+        int slot = slot(key);
+        long current;
+        while ((current = table[slot]) != EMPTY) {
+            if (current == key) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    boolean remove(long key) {
+        if (key == EMPTY) {
+            if (!containsZero) {
+                return false;
+            }
+            containsZero = false;
+            size--;
+            return true;
+        }
+        int slot = slot(key);
+        while (table[slot] != key) {
+            if (table[slot] == EMPTY) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        shiftBack(slot);
+        size--;
+        return true;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 배열 크기 기준 대략적인 메모리 사용량 (바이트)
+     */
+    long tableBytes() {
+        return (long) table.length * Long.BYTES;
+    }
+
+    /**
+     * 삭제한 칸 뒤로 이어진 원소 중 원래 자리가 빈 칸 이전인 원소를 당겨 탐사 체인을 유지 (tombstone 없음)
+     */
+    private void shiftBack(int gap) {
+        int slot = gap;
+        while (true) {
+            slot = (slot + 1) & mask;
+            long key = table[slot];
+            if (key == EMPTY) {
+                break;
+            }
+            int home = slot(key);
+            // home이 (gap, slot] 순환 구간 밖이면 gap으로 옮겨도 탐사 경로가 유지됨
+            boolean movable = gap <= slot ? (home <= gap || home > slot) : (home <= gap && home > slot);
+            if (movable) {
+                table[gap] = key;
+                gap = slot;
+            }
+        }
+        table[gap] = EMPTY;
+    }
+
+    private void resize(int capacity) {
+        long[] old = table;
+        table = new long[capacity];
+        mask = capacity - 1;
+        for (long key : old) {
+            if (key != EMPTY) {
+                int slot = slot(key);
+                while (table[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = key;
+            }
+        }
+    }
+
+    private int slot(long key) {
+        return (int) mix(key) & mask;
+    }
+
+    /**
+     * MurmurHash3 fmix64 (연속된 ID가 인접 칸에 몰리지 않도록 비트 확산)
+     */
+    static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return key;
+    }
+}
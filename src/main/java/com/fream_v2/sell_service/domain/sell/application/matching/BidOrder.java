@@ -0,0 +1,9 @@
+package com.fream_v2.sell_service.domain.sell.application.matching;
+
+/**
+ * 매칭 요청 매수 호가
+ *
+ * @param bidPrice 구매자가 지불할 최대 가격 (이 가격 이하의 매도 호가와 체결)
+ */
+public record BidOrder(Long buyerId, Long productId, long bidPrice) {
+}
@@ -0,0 +1,9 @@
+package com.fream_v2.sell_service.domain.sell.application.matching;
+
+/**
+ * 매칭(체결) 결과
+ *
+ * @param price 체결 가격 (매도 호가 가격)
+ */
+public record MatchResult(Long sellId, Long sellerId, Long buyerId, Long productId, long price) {
+}
@@ -0,0 +1,55 @@
+package com.fream_v2.sell_service.domain.sell.application.matching;
+
+import com.fream_v2.sell_service.domain.sell.application.orderbook.OrderBookEntry;
+import com.fream_v2.sell_service.domain.sell.application.orderbook.OrderBookRegistry;
+import com.fream_v2.sell_service.domain.sell.application.orderbook.ProductOrderBook;
+import com.fream_v2.sell_service.global.common.time.EpochClock;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * 가격-시간 우선 매칭 엔진 (인메모리)
+ *
+ * 매수 호가가 들어오면 상품 샤드 스레드에서 최저가 → 선등록 순으로 매도 호가를 찾아
+ * 호가창에서 제거(선점)한 뒤 반환. 영속화는 호출 측(SellMatchingService) 책임
+ */
+@Component
+@RequiredArgsConstructor
+public class MatchingEngine {
+
+    private final ProductShardExecutor shardExecutor;
+    private final OrderBookRegistry orderBookRegistry;
+    private final EpochClock clock;
+
+    /**
+     * 매수 호가와 체결할 매도 호가 선점
+     *
+     * 선점한 뒤 결과를 넘기기 전에 취소되면 호가를 다시 넣음
+     *
+     * @return 체결된 매도 호가 (체결 가능한 호가가 없으면 empty)
+     */
+    public Mono<OrderBookEntry> match(BidOrder bid) {
+        return shardExecutor.submit(bid.productId(), () -> matchOnShard(bid))
+                .doOnDiscard(OrderBookEntry.class, entry -> shardExecutor.execute(bid.productId(),
+                        () -> orderBookRegistry.bookForWrite(bid.productId()).add(entry)));
+    }
+
+    /**
+     * 영속화 실패 등으로 체결을 되돌릴 때 매도 호가를 원래 위치로 복원
+     */
+    public Mono<Void> restore(Long productId, OrderBookEntry entry) {
+        return shardExecutor.submit(productId, () -> {
+            orderBookRegistry.bookForWrite(productId).add(entry);
+            return Boolean.TRUE;
+        }).then();
+    }
+
+    /**
+     * 샤드 스레드 전용 - 상품 단위 단일 작성자이므로 잠금 없음
+     */
+    OrderBookEntry matchOnShard(BidOrder bid) {
+        ProductOrderBook book = orderBookRegistry.bookForWrite(bid.productId());
+        return book.pollBestAsk(clock.currentTimeMillis(), bid.buyerId(), bid.bidPrice());
+    }
+}
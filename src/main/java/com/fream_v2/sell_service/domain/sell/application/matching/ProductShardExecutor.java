@@ -0,0 +1,93 @@
+package com.fream_v2.sell_service.domain.sell.application.matching;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 상품 ID 기준 샤드 실행기
+ *
+ * 상품 하나의 모든 작업은 항상 같은 단일 스레드 샤드에서 순서대로 실행되므로
+ * 호가창 쓰기/매칭에 잠금이 필요 없고, 서로 다른 상품은 샤드 수만큼 병렬로 처리됨
+ */
+@Component
+public class ProductShardExecutor {
+
+    private final ExecutorService[] shards;
+
+    public ProductShardExecutor(@Value("${sell.matching.shards:0}") int shardCount) {
+        int count = shardCount > 0 ? shardCount : Runtime.getRuntime().availableProcessors();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("sell-shard-");
+        threadFactory.setDaemon(true);
+
+        this.shards = new ExecutorService[count];
+        for (int i = 0; i < count; i++) {
+            this.shards[i] = Executors.newSingleThreadExecutor(threadFactory);
+        }
+    }
+
+    /**
+     * 상품 샤드에서 작업을 실행하고 결과를 비동기로 반환
+     * 결과가 null이면 empty로 완료
+     * 샤드에서 시작하기 전에 취소되면 작업을 건너뜀 (작업 후 취소되어 버려진 결과는 discard hook으로 전달)
+     */
+    public <T> Mono<T> submit(Long productId, Callable<T> task) {
+        ExecutorService shard = shardOf(productId);
+        return Mono.create(sink -> {
+            AtomicBoolean cancelled = new AtomicBoolean();
+            sink.onCancel(() -> cancelled.set(true));
+            shard.execute(() -> {
+                if (cancelled.get()) {
+                    return;
+                }
+                try {
+                    sink.success(task.call());
+                } catch (Throwable e) {
+                    sink.error(e);
+                }
+            });
+        });
+    }
+
+    /**
+     * 상품 샤드에 작업을 넣고 즉시 반환 (fire-and-forget)
+     */
+    public void execute(Long productId, Runnable task) {
+        shardOf(productId).execute(task);
+    }
+
+    /**
+     * 호출 시점까지 모든 샤드에 들어간 작업이 끝나면 완료
+     */
+    public Mono<Void> barrier() {
+        return Flux.fromArray(shards)
+                .flatMap(shard -> Mono.<Void>create(sink -> shard.execute(sink::success)))
+                .then();
+    }
+
+    public int shardCount() {
+        return shards.length;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ExecutorService shard : shards) {
+            shard.shutdown();
+        }
+    }
+
+    private ExecutorService shardOf(Long productId) {
+        // 연속된 상품 ID가 한 샤드에 몰리지 않도록 비트 혼합 후 분배
+        long h = productId * 0x9E3779B97F4A7C15L;
+        int index = (int) ((h ^ (h >>> 32)) & 0x7fffffff) % shards.length;
+        return shards[index];
+    }
+}
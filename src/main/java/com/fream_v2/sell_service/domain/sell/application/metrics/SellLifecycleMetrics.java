@@ -0,0 +1,100 @@
+package com.fream_v2.sell_service.domain.sell.application.metrics;
+
+import com.fream_v2.sell_service.domain.sell.domain.event.SellChangedEvent;
+import com.fream_v2.sell_service.domain.sell.domain.model.Sell;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellStatus;
+import com.fream_v2.sell_service.domain.sell.domain.repository.SellRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 판매 상태 지표
+ *
+ * - sell.status.transition{from, to}: 상태 전이마다 이전 상태에 머문 시간 (이전/이후 판매의 상태 변경 시각 차이)
+ *   가격 수정처럼 상태가 그대로인 수정은 상태 변경 시각을 바꾸지 않으므로 체류 시간에 영향 없음
+ *   허용된 전이 조합만 미리 등록하므로 태그 조합 수가 고정됨
+ *   (스케줄러의 일괄 만료 PENDING → EXPIRED는 이벤트에 이전 판매가 없어 sell.expiry.expired 건수로만 집계)
+ * - sell.listings.active{status}: 진행 중 상태별 판매 수
+ *   모든 노드의 변경이 반영되도록 주기적으로 DB에서 집계 (노드마다 같은 값을 노출하므로 합산하지 말고 max로 조회)
+ */
+@Slf4j
+@Component
+public class SellLifecycleMetrics {
+
+    private final SellRepository sellRepository;
+    private final Timer[][] transitionTimers;
+    private final Map<SellStatus, AtomicLong> activeCounts = new EnumMap<>(SellStatus.class);
+
+    public SellLifecycleMetrics(SellRepository sellRepository, MeterRegistry meterRegistry) {
+        this.sellRepository = sellRepository;
+
+        SellStatus[] statuses = SellStatus.values();
+        this.transitionTimers = new Timer[statuses.length][statuses.length];
+        for (SellStatus from : statuses) {
+            for (SellStatus to : from.allowedTransitions()) {
+                transitionTimers[from.ordinal()][to.ordinal()] = Timer.builder("sell.status.transition")
+                        .description("상태 전이 전 이전 상태에 머문 시간")
+                        .tag("from", from.name())
+                        .tag("to", to.name())
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofSeconds(1))
+                        .maximumExpectedValue(Duration.ofDays(30))
+                        .register(meterRegistry);
+            }
+            if (from.isInProgress()) {
+                AtomicLong count = new AtomicLong();
+                activeCounts.put(from, count);
+                Gauge.builder("sell.listings.active", count, AtomicLong::get)
+                        .description("진행 중 상태별 판매 수")
+                        .tag("status", from.name())
+                        .register(meterRegistry);
+            }
+        }
+    }
+
+    @EventListener
+    public void onSellChanged(SellChangedEvent event) {
+        if (!event.isStatusChanged()) {
+            return;
+        }
+        Sell before = event.before();
+        Sell after = event.after();
+        Timer timer = transitionTimers[before.getStatus().ordinal()][after.getStatus().ordinal()];
+        if (timer != null && before.getStatusChangedAtMillis() != Long.MIN_VALUE) {
+            timer.record(dwellMillis(before, after), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 상태별 판매 수 갱신 (조회에 실패하면 이전 값을 유지, 집계 쿼리 완료를 스케줄러 스레드에서 기다리지 않음)
+     */
+    @Scheduled(fixedDelayString = "${sell.metrics.active-listings-refresh-ms:30000}",
+            initialDelayString = "${sell.metrics.active-listings-refresh-ms:30000}")
+    public void refreshActiveListings() {
+        sellRepository.countInProgressByStatus()
+                .doOnNext(counts -> activeCounts.forEach((status, count) ->
+                        count.set(counts.getOrDefault(status, 0L))))
+                .doOnError(e -> log.warn("상태별 판매 수 집계에 실패했습니다.", e))
+                .onErrorComplete()
+                .subscribe();
+    }
+
+    /**
+     * 이전 상태에 머문 시간
+     * 상태 변경 시각이 없는 판매(컬럼 추가 전 행, 미지정 값 Long.MIN_VALUE)는 호출 측에서 기록하지 않음
+     */
+    private static long dwellMillis(Sell before, Sell after) {
+        return Math.max(0, after.getStatusChangedAtMillis() - before.getStatusChangedAtMillis());
+    }
+}
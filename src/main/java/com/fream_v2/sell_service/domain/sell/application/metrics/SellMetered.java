@@ -0,0 +1,19 @@
+package com.fream_v2.sell_service.domain.sell.application.metrics;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Mono를 반환하는 판매 유스케이스 메서드의 지연 시간과 실패 에러 코드를 기록
+ * 구독부터 종료까지를 측정하며, 기록은 {@link SellMetricsAspect}가 담당
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SellMetered {
+
+    SellOperation value();
+}
@@ -0,0 +1,113 @@
+package com.fream_v2.sell_service.domain.sell.application.metrics;
+
+import com.fream_v2.sell_service.global.presentation.exception.ErrorCode;
+import com.fream_v2.sell_service.global.presentation.exception.GlobalException;
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 판매 유스케이스 지표 기록
+ *
+ * - sell.operation.latency{operation, outcome}: 구독부터 종료까지 지연 시간 (백분위 히스토그램)
+ *   outcome은 success / client_error / server_error / cancelled
+ * - sell.operation.errors{operation, error_code}: 실패 건수 (ErrorCode enum 이름, 그 외 예외는 UNHANDLED)
+ *
+ * 태그 값은 유스케이스 수 x 에러 코드 수로 제한되며 판매/상품 ID 같은 식별자는 태그로 쓰지 않음
+ */
+@Aspect
+@Component
+public class SellMetricsAspect {
+
+    private static final String UNHANDLED = "UNHANDLED";
+
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final Map<SellOperation, Map<Outcome, Timer>> latencyTimers = new EnumMap<>(SellOperation.class);
+    private final Map<SellOperation, Map<String, Counter>> errorCounters = new EnumMap<>(SellOperation.class);
+
+    public SellMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.clock = meterRegistry.config().clock();
+        for (SellOperation operation : SellOperation.values()) {
+            Map<Outcome, Timer> timers = new EnumMap<>(Outcome.class);
+            for (Outcome outcome : Outcome.values()) {
+                timers.put(outcome, Timer.builder("sell.operation.latency")
+                        .description("판매 유스케이스 처리 시간")
+                        .tag("operation", operation.tagValue())
+                        .tag("outcome", outcome.tagValue)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofMillis(1))
+                        .maximumExpectedValue(Duration.ofSeconds(10))
+                        .register(meterRegistry));
+            }
+            latencyTimers.put(operation, timers);
+            errorCounters.put(operation, new ConcurrentHashMap<>());
+        }
+    }
+
+    @Around("@annotation(metered)")
+    public Object measure(ProceedingJoinPoint joinPoint, SellMetered metered) throws Throwable {
+        SellOperation operation = metered.value();
+        long startedAt = clock.monotonicTime();
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            recordError(operation, startedAt, e);
+            throw e;
+        }
+        if (!(result instanceof Mono<?> mono)) {
+            record(operation, Outcome.SUCCESS, startedAt);
+            return result;
+        }
+
+        return Mono.defer(() -> {
+            long subscribedAt = clock.monotonicTime();
+            return mono
+                    .doOnSuccess(value -> record(operation, Outcome.SUCCESS, subscribedAt))
+                    .doOnError(e -> recordError(operation, subscribedAt, e))
+                    .doOnCancel(() -> record(operation, Outcome.CANCELLED, subscribedAt));
+        });
+    }
+
+    private void record(SellOperation operation, Outcome outcome, long startedAt) {
+        latencyTimers.get(operation).get(outcome)
+                .record(clock.monotonicTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private void recordError(SellOperation operation, long startedAt, Throwable error) {
+        ErrorCode errorCode = error instanceof GlobalException globalException
+                ? globalException.getErrorCode()
+                : null;
+        record(operation, errorCode != null && errorCode.getStatus() < 500 ? Outcome.CLIENT_ERROR : Outcome.SERVER_ERROR,
+                startedAt);
+
+        String errorCodeTag = errorCode instanceof Enum<?> errorCodeEnum ? errorCodeEnum.name() : UNHANDLED;
+        errorCounters.get(operation)
+                .computeIfAbsent(errorCodeTag, tag -> Counter.builder("sell.operation.errors")
+                        .description("판매 유스케이스 실패 수 (에러 코드별)")
+                        .tag("operation", operation.tagValue())
+                        .tag("error_code", tag)
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    private enum Outcome {
+        SUCCESS, CLIENT_ERROR, SERVER_ERROR, CANCELLED;
+
+        private final String tagValue = name().toLowerCase();
+    }
+}
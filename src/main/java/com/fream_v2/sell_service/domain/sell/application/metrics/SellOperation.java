@@ -0,0 +1,19 @@
+package com.fream_v2.sell_service.domain.sell.application.metrics;
+
+/**
+ * 지표를 남기는 판매 유스케이스 (operation 태그 값)
+ */
+public enum SellOperation {
+    REGISTER,
+    UPDATE_PRICE,
+    CHANGE_STATUS,
+    TRADE_EVENT,
+    MATCH,
+    OFFER;
+
+    private final String tagValue = name().toLowerCase();
+
+    public String tagValue() {
+        return tagValue;
+    }
+}
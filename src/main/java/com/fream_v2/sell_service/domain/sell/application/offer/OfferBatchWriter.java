@@ -0,0 +1,147 @@
+package com.fream_v2.sell_service.domain.sell.application.offer;
+
+import com.fream_v2.sell_service.domain.sell.domain.model.SellOffer;
+import com.fream_v2.sell_service.domain.sell.domain.repository.SellOfferRepository;
+import com.fream_v2.sell_service.global.presentation.exception.CommonException;
+import com.fream_v2.sell_service.global.presentation.exception.GlobalErrorCode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 가격 협상 제안 write-behind 저장기
+ *
+ * 제안마다 트랜잭션을 열지 않고 메모리 큐에 모았다가 주기적으로(또는 batch 크기가 차면)
+ * 다중 행 INSERT 한 번으로 저장하므로, 인기 판매에 제안이 몰려도 DB 왕복은 batch당 한 번
+ * 저장이 끝난 제안만 판매자 제안함으로 전달하고, 저장에 실패한 제안은 다시 큐에 넣어 다음 주기에 재시도
+ * 큐가 가득 차면 제안 접수를 거절(SERVICE_UNAVAILABLE)해 메모리 사용량을 제한
+ */
+@Slf4j
+@Component
+public class OfferBatchWriter {
+
+    private static final Duration SHUTDOWN_FLUSH_TIMEOUT = Duration.ofSeconds(10);
+
+    private final SellOfferRepository sellOfferRepository;
+    private final SellerOfferInbox sellerOfferInbox;
+    private final int batchSize;
+    private final int queueCapacity;
+
+    private final ConcurrentLinkedQueue<SellOffer> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicBoolean flushing = new AtomicBoolean(false);
+
+    public OfferBatchWriter(SellOfferRepository sellOfferRepository,
+                            SellerOfferInbox sellerOfferInbox,
+                            MeterRegistry meterRegistry,
+                            @Value("${sell.offer.batch-size:500}") int batchSize,
+                            @Value("${sell.offer.queue-capacity:100000}") int queueCapacity) {
+        this.sellOfferRepository = sellOfferRepository;
+        this.sellerOfferInbox = sellerOfferInbox;
+        this.batchSize = batchSize;
+        this.queueCapacity = queueCapacity;
+
+        Gauge.builder("sell.offer.queue-size", queued, AtomicInteger::get)
+                .description("저장 대기 중인 제안 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 제안 접수 (메모리 큐에만 추가)
+     */
+    public void enqueue(SellOffer offer) {
+        int size = queued.incrementAndGet();
+        if (size > queueCapacity) {
+            queued.decrementAndGet();
+            throw new CommonException(GlobalErrorCode.SERVICE_UNAVAILABLE);
+        }
+        queue.offer(offer);
+        if (size >= batchSize && !flushing.get()) {
+            flush().subscribe();
+        }
+    }
+
+    public int queuedCount() {
+        return queued.get();
+    }
+
+    /**
+     * 주기적 플러시
+     * INSERT 완료를 기다리지 않고 구독만 걸어 스케줄러 스레드를 바로 돌려줌 (앞선 플러시가 끝나지 않았으면 이번 주기는 건너뜀)
+     */
+    @Scheduled(fixedDelayString = "${sell.offer.flush-interval-ms:100}")
+    public void scheduledFlush() {
+        flush().subscribe(null, e -> log.warn("주기적 제안 저장에 실패했습니다.", e));
+    }
+
+    /**
+     * 노드 종료 시 남은 제안 저장
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flush().block(SHUTDOWN_FLUSH_TIMEOUT);
+        } catch (RuntimeException e) {
+            log.error("종료 시 제안 저장에 실패했습니다. 미저장 제안 {}건", queued.get(), e);
+        }
+    }
+
+    /**
+     * 큐에 쌓인 제안을 batch 단위로 저장
+     *
+     * @return 저장된 행 수
+     */
+    public Mono<Long> flush() {
+        if (!flushing.compareAndSet(false, true)) {
+            return Mono.just(0L);
+        }
+
+        return Flux.fromIterable(drain())
+                .concatMap(batch -> sellOfferRepository.insertAll(batch)
+                        .doOnNext(inserted -> sellerOfferInbox.publish(batch))
+                        .onErrorResume(e -> {
+                            log.warn("제안 일괄 저장 실패, 다음 주기에 재시도합니다. {}건", batch.size(), e);
+                            queued.addAndGet(batch.size());
+                            queue.addAll(batch);
+                            return Mono.just(0L);
+                        }))
+                .reduce(0L, Long::sum)
+                .doFinally(signal -> flushing.set(false));
+    }
+
+    /**
+     * 현재 큐 내용을 batch로 분할해 꺼냄 (꺼내는 도중 들어온 제안은 다음 플러시 대상)
+     */
+    private List<List<SellOffer>> drain() {
+        List<List<SellOffer>> batches = new ArrayList<>();
+        List<SellOffer> batch = new ArrayList<>(batchSize);
+        int remaining = queued.get();
+
+        SellOffer offer;
+        while (remaining-- > 0 && (offer = queue.poll()) != null) {
+            queued.decrementAndGet();
+            batch.add(offer);
+            if (batch.size() >= batchSize) {
+                batches.add(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+}
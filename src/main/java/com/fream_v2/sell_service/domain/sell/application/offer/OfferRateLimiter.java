@@ -0,0 +1,70 @@
+package com.fream_v2.sell_service.domain.sell.application.offer;
+
+import com.fream_v2.sell_service.domain.sell.domain.exception.SellException;
+import com.fream_v2.sell_service.global.common.time.EpochClock;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * (구매자, 판매) 쌍별 가격 제안 토큰 버킷
+ *
+ * - 버킷 상태를 "다음 토큰이 모두 찰 이론적 시각(TAT)" long 하나로 표현(GCRA)해 CAS 한 번으로 소비 (잠금 없음)
+ * - refill-interval마다 토큰 1개가 차고 최대 capacity개까지 연속 제안 가능
+ * - 버킷이 가득 찰 시간 동안 제안이 없던 쌍은 기본 상태와 같으므로 캐시에서 제거
+ */
+@Component
+public class OfferRateLimiter {
+
+    private final long intervalMillis;
+    private final long burstMillis;
+    private final Cache<OfferKey, AtomicLong> buckets;
+    private final EpochClock clock;
+    private final Counter rejected;
+
+    public OfferRateLimiter(MeterRegistry meterRegistry,
+                            EpochClock clock,
+                            @Value("${sell.offer.rate.capacity:5}") int capacity,
+                            @Value("${sell.offer.rate.refill-interval-ms:12000}") long refillIntervalMs,
+                            @Value("${sell.offer.rate.max-pairs:500000}") long maxPairs) {
+        this.intervalMillis = refillIntervalMs;
+        this.clock = clock;
+        this.burstMillis = refillIntervalMs * capacity;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxPairs)
+                .expireAfterAccess(Duration.ofMillis(burstMillis))
+                .build();
+
+        this.rejected = Counter.builder("sell.offer.rate-limited")
+                .description("제안 횟수 제한으로 거절된 제안 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 토큰 1개 소비 (없으면 TOO_MANY_NEGOTIATIONS)
+     */
+    public void acquire(Long buyerId, Long sellId) {
+        AtomicLong tat = buckets.get(new OfferKey(buyerId, sellId), key -> new AtomicLong(Long.MIN_VALUE));
+        long nowMillis = clock.currentTimeMillis();
+        while (true) {
+            long current = tat.get();
+            long next = Math.max(current, nowMillis) + intervalMillis;
+            if (next - nowMillis > burstMillis) {
+                rejected.increment();
+                throw SellException.tooManyNegotiations(sellId);
+            }
+            if (tat.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    private record OfferKey(Long buyerId, Long sellId) {
+    }
+}
@@ -0,0 +1,84 @@
+package com.fream_v2.sell_service.domain.sell.application.offer;
+
+import com.fream_v2.sell_service.domain.sell.domain.model.SellOffer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 판매자 제안함 실시간 전달 (이 노드에 연결된 판매자 스트림)
+ *
+ * - 연결마다 크기가 정해진 unicast sink를 두고, 저장이 끝난 제안만 전달
+ * - 느린 연결은 버퍼가 차면 새 제안을 버림 (다른 연결과 저장 경로는 막지 않음, 재연결 시 최근 제안은 DB에서 다시 받음)
+ * - 발행은 일괄 저장 완료 후 한 스레드에서만 수행
+ */
+@Slf4j
+@Component
+public class SellerOfferInbox {
+
+    private final int bufferSize;
+    private final ConcurrentHashMap<Long, Set<Sinks.Many<SellOffer>>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+
+    public SellerOfferInbox(MeterRegistry meterRegistry,
+                            @Value("${sell.offer.inbox-buffer-size:256}") int bufferSize) {
+        this.bufferSize = bufferSize;
+
+        Gauge.builder("sell.offer.inbox.connections", connectionCount, AtomicInteger::get)
+                .description("제안함 스트림 연결 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 판매자 연결 등록 (등록 시점부터의 제안을 버퍼에 모음, 연결 종료 시 close 필수)
+     */
+    public Sinks.Many<SellOffer> open(Long sellerId) {
+        Sinks.Many<SellOffer> sink = Sinks.many().unicast()
+                .onBackpressureBuffer(Queues.<SellOffer>get(bufferSize).get());
+        connections.compute(sellerId, (id, sinks) -> {
+            Set<Sinks.Many<SellOffer>> target = sinks != null ? sinks : new CopyOnWriteArraySet<>();
+            target.add(sink);
+            return target;
+        });
+        connectionCount.incrementAndGet();
+        return sink;
+    }
+
+    public void close(Long sellerId, Sinks.Many<SellOffer> sink) {
+        connections.computeIfPresent(sellerId, (id, sinks) -> {
+            if (sinks.remove(sink)) {
+                connectionCount.decrementAndGet();
+            }
+            return sinks.isEmpty() ? null : sinks;
+        });
+    }
+
+    /**
+     * 저장된 제안을 판매자 연결에 전달
+     */
+    public void publish(List<SellOffer> offers) {
+        for (SellOffer offer : offers) {
+            Set<Sinks.Many<SellOffer>> sinks = connections.get(offer.sellerId());
+            if (sinks == null) {
+                continue;
+            }
+            for (Sinks.Many<SellOffer> sink : sinks) {
+                Sinks.EmitResult result = sink.tryEmitNext(offer);
+                if (result.isFailure()) {
+                    log.debug("제안함 전달 실패: sellerId={}, offerId={}, result={}",
+                            offer.sellerId(), offer.offerId(), result);
+                }
+            }
+        }
+    }
+}
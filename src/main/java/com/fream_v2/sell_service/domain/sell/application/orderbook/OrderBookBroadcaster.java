@@ -0,0 +1,147 @@
+package com.fream_v2.sell_service.domain.sell.application.orderbook;
+
+import com.fream_v2.sell_service.global.common.time.EpochClock;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 상품별 호가창(최우선 매도 호가 + 가격대 건수) 실시간 푸시
+ *
+ * - 구독 중인 상품만 tick마다 호가창 변경 횟수를 확인해 바뀐 경우에만 스냅샷을 발행 (tick 단위 병합)
+ * - 상품별 sink는 최신 값 1개를 재생(replay latest)해 새 구독자가 현재 상태를 바로 받고,
+ *   구독자별 onBackpressureLatest로 느린 구독자는 밀린 값 대신 최신 상태 하나만 받음 (무한 큐 없음)
+ * - 발행은 전용 단일 스레드의 interval 루프에서 비차단으로 수행하고, 소켓 쓰기는 각 연결의 Netty 이벤트 루프가 처리
+ *   (공용 @Scheduled 풀을 쓰지 않으므로 DB 플러시 등 다른 주기 작업이 밀려도 발행 주기가 흔들리지 않음)
+ */
+@Slf4j
+@Component
+public class OrderBookBroadcaster {
+
+    private final OrderBookRegistry orderBookRegistry;
+    private final EpochClock clock;
+    private final int depth;
+    private final Duration tickInterval;
+    private final Scheduler tickScheduler = Schedulers.newSingle("order-book-broadcast", true);
+
+    private final ConcurrentHashMap<Long, ProductStream> streams = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private Disposable ticker;
+
+    public OrderBookBroadcaster(OrderBookRegistry orderBookRegistry,
+                                EpochClock clock,
+                                MeterRegistry meterRegistry,
+                                @Value("${sell.order-book-stream.depth:10}") int depth,
+                                @Value("${sell.order-book-stream.tick-ms:100}") long tickMillis) {
+        this.orderBookRegistry = orderBookRegistry;
+        this.clock = clock;
+        this.depth = depth;
+        this.tickInterval = Duration.ofMillis(tickMillis);
+
+        Gauge.builder("sell.order-book-stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("호가창 스트림 구독자 수")
+                .register(meterRegistry);
+        Gauge.builder("sell.order-book-stream.products", streams, ConcurrentHashMap::size)
+                .description("구독자가 있는 상품 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (ticker != null) {
+            return;
+        }
+        ticker = Flux.interval(tickInterval, tickInterval, tickScheduler)
+                .onBackpressureDrop()
+                .subscribe(signal -> {
+                    try {
+                        tick();
+                    } catch (RuntimeException e) {
+                        log.warn("호가창 스냅샷 발행 중 오류가 발생했습니다. 다음 tick에 다시 시도합니다.", e);
+                    }
+                });
+        log.info("호가창 스트림 발행 시작: tick {}ms", tickInterval.toMillis());
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (ticker != null) {
+            ticker.dispose();
+            ticker = null;
+        }
+        tickScheduler.dispose();
+    }
+
+    /**
+     * 상품 호가창 구독 (첫 스냅샷은 다음 tick 또는 이미 발행된 최신 값)
+     */
+    public Flux<OrderBookSnapshot> subscribe(Long productId) {
+        return Flux.defer(() -> {
+            ProductStream stream = streams.compute(productId, (id, existing) -> {
+                ProductStream target = existing != null ? existing : new ProductStream();
+                target.subscribers++;
+                return target;
+            });
+            subscriberCount.incrementAndGet();
+            return stream.sink.asFlux()
+                    .onBackpressureLatest()
+                    .doFinally(signal -> unsubscribe(productId));
+        });
+    }
+
+    /**
+     * 변경된 상품만 스냅샷 발행 (발행 루프 스레드에서만 호출)
+     */
+    void tick() {
+        long nowMillis = clock.currentTimeMillis();
+        streams.forEach((productId, stream) -> {
+            ProductOrderBook book = orderBookRegistry.getBook(productId);
+            long modCount = book.modCount();
+            if (modCount == stream.publishedModCount) {
+                return;
+            }
+            OrderBookSnapshot snapshot = book.snapshot(depth, nowMillis);
+            stream.publishedModCount = modCount;
+            if (snapshot.equals(stream.published)) {
+                return;
+            }
+            stream.published = snapshot;
+            Sinks.EmitResult result = stream.sink.tryEmitNext(snapshot);
+            if (result.isFailure()) {
+                log.debug("호가창 스냅샷 발행 실패: productId={}, result={}", productId, result);
+            }
+        });
+    }
+
+    private void unsubscribe(Long productId) {
+        subscriberCount.decrementAndGet();
+        streams.computeIfPresent(productId, (id, stream) -> {
+            stream.subscribers--;
+            return stream.subscribers > 0 ? stream : null;
+        });
+    }
+
+    /**
+     * 상품별 스트림 상태 (subscribers는 맵 compute 안에서만, 나머지는 tick 스레드에서만 변경)
+     */
+    private static final class ProductStream {
+        private final Sinks.Many<OrderBookSnapshot> sink = Sinks.many().replay().latest();
+        private int subscribers;
+        private long publishedModCount = -1;
+        private OrderBookSnapshot published;
+    }
+}
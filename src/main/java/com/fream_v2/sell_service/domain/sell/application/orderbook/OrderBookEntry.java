@@ -0,0 +1,28 @@
+package com.fream_v2.sell_service.domain.sell.application.orderbook;
+
+import com.fream_v2.sell_service.domain.sell.domain.model.Sell;
+
+import java.util.Comparator;
+
+/**
+ * 호가창에 올라간 판매 호가 (매칭 가능한 판매의 최소 정보)
+ */
+public record OrderBookEntry(Long sellId, Long sellerId, long price,
+                             long listedAtMillis, long expiresAtMillis) {
+
+    /**
+     * 같은 가격대 안의 시간 우선 순서 (등록 시각, 판매 ID)
+     */
+    public static final Comparator<OrderBookEntry> TIME_PRIORITY = Comparator
+            .comparingLong(OrderBookEntry::listedAtMillis)
+            .thenComparing(OrderBookEntry::sellId);
+
+    public static OrderBookEntry from(Sell sell) {
+        return new OrderBookEntry(sell.getSellId(), sell.getSellerId(), sell.getPrice(),
+                sell.getListedAtMillis(), sell.getExpiresAtMillis());
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return expiresAtMillis <= nowMillis;
+    }
+}
@@ -0,0 +1,150 @@
+package com.fream_v2.sell_service.domain.sell.application.orderbook;
+
+import com.fream_v2.sell_service.domain.sell.application.matching.ProductShardExecutor;
+import com.fream_v2.sell_service.domain.sell.domain.event.SellChangedEvent;
+import com.fream_v2.sell_service.domain.sell.domain.event.SellsExpiredEvent;
+import com.fream_v2.sell_service.domain.sell.domain.model.Sell;
+import com.fream_v2.sell_service.domain.sell.domain.repository.SellRepository;
+import com.fream_v2.sell_service.global.common.time.EpochClock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상품별 인메모리 호가창 레지스트리
+ *
+ * - 기동 시 DB에서 매칭 가능한 판매를 스트리밍으로 읽어 재구성
+ * - 이후에는 SellChangedEvent로 증분 갱신하므로 조회 시 DB를 거치지 않음
+ * - 호가창 쓰기는 모두 상품 샤드 스레드에서 실행 (매칭 엔진과 같은 단일 작성자)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderBookRegistry {
+
+    private final SellRepository sellRepository;
+    private final ProductShardExecutor shardExecutor;
+    private final EpochClock clock;
+
+    private final ConcurrentHashMap<Long, ProductOrderBook> books = new ConcurrentHashMap<>();
+
+    /**
+     * 재구성 중 이벤트로 제거된 판매 ID
+     * 재구성 스트림이 오래된 행으로 호가를 되살리지 않도록 함
+     */
+    private final Set<Long> removedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean ready = false;
+
+    /**
+     * 기동 시 호가창 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        ready = false;
+        AtomicLong loaded = new AtomicLong();
+
+        sellRepository.findAllMatchable(clock.now())
+                .doOnNext(sell -> shardExecutor.execute(sell.getProductId(), () -> {
+                    if (loadIfAbsent(sell)) {
+                        loaded.incrementAndGet();
+                    }
+                }))
+                .then(shardExecutor.barrier())
+                .doOnSuccess(ignored -> {
+                    ready = true;
+                    removedDuringRebuild.clear();
+                    log.info("호가창 재구성 완료: 상품 {}개, 호가 {}건", books.size(), loaded.get());
+                })
+                .doOnError(e -> log.error("호가창 재구성에 실패했습니다.", e))
+                .subscribe();
+    }
+
+    /**
+     * 판매 변경 이벤트로 호가창 증분 갱신
+     */
+    @EventListener
+    public void onSellChanged(SellChangedEvent event) {
+        Sell before = event.before();
+        Sell after = event.after();
+
+        if (before != null && !before.getProductId().equals(after.getProductId())) {
+            remove(before);
+        }
+        if (after.isMatchable(clock.currentTimeMillis())) {
+            OrderBookEntry entry = OrderBookEntry.from(after);
+            shardExecutor.execute(after.getProductId(), () -> bookForWrite(after.getProductId()).add(entry));
+        } else {
+            remove(after);
+        }
+    }
+
+    /**
+     * 일괄 만료된 판매를 호가창에서 제거
+     */
+    @EventListener
+    public void onSellsExpired(SellsExpiredEvent event) {
+        for (SellsExpiredEvent.ExpiredSell expired : event.sells()) {
+            remove(expired.productId(), expired.sellId());
+        }
+    }
+
+    /**
+     * 상품 호가창 조회 (없으면 빈 호가창)
+     */
+    public ProductOrderBook getBook(Long productId) {
+        ProductOrderBook book = books.get(productId);
+        return book != null ? book : new ProductOrderBook(productId);
+    }
+
+    public OrderBookSnapshot snapshot(Long productId, int depth) {
+        return getBook(productId).snapshot(depth, clock.currentTimeMillis());
+    }
+
+    /**
+     * 쓰기용 호가창 조회 (없으면 생성) - 상품 샤드 스레드에서만 호출
+     */
+    public ProductOrderBook bookForWrite(Long productId) {
+        return books.computeIfAbsent(productId, ProductOrderBook::new);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private void remove(Sell sell) {
+        remove(sell.getProductId(), sell.getSellId());
+    }
+
+    private void remove(Long productId, Long sellId) {
+        if (!ready) {
+            removedDuringRebuild.add(sellId);
+        }
+        shardExecutor.execute(productId, () -> {
+            ProductOrderBook book = books.get(productId);
+            if (book != null) {
+                book.remove(sellId);
+            }
+        });
+    }
+
+    /**
+     * 재구성 스트림의 행 적재 (이미 이벤트로 반영된 판매는 이벤트 쪽이 최신이므로 유지)
+     */
+    private boolean loadIfAbsent(Sell sell) {
+        if (removedDuringRebuild.contains(sell.getSellId())) {
+            return false;
+        }
+        ProductOrderBook book = bookForWrite(sell.getProductId());
+        if (book.contains(sell.getSellId())) {
+            return false;
+        }
+        book.add(OrderBookEntry.from(sell));
+        return true;
+    }
+}
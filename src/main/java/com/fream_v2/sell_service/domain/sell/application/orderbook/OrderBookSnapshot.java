@@ -0,0 +1,13 @@
+package com.fream_v2.sell_service.domain.sell.application.orderbook;
+
+import java.util.List;
+
+/**
+ * 상품 호가창 조회 결과
+ *
+ * @param bestAsk 최우선 매도 호가 (없으면 null)
+ * @param totalCount 호가창의 전체 호가 수
+ * @param levels 낮은 가격부터 요청 깊이만큼의 가격대
+ */
+public record OrderBookSnapshot(Long productId, OrderBookEntry bestAsk, int totalCount, List<PriceLevelView> levels) {
+}
@@ -0,0 +1,48 @@
+package com.fream_v2.sell_service.domain.sell.application.orderbook;
+
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 동일 가격대의 호가 묶음 (시간 우선 정렬)
+ * ConcurrentSkipListSet.size()는 O(n)이므로 건수는 별도로 유지
+ */
+class PriceLevel {
+
+    private final long price;
+    private final ConcurrentSkipListSet<OrderBookEntry> entries =
+            new ConcurrentSkipListSet<>(OrderBookEntry.TIME_PRIORITY);
+    private final AtomicInteger count = new AtomicInteger();
+
+    PriceLevel(long price) {
+        this.price = price;
+    }
+
+    long price() {
+        return price;
+    }
+
+    int count() {
+        return count.get();
+    }
+
+    boolean isEmpty() {
+        return count.get() == 0;
+    }
+
+    Iterable<OrderBookEntry> entries() {
+        return entries;
+    }
+
+    void add(OrderBookEntry entry) {
+        if (entries.add(entry)) {
+            count.incrementAndGet();
+        }
+    }
+
+    void remove(OrderBookEntry entry) {
+        if (entries.remove(entry)) {
+            count.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.fream_v2.sell_service.domain.sell.application.orderbook;
+
+/**
+ * 가격대별 호가 건수
+ */
+public record PriceLevelView(long price, int count) {
+}
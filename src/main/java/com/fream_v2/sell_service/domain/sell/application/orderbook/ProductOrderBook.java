@@ -0,0 +1,182 @@
+package com.fream_v2.sell_service.domain.sell.application.orderbook;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 상품별 매도 호가창 (가격 → 등록 시각 우선)
+ *
+ * 쓰기는 상품 샤드 스레드(ProductShardExecutor)만 수행하는 단일 작성자 구조이고,
+ * 조회는 잠금 없이 스킵리스트를 읽으므로 상세 페이지 조회가 쓰기를 막지 않음
+ */
+public class ProductOrderBook {
+
+    private final Long productId;
+    private final ConcurrentSkipListMap<Long, PriceLevel> levels = new ConcurrentSkipListMap<>();
+    private final Map<Long, OrderBookEntry> entriesBySellId = new HashMap<>();
+    private final AtomicInteger totalCount = new AtomicInteger();
+    private final AtomicInteger levelCount = new AtomicInteger();
+
+    /**
+     * 변경 횟수 (단일 작성자만 증가, 구독 브로드캐스터가 변경 여부 판단에 사용)
+     */
+    private volatile long modCount;
+
+    public ProductOrderBook(Long productId) {
+        this.productId = productId;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    // ===== 쓰기 (상품 샤드 스레드 전용) =====
+
+    /**
+     * 호가 추가 (같은 판매가 있으면 교체) - O(log n)
+     */
+    public void add(OrderBookEntry entry) {
+        remove(entry.sellId());
+
+        PriceLevel level = levels.get(entry.price());
+        if (level == null) {
+            level = new PriceLevel(entry.price());
+            levels.put(entry.price(), level);
+            levelCount.incrementAndGet();
+        }
+        level.add(entry);
+        entriesBySellId.put(entry.sellId(), entry);
+        totalCount.incrementAndGet();
+        modCount++;
+    }
+
+    /**
+     * 호가 제거 - O(log n)
+     *
+     * @return 제거된 호가 (없으면 null)
+     */
+    public OrderBookEntry remove(Long sellId) {
+        OrderBookEntry existing = entriesBySellId.remove(sellId);
+        if (existing == null) {
+            return null;
+        }
+
+        PriceLevel level = levels.get(existing.price());
+        if (level != null) {
+            level.remove(existing);
+            if (level.isEmpty()) {
+                levels.remove(existing.price(), level);
+                levelCount.decrementAndGet();
+            }
+        }
+        totalCount.decrementAndGet();
+        modCount++;
+        return existing;
+    }
+
+    public boolean contains(Long sellId) {
+        return entriesBySellId.containsKey(sellId);
+    }
+
+    /**
+     * 가격-시간 우선으로 체결 가능한 최우선 매도 호가를 꺼냄
+     * 탐색 중 만난 만료 호가는 함께 정리하고, 구매자 본인의 호가는 건너뜀
+     *
+     * @param buyerId 자기 체결 방지용 구매자 ID
+     * @param maxPrice 매수 호가 (이 가격 이하만 체결)
+     * @return 호가창에서 제거된 매도 호가 (없으면 null)
+     */
+    public OrderBookEntry pollBestAsk(long nowMillis, Long buyerId, long maxPrice) {
+        List<Long> expired = null;
+        OrderBookEntry matched = null;
+
+        search:
+        for (PriceLevel level : levels.values()) {
+            if (level.price() > maxPrice) {
+                break;
+            }
+            for (OrderBookEntry entry : level.entries()) {
+                if (entry.isExpired(nowMillis)) {
+                    if (expired == null) {
+                        expired = new ArrayList<>();
+                    }
+                    expired.add(entry.sellId());
+                } else if (!entry.sellerId().equals(buyerId)) {
+                    matched = entry;
+                    break search;
+                }
+            }
+        }
+
+        if (expired != null) {
+            expired.forEach(this::remove);
+        }
+        if (matched != null) {
+            remove(matched.sellId());
+        }
+        return matched;
+    }
+
+    // ===== 조회 (잠금 없음) =====
+
+    /**
+     * 최우선 매도 호가 (최저가 중 가장 먼저 등록된 미만료 호가)
+     * 만료됐지만 아직 정리되지 않은 호가는 건너뜀
+     */
+    public Optional<OrderBookEntry> bestAsk(long nowMillis) {
+        for (PriceLevel level : levels.values()) {
+            for (OrderBookEntry entry : level.entries()) {
+                if (!entry.isExpired(nowMillis)) {
+                    return Optional.of(entry);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 낮은 가격부터 depth개 가격대의 호가 건수
+     */
+    public List<PriceLevelView> depth(int depth) {
+        List<PriceLevelView> result = new ArrayList<>(Math.min(depth, levelCount.get()));
+        for (PriceLevel level : levels.values()) {
+            if (result.size() >= depth) {
+                break;
+            }
+            int count = level.count();
+            if (count > 0) {
+                result.add(new PriceLevelView(level.price(), count));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 특정 가격대의 호가 건수 - O(log n)
+     */
+    public int countAt(long price) {
+        PriceLevel level = levels.get(price);
+        return level != null ? level.count() : 0;
+    }
+
+    public int size() {
+        return totalCount.get();
+    }
+
+    public int levelCount() {
+        return levelCount.get();
+    }
+
+    public long modCount() {
+        return modCount;
+    }
+
+    public OrderBookSnapshot snapshot(int depth, long nowMillis) {
+        return new OrderBookSnapshot(productId, bestAsk(nowMillis).orElse(null), size(), depth(depth));
+    }
+}
@@ -0,0 +1,51 @@
+package com.fream_v2.sell_service.domain.sell.application.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fream_v2.sell_service.domain.sell.domain.event.SellChangedEvent;
+import com.fream_v2.sell_service.domain.sell.domain.event.SellLifecycleEvent;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellOutboxMessage;
+import com.fream_v2.sell_service.domain.sell.domain.repository.SellOutboxRepository;
+import com.fream_v2.sell_service.global.common.time.EpochClock;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 판매 이벤트 아웃박스 기록기
+ * 판매 변경과 같은 트랜잭션 안에서 호출해 이벤트 유실 없이(커밋된 변경만) 발행되도록 함
+ */
+@Component
+@RequiredArgsConstructor
+public class SellEventOutbox {
+
+    private final SellOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final EpochClock clock;
+
+    public Mono<Void> append(SellChangedEvent event) {
+        return appendAll(List.of(SellLifecycleEvent.from(event)));
+    }
+
+    public Mono<Void> appendAll(List<SellLifecycleEvent> events) {
+        return Mono.fromCallable(() -> {
+                    LocalDateTime now = clock.now();
+                    return events.stream()
+                            .map(event -> new SellOutboxMessage(null, event.sellId(), event.eventType().name(),
+                                    serialize(event), now))
+                            .toList();
+                })
+                .flatMap(outboxRepository::appendAll);
+    }
+
+    private String serialize(SellLifecycleEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("판매 이벤트 직렬화에 실패했습니다. 판매 ID: " + event.sellId(), e);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.fream_v2.sell_service.domain.sell.application.outbox;
+
+import com.fream_v2.sell_service.domain.sell.domain.event.SellChangedEvent;
+import com.fream_v2.sell_service.domain.sell.domain.event.SellsExpiredEvent;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellOutboxMessage;
+import com.fream_v2.sell_service.domain.sell.domain.repository.SellOutboxRepository;
+import com.fream_v2.sell_service.global.common.util.TimeUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.kafka.sender.KafkaSender;
+import reactor.kafka.sender.SenderRecord;
+import reactor.util.concurrent.Queues;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 판매 이벤트 아웃박스 릴레이
+ *
+ * 릴레이 잠금 획득 → 아웃박스를 id 순으로 batch 조회 → Kafka 일괄 발행(판매 ID 키) → 발행 완료분 삭제를
+ * 하나의 트랜잭션으로 처리. 발행 실패 시 롤백되어 다음 주기에 재발행 (at-least-once, 소비 측은 eventId로 중복 제거)
+ *
+ * 여러 노드가 떠 있어도 잠금을 잡은 노드 하나만 발행하므로, 앞 batch의 ack 전에 다른 노드가
+ * 같은 판매의 뒤 이벤트를 먼저 발행하는 일이 없음 (잠금을 못 잡은 노드는 이번 주기를 건너뜀)
+ *
+ * 판매 변경 커밋 직후 깨우기 신호로 즉시 비우고, 신호를 놓친 경우를 위해 주기적으로도 확인
+ * 깨우기 신호는 1개로 합쳐지므로(conflation) 변경이 몰려도 drain은 하나씩만 실행됨
+ */
+@Slf4j
+@Component
+public class SellOutboxRelay {
+
+    private final SellOutboxRepository outboxRepository;
+    private final KafkaSender<String, byte[]> kafkaSender;
+    private final TransactionalOperator transactionalOperator;
+    private final String topic;
+    private final int batchSize;
+    private final Duration pollInterval;
+
+    private final Sinks.Many<Boolean> wakeups = Sinks.many().unicast()
+            .onBackpressureBuffer(Queues.<Boolean>one().get());
+    private final Timer publishLatency;
+    private final Counter publishedCounter;
+    private Disposable relay;
+
+    public SellOutboxRelay(SellOutboxRepository outboxRepository,
+                           KafkaSender<String, byte[]> kafkaSender,
+                           TransactionalOperator transactionalOperator,
+                           MeterRegistry meterRegistry,
+                           @Value("${sell.outbox.topic:sell-events}") String topic,
+                           @Value("${sell.outbox.batch-size:500}") int batchSize,
+                           @Value("${sell.outbox.poll-interval-ms:1000}") long pollIntervalMs) {
+        this.outboxRepository = outboxRepository;
+        this.kafkaSender = kafkaSender;
+        this.transactionalOperator = transactionalOperator;
+        this.topic = topic;
+        this.batchSize = batchSize;
+        this.pollInterval = Duration.ofMillis(pollIntervalMs);
+
+        this.publishLatency = Timer.builder("sell.outbox.publish.latency")
+                .description("아웃박스 기록부터 Kafka ack까지의 지연")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.publishedCounter = Counter.builder("sell.outbox.published")
+                .description("Kafka로 발행된 판매 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (relay != null) {
+            return;
+        }
+        relay = Flux.merge(Flux.interval(Duration.ZERO, pollInterval), wakeups.asFlux())
+                .onBackpressureDrop()
+                .concatMap(signal -> drain()
+                        .onErrorResume(e -> {
+                            log.warn("판매 이벤트 발행에 실패했습니다. 다음 주기에 재시도합니다.", e);
+                            return Mono.empty();
+                        }), 1)
+                .subscribe();
+        log.info("판매 이벤트 아웃박스 릴레이 시작: topic={}, batchSize={}", topic, batchSize);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (relay != null) {
+            relay.dispose();
+            relay = null;
+        }
+    }
+
+    @EventListener
+    public void onSellChanged(SellChangedEvent event) {
+        wakeUp();
+    }
+
+    @EventListener
+    public void onSellsExpired(SellsExpiredEvent event) {
+        wakeUp();
+    }
+
+    /**
+     * 아웃박스 즉시 비우기 요청 (이미 대기 중인 요청이 있으면 합쳐짐)
+     */
+    public void wakeUp() {
+        wakeups.tryEmitNext(Boolean.TRUE);
+    }
+
+    /**
+     * batch가 가득 차 있는 동안 연속으로 발행
+     *
+     * @return 발행한 메시지 수
+     */
+    Mono<Long> drain() {
+        return relayBatch()
+                .expand(relayed -> relayed >= batchSize ? relayBatch() : Mono.empty())
+                .reduce(0L, Long::sum);
+    }
+
+    private Mono<Long> relayBatch() {
+        return outboxRepository.tryLockRelay()
+                .flatMap(locked -> !locked
+                        ? Mono.just(0L)
+                        : outboxRepository.findBatch(batchSize)
+                        .collectList()
+                        .flatMap(messages -> messages.isEmpty()
+                                ? Mono.just(0L)
+                                : publish(messages)
+                                .then(outboxRepository.deleteAll(messages.stream().map(SellOutboxMessage::id).toList()))
+                                .thenReturn((long) messages.size())))
+                .as(transactionalOperator::transactional);
+    }
+
+    private Mono<Void> publish(List<SellOutboxMessage> messages) {
+        Flux<SenderRecord<String, byte[], Long>> records = Flux.fromIterable(messages)
+                .map(message -> SenderRecord.create(topic, null, null,
+                        String.valueOf(message.sellId()),
+                        message.payload().getBytes(StandardCharsets.UTF_8),
+                        TimeUtils.toEpochMillis(message.createdAt())));
+
+        return kafkaSender.send(records)
+                .doOnNext(result -> {
+                    if (result.exception() != null) {
+                        throw new IllegalStateException("판매 이벤트 발행에 실패했습니다.", result.exception());
+                    }
+                    publishLatency.record(System.currentTimeMillis() - result.correlationMetadata(),
+                            TimeUnit.MILLISECONDS);
+                })
+                .then(Mono.fromRunnable(() -> publishedCounter.increment(messages.size())));
+    }
+}
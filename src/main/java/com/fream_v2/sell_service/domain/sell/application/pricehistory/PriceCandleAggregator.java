@@ -0,0 +1,76 @@
+package com.fream_v2.sell_service.domain.sell.application.pricehistory;
+
+import com.fream_v2.sell_service.domain.sell.domain.model.PriceCandle;
+import com.fream_v2.sell_service.domain.sell.domain.model.PriceChange;
+import reactor.core.publisher.Flux;
+
+/**
+ * 가격 변경 스트림 → 시간 구간별 OHLC 스트리밍 집계
+ *
+ * 변경 시각 순으로 들어오는 행을 구간이 바뀔 때마다 잘라(windowUntilChanged) 구간 안에서 누적하므로,
+ * 행 수와 무관하게 메모리에는 진행 중인 구간 하나의 누적값만 있고 완성된 구간부터 바로 내보냄
+ */
+public final class PriceCandleAggregator {
+
+    private PriceCandleAggregator() {
+        throw new AssertionError("유틸리티 클래스는 인스턴스화 할 수 없습니다.");
+    }
+
+    /**
+     * @param changes 변경 시각 오름차순 가격 변경
+     * @param intervalMillis 구간 길이 (epoch 기준으로 정렬된 구간)
+     */
+    public static Flux<PriceCandle> aggregate(Flux<PriceChange> changes, long intervalMillis) {
+        return changes
+                .windowUntilChanged(change -> bucketStart(change.changedAtMillis(), intervalMillis))
+                .concatMap(window -> window
+                        .reduceWith(() -> new Accumulator(intervalMillis), Accumulator::add)
+                        .filter(Accumulator::hasChanges)
+                        .map(Accumulator::toCandle));
+    }
+
+    static long bucketStart(long epochMillis, long intervalMillis) {
+        return Math.floorDiv(epochMillis, intervalMillis) * intervalMillis;
+    }
+
+    /**
+     * 구간 하나의 누적값 (한 구간 안에서만 순서대로 갱신)
+     * 구간 시작 시점 가격(첫 변경의 변경 전 가격)도 그 구간에 유효했으므로 고가/저가에 포함
+     */
+    private static final class Accumulator {
+        private final long intervalMillis;
+        private long bucketStartMillis;
+        private long open;
+        private long high = Long.MIN_VALUE;
+        private long low = Long.MAX_VALUE;
+        private long close;
+        private int changes;
+
+        Accumulator(long intervalMillis) {
+            this.intervalMillis = intervalMillis;
+        }
+
+        Accumulator add(PriceChange change) {
+            if (changes == 0) {
+                bucketStartMillis = bucketStart(change.changedAtMillis(), intervalMillis);
+                open = change.previousPrice();
+                high = open;
+                low = open;
+            }
+            long price = change.price();
+            high = Math.max(high, price);
+            low = Math.min(low, price);
+            close = price;
+            changes++;
+            return this;
+        }
+
+        boolean hasChanges() {
+            return changes > 0;
+        }
+
+        PriceCandle toCandle() {
+            return new PriceCandle(bucketStartMillis, open, high, low, close, changes);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.fream_v2.sell_service.domain.sell.application.pricehistory;
+
+import com.fream_v2.sell_service.domain.sell.domain.event.SellChangedEvent;
+import com.fream_v2.sell_service.domain.sell.domain.exception.SellException;
+import com.fream_v2.sell_service.domain.sell.domain.model.PriceChange;
+import com.fream_v2.sell_service.domain.sell.domain.model.Sell;
+import com.fream_v2.sell_service.domain.sell.domain.repository.SellPriceHistoryRepository;
+import com.fream_v2.sell_service.global.common.time.EpochClock;
+import com.fream_v2.sell_service.global.common.util.TimeUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 판매 가격 변경 규칙과 가격 변경 이력 기록
+ *
+ * - 최근 24시간 가격 변경 수가 한도 이상이면 PRICE_CHANGE_LIMIT_EXCEEDED
+ * - 인상 금지 설정 시 현재 가격보다 높은 가격은 CANNOT_INCREASE_PRICE
+ * - 이력은 가격 수정 트랜잭션 안에서 기록하므로, 커밋된 가격 변경은 노드와 무관하게 모두 이력과 한도 계산에 포함됨
+ *   (같은 판매의 동시 수정은 version 조건으로 하나만 커밋)
+ */
+@Component
+public class PriceChangePolicy {
+
+    private static final long WINDOW_MILLIS = TimeUnit.DAYS.toMillis(1);
+
+    private final SellPriceHistoryRepository priceHistoryRepository;
+    private final EpochClock clock;
+    private final int maxChangesPerDay;
+    private final boolean allowIncrease;
+
+    public PriceChangePolicy(SellPriceHistoryRepository priceHistoryRepository,
+                             EpochClock clock,
+                             @Value("${sell.price-change.max-per-day:10}") int maxChangesPerDay,
+                             @Value("${sell.price-change.allow-increase:true}") boolean allowIncrease) {
+        this.priceHistoryRepository = priceHistoryRepository;
+        this.clock = clock;
+        this.maxChangesPerDay = maxChangesPerDay;
+        this.allowIncrease = allowIncrease;
+    }
+
+    /**
+     * 가격 변경 가능 여부 확인 (가격이 그대로면 이력이 남지 않으므로 검사하지 않음)
+     */
+    public Mono<Void> check(Sell before, Long newPrice) {
+        if (before.getPrice().equals(newPrice)) {
+            return Mono.empty();
+        }
+        if (!allowIncrease && newPrice > before.getPrice()) {
+            return Mono.error(SellException.cannotIncreasePrice(before.getPrice(), newPrice));
+        }
+
+        long sinceMillis = clock.currentTimeMillis() - WINDOW_MILLIS;
+        return priceHistoryRepository.countBySellIdSince(before.getSellId(), TimeUtils.toLocalDateTime(sinceMillis))
+                .flatMap(changes -> changes >= maxChangesPerDay
+                        ? Mono.error(SellException.priceChangeLimitExceeded(before.getSellId(), maxChangesPerDay))
+                        : Mono.empty());
+    }
+
+    /**
+     * 가격이 바뀐 변경을 이력에 추가 (가격 수정 트랜잭션 안에서 호출)
+     */
+    public Mono<Void> record(SellChangedEvent event) {
+        if (!event.isPriceChanged()) {
+            return Mono.empty();
+        }
+        return priceHistoryRepository.insertAll(List.of(PriceChange.of(event.before(), event.after()))).then();
+    }
+}
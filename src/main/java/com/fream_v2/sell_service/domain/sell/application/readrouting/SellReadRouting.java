@@ -0,0 +1,100 @@
+package com.fream_v2.sell_service.domain.sell.application.readrouting;
+
+import com.fream_v2.sell_service.domain.sell.domain.event.SellChangedEvent;
+import com.fream_v2.sell_service.domain.sell.domain.event.SellsExpiredEvent;
+import com.fream_v2.sell_service.global.common.r2dbc.ReadWriteRoutingConnectionFactory;
+import com.fream_v2.sell_service.global.common.time.EpochClock;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * 판매 조회의 읽기 복제본 라우팅 (read-your-writes)
+ *
+ * - 최근 windowMillis 안에 변경된 판매/상품의 조회는 primary, 그 외는 읽기 복제본으로 표시
+ * - 자기 노드 변경은 커밋 직후 이벤트로, 다른 노드 변경은 판매 이벤트 수신 시점에 기록
+ *   (다른 노드 변경 직후 near cache가 복제본의 이전 값으로 다시 채워지지 않도록)
+ * - window는 복제본 허용 지연(sell.datasource.max-replica-lag-ms)보다 길어야 window 이후 복제본 조회도 최신 값을 읽음
+ * - 복제본이 설정되지 않았으면 표시와 무관하게 모두 primary
+ */
+@Component
+public class SellReadRouting {
+
+    private final long windowMillis;
+    private final Cache<Long, Long> sellWrittenAt;
+    private final Cache<Long, Long> productWrittenAt;
+    private final EpochClock clock;
+
+    public SellReadRouting(EpochClock clock,
+                           @Value("${sell.datasource.read-your-writes-window-ms:3000}") long windowMillis,
+                           @Value("${sell.datasource.max-tracked-writes:100000}") long maxTrackedWrites) {
+        this.clock = clock;
+        this.windowMillis = windowMillis;
+        this.sellWrittenAt = recentWrites(windowMillis, maxTrackedWrites);
+        this.productWrittenAt = recentWrites(windowMillis, maxTrackedWrites);
+    }
+
+    private static Cache<Long, Long> recentWrites(long windowMillis, long maxSize) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(windowMillis))
+                .build();
+    }
+
+    /**
+     * 판매 단건 조회
+     */
+    public <T> Mono<T> bySell(Long sellId, Mono<T> read) {
+        return isRecent(sellWrittenAt, sellId) ? read : ReadWriteRoutingConnectionFactory.readOnly(read);
+    }
+
+    /**
+     * 상품 단위 조회 (상품의 판매 목록, 가격 이력)
+     */
+    public <T> Flux<T> byProduct(Long productId, Flux<T> read) {
+        return isRecent(productWrittenAt, productId) ? read : ReadWriteRoutingConnectionFactory.readOnly(read);
+    }
+
+    /**
+     * 최신성 요구가 낮은 조회 (조건 검색/내보내기) - 항상 복제본
+     */
+    public <T> Flux<T> eventual(Flux<T> read) {
+        return ReadWriteRoutingConnectionFactory.readOnly(read);
+    }
+
+    public void recordWrite(Long sellId, Long productId) {
+        long now = clock.currentTimeMillis();
+        if (sellId != null) {
+            sellWrittenAt.put(sellId, now);
+        }
+        if (productId != null) {
+            productWrittenAt.put(productId, now);
+        }
+    }
+
+    @EventListener
+    public void onSellChanged(SellChangedEvent event) {
+        if (event.before() != null && !event.before().getProductId().equals(event.after().getProductId())) {
+            recordWrite(null, event.before().getProductId());
+        }
+        recordWrite(event.after().getSellId(), event.after().getProductId());
+    }
+
+    @EventListener
+    public void onSellsExpired(SellsExpiredEvent event) {
+        for (SellsExpiredEvent.ExpiredSell expired : event.sells()) {
+            recordWrite(expired.sellId(), expired.productId());
+        }
+    }
+
+    private boolean isRecent(Cache<Long, Long> writtenAt, Long id) {
+        Long at = writtenAt.getIfPresent(id);
+        return at != null && clock.currentTimeMillis() - at < windowMillis;
+    }
+}
@@ -0,0 +1,230 @@
+package com.fream_v2.sell_service.domain.sell.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fream_v2.sell_service.domain.sell.application.limit.SellerDailyLimiter;
+import com.fream_v2.sell_service.domain.sell.application.listing.ActiveListingIndex;
+import com.fream_v2.sell_service.domain.sell.application.outbox.SellEventOutbox;
+import com.fream_v2.sell_service.domain.sell.domain.event.SellChangedEvent;
+import com.fream_v2.sell_service.domain.sell.domain.event.SellLifecycleEvent;
+import com.fream_v2.sell_service.domain.sell.domain.exception.SellErrorCode;
+import com.fream_v2.sell_service.domain.sell.domain.exception.SellException;
+import com.fream_v2.sell_service.domain.sell.domain.model.Sell;
+import com.fream_v2.sell_service.domain.sell.domain.repository.SellRepository;
+import com.fream_v2.sell_service.domain.sell.domain.service.SellValidator;
+import com.fream_v2.sell_service.domain.sell.presentation.dto.request.SellRegisterRequest;
+import com.fream_v2.sell_service.domain.sell.presentation.dto.response.BulkSellResult;
+import com.fream_v2.sell_service.global.common.time.EpochClock;
+import com.fream_v2.sell_service.global.presentation.exception.GlobalException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대량 판매 등록 서비스 (NDJSON 스트리밍)
+ *
+ * 한 줄씩 검증하고(일일 한도, 진행 중 판매 중복 포함), 유효한 행은 batch 단위 다중 행 INSERT로 저장
+ * batch를 하나씩 순서대로 처리(concatMap)하므로 업로드 크기와 무관하게
+ * 메모리에는 최대 batch 하나 분량만 올라가고, 저장 속도에 맞춰 요청 본문을 읽음
+ * batch INSERT와 등록 이벤트 아웃박스 기록은 한 트랜잭션으로 처리
+ * 요청마다 선점했지만 아직 커밋되지 않은 줄을 추적해, 스트림이 중간에 끝나면(연결 끊김, 오류) 한꺼번에 되돌림
+ */
+@Slf4j
+@Service
+public class SellBulkRegistrationService {
+
+    private final SellRepository sellRepository;
+    private final SellEventOutbox sellEventOutbox;
+    private final TransactionalOperator transactionalOperator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final SellerDailyLimiter sellerDailyLimiter;
+    private final ActiveListingIndex activeListingIndex;
+    private final EpochClock clock;
+    private final int batchSize;
+    private final Duration batchMaxWait;
+
+    public SellBulkRegistrationService(SellRepository sellRepository,
+                                       SellEventOutbox sellEventOutbox,
+                                       TransactionalOperator transactionalOperator,
+                                       ApplicationEventPublisher eventPublisher,
+                                       ObjectMapper objectMapper,
+                                       SellerDailyLimiter sellerDailyLimiter,
+                                       ActiveListingIndex activeListingIndex,
+                                       EpochClock clock,
+                                       @Value("${sell.bulk.batch-size:500}") int batchSize,
+                                       @Value("${sell.bulk.batch-max-wait-ms:200}") long batchMaxWaitMs) {
+        this.sellRepository = sellRepository;
+        this.sellEventOutbox = sellEventOutbox;
+        this.transactionalOperator = transactionalOperator;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.sellerDailyLimiter = sellerDailyLimiter;
+        this.activeListingIndex = activeListingIndex;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.batchMaxWait = Duration.ofMillis(batchMaxWaitMs);
+    }
+
+    /**
+     * NDJSON 줄 스트림을 등록하고 행별 결과를 스트리밍으로 반환
+     *
+     * @param lines 요청 본문의 각 줄 (빈 줄은 무시)
+     */
+    public Flux<BulkSellResult> register(Flux<String> lines) {
+        return Flux.defer(() -> {
+            // 줄 번호 -> 선점을 마치고 커밋/되돌림을 기다리는 줄
+            Map<Long, ParsedLine> outstanding = new ConcurrentHashMap<>();
+            return lines.index()
+                    .filter(indexed -> !indexed.getT2().isBlank())
+                    .concatMap(indexed -> parseLine(indexed.getT1() + 1, indexed.getT2(), outstanding))
+                    .bufferTimeout(batchSize, batchMaxWait, true)
+                    .concatMap(batch -> registerBatch(batch, outstanding))
+                    .doFinally(signal -> List.copyOf(outstanding.values())
+                            .forEach(line -> release(line, outstanding)));
+        });
+    }
+
+    private Flux<BulkSellResult> registerBatch(List<ParsedLine> batch, Map<Long, ParsedLine> outstanding) {
+        List<ParsedLine> valid = new ArrayList<>(batch.size());
+        List<BulkSellResult> results = new ArrayList<>(batch.size());
+        for (ParsedLine line : batch) {
+            if (line.sell() != null) {
+                valid.add(line);
+            } else {
+                results.add(line.failure());
+            }
+        }
+        if (valid.isEmpty()) {
+            return Flux.fromIterable(results);
+        }
+
+        List<Sell> sells = valid.stream().map(ParsedLine::sell).toList();
+        Mono<List<Sell>> committed = sellRepository.insertAll(sells)
+                .collectList()
+                .flatMap(saved -> sellEventOutbox.appendAll(saved.stream()
+                                .map(sell -> SellLifecycleEvent.from(SellChangedEvent.created(sell)))
+                                .toList())
+                        .thenReturn(saved))
+                .as(transactionalOperator::transactional)
+                .doOnNext(saved -> valid.forEach(line -> outstanding.remove(line.line())));
+
+        // 저장 실패로 처리하는 범위는 트랜잭션까지만 (커밋된 행의 한도/중복 선점은 풀지 않음)
+        Flux<BulkSellResult> inserted = committed
+                .map(Optional::of)
+                .onErrorResume(e -> {
+                    log.error("대량 판매 등록 batch 저장에 실패했습니다. {}건", valid.size(), e);
+                    valid.forEach(line -> release(line, outstanding));
+                    return Mono.just(Optional.empty());
+                })
+                .flatMapIterable(saved -> saved.isPresent()
+                        ? created(valid, saved.get())
+                        : valid.stream()
+                        .map(line -> BulkSellResult.fail(line.line(), SellErrorCode.SELL_REGISTRATION_FAILED, null))
+                        .toList());
+
+        return Flux.fromIterable(results).concatWith(inserted);
+    }
+
+    /**
+     * 커밋된 행을 (판매자, 상품) 키로 입력 줄과 짝지어 성공 결과 생성
+     * 같은 batch 안의 (판매자, 상품)은 진행 중 판매 중복 선점을 통과했으므로 유일함
+     * 커밋 후 로컬 이벤트 발행이 실패해도 행은 저장되었으므로 성공으로 응답
+     */
+    private List<BulkSellResult> created(List<ParsedLine> valid, List<Sell> saved) {
+        Map<ListingKey, ParsedLine> linesByKey = new HashMap<>(valid.size() * 2);
+        for (ParsedLine line : valid) {
+            linesByKey.put(ListingKey.of(line.sell()), line);
+        }
+
+        List<BulkSellResult> results = new ArrayList<>(saved.size());
+        for (Sell sell : saved) {
+            ParsedLine line = linesByKey.get(ListingKey.of(sell));
+            try {
+                eventPublisher.publishEvent(SellChangedEvent.created(sell));
+            } catch (RuntimeException e) {
+                log.warn("대량 등록 판매의 로컬 이벤트 발행에 실패했습니다. sellId={}", sell.getSellId(), e);
+            }
+            results.add(BulkSellResult.success(line.line(), sell.getSellId()));
+        }
+        return results;
+    }
+
+    /**
+     * 선점 되돌림 (이미 커밋됐거나 되돌린 줄이면 무시)
+     */
+    private void release(ParsedLine line, Map<Long, ParsedLine> outstanding) {
+        if (outstanding.remove(line.line()) != null) {
+            sellerDailyLimiter.release(line.sell().getSellerId(), line.acquiredAt());
+            activeListingIndex.release(line.sell().getSellerId(), line.sell().getProductId());
+        }
+    }
+
+    /**
+     * 한 줄 검증 후 일일 한도와 (판매자, 상품) 중복을 선점 (실패는 해당 줄의 결과로만 남김)
+     * 선점을 마친 줄은 outstanding에 등록
+     */
+    private Mono<ParsedLine> parseLine(long line, String json, Map<Long, ParsedLine> outstanding) {
+        Sell sell;
+        long acquiredAt;
+        try {
+            SellRegisterRequest request = objectMapper.readValue(json, SellRegisterRequest.class);
+            if (request == null) {
+                // 리터럴 null 줄
+                return Mono.just(ParsedLine.invalid(line, BulkSellResult.fail(line, SellErrorCode.SELL_DATA_INVALID, null)));
+            }
+            SellValidator.validateRegistration(request.getSellerId(), request.getProductId(),
+                    request.getPrice(), request.getMinPrice(), request.getDescription());
+            sell = Sell.createSell(request.getSellerId(), request.getProductId(),
+                    request.getPrice(), request.getMinPrice(), request.getDescription(), clock.currentTimeMillis());
+            acquiredAt = sellerDailyLimiter.acquire(request.getSellerId());
+        } catch (GlobalException e) {
+            // 검증 실패, 한도 초과, 한도 카운터 복구 중(SERVICE_UNAVAILABLE)
+            return Mono.just(ParsedLine.invalid(line, BulkSellResult.fail(line, e.getErrorCode(), e.getMessage())));
+        } catch (JsonProcessingException e) {
+            return Mono.just(ParsedLine.invalid(line, BulkSellResult.fail(line, SellErrorCode.SELL_DATA_INVALID, null)));
+        }
+
+        ParsedLine parsed = ParsedLine.valid(line, sell, acquiredAt);
+        return activeListingIndex.reserve(sell.getSellerId(), sell.getProductId())
+                .doOnSuccess(ignored -> outstanding.put(line, parsed))
+                .thenReturn(parsed)
+                .doOnError(e -> sellerDailyLimiter.release(sell.getSellerId(), acquiredAt))
+                .doOnCancel(() -> sellerDailyLimiter.release(sell.getSellerId(), acquiredAt))
+                .onErrorResume(SellException.class, e -> Mono.just(
+                        ParsedLine.invalid(line, BulkSellResult.fail(line, e.getErrorCode(), e.getMessage()))));
+    }
+
+    private record ListingKey(Long sellerId, Long productId) {
+
+        static ListingKey of(Sell sell) {
+            return new ListingKey(sell.getSellerId(), sell.getProductId());
+        }
+    }
+
+    /**
+     * 검증을 마친 한 줄 (유효하면 sell과 한도 선점 시각, 아니면 failure)
+     */
+    private record ParsedLine(long line, Sell sell, long acquiredAt, BulkSellResult failure) {
+
+        static ParsedLine valid(long line, Sell sell, long acquiredAt) {
+            return new ParsedLine(line, sell, acquiredAt, null);
+        }
+
+        static ParsedLine invalid(long line, BulkSellResult failure) {
+            return new ParsedLine(line, null, 0L, failure);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.fream_v2.sell_service.domain.sell.application.service;
+
+import com.fream_v2.sell_service.domain.sell.application.limit.SellerDailyLimiter;
+import com.fream_v2.sell_service.domain.sell.application.listing.ActiveListingIndex;
+import com.fream_v2.sell_service.domain.sell.application.metrics.SellMetered;
+import com.fream_v2.sell_service.domain.sell.application.metrics.SellOperation;
+import com.fream_v2.sell_service.domain.sell.application.outbox.SellEventOutbox;
+import com.fream_v2.sell_service.domain.sell.application.pricehistory.PriceChangePolicy;
+import com.fream_v2.sell_service.domain.sell.domain.event.SellChangedEvent;
+import com.fream_v2.sell_service.domain.sell.domain.event.SellTradeEvent;
+import com.fream_v2.sell_service.domain.sell.domain.exception.SellException;
+import com.fream_v2.sell_service.domain.sell.domain.model.Sell;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellStatus;
+import com.fream_v2.sell_service.domain.sell.domain.repository.SellInboxRepository;
+import com.fream_v2.sell_service.domain.sell.domain.repository.SellRepository;
+import com.fream_v2.sell_service.domain.sell.domain.service.SellValidator;
+import com.fream_v2.sell_service.global.common.time.EpochClock;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+
+/**
+ * 판매 등록/수정 서비스
+ * 판매 저장과 아웃박스 기록을 한 트랜잭션으로 처리하고,
+ * 커밋이 끝난 뒤 SellChangedEvent를 발행해 인메모리 읽기 모델을 갱신
+ */
+@Service
+@RequiredArgsConstructor
+public class SellCommandService {
+
+    private final SellRepository sellRepository;
+    private final SellInboxRepository sellInboxRepository;
+    private final SellEventOutbox sellEventOutbox;
+    private final TransactionalOperator transactionalOperator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SellerDailyLimiter sellerDailyLimiter;
+    private final ActiveListingIndex activeListingIndex;
+    private final PriceChangePolicy priceChangePolicy;
+    private final EpochClock clock;
+
+    /**
+     * 판매 등록
+     * 일일 등록 한도와 (판매자, 상품) 진행 중 판매 중복은 인메모리에서 먼저 선점하고,
+     * 저장에 실패하거나 저장 전에 요청이 취소되면(연결 종료, 타임아웃) 되돌림
+     */
+    @SellMetered(SellOperation.REGISTER)
+    public Mono<Sell> registerSell(Long sellerId, Long productId, Long price,
+                                   Long minPrice, String description) {
+        return Mono.fromCallable(() -> {
+                    SellValidator.validateRegistration(sellerId, productId, price, minPrice, description);
+                    return Sell.createSell(sellerId, productId, price, minPrice, description,
+                            clock.currentTimeMillis());
+                })
+                .flatMap(sell -> Mono.usingWhen(
+                        reserveListing(sellerId, productId),
+                        acquiredAt -> sellRepository.save(sell)
+                                .map(SellChangedEvent::created)
+                                .flatMap(this::recordChange)
+                                .as(transactionalOperator::transactional),
+                        acquiredAt -> Mono.empty(),
+                        (acquiredAt, e) -> releaseListing(sellerId, productId, acquiredAt),
+                        acquiredAt -> releaseListing(sellerId, productId, acquiredAt)))
+                .doOnNext(eventPublisher::publishEvent)
+                .map(SellChangedEvent::after);
+    }
+
+    /**
+     * 일일 한도 슬롯과 (판매자, 상품) 선점 (중복 검사 중 실패/취소되면 한도 슬롯만 되돌림)
+     *
+     * @return 한도 선점 시각 (되돌릴 때 사용)
+     */
+    private Mono<Long> reserveListing(Long sellerId, Long productId) {
+        return Mono.defer(() -> {
+            long acquiredAt = sellerDailyLimiter.acquire(sellerId);
+            return activeListingIndex.reserve(sellerId, productId)
+                    .doOnError(e -> sellerDailyLimiter.release(sellerId, acquiredAt))
+                    .doOnCancel(() -> sellerDailyLimiter.release(sellerId, acquiredAt))
+                    .thenReturn(acquiredAt);
+        });
+    }
+
+    private Mono<Void> releaseListing(Long sellerId, Long productId, long acquiredAt) {
+        return Mono.fromRunnable(() -> {
+            sellerDailyLimiter.release(sellerId, acquiredAt);
+            activeListingIndex.release(sellerId, productId);
+        });
+    }
+
+    /**
+     * 판매 가격 수정
+     * 가격 변경 횟수/인상 규칙은 가격 변경 이력으로 확인하고, 이력은 같은 트랜잭션에서 기록
+     */
+    @SellMetered(SellOperation.UPDATE_PRICE)
+    public Mono<Sell> updatePrice(Long sellId, Long newPrice, Long newMinPrice) {
+        return findSell(sellId)
+                .flatMap(before -> {
+                    SellValidator.validatePriceUpdatable(before);
+                    SellValidator.validatePrice(newPrice,
+                            newMinPrice != null ? newMinPrice : before.getMinPrice());
+                    return priceChangePolicy.check(before, newPrice)
+                            .then(Mono.defer(() -> sellRepository.updatePrice(before,
+                                    before.updatePrice(newPrice, newMinPrice, clock.currentTimeMillis()))))
+                            .switchIfEmpty(Mono.error(() -> SellException.updateConflict(sellId)))
+                            .map(after -> SellChangedEvent.changed(before, after))
+                            .flatMap(event -> priceChangePolicy.record(event).thenReturn(event))
+                            .flatMap(this::recordChange);
+                })
+                .as(transactionalOperator::transactional)
+                .doOnNext(eventPublisher::publishEvent)
+                .map(SellChangedEvent::after);
+    }
+
+    /**
+     * 판매 상태 변경
+     * 전이 테이블로 검증한 뒤 조건부 UPDATE로 반영하므로, 동시에 같은 판매를 바꾼 요청 중 하나만 성공하고
+     * 나머지는 재조회 없이 ALREADY_MATCHED / ALREADY_SOLD 등으로 실패
+     */
+    @SellMetered(SellOperation.CHANGE_STATUS)
+    public Mono<Sell> changeStatus(Long sellId, SellStatus newStatus) {
+        return findSell(sellId)
+                .flatMap(before -> {
+                    SellValidator.validateTransition(before, newStatus);
+                    return transition(before, newStatus);
+                })
+                .as(transactionalOperator::transactional)
+                .doOnNext(eventPublisher::publishEvent)
+                .map(SellChangedEvent::after);
+    }
+
+    /**
+     * 구매/결제 이벤트에 의한 상태 전이 (이벤트 ID 기준 멱등)
+     * 처리 이력 기록, 상태 변경, 아웃박스 기록을 한 트랜잭션으로 처리
+     *
+     * @return 변경된 판매, 이미 처리했거나 이미 반영된 이벤트면 empty
+     */
+    @SellMetered(SellOperation.TRADE_EVENT)
+    public Mono<Sell> applyTradeEvent(SellTradeEvent event) {
+        return sellInboxRepository.markProcessed(event.eventId(), clock.now())
+                .filter(Boolean::booleanValue)
+                .flatMap(first -> findSell(event.sellId()))
+                .filter(before -> SellValidator.validateTradeTransition(before, event.eventType()))
+                .flatMap(before -> transition(before, event.eventType().getTargetStatus()))
+                .as(transactionalOperator::transactional)
+                .doOnNext(eventPublisher::publishEvent)
+                .map(SellChangedEvent::after);
+    }
+
+    /**
+     * 조건부 상태 전이 + 아웃박스 기록 (경합에서 지면 목표 상태 기준 에러)
+     */
+    private Mono<SellChangedEvent> transition(Sell before, SellStatus newStatus) {
+        return sellRepository.transitionStatus(before, before.changeStatus(newStatus, clock.currentTimeMillis()))
+                .switchIfEmpty(Mono.error(() -> SellException.transitionConflict(before.getSellId(), newStatus)))
+                .map(after -> SellChangedEvent.changed(before, after))
+                .flatMap(this::recordChange);
+    }
+
+    /**
+     * 변경 이벤트를 아웃박스에 기록 (판매 저장과 같은 트랜잭션)
+     */
+    private Mono<SellChangedEvent> recordChange(SellChangedEvent event) {
+        return sellEventOutbox.append(event).thenReturn(event);
+    }
+
+    private Mono<Sell> findSell(Long sellId) {
+        return sellRepository.findById(sellId)
+                .switchIfEmpty(Mono.error(() -> SellException.notFound(sellId)));
+    }
+}
@@ -0,0 +1,59 @@
+package com.fream_v2.sell_service.domain.sell.application.service;
+
+import com.fream_v2.sell_service.domain.sell.application.matching.BidOrder;
+import com.fream_v2.sell_service.domain.sell.application.matching.MatchResult;
+import com.fream_v2.sell_service.domain.sell.application.matching.MatchingEngine;
+import com.fream_v2.sell_service.domain.sell.application.metrics.SellMetered;
+import com.fream_v2.sell_service.domain.sell.application.metrics.SellOperation;
+import com.fream_v2.sell_service.domain.sell.application.orderbook.OrderBookEntry;
+import com.fream_v2.sell_service.domain.sell.domain.exception.SellErrorCode;
+import com.fream_v2.sell_service.domain.sell.domain.exception.SellException;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * 판매 매칭 서비스
+ * 매칭 엔진이 선점한 매도 호가를 MATCHED로 저장하고, 저장 실패나 요청 취소 시 호가창에 되돌림
+ * (다른 노드가 먼저 매칭하는 등 판매 상태 때문에 실패한 경우는 되돌리지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SellMatchingService {
+
+    private final MatchingEngine matchingEngine;
+    private final SellCommandService sellCommandService;
+
+    /**
+     * 매수 호가 매칭
+     */
+    @SellMetered(SellOperation.MATCH)
+    public Mono<MatchResult> matchBid(Long buyerId, Long productId, long bidPrice) {
+        BidOrder bid = new BidOrder(buyerId, productId, bidPrice);
+
+        return matchingEngine.match(bid)
+                .switchIfEmpty(Mono.error(() -> new SellException(SellErrorCode.NO_MATCHING_BUYER,
+                        String.format("매칭 가능한 판매 호가가 없습니다. 상품 ID: %d, 매수 호가: %d원", productId, bidPrice))))
+                .flatMap(entry -> persistMatch(bid, entry));
+    }
+
+    private Mono<MatchResult> persistMatch(BidOrder bid, OrderBookEntry entry) {
+        return sellCommandService.changeStatus(entry.sellId(), SellStatus.MATCHED)
+                .map(matched -> new MatchResult(entry.sellId(), entry.sellerId(), bid.buyerId(),
+                        bid.productId(), entry.price()))
+                .onErrorResume(e -> !(e instanceof SellException), e -> {
+                    log.warn("매칭 저장 실패로 호가를 복원합니다. 판매 ID: {}", entry.sellId(), e);
+                    return matchingEngine.restore(bid.productId(), entry)
+                            .then(Mono.error(new SellException(SellErrorCode.MATCH_FAILED, e)));
+                })
+                // 저장 중 취소되면 트랜잭션이 롤백되므로 호가를 되돌림
+                // (커밋 직후 취소된 드문 경우 되돌린 호가는 다음 매칭의 상태 전이 검증에서 걸러짐)
+                .doOnCancel(() -> {
+                    log.warn("매칭 저장 중 요청이 취소되어 호가를 복원합니다. 판매 ID: {}", entry.sellId());
+                    matchingEngine.restore(bid.productId(), entry).subscribe();
+                });
+    }
+}
@@ -0,0 +1,85 @@
+package com.fream_v2.sell_service.domain.sell.application.service;
+
+import com.fream_v2.sell_service.domain.sell.application.metrics.SellMetered;
+import com.fream_v2.sell_service.domain.sell.application.metrics.SellOperation;
+import com.fream_v2.sell_service.domain.sell.application.offer.OfferBatchWriter;
+import com.fream_v2.sell_service.domain.sell.application.offer.OfferRateLimiter;
+import com.fream_v2.sell_service.domain.sell.application.offer.SellerOfferInbox;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellOffer;
+import com.fream_v2.sell_service.domain.sell.domain.repository.SellOfferRepository;
+import com.fream_v2.sell_service.domain.sell.domain.service.SellValidator;
+import com.fream_v2.sell_service.global.common.time.EpochClock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 가격 협상 제안 서비스
+ *
+ * - 제안 검증은 near cache의 판매(최소 가격, 상태)로 메모리에서 수행
+ * - (구매자, 판매) 쌍별 토큰 버킷으로 제안 폭주를 제한
+ * - 접수된 제안은 write-behind 큐에 넣고 바로 응답 (저장은 batch 단위로 비동기 수행)
+ */
+@Service
+public class SellOfferService {
+
+    private final SellQueryService sellQueryService;
+    private final SellOfferRepository sellOfferRepository;
+    private final OfferRateLimiter offerRateLimiter;
+    private final OfferBatchWriter offerBatchWriter;
+    private final SellerOfferInbox sellerOfferInbox;
+    private final EpochClock clock;
+    private final int inboxHistorySize;
+
+    public SellOfferService(SellQueryService sellQueryService,
+                            SellOfferRepository sellOfferRepository,
+                            OfferRateLimiter offerRateLimiter,
+                            OfferBatchWriter offerBatchWriter,
+                            SellerOfferInbox sellerOfferInbox,
+                            EpochClock clock,
+                            @Value("${sell.offer.inbox-history-size:50}") int inboxHistorySize) {
+        this.sellQueryService = sellQueryService;
+        this.sellOfferRepository = sellOfferRepository;
+        this.offerRateLimiter = offerRateLimiter;
+        this.offerBatchWriter = offerBatchWriter;
+        this.sellerOfferInbox = sellerOfferInbox;
+        this.clock = clock;
+        this.inboxHistorySize = inboxHistorySize;
+    }
+
+    /**
+     * 가격 제안 접수
+     * 횟수 제한을 먼저 확인해 폭주 시 판매 조회 없이 거절
+     */
+    @SellMetered(SellOperation.OFFER)
+    public Mono<SellOffer> submitOffer(Long sellId, Long buyerId, Long price) {
+        return Mono.fromRunnable(() -> offerRateLimiter.acquire(buyerId, sellId))
+                .then(Mono.defer(() -> sellQueryService.getSell(sellId)))
+                .map(sell -> {
+                    SellValidator.validateOffer(sell, buyerId, price);
+                    SellOffer offer = SellOffer.create(sell, buyerId, price, clock.currentTimeMillis());
+                    offerBatchWriter.enqueue(offer);
+                    return offer;
+                });
+    }
+
+    /**
+     * 판매자 제안함 스트리밍 (최근 제안 최신순 → 이후 저장되는 제안 실시간)
+     * 최근 제안을 읽기 전에 실시간 연결을 먼저 등록하므로 그 사이 저장된 제안도 빠지지 않고, 중복은 제안 ID로 걸러냄
+     */
+    public Flux<SellOffer> streamInbox(Long sellerId) {
+        return Flux.defer(() -> {
+            Sinks.Many<SellOffer> live = sellerOfferInbox.open(sellerId);
+            Set<String> delivered = new HashSet<>();
+            return sellOfferRepository.findRecentBySellerId(sellerId, inboxHistorySize)
+                    .doOnNext(offer -> delivered.add(offer.offerId()))
+                    .concatWith(live.asFlux().filter(offer -> !delivered.contains(offer.offerId())))
+                    .doFinally(signal -> sellerOfferInbox.close(sellerId, live));
+        });
+    }
+}
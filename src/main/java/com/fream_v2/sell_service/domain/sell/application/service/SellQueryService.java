@@ -0,0 +1,153 @@
+package com.fream_v2.sell_service.domain.sell.application.service;
+
+import com.fream_v2.sell_service.domain.sell.application.cache.SellNearCache;
+import com.fream_v2.sell_service.domain.sell.application.orderbook.OrderBookBroadcaster;
+import com.fream_v2.sell_service.domain.sell.application.orderbook.OrderBookRegistry;
+import com.fream_v2.sell_service.domain.sell.application.orderbook.OrderBookSnapshot;
+import com.fream_v2.sell_service.domain.sell.application.pricehistory.PriceCandleAggregator;
+import com.fream_v2.sell_service.domain.sell.application.readrouting.SellReadRouting;
+import com.fream_v2.sell_service.domain.sell.application.viewcount.ViewCountAggregator;
+import com.fream_v2.sell_service.domain.sell.domain.exception.SellException;
+import com.fream_v2.sell_service.domain.sell.domain.model.PriceCandle;
+import com.fream_v2.sell_service.domain.sell.domain.model.Sell;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellCursor;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellSearchCondition;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellSortType;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellStatus;
+import com.fream_v2.sell_service.domain.sell.domain.repository.SellPriceHistoryRepository;
+import com.fream_v2.sell_service.domain.sell.domain.repository.SellRepository;
+import com.fream_v2.sell_service.global.presentation.exception.CommonException;
+import com.fream_v2.sell_service.global.presentation.exception.GlobalErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 판매 조회 서비스
+ */
+@Service
+public class SellQueryService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_ORDER_BOOK_DEPTH = 50;
+    public static final int MAX_PRICE_CANDLES = 1000;
+    private static final long MAX_CANDLE_INTERVAL_MINUTES = TimeUnit.DAYS.toMinutes(7);
+
+    private final SellRepository sellRepository;
+    private final OrderBookRegistry orderBookRegistry;
+    private final OrderBookBroadcaster orderBookBroadcaster;
+    private final ViewCountAggregator viewCountAggregator;
+    private final SellNearCache sellNearCache;
+    private final SellPriceHistoryRepository priceHistoryRepository;
+    private final SellReadRouting readRouting;
+    private final int searchFetchSize;
+
+    public SellQueryService(SellRepository sellRepository,
+                            OrderBookRegistry orderBookRegistry,
+                            OrderBookBroadcaster orderBookBroadcaster,
+                            ViewCountAggregator viewCountAggregator,
+                            SellNearCache sellNearCache,
+                            SellPriceHistoryRepository priceHistoryRepository,
+                            SellReadRouting readRouting,
+                            @Value("${sell.search.fetch-size:256}") int searchFetchSize) {
+        this.sellRepository = sellRepository;
+        this.orderBookRegistry = orderBookRegistry;
+        this.orderBookBroadcaster = orderBookBroadcaster;
+        this.viewCountAggregator = viewCountAggregator;
+        this.sellNearCache = sellNearCache;
+        this.priceHistoryRepository = priceHistoryRepository;
+        this.readRouting = readRouting;
+        this.searchFetchSize = searchFetchSize;
+    }
+
+    /**
+     * 판매 단건 조회 (near cache 우선, 조회수는 캐시 적재 시점 기준)
+     * 캐시 miss는 최근 변경된 판매가 아니면 읽기 복제본에서 조회
+     */
+    public Mono<Sell> getSell(Long sellId) {
+        return sellNearCache.get(sellId, id -> readRouting.bySell(id, sellRepository.findById(id)))
+                .switchIfEmpty(Mono.error(() -> SellException.notFound(sellId)));
+    }
+
+    /**
+     * 판매 상세 조회 (조회수는 메모리에 누적 후 주기적으로 일괄 반영)
+     */
+    public Mono<Sell> viewSell(Long sellId) {
+        return getSell(sellId)
+                .doOnNext(sell -> viewCountAggregator.increment(sellId));
+    }
+
+    /**
+     * 상품 호가창 조회 (인메모리, DB 조회 없음)
+     */
+    public Mono<OrderBookSnapshot> getOrderBook(Long productId, int depth) {
+        if (depth <= 0 || depth > MAX_ORDER_BOOK_DEPTH) {
+            return Mono.error(new CommonException(GlobalErrorCode.INVALID_PAGE_SIZE));
+        }
+        return Mono.fromSupplier(() -> orderBookRegistry.snapshot(productId, depth));
+    }
+
+    /**
+     * 상품 호가창 실시간 구독 (변경 시에만 tick 단위로 최신 상태 푸시)
+     */
+    public Flux<OrderBookSnapshot> streamOrderBook(Long productId) {
+        return orderBookBroadcaster.subscribe(productId);
+    }
+
+    /**
+     * 상품별 판매 목록 커서 페이지 스트리밍 조회
+     * size + 1건을 조회해 다음 페이지 여부를 판단하므로 COUNT 쿼리가 없고,
+     * 목록을 모으지 않고 StreamingApiResponse.cursorPage로 응답에 바로 기록
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    public Flux<Sell> streamSellsByProduct(Long productId, SellStatus status,
+                                           SellSortType sortType, String cursor, int size) {
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            return Flux.error(new CommonException(GlobalErrorCode.INVALID_PAGE_SIZE));
+        }
+
+        return Flux.defer(() -> {
+            SellCursor decoded = cursor != null && !cursor.isBlank()
+                    ? SellCursor.decode(cursor, sortType)
+                    : null;
+            return readRouting.byProduct(productId,
+                    sellRepository.findByProductIdAfter(productId, status, sortType, decoded, size + 1));
+        });
+    }
+
+    /**
+     * 조건 검색 스트리밍 (NDJSON / SSE 내보내기용)
+     * 하류 요청량을 fetchSize 단위로 묶어 DB 커서까지 전달하므로 전체 결과를 메모리에 모으지 않음
+     */
+    public Flux<Sell> searchSells(SellSearchCondition condition) {
+        return readRouting.eventual(sellRepository.search(condition, searchFetchSize))
+                .limitRate(searchFetchSize);
+    }
+
+    /**
+     * 상품 가격 차트 (구간별 OHLC)
+     * 기간 내 가격 변경을 DB 커서에서 시각 순으로 읽으며 구간 단위로 바로 집계하므로 원본 행을 메모리에 모으지 않음
+     *
+     * @param to 종료 시각 (제외)
+     */
+    public Flux<PriceCandle> getPriceCandles(Long productId, LocalDateTime from, LocalDateTime to,
+                                             long intervalMinutes) {
+        if (intervalMinutes <= 0 || intervalMinutes > MAX_CANDLE_INTERVAL_MINUTES || !from.isBefore(to)) {
+            return Flux.error(new CommonException(GlobalErrorCode.INVALID_INPUT_VALUE));
+        }
+        long intervalMillis = TimeUnit.MINUTES.toMillis(intervalMinutes);
+        if (Duration.between(from, to).toMillis() / intervalMillis >= MAX_PRICE_CANDLES) {
+            return Flux.error(new CommonException(GlobalErrorCode.INVALID_INPUT_VALUE,
+                    "조회 구간 수는 " + MAX_PRICE_CANDLES + "개를 넘을 수 없습니다."));
+        }
+
+        return PriceCandleAggregator.aggregate(readRouting.byProduct(productId,
+                priceHistoryRepository.streamByProductId(productId, from, to, searchFetchSize)), intervalMillis);
+    }
+}
@@ -0,0 +1,162 @@
+package com.fream_v2.sell_service.domain.sell.application.viewcount;
+
+import com.fream_v2.sell_service.domain.sell.domain.repository.SellRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회수 write-behind 집계기
+ *
+ * 조회마다 행 전체를 다시 쓰는 대신 판매 ID별 LongAdder에 누적해 두고,
+ * 주기적으로 view_count = view_count + delta 형태의 일괄 UPDATE로 반영
+ * 핫 리스팅의 행 잠금 경합은 플러시 주기당 한 번으로 줄어듦
+ */
+@Slf4j
+@Component
+public class ViewCountAggregator {
+
+    private static final Duration SHUTDOWN_FLUSH_TIMEOUT = Duration.ofSeconds(10);
+
+    private final SellRepository sellRepository;
+    private final int maxTrackedSells;
+    private final int flushBatchSize;
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushing = new AtomicBoolean(false);
+    private final LongAdder dropped = new LongAdder();
+
+    public ViewCountAggregator(SellRepository sellRepository,
+                               @Value("${sell.view-count.max-tracked-sells:100000}") int maxTrackedSells,
+                               @Value("${sell.view-count.flush-batch-size:500}") int flushBatchSize) {
+        this.sellRepository = sellRepository;
+        this.maxTrackedSells = maxTrackedSells;
+        this.flushBatchSize = flushBatchSize;
+    }
+
+    /**
+     * 조회수 1 증가 (메모리에만 누적)
+     */
+    public void increment(Long sellId) {
+        LongAdder adder = pending.get(sellId);
+        if (adder == null) {
+            if (pending.size() >= maxTrackedSells) {
+                onCapacityReached();
+                if (pending.size() >= maxTrackedSells * 2) {
+                    dropped.increment();
+                    return;
+                }
+            }
+            adder = pending.computeIfAbsent(sellId, id -> new LongAdder());
+        }
+        adder.increment();
+
+        // 증가 직전에 플러시가 빈 카운터를 제거했다면 새 카운터에 다시 반영
+        // (제거와 정확히 겹치는 드문 경우 1건이 유실될 수 있으나 조회수는 근사치로 취급)
+        if (pending.get(sellId) != adder) {
+            pending.computeIfAbsent(sellId, id -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * 아직 반영되지 않은 조회수 증분
+     */
+    public long pendingDelta(Long sellId) {
+        LongAdder adder = pending.get(sellId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    /**
+     * 주기적 플러시
+     * 일괄 UPDATE가 느려도 다른 @Scheduled 작업이 밀리지 않도록 결과를 기다리지 않음
+     */
+    @Scheduled(fixedDelayString = "${sell.view-count.flush-interval-ms:5000}")
+    public void scheduledFlush() {
+        flush().subscribe(null, e -> log.warn("주기적 조회수 플러시에 실패했습니다.", e));
+    }
+
+    /**
+     * 노드 종료 시 남은 증분 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flush().block(SHUTDOWN_FLUSH_TIMEOUT);
+        } catch (RuntimeException e) {
+            log.error("종료 시 조회수 플러시에 실패했습니다. 미반영 판매 {}건", pending.size(), e);
+        }
+    }
+
+    /**
+     * 누적된 증분을 batch 단위 일괄 UPDATE로 반영
+     * 반영에 실패한 증분은 다시 누적해 다음 플러시에서 재시도
+     *
+     * @return 갱신된 행 수
+     */
+    public Mono<Long> flush() {
+        if (!flushing.compareAndSet(false, true)) {
+            return Mono.just(0L);
+        }
+
+        return Flux.fromIterable(drain())
+                .concatMap(batch -> sellRepository.incrementViewCounts(batch)
+                        .onErrorResume(e -> {
+                            log.warn("조회수 플러시 실패, 다음 주기에 재시도합니다. 판매 {}건", batch.size(), e);
+                            batch.forEach((sellId, delta) -> pending.computeIfAbsent(sellId, id -> new LongAdder()).add(delta));
+                            return Mono.just(0L);
+                        }))
+                .reduce(0L, Long::sum)
+                .doOnNext(updated -> {
+                    long droppedCount = dropped.sumThenReset();
+                    if (droppedCount > 0) {
+                        log.warn("조회수 집계 한도 초과로 {}건의 조회가 반영되지 않았습니다.", droppedCount);
+                    }
+                })
+                .doFinally(signal -> flushing.set(false));
+    }
+
+    /**
+     * 카운터를 0으로 되돌리며 증분을 batch로 분할
+     * 직전 주기부터 조회가 없던 카운터는 제거해 메모리를 회수
+     */
+    private List<Map<Long, Long>> drain() {
+        List<Map<Long, Long>> batches = new ArrayList<>();
+        Map<Long, Long> batch = new HashMap<>();
+
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta == 0) {
+                pending.remove(entry.getKey(), entry.getValue());
+                continue;
+            }
+            batch.put(entry.getKey(), delta);
+            if (batch.size() >= flushBatchSize) {
+                batches.add(batch);
+                batch = new HashMap<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    private void onCapacityReached() {
+        if (!flushing.get()) {
+            flush().subscribe();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.fream_v2.sell_service.domain.sell.domain.event;
+
+import com.fream_v2.sell_service.domain.sell.domain.model.Sell;
+
+/**
+ * 판매 변경 도메인 이벤트
+ * 저장이 끝난 뒤 발행되며, 인메모리 읽기 모델(호가창 등)이 증분 갱신에 사용
+ *
+ * @param before 변경 전 판매 (신규 등록이면 null)
+ * @param after 변경 후 판매
+ */
+public record SellChangedEvent(Sell before, Sell after) {
+
+    public static SellChangedEvent created(Sell sell) {
+        return new SellChangedEvent(null, sell);
+    }
+
+    public static SellChangedEvent changed(Sell before, Sell after) {
+        return new SellChangedEvent(before, after);
+    }
+
+    public boolean isCreated() {
+        return before == null;
+    }
+
+    public boolean isStatusChanged() {
+        return before != null && before.getStatus() != after.getStatus();
+    }
+
+    public boolean isPriceChanged() {
+        return before != null && !before.getPrice().equals(after.getPrice());
+    }
+}
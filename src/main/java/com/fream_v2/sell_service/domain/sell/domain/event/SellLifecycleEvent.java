@@ -0,0 +1,74 @@
+package com.fream_v2.sell_service.domain.sell.domain.event;
+
+import com.fream_v2.sell_service.domain.sell.domain.model.Sell;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellStatus;
+import com.fream_v2.sell_service.global.common.util.NodeIdUtils;
+import com.fream_v2.sell_service.global.common.util.UuidUtils;
+
+import java.time.LocalDateTime;
+
+/**
+ * 판매 생명주기 통합 이벤트 (Kafka 발행 메시지)
+ * 아웃박스에 JSON으로 저장되고 릴레이가 판매 ID를 키로 발행
+ *
+ * @param eventId 이벤트 고유 ID (소비 측 중복 제거용)
+ * @param previousStatus 상태 변경 전 상태 (등록이면 null)
+ * @param previousPrice 가격 변경 전 가격 (등록이면 null)
+ * @param originNodeId 변경을 수행한 노드 ID (자기 노드 이벤트 구분용)
+ */
+public record SellLifecycleEvent(
+        String eventId,
+        Type eventType,
+        Long sellId,
+        Long sellerId,
+        Long productId,
+        Long price,
+        Long minPrice,
+        SellStatus status,
+        SellStatus previousStatus,
+        Long previousPrice,
+        LocalDateTime occurredAt,
+        String originNodeId
+) {
+
+    public enum Type {
+        CREATED,
+        PRICE_UPDATED,
+        STATUS_CHANGED
+    }
+
+    /**
+     * 도메인 변경 이벤트로부터 생성 (상태가 바뀌었으면 STATUS_CHANGED 우선)
+     */
+    public static SellLifecycleEvent from(SellChangedEvent event) {
+        if (event.isCreated()) {
+            return of(Type.CREATED, event.after(), null, null);
+        }
+        Sell before = event.before();
+        Type type = event.isStatusChanged() ? Type.STATUS_CHANGED : Type.PRICE_UPDATED;
+        return of(type, event.after(), before.getStatus(), before.getPrice());
+    }
+
+    /**
+     * 일괄 처리(만료 등)로 상태가 바뀐 판매의 이벤트 생성
+     */
+    public static SellLifecycleEvent statusChanged(Sell after, SellStatus previousStatus) {
+        return of(Type.STATUS_CHANGED, after, previousStatus, after.getPrice());
+    }
+
+    private static SellLifecycleEvent of(Type type, Sell sell, SellStatus previousStatus, Long previousPrice) {
+        return new SellLifecycleEvent(
+                UuidUtils.generate(),
+                type,
+                sell.getSellId(),
+                sell.getSellerId(),
+                sell.getProductId(),
+                sell.getPrice(),
+                sell.getMinPrice(),
+                sell.getStatus(),
+                previousStatus,
+                previousPrice,
+                sell.getUpdatedAt(),
+                NodeIdUtils.current());
+    }
+}
@@ -0,0 +1,28 @@
+package com.fream_v2.sell_service.domain.sell.domain.event;
+
+import com.fream_v2.sell_service.domain.sell.domain.model.SellStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 구매/결제 서비스에서 수신하는 거래 이벤트 (Kafka 메시지, 키: 판매 ID)
+ *
+ * @param eventId 이벤트 고유 ID (중복 수신 판별)
+ * @param eventType 이벤트 종류
+ * @param sellId 대상 판매 ID
+ * @param occurredAt 발생 시각
+ */
+public record SellTradeEvent(String eventId, Type eventType, Long sellId, LocalDateTime occurredAt) {
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Type {
+        PAYMENT_STARTED(SellStatus.RESERVED),     // 구매자 결제 시작 → 예약
+        PAYMENT_COMPLETED(SellStatus.SOLD),       // 결제 완료 → 판매 완료
+        BUYER_CANCELLED(SellStatus.PENDING);      // 구매자 매칭 취소 → 재판매 대기
+
+        private final SellStatus targetStatus;
+    }
+}
@@ -0,0 +1,15 @@
+package com.fream_v2.sell_service.domain.sell.domain.event;
+
+import java.util.List;
+
+/**
+ * 판매 일괄 만료 도메인 이벤트
+ * 만료 스케줄러가 set 기반 UPDATE로 EXPIRED 처리한 뒤 발행
+ *
+ * @param sells 만료 처리 대상 (판매 ID, 판매자 ID, 상품 ID)
+ */
+public record SellsExpiredEvent(List<ExpiredSell> sells) {
+
+    public record ExpiredSell(Long sellId, Long sellerId, Long productId) {
+    }
+}
@@ -36,6 +36,7 @@ public enum SellErrorCode implements ErrorCode {
     PRICE_CHANGE_LIMIT_EXCEEDED("SELL_203", "가격 변경 횟수를 초과했습니다.", 400),
     CANNOT_INCREASE_PRICE("SELL_204", "판매 가격은 인상할 수 없습니다.", 400),
     UPDATE_NOT_ALLOWED("SELL_205", "판매자 본인만 수정할 수 있습니다.", 403),
+    SELL_UPDATE_CONFLICT("SELL_206", "다른 요청이 먼저 판매 정보를 변경했습니다. 다시 시도해 주세요.", 409),
 
     // ===== 판매 상태 관련 (SELL_300 ~ SELL_399) =====
     INVALID_SELL_STATUS("SELL_300", "유효하지 않은 판매 상태입니다.", 400),
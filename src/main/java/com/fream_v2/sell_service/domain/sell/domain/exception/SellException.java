@@ -1,5 +1,6 @@
 package com.fream_v2.sell_service.domain.sell.domain.exception;
 
+import com.fream_v2.sell_service.domain.sell.domain.model.SellStatus;
 import com.fream_v2.sell_service.global.presentation.exception.ErrorCode;
 import com.fream_v2.sell_service.global.presentation.exception.GlobalException;
 
@@ -57,6 +58,22 @@ public class SellException extends GlobalException {
                 String.format("최소 가격(%d원)이 판매 가격(%d원)보다 높을 수 없습니다.", minPrice, price));
     }
 
+    public static SellException dailyLimitExceeded(Long sellerId, int limit) {
+        return new SellException(SellErrorCode.DAILY_LIMIT_EXCEEDED,
+                String.format("일일 판매 등록 한도(%d건)를 초과했습니다. 판매자 ID: %d", limit, sellerId));
+    }
+
+    // 수정 관련
+    public static SellException priceChangeLimitExceeded(Long sellId, int limit) {
+        return new SellException(SellErrorCode.PRICE_CHANGE_LIMIT_EXCEEDED,
+                String.format("24시간 동안 가격은 %d번까지 변경할 수 있습니다. 판매 ID: %d", limit, sellId));
+    }
+
+    public static SellException cannotIncreasePrice(Long currentPrice, Long requestedPrice) {
+        return new SellException(SellErrorCode.CANNOT_INCREASE_PRICE,
+                String.format("판매 가격은 인상할 수 없습니다. 현재: %d원, 요청: %d원", currentPrice, requestedPrice));
+    }
+
     // 상태 관련
     public static SellException alreadyMatched(Long sellId) {
         return new SellException(SellErrorCode.ALREADY_MATCHED,
@@ -78,6 +95,59 @@ public class SellException extends GlobalException {
                 String.format("매칭 가능한 상태가 아닙니다. 판매 ID: %d", sellId));
     }
 
+    public static SellException alreadyReserved(Long sellId) {
+        return new SellException(SellErrorCode.ALREADY_RESERVED,
+                String.format("이미 예약된 상품입니다. 판매 ID: %d", sellId));
+    }
+
+    public static SellException alreadyCancelled(Long sellId) {
+        return new SellException(SellErrorCode.ALREADY_CANCELLED,
+                String.format("이미 취소된 판매입니다. 판매 ID: %d", sellId));
+    }
+
+    /**
+     * 허용되지 않는 상태 전이 (현재 상태 기준으로 가장 구체적인 에러 코드 선택)
+     */
+    public static SellException invalidTransition(Long sellId, SellStatus current, SellStatus target) {
+        return switch (current) {
+            case SOLD -> alreadySold(sellId);
+            case CANCELLED -> alreadyCancelled(sellId);
+            case EXPIRED -> expired(sellId);
+            case MATCHED -> target == SellStatus.MATCHED
+                    ? alreadyMatched(sellId)
+                    : invalidStatus(sellId, current, target);
+            case RESERVED -> target == SellStatus.CANCELLED
+                    ? cancelNotAllowed(sellId, "구매자가 결제를 진행 중입니다.")
+                    : alreadyReserved(sellId);
+            case PENDING -> invalidStatus(sellId, current, target);
+        };
+    }
+
+    /**
+     * 조건부 상태 전이 경합에서 진 경우 (재조회 없이 목표 상태 기준으로 에러 코드 결정)
+     * 같은 판매를 같은 목표로 바꾸려던 다른 요청이 먼저 반영된 경우가 대부분
+     */
+    public static SellException transitionConflict(Long sellId, SellStatus target) {
+        return switch (target) {
+            case MATCHED -> alreadyMatched(sellId);
+            case RESERVED -> alreadyReserved(sellId);
+            case SOLD -> alreadySold(sellId);
+            case CANCELLED -> alreadyCancelled(sellId);
+            case EXPIRED -> expired(sellId);
+            case PENDING -> updateConflict(sellId);
+        };
+    }
+
+    public static SellException updateConflict(Long sellId) {
+        return new SellException(SellErrorCode.SELL_UPDATE_CONFLICT,
+                String.format("다른 요청이 먼저 판매 정보를 변경했습니다. 판매 ID: %d", sellId));
+    }
+
+    private static SellException invalidStatus(Long sellId, SellStatus current, SellStatus target) {
+        return new SellException(SellErrorCode.INVALID_SELL_STATUS,
+                String.format("%s 상태에서 %s 상태로 변경할 수 없습니다. 판매 ID: %d", current, target, sellId));
+    }
+
     // 취소 관련
     public static SellException cancelNotAllowed(Long sellId, String reason) {
         return new SellException(SellErrorCode.CANCEL_NOT_ALLOWED,
@@ -115,4 +185,14 @@ public class SellException extends GlobalException {
         return new SellException(SellErrorCode.PRICE_BELOW_MINIMUM,
                 String.format("제안 가격(%d원)이 최소 가격(%d원)보다 낮습니다.", proposedPrice, minPrice));
     }
-}
\ No newline at end of file
+
+    public static SellException negotiationClosed(Long sellId) {
+        return new SellException(SellErrorCode.NEGOTIATION_CLOSED,
+                String.format("가격 협상이 종료된 판매입니다. 판매 ID: %d", sellId));
+    }
+
+    public static SellException tooManyNegotiations(Long sellId) {
+        return new SellException(SellErrorCode.TOO_MANY_NEGOTIATIONS,
+                String.format("협상 시도 횟수를 초과했습니다. 잠시 후 다시 시도해 주세요. 판매 ID: %d", sellId));
+    }
+}
@@ -0,0 +1,8 @@
+package com.fream_v2.sell_service.domain.sell.domain.model;
+
+/**
+ * 진행 중(PENDING, MATCHED, RESERVED) 판매의 (판매자 ID, 상품 ID) 쌍
+ * 중복 등록 검사용 인메모리 집합 복구에 사용
+ */
+public record ActiveListing(Long sellerId, Long productId) {
+}
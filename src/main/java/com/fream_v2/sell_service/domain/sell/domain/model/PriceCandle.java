@@ -0,0 +1,27 @@
+package com.fream_v2.sell_service.domain.sell.domain.model;
+
+import com.fream_v2.sell_service.global.common.util.TimeUtils;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시간 구간별 가격 요약 (OHLC)
+ *
+ * @param bucketStartMillis 구간 시작 시각 (epoch 밀리초)
+ * @param open 구간 시작 시점 가격 (구간 첫 변경의 변경 전 가격)
+ * @param close 구간 마지막 변경 후 가격
+ * @param changes 구간 내 가격 변경 수
+ */
+public record PriceCandle(
+        long bucketStartMillis,
+        long open,
+        long high,
+        long low,
+        long close,
+        int changes
+) {
+
+    public LocalDateTime getBucketStart() {
+        return TimeUtils.toLocalDateTime(bucketStartMillis);
+    }
+}
@@ -0,0 +1,32 @@
+package com.fream_v2.sell_service.domain.sell.domain.model;
+
+import com.fream_v2.sell_service.global.common.util.TimeUtils;
+
+import java.time.LocalDateTime;
+
+/**
+ * 판매 가격 변경 이력 한 건 (추가만 하고 수정/삭제하지 않음)
+ *
+ * @param previousPrice 변경 전 가격
+ * @param changedAtMillis 변경 시각 (epoch 밀리초)
+ */
+public record PriceChange(
+        Long sellId,
+        Long productId,
+        Long price,
+        Long previousPrice,
+        long changedAtMillis
+) {
+
+    /**
+     * 가격 수정 전후 판매로부터 생성
+     */
+    public static PriceChange of(Sell before, Sell after) {
+        return new PriceChange(after.getSellId(), after.getProductId(), after.getPrice(), before.getPrice(),
+                after.getUpdatedAtMillis());
+    }
+
+    public LocalDateTime getChangedAt() {
+        return TimeUtils.toLocalDateTime(changedAtMillis);
+    }
+}
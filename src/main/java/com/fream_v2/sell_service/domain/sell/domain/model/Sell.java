@@ -1,12 +1,17 @@
 package com.fream_v2.sell_service.domain.sell.domain.model;
 
+import com.fream_v2.sell_service.global.common.util.TimeUtils;
 import lombok.Builder;
 import lombok.Getter;
 import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 판매 도메인 모델 (순수 도메인)
+ *
+ * 시각은 epoch 밀리초(long)로 보관하고 LocalDateTime 게터는 경계(DB/JSON)에서만 변환
+ * 현재 시각은 호출 측이 주입받은 시계에서 읽어 인자로 넘김
  */
 @Getter
 @Builder
@@ -19,16 +24,25 @@ public class Sell {
     private final String description;
     private final SellStatus status;
     private final Integer viewCount;
-    private final Map<String, Object> metadata;
-    private final LocalDateTime listedAt;
-    private final LocalDateTime expiresAt;
-    private final LocalDateTime updatedAt;
+    private final Map<String, Object> metadata; // 저장소에서 읽은 경우 첫 접근 시 파싱되는 지연 Map
+    @Builder.Default
+    private final long listedAtMillis = UNSET;
+    @Builder.Default
+    private final long expiresAtMillis = UNSET;
+    @Builder.Default
+    private final long updatedAtMillis = UNSET;
+    @Builder.Default
+    private final long statusChangedAtMillis = UNSET; // 현재 상태로 바뀐 시각 (가격 수정 등으로는 바뀌지 않음)
+    private final Long version; // 조건부 갱신용 버전 (저장 전이면 null)
+
+    private static final long LISTING_PERIOD_MILLIS = TimeUnit.DAYS.toMillis(30);
+    private static final long UNSET = Long.MIN_VALUE; // 시각 미지정 (LocalDateTime 게터는 null)
 
     /**
      * 판매 등록 생성
      */
     public static Sell createSell(Long sellerId, Long productId, Long price,
-                                  Long minPrice, String description) {
+                                  Long minPrice, String description, long nowMillis) {
         return Sell.builder()
                 .sellerId(sellerId)
                 .productId(productId)
@@ -37,16 +51,17 @@ public class Sell {
                 .description(description)
                 .status(SellStatus.PENDING)
                 .viewCount(0)
-                .listedAt(LocalDateTime.now())
-                .expiresAt(LocalDateTime.now().plusDays(30))
-                .updatedAt(LocalDateTime.now())
+                .listedAtMillis(nowMillis)
+                .expiresAtMillis(nowMillis + LISTING_PERIOD_MILLIS)
+                .updatedAtMillis(nowMillis)
+                .statusChangedAtMillis(nowMillis)
                 .build();
     }
 
     /**
      * 가격 수정
      */
-    public Sell updatePrice(Long newPrice, Long newMinPrice) {
+    public Sell updatePrice(Long newPrice, Long newMinPrice, long nowMillis) {
         return Sell.builder()
                 .sellId(this.sellId)
                 .sellerId(this.sellerId)
@@ -57,16 +72,18 @@ public class Sell {
                 .status(this.status)
                 .viewCount(this.viewCount)
                 .metadata(this.metadata)
-                .listedAt(this.listedAt)
-                .expiresAt(this.expiresAt)
-                .updatedAt(LocalDateTime.now())
+                .listedAtMillis(this.listedAtMillis)
+                .expiresAtMillis(this.expiresAtMillis)
+                .updatedAtMillis(nowMillis)
+                .statusChangedAtMillis(this.statusChangedAtMillis)
+                .version(this.version)
                 .build();
     }
 
     /**
-     * 상태 변경
+     * 상태 변경 (전이 검증은 SellValidator.validateTransition, 저장은 조건부 UPDATE로 처리)
      */
-    public Sell changeStatus(SellStatus newStatus) {
+    public Sell changeStatus(SellStatus newStatus, long nowMillis) {
         return Sell.builder()
                 .sellId(this.sellId)
                 .sellerId(this.sellerId)
@@ -77,9 +94,11 @@ public class Sell {
                 .status(newStatus)
                 .viewCount(this.viewCount)
                 .metadata(this.metadata)
-                .listedAt(this.listedAt)
-                .expiresAt(this.expiresAt)
-                .updatedAt(LocalDateTime.now())
+                .listedAtMillis(this.listedAtMillis)
+                .expiresAtMillis(this.expiresAtMillis)
+                .updatedAtMillis(nowMillis)
+                .statusChangedAtMillis(nowMillis)
+                .version(this.version)
                 .build();
     }
 
@@ -97,18 +116,19 @@ public class Sell {
                 .status(this.status)
                 .viewCount(this.viewCount + 1)
                 .metadata(this.metadata)
-                .listedAt(this.listedAt)
-                .expiresAt(this.expiresAt)
-                .updatedAt(this.updatedAt)
+                .listedAtMillis(this.listedAtMillis)
+                .expiresAtMillis(this.expiresAtMillis)
+                .updatedAtMillis(this.updatedAtMillis)
+                .statusChangedAtMillis(this.statusChangedAtMillis)
+                .version(this.version)
                 .build();
     }
 
     /**
-     * 매칭 가능 여부
+     * 주어진 시각 기준 매칭 가능 여부
      */
-    public boolean isMatchable() {
-        return this.status == SellStatus.PENDING &&
-                this.expiresAt.isAfter(LocalDateTime.now());
+    public boolean isMatchable(long nowMillis) {
+        return this.status == SellStatus.PENDING && this.expiresAtMillis > nowMillis;
     }
 
     /**
@@ -117,4 +137,46 @@ public class Sell {
     public boolean isNegotiable() {
         return this.minPrice != null && this.minPrice < this.price;
     }
-}
\ No newline at end of file
+
+    public LocalDateTime getListedAt() {
+        return toLocalDateTime(listedAtMillis);
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return toLocalDateTime(expiresAtMillis);
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return toLocalDateTime(updatedAtMillis);
+    }
+
+    public LocalDateTime getStatusChangedAt() {
+        return toLocalDateTime(statusChangedAtMillis);
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return epochMillis == UNSET ? null : TimeUtils.toLocalDateTime(epochMillis);
+    }
+
+    /**
+     * DB 값(LocalDateTime)을 그대로 넘길 수 있는 빌더 편의 메서드
+     */
+    public static class SellBuilder {
+
+        public SellBuilder listedAt(LocalDateTime listedAt) {
+            return listedAtMillis(TimeUtils.toEpochMillis(listedAt, UNSET));
+        }
+
+        public SellBuilder expiresAt(LocalDateTime expiresAt) {
+            return expiresAtMillis(TimeUtils.toEpochMillis(expiresAt, UNSET));
+        }
+
+        public SellBuilder updatedAt(LocalDateTime updatedAt) {
+            return updatedAtMillis(TimeUtils.toEpochMillis(updatedAt, UNSET));
+        }
+
+        public SellBuilder statusChangedAt(LocalDateTime statusChangedAt) {
+            return statusChangedAtMillis(TimeUtils.toEpochMillis(statusChangedAt, UNSET));
+        }
+    }
+}
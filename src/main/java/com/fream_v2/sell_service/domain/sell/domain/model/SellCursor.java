@@ -0,0 +1,56 @@
+package com.fream_v2.sell_service.domain.sell.domain.model;
+
+import com.fream_v2.sell_service.global.common.util.CursorUtils;
+import com.fream_v2.sell_service.global.presentation.exception.CommonException;
+import com.fream_v2.sell_service.global.presentation.exception.GlobalErrorCode;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 판매 목록 키셋 페이징 커서 (마지막으로 읽은 행의 정렬 키)
+ *
+ * @param sortType 커서가 만들어진 정렬 기준
+ * @param price PRICE_ASC 정렬의 기준 가격
+ * @param listedAt LATEST 정렬의 기준 등록 시각
+ * @param sellId 동일 정렬 키 사이의 순서를 보장하는 판매 ID
+ */
+public record SellCursor(SellSortType sortType, Long price, LocalDateTime listedAt, Long sellId) {
+
+    /**
+     * 판매 정보로부터 다음 페이지 커서 생성
+     */
+    public static SellCursor of(SellSortType sortType, Sell sell) {
+        return new SellCursor(sortType, sell.getPrice(), sell.getListedAt(), sell.getSellId());
+    }
+
+    /**
+     * 불투명 커서 문자열로 인코딩
+     */
+    public String encode() {
+        return switch (sortType) {
+            case LATEST -> CursorUtils.encode(sortType.getCursorPrefix(), listedAt.toString(), sellId.toString());
+            case PRICE_ASC -> CursorUtils.encode(sortType.getCursorPrefix(), price.toString(), sellId.toString());
+        };
+    }
+
+    /**
+     * 커서 문자열 디코딩 (요청한 정렬 기준과 다르면 예외)
+     */
+    public static SellCursor decode(String cursor, SellSortType expectedSortType) {
+        String[] parts = CursorUtils.decode(cursor, 3);
+        if (SellSortType.fromCursorPrefix(parts[0]) != expectedSortType) {
+            throw new CommonException(GlobalErrorCode.INVALID_CURSOR);
+        }
+
+        try {
+            Long sellId = Long.parseLong(parts[2]);
+            return switch (expectedSortType) {
+                case LATEST -> new SellCursor(expectedSortType, null, LocalDateTime.parse(parts[1]), sellId);
+                case PRICE_ASC -> new SellCursor(expectedSortType, Long.parseLong(parts[1]), null, sellId);
+            };
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new CommonException(GlobalErrorCode.INVALID_CURSOR, e);
+        }
+    }
+}
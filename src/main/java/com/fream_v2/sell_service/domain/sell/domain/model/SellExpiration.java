@@ -0,0 +1,7 @@
+package com.fream_v2.sell_service.domain.sell.domain.model;
+
+/**
+ * 만료 예약 대상 판매 (만료 스케줄러 복구용 최소 정보)
+ */
+public record SellExpiration(Long sellId, Long productId, long expiresAtMillis) {
+}
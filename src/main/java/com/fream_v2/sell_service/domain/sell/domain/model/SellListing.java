@@ -0,0 +1,7 @@
+package com.fream_v2.sell_service.domain.sell.domain.model;
+
+/**
+ * 판매자별 등록 시각 (일일 등록 한도 카운터 복구용 최소 정보)
+ */
+public record SellListing(Long sellerId, long listedAtMillis) {
+}
@@ -0,0 +1,33 @@
+package com.fream_v2.sell_service.domain.sell.domain.model;
+
+import com.fream_v2.sell_service.global.common.util.TimeUtils;
+import com.fream_v2.sell_service.global.common.util.UuidUtils;
+
+import java.time.LocalDateTime;
+
+/**
+ * 가격 협상 제안 (구매자 → 판매자)
+ * ID는 접수 시점에 애플리케이션에서 생성하므로 일괄 저장 전에도 응답/전달 가능
+ *
+ * @param offeredAtMillis 제안 시각 (epoch 밀리초)
+ */
+public record SellOffer(
+        String offerId,
+        Long sellId,
+        Long sellerId,
+        Long buyerId,
+        Long price,
+        long offeredAtMillis
+) {
+
+    /**
+     * 판매에 대한 신규 제안 생성
+     */
+    public static SellOffer create(Sell sell, Long buyerId, Long price, long nowMillis) {
+        return new SellOffer(UuidUtils.generate(), sell.getSellId(), sell.getSellerId(), buyerId, price, nowMillis);
+    }
+
+    public LocalDateTime getOfferedAt() {
+        return TimeUtils.toLocalDateTime(offeredAtMillis);
+    }
+}
@@ -0,0 +1,13 @@
+package com.fream_v2.sell_service.domain.sell.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 판매 이벤트 아웃박스 메시지
+ *
+ * @param id 아웃박스 순번 (저장 전이면 null, 발행 순서 기준)
+ * @param sellId 메시지 키 (판매 단위 순서 보장)
+ * @param payload 직렬화된 이벤트 JSON
+ */
+public record SellOutboxMessage(Long id, Long sellId, String eventType, String payload, LocalDateTime createdAt) {
+}
@@ -0,0 +1,20 @@
+package com.fream_v2.sell_service.domain.sell.domain.model;
+
+import com.fream_v2.sell_service.global.presentation.exception.CommonException;
+import com.fream_v2.sell_service.global.presentation.exception.GlobalErrorCode;
+
+/**
+ * 판매 스트리밍 검색 조건 (null인 항목은 조건에서 제외)
+ *
+ * @param minPrice 최저 가격 (포함)
+ * @param maxPrice 최고 가격 (포함)
+ */
+public record SellSearchCondition(Long productId, Long sellerId, SellStatus status, Long minPrice, Long maxPrice) {
+
+    public SellSearchCondition {
+        if ((minPrice != null && minPrice < 0) || (maxPrice != null && maxPrice < 0)
+                || (minPrice != null && maxPrice != null && minPrice > maxPrice)) {
+            throw new CommonException(GlobalErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+}
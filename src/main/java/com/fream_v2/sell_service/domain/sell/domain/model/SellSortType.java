@@ -0,0 +1,29 @@
+package com.fream_v2.sell_service.domain.sell.domain.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 판매 목록 정렬 기준 (키셋 페이징의 정렬 키)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SellSortType {
+    LATEST("L", "최신 등록순 (listed_at DESC, id DESC)"),
+    PRICE_ASC("P", "낮은 가격순 (price ASC, id ASC)");
+
+    private final String cursorPrefix;
+    private final String description;
+
+    /**
+     * 커서 접두어로 정렬 기준 조회
+     */
+    public static SellSortType fromCursorPrefix(String prefix) {
+        for (SellSortType type : values()) {
+            if (type.cursorPrefix.equals(prefix)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
@@ -1,8 +1,13 @@
 package com.fream_v2.sell_service.domain.sell.domain.model;
 
+import com.fream_v2.sell_service.domain.sell.domain.exception.SellErrorCode;
+import com.fream_v2.sell_service.domain.sell.domain.exception.SellException;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * 판매 상태 값 객체
  */
@@ -19,6 +24,62 @@ public enum SellStatus {
     private final String name;
     private final String description;
 
+    /**
+     * 상태별 허용 전이 비트마스크 (ordinal 기준, 클래스 로딩 시 한 번 계산)
+     */
+    private static final int[] ALLOWED_TRANSITIONS = new int[values().length];
+
+    static {
+        allow(PENDING, MATCHED, CANCELLED, EXPIRED);
+        allow(MATCHED, RESERVED, SOLD, PENDING, CANCELLED);   // 결제 시작/완료, 구매자 취소(재판매), 판매자 취소
+        allow(RESERVED, SOLD, PENDING);                       // 결제 완료, 구매자 취소(재판매)
+        // SOLD, CANCELLED, EXPIRED 는 종료 상태 (전이 없음)
+    }
+
+    private static void allow(SellStatus from, SellStatus... targets) {
+        int mask = 0;
+        for (SellStatus target : targets) {
+            mask |= 1 << target.ordinal();
+        }
+        ALLOWED_TRANSITIONS[from.ordinal()] = mask;
+    }
+
+    /**
+     * 저장된 상태 코드(enum 이름) 디코딩
+     * valueOf()의 이름 맵 조회 대신 switch로 분기 (행 단위로 호출되는 읽기 경로용)
+     */
+    public static SellStatus decode(String code) {
+        return switch (code) {
+            case "PENDING" -> PENDING;
+            case "MATCHED" -> MATCHED;
+            case "RESERVED" -> RESERVED;
+            case "SOLD" -> SOLD;
+            case "CANCELLED" -> CANCELLED;
+            case "EXPIRED" -> EXPIRED;
+            default -> throw new SellException(SellErrorCode.SELL_DATA_CORRUPTED);
+        };
+    }
+
+    /**
+     * 상태 전이 허용 여부 (비트 연산 한 번)
+     */
+    public boolean canTransitionTo(SellStatus target) {
+        return (ALLOWED_TRANSITIONS[ordinal()] & (1 << target.ordinal())) != 0;
+    }
+
+    /**
+     * 허용된 다음 상태 목록
+     */
+    public Set<SellStatus> allowedTransitions() {
+        EnumSet<SellStatus> targets = EnumSet.noneOf(SellStatus.class);
+        for (SellStatus target : values()) {
+            if (canTransitionTo(target)) {
+                targets.add(target);
+            }
+        }
+        return targets;
+    }
+
     /**
      * 취소 가능 상태 확인
      */
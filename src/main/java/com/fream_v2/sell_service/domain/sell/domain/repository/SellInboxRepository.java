@@ -0,0 +1,24 @@
+package com.fream_v2.sell_service.domain.sell.domain.repository;
+
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * 수신 이벤트 처리 이력 저장소 포트 (Domain Layer)
+ * 같은 이벤트를 두 번 반영하지 않도록 처리한 이벤트 ID를 상태 변경과 같은 트랜잭션으로 기록
+ */
+public interface SellInboxRepository {
+
+    /**
+     * 이벤트 처리 이력 기록
+     *
+     * @return 처음 처리하는 이벤트면 true, 이미 처리한 이벤트면 false
+     */
+    Mono<Boolean> markProcessed(String eventId, LocalDateTime now);
+
+    /**
+     * 보관 기간이 지난 처리 이력 삭제
+     */
+    Mono<Long> deleteProcessedBefore(LocalDateTime threshold);
+}
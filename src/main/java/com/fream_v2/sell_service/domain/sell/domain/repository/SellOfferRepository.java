@@ -0,0 +1,25 @@
+package com.fream_v2.sell_service.domain.sell.domain.repository;
+
+import com.fream_v2.sell_service.domain.sell.domain.model.SellOffer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 가격 협상 제안 저장소 포트 (Domain Layer)
+ */
+public interface SellOfferRepository {
+
+    /**
+     * 제안 일괄 저장 (다중 행 INSERT 한 번)
+     *
+     * @return 저장된 행 수
+     */
+    Mono<Long> insertAll(List<SellOffer> offers);
+
+    /**
+     * 판매자가 받은 최근 제안 조회 (최신순 최대 limit건)
+     */
+    Flux<SellOffer> findRecentBySellerId(Long sellerId, int limit);
+}
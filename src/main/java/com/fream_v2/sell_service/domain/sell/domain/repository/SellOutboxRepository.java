@@ -0,0 +1,37 @@
+package com.fream_v2.sell_service.domain.sell.domain.repository;
+
+import com.fream_v2.sell_service.domain.sell.domain.model.SellOutboxMessage;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 판매 이벤트 아웃박스 저장소 포트 (Domain Layer)
+ */
+public interface SellOutboxRepository {
+
+    /**
+     * 아웃박스 메시지 일괄 저장 (다중 행 INSERT 한 번)
+     * 판매 변경과 같은 트랜잭션 안에서 호출
+     */
+    Mono<Void> appendAll(List<SellOutboxMessage> messages);
+
+    /**
+     * 릴레이 단일 실행 잠금 획득 시도 (다른 노드가 잡고 있으면 기다리지 않고 false)
+     * 트랜잭션 안에서 호출, 커밋/롤백 시 해제
+     */
+    Mono<Boolean> tryLockRelay();
+
+    /**
+     * 발행 대기 메시지를 순번 순으로 최대 limit건 조회
+     * 릴레이 잠금을 잡은 트랜잭션 안에서만 호출 (다른 노드가 뒤 순번을 먼저 발행하지 않도록)
+     */
+    Flux<SellOutboxMessage> findBatch(int limit);
+
+    /**
+     * 발행이 끝난 메시지 삭제
+     */
+    Mono<Long> deleteAll(Collection<Long> ids);
+}
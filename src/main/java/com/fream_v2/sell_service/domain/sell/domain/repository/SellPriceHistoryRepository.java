@@ -0,0 +1,34 @@
+package com.fream_v2.sell_service.domain.sell.domain.repository;
+
+import com.fream_v2.sell_service.domain.sell.domain.model.PriceChange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 판매 가격 변경 이력 저장소 포트 (Domain Layer)
+ * 추가 전용(append-only) - 수정/삭제 없음
+ */
+public interface SellPriceHistoryRepository {
+
+    /**
+     * 가격 변경 이력 일괄 저장 (다중 행 INSERT 한 번)
+     *
+     * @return 저장된 행 수
+     */
+    Mono<Long> insertAll(List<PriceChange> changes);
+
+    /**
+     * 기준 시각 이후 판매의 가격 변경 수
+     */
+    Mono<Long> countBySellIdSince(Long sellId, LocalDateTime since);
+
+    /**
+     * 상품의 기간 내 가격 변경을 변경 시각 순으로 스트리밍 (to는 제외)
+     *
+     * @param fetchSize DB 커서에서 한 번에 가져올 행 수
+     */
+    Flux<PriceChange> streamByProductId(Long productId, LocalDateTime from, LocalDateTime to, int fetchSize);
+}
@@ -0,0 +1,132 @@
+package com.fream_v2.sell_service.domain.sell.domain.repository;
+
+import com.fream_v2.sell_service.domain.sell.domain.model.ActiveListing;
+import com.fream_v2.sell_service.domain.sell.domain.model.Sell;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellCursor;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellExpiration;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellListing;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellSearchCondition;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellSortType;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellStatus;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 판매 저장소 포트 (Domain Layer)
+ */
+public interface SellRepository {
+
+    /**
+     * 판매 ID로 조회
+     */
+    Mono<Sell> findById(Long sellId);
+
+    /**
+     * 판매 ID 목록으로 조회
+     */
+    Flux<Sell> findAllById(Collection<Long> sellIds);
+
+    /**
+     * 판매 저장 (ID가 없으면 등록, 있으면 전체 행 수정)
+     * 기존 판매 수정은 바뀌는 컬럼만 쓰는 updatePrice / transitionStatus 사용 (조회수 증분을 덮어쓰지 않도록)
+     */
+    Mono<Sell> save(Sell sell);
+
+    /**
+     * 조건부 상태 전이 (UPDATE ... WHERE id = ? AND status = ? AND version = ? 한 문장, 행 잠금 대기 없음)
+     *
+     * @param before 읽은 시점의 판매 (조건: 상태, 버전)
+     * @param after 전이 후 판매 (반영: 상태, 수정 시각, 상태 변경 시각)
+     * @return 반영되면 버전이 증가한 판매, 그 사이 다른 요청이 먼저 바꿨으면 empty
+     */
+    Mono<Sell> transitionStatus(Sell before, Sell after);
+
+    /**
+     * 조건부 가격 수정 (price, min_price, updated_at만 쓰고 version 증가, view_count는 건드리지 않음)
+     *
+     * @param before 읽은 시점의 판매 (조건: 버전)
+     * @param after 수정 후 판매 (반영: 가격, 최소 가격, 수정 시각)
+     * @return 반영된 행 (조회수는 DB의 현재 값), 그 사이 다른 요청이 먼저 바꿨으면 empty
+     */
+    Mono<Sell> updatePrice(Sell before, Sell after);
+
+    /**
+     * 신규 판매 일괄 등록 (다중 행 INSERT 한 번)
+     *
+     * @return 저장된 행 그대로의 판매 (입력 순서와 같다는 보장 없음, 호출 측이 키로 짝지어야 함)
+     */
+    Flux<Sell> insertAll(List<Sell> sells);
+
+    /**
+     * 조회수 증분 일괄 반영 (view_count = view_count + delta)
+     *
+     * @param deltas 판매 ID별 누적 조회수 증분
+     * @return 갱신된 행 수
+     */
+    Mono<Long> incrementViewCounts(Map<Long, Long> deltas);
+
+    /**
+     * 만료 대상(PENDING) 판매의 만료 시각 스트리밍 조회
+     * 만료 스케줄러 기동 시 복구에 사용
+     */
+    Flux<SellExpiration> findPendingExpirations();
+
+    /**
+     * [since, until) 사이에 등록된 판매의 (판매자 ID, 등록 시각) 스트리밍 조회
+     * 일일 등록 한도 카운터 복구에 사용
+     */
+    Flux<SellListing> findListingsBetween(LocalDateTime since, LocalDateTime until);
+
+    /**
+     * 진행 중(PENDING, MATCHED, RESERVED) 판매의 (판매자 ID, 상품 ID) 스트리밍 조회
+     * 중복 등록 검사용 인메모리 집합 복구에 사용
+     */
+    Flux<ActiveListing> findActiveListings();
+
+    /**
+     * 판매자가 해당 상품에 진행 중인 판매를 가지고 있는지 확인
+     * 인메모리 집합 복구가 끝나기 전에만 사용
+     */
+    Mono<Boolean> existsActiveListing(Long sellerId, Long productId);
+
+    /**
+     * 진행 중(PENDING, MATCHED, RESERVED) 판매의 상태별 건수 (건수가 0인 상태는 포함되지 않음)
+     * 상태별 판매 수 지표 갱신에 사용
+     */
+    Mono<Map<SellStatus, Long>> countInProgressByStatus();
+
+    /**
+     * 만료 시각이 지난 PENDING 판매를 한 번의 UPDATE로 EXPIRED 처리
+     *
+     * @return 이번 UPDATE로 만료 처리된 판매 (RETURNING, 순서 보장 없음)
+     */
+    Flux<Sell> expireAll(Collection<Long> sellIds, LocalDateTime now);
+
+    /**
+     * 매칭 가능한(PENDING, 미만료) 판매 전체 스트리밍 조회
+     * 인메모리 호가창 재구성에 사용
+     */
+    Flux<Sell> findAllMatchable(LocalDateTime now);
+
+    /**
+     * 상품별 판매 목록 키셋 조회
+     * 커서 이후의 행을 정렬 순서대로 최대 limit건 조회 (OFFSET, COUNT 없음)
+     *
+     * @param cursor 마지막으로 읽은 행의 커서 (첫 페이지는 null)
+     */
+    Flux<Sell> findByProductIdAfter(Long productId, SellStatus status, SellSortType sortType,
+                                    SellCursor cursor, int limit);
+
+    /**
+     * 조건 검색 결과를 id 순으로 스트리밍 (LIMIT 없음)
+     * 구독자의 요청량만큼만 DB 커서에서 읽으므로 결과 크기와 무관하게 메모리 사용량이 일정
+     *
+     * @param fetchSize DB 커서에서 한 번에 가져올 행 수
+     */
+    Flux<Sell> search(SellSearchCondition condition, int fetchSize);
+}
@@ -0,0 +1,127 @@
+package com.fream_v2.sell_service.domain.sell.domain.service;
+
+import com.fream_v2.sell_service.domain.sell.domain.event.SellTradeEvent;
+import com.fream_v2.sell_service.domain.sell.domain.exception.SellErrorCode;
+import com.fream_v2.sell_service.domain.sell.domain.exception.SellException;
+import com.fream_v2.sell_service.domain.sell.domain.model.Sell;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellStatus;
+
+/**
+ * 판매 도메인 검증 규칙
+ */
+public class SellValidator {
+
+    public static final int MAX_DESCRIPTION_LENGTH = 2000;
+
+    private SellValidator() {
+        throw new AssertionError("유틸리티 클래스는 인스턴스화 할 수 없습니다.");
+    }
+
+    /**
+     * 판매 가격 / 최소 가격 검증
+     */
+    public static void validatePrice(Long price, Long minPrice) {
+        if (price == null || price <= 0) {
+            throw SellException.invalidPrice(price);
+        }
+        if (minPrice != null && minPrice > price) {
+            throw SellException.minPriceHigherThanPrice(price, minPrice);
+        }
+    }
+
+    /**
+     * 판매 등록 요청 검증
+     */
+    public static void validateRegistration(Long sellerId, Long productId, Long price, Long minPrice,
+                                            String description) {
+        if (sellerId == null || productId == null) {
+            throw new SellException(SellErrorCode.REQUIRED_FIELD_MISSING);
+        }
+        validatePrice(price, minPrice);
+        if (description != null && description.length() > MAX_DESCRIPTION_LENGTH) {
+            throw new SellException(SellErrorCode.DESCRIPTION_TOO_LONG);
+        }
+    }
+
+    /**
+     * 가격 수정 가능 상태 검증
+     */
+    public static void validatePriceUpdatable(Sell sell) {
+        SellStatus status = sell.getStatus();
+        if (status == SellStatus.SOLD) {
+            throw new SellException(SellErrorCode.CANNOT_UPDATE_SOLD_ITEM);
+        }
+        if (status == SellStatus.MATCHED || status == SellStatus.RESERVED) {
+            throw new SellException(SellErrorCode.CANNOT_UPDATE_MATCHED_ITEM);
+        }
+        if (status.isFinished()) {
+            throw new SellException(SellErrorCode.INVALID_SELL_STATUS);
+        }
+    }
+
+    /**
+     * 가격 협상 제안 검증 (진행 중인 PENDING 판매, 협상 가능, 최소 가격 이상)
+     */
+    public static void validateOffer(Sell sell, Long buyerId, Long price) {
+        if (buyerId == null || price == null) {
+            throw new SellException(SellErrorCode.REQUIRED_FIELD_MISSING);
+        }
+        if (sell.getStatus() != SellStatus.PENDING) {
+            throw SellException.negotiationClosed(sell.getSellId());
+        }
+        if (!sell.isNegotiable()) {
+            throw SellException.negotiationNotAllowed();
+        }
+        if (price < sell.getMinPrice()) {
+            throw SellException.priceBelowMinimum(price, sell.getMinPrice());
+        }
+    }
+
+    /**
+     * 상태 전이 검증 (SellStatus 전이 테이블 기준)
+     */
+    public static void validateTransition(Sell sell, SellStatus target) {
+        if (!sell.getStatus().canTransitionTo(target)) {
+            throw SellException.invalidTransition(sell.getSellId(), sell.getStatus(), target);
+        }
+    }
+
+    /**
+     * 거래 이벤트에 의한 상태 전이 검증
+     * 결제 시작/완료는 서로 다른 토픽에서 오므로 순서가 뒤바뀔 수 있어 MATCHED → SOLD 직행을 허용하고,
+     * 이미 목표 상태를 지난 경우는 늦게 도착한 이벤트로 보고 무시
+     *
+     * @return 전이가 필요하면 true, 이미 반영된 이벤트면 false
+     */
+    public static boolean validateTradeTransition(Sell sell, SellTradeEvent.Type type) {
+        SellStatus status = sell.getStatus();
+        return switch (type) {
+            case PAYMENT_STARTED -> switch (status) {
+                case MATCHED -> true;
+                case RESERVED, SOLD -> false;
+                default -> throw tradeRejected(sell);
+            };
+            case PAYMENT_COMPLETED -> switch (status) {
+                case MATCHED, RESERVED -> true;
+                case SOLD -> false;
+                default -> throw tradeRejected(sell);
+            };
+            case BUYER_CANCELLED -> switch (status) {
+                case MATCHED, RESERVED -> true;
+                case SOLD -> throw new SellException(SellErrorCode.CANCEL_AFTER_PAYMENT,
+                        "결제 완료 후에는 취소할 수 없습니다. 판매 ID: " + sell.getSellId());
+                default -> false;
+            };
+        };
+    }
+
+    private static SellException tradeRejected(Sell sell) {
+        return switch (sell.getStatus()) {
+            case PENDING -> new SellException(SellErrorCode.BUYER_CANCELLED,
+                    "구매자가 매칭을 취소한 판매입니다. 판매 ID: " + sell.getSellId());
+            case CANCELLED -> SellException.alreadyCancelled(sell.getSellId());
+            case EXPIRED -> SellException.expired(sell.getSellId());
+            default -> new SellException(SellErrorCode.INVALID_SELL_STATUS);
+        };
+    }
+}
@@ -0,0 +1,134 @@
+package com.fream_v2.sell_service.domain.sell.infrastructure.persistence.converter;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fream_v2.sell_service.domain.sell.domain.exception.SellErrorCode;
+import com.fream_v2.sell_service.domain.sell.domain.exception.SellException;
+
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 지연 파싱 판매 메타데이터 (jsonb)
+ *
+ * DB에서 읽은 원본 JSON 바이트를 그대로 들고 있다가 Map 메서드가 처음 호출될 때만 파싱
+ * 메타데이터를 읽지 않는 목록/검색 조회는 JSON 파싱 비용이 없고,
+ * 수정 없이 다시 저장하면 원본 바이트를 그대로 기록함
+ */
+public final class LazyJsonMetadata extends AbstractMap<String, Object> {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    private final byte[] raw;
+    private final ObjectMapper objectMapper;
+    private volatile Map<String, Object> parsed;
+
+    private LazyJsonMetadata(byte[] raw, ObjectMapper objectMapper, Map<String, Object> parsed) {
+        this.raw = raw;
+        this.objectMapper = objectMapper;
+        this.parsed = parsed;
+    }
+
+    /**
+     * DB에서 읽은 원본 JSON 바이트로 생성 (파싱하지 않음)
+     */
+    public static LazyJsonMetadata ofRaw(byte[] raw, ObjectMapper objectMapper) {
+        return new LazyJsonMetadata(raw, objectMapper, null);
+    }
+
+    /**
+     * 도메인 메타데이터를 저장용으로 감쌈 (이미 지연 메타데이터면 그대로 사용)
+     */
+    public static LazyJsonMetadata of(Map<String, Object> metadata) {
+        if (metadata == null) {
+            return null;
+        }
+        if (metadata instanceof LazyJsonMetadata lazy) {
+            return lazy;
+        }
+        return new LazyJsonMetadata(null, null, Collections.unmodifiableMap(metadata));
+    }
+
+    /**
+     * 저장용 JSON 바이트 (파싱된 적 없으면 원본 바이트를 그대로 반환)
+     */
+    public byte[] toJsonBytes(ObjectMapper writer) {
+        Map<String, Object> current = parsed;
+        if (current == null) {
+            return raw;
+        }
+        try {
+            return writer.writeValueAsBytes(current);
+        } catch (IOException e) {
+            throw new SellException(SellErrorCode.SELL_DATA_INVALID, e);
+        }
+    }
+
+    public boolean isParsed() {
+        return parsed != null;
+    }
+
+    private Map<String, Object> delegate() {
+        Map<String, Object> current = parsed;
+        if (current == null) {
+            synchronized (this) {
+                current = parsed;
+                if (current == null) {
+                    current = parse();
+                    parsed = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Map<String, Object> parse() {
+        try {
+            return Collections.unmodifiableMap(objectMapper.readValue(raw, MAP_TYPE));
+        } catch (IOException e) {
+            throw new SellException(SellErrorCode.SELL_DATA_CORRUPTED, e);
+        }
+    }
+
+    // ===== Map 위임 (첫 호출 시 파싱) =====
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return delegate().entrySet();
+    }
+
+    @Override
+    public Object get(Object key) {
+        return delegate().get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return delegate().containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return delegate().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate().isEmpty();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return delegate().keySet();
+    }
+
+    @Override
+    public Collection<Object> values() {
+        return delegate().values();
+    }
+}
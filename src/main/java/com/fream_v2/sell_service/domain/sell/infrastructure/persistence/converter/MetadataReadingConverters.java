@@ -0,0 +1,40 @@
+package com.fream_v2.sell_service.domain.sell.infrastructure.persistence.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.postgresql.codec.Json;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 메타데이터 컬럼 → LazyJsonMetadata 읽기 컨버터 (원본 바이트만 보관, 파싱하지 않음)
+ */
+public final class MetadataReadingConverters {
+
+    private MetadataReadingConverters() {
+        throw new AssertionError("유틸리티 클래스는 인스턴스화 할 수 없습니다.");
+    }
+
+    /**
+     * PostgreSQL jsonb
+     */
+    @ReadingConverter
+    public record FromJson(ObjectMapper objectMapper) implements Converter<Json, LazyJsonMetadata> {
+        @Override
+        public LazyJsonMetadata convert(Json source) {
+            return LazyJsonMetadata.ofRaw(source.asArray(), objectMapper);
+        }
+    }
+
+    /**
+     * 문자열 컬럼 (H2 등 jsonb가 없는 DB)
+     */
+    @ReadingConverter
+    public record FromText(ObjectMapper objectMapper) implements Converter<String, LazyJsonMetadata> {
+        @Override
+        public LazyJsonMetadata convert(String source) {
+            return LazyJsonMetadata.ofRaw(source.getBytes(StandardCharsets.UTF_8), objectMapper);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.fream_v2.sell_service.domain.sell.infrastructure.persistence.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.postgresql.codec.Json;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.WritingConverter;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * LazyJsonMetadata → 메타데이터 컬럼 쓰기 컨버터
+ * 수정되지 않은 메타데이터는 읽은 원본 바이트를 그대로 기록
+ */
+public final class MetadataWritingConverters {
+
+    private MetadataWritingConverters() {
+        throw new AssertionError("유틸리티 클래스는 인스턴스화 할 수 없습니다.");
+    }
+
+    /**
+     * PostgreSQL jsonb
+     */
+    @WritingConverter
+    public record ToJson(ObjectMapper objectMapper) implements Converter<LazyJsonMetadata, Json> {
+        @Override
+        public Json convert(LazyJsonMetadata source) {
+            return Json.of(source.toJsonBytes(objectMapper));
+        }
+    }
+
+    /**
+     * 문자열 컬럼 (H2 등 jsonb가 없는 DB)
+     */
+    @WritingConverter
+    public record ToText(ObjectMapper objectMapper) implements Converter<LazyJsonMetadata, String> {
+        @Override
+        public String convert(LazyJsonMetadata source) {
+            return new String(source.toJsonBytes(objectMapper), StandardCharsets.UTF_8);
+        }
+    }
+}
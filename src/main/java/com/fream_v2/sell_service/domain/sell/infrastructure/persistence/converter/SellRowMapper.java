@@ -0,0 +1,80 @@
+package com.fream_v2.sell_service.domain.sell.infrastructure.persistence.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fream_v2.sell_service.domain.sell.domain.model.Sell;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellStatus;
+import io.r2dbc.postgresql.codec.Json;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * sells 행 → Sell 직접 매핑 (SellEntity 중간 객체 없이 컬럼 인덱스로 읽음)
+ *
+ * 반드시 {@link #COLUMNS} 순서로 SELECT 한 행에만 사용
+ * 쓰기(save)는 @Version 처리를 위해 계속 SellEntity를 거침
+ */
+@Component
+@RequiredArgsConstructor
+public class SellRowMapper implements Function<Readable, Sell> {
+
+    /**
+     * SELECT 컬럼 목록 (아래 인덱스 상수와 순서가 같아야 함)
+     */
+    public static final String COLUMNS = "id, seller_id, product_id, price, min_price, description, status, "
+            + "view_count, metadata, listed_at, expires_at, updated_at, status_changed_at, version";
+
+    private static final int ID = 0;
+    private static final int SELLER_ID = 1;
+    private static final int PRODUCT_ID = 2;
+    private static final int PRICE = 3;
+    private static final int MIN_PRICE = 4;
+    private static final int DESCRIPTION = 5;
+    private static final int STATUS = 6;
+    private static final int VIEW_COUNT = 7;
+    private static final int METADATA = 8;
+    private static final int LISTED_AT = 9;
+    private static final int EXPIRES_AT = 10;
+    private static final int UPDATED_AT = 11;
+    private static final int STATUS_CHANGED_AT = 12;
+    private static final int VERSION = 13;
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Sell apply(Readable row) {
+        return Sell.builder()
+                .sellId(row.get(ID, Long.class))
+                .sellerId(row.get(SELLER_ID, Long.class))
+                .productId(row.get(PRODUCT_ID, Long.class))
+                .price(row.get(PRICE, Long.class))
+                .minPrice(row.get(MIN_PRICE, Long.class))
+                .description(row.get(DESCRIPTION, String.class))
+                .status(SellStatus.decode(row.get(STATUS, String.class)))
+                .viewCount(row.get(VIEW_COUNT, Integer.class))
+                .metadata(metadata(row.get(METADATA)))
+                .listedAt(row.get(LISTED_AT, LocalDateTime.class))
+                .expiresAt(row.get(EXPIRES_AT, LocalDateTime.class))
+                .updatedAt(row.get(UPDATED_AT, LocalDateTime.class))
+                .statusChangedAt(row.get(STATUS_CHANGED_AT, LocalDateTime.class))
+                .version(row.get(VERSION, Long.class))
+                .build();
+    }
+
+    /**
+     * PostgreSQL은 jsonb(Json), H2 등은 문자열로 읽힘 - 둘 다 파싱 없이 원본 바이트만 보관
+     */
+    private LazyJsonMetadata metadata(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Json json) {
+            return LazyJsonMetadata.ofRaw(json.asArray(), objectMapper);
+        }
+        return LazyJsonMetadata.ofRaw(value.toString().getBytes(StandardCharsets.UTF_8), objectMapper);
+    }
+}
@@ -1,12 +1,14 @@
 package com.fream_v2.sell_service.infrastructure.persistence.entity;
 
 import com.fream_v2.sell_service.domain.sell.domain.model.Sell;
+import com.fream_v2.sell_service.domain.sell.infrastructure.persistence.converter.LazyJsonMetadata;
 import com.fream_v2.sell_service.domain.sell.domain.model.SellStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.relational.core.mapping.Table;
 import java.time.LocalDateTime;
 
@@ -28,10 +30,13 @@ public class SellEntity {
     private String description;
     private String status;
     private Integer viewCount;
-    private String metadata; // JSON 문자열로 저장
+    private LazyJsonMetadata metadata; // jsonb 원본 바이트 (접근 시 파싱)
     private LocalDateTime listedAt;
     private LocalDateTime expiresAt;
     private LocalDateTime updatedAt;
+    private LocalDateTime statusChangedAt;
+    @Version
+    private Long version; // save()는 버전 조건부 UPDATE, 상태 전이는 저장소의 조건부 UPDATE 사용
 
     /**
      * 도메인 모델로 변환
@@ -44,12 +49,14 @@ public class SellEntity {
                 .price(this.price)
                 .minPrice(this.minPrice)
                 .description(this.description)
-                .status(SellStatus.valueOf(this.status))
+                .status(SellStatus.decode(this.status))
                 .viewCount(this.viewCount)
-                .metadata(parseMetadata(this.metadata))
+                .metadata(this.metadata)
                 .listedAt(this.listedAt)
                 .expiresAt(this.expiresAt)
                 .updatedAt(this.updatedAt)
+                .statusChangedAt(this.statusChangedAt)
+                .version(this.version)
                 .build();
     }
 
@@ -65,10 +72,11 @@ public class SellEntity {
                 .description(sell.getDescription())
                 .status(sell.getStatus().name())
                 .viewCount(sell.getViewCount())
-                .metadata(toJsonString(sell.getMetadata()))
+                .metadata(LazyJsonMetadata.of(sell.getMetadata()))
                 .listedAt(sell.getListedAt())
                 .expiresAt(sell.getExpiresAt())
                 .updatedAt(sell.getUpdatedAt())
+                .statusChangedAt(sell.getStatusChangedAt())
                 .build();
     }
 
@@ -78,6 +86,7 @@ public class SellEntity {
     public static SellEntity updateFromDomain(Sell sell) {
         return SellEntity.builder()
                 .id(sell.getSellId())
+                .version(sell.getVersion())
                 .sellerId(sell.getSellerId())
                 .productId(sell.getProductId())
                 .price(sell.getPrice())
@@ -85,21 +94,11 @@ public class SellEntity {
                 .description(sell.getDescription())
                 .status(sell.getStatus().name())
                 .viewCount(sell.getViewCount())
-                .metadata(toJsonString(sell.getMetadata()))
+                .metadata(LazyJsonMetadata.of(sell.getMetadata()))
                 .listedAt(sell.getListedAt())
                 .expiresAt(sell.getExpiresAt())
                 .updatedAt(sell.getUpdatedAt())
+                .statusChangedAt(sell.getStatusChangedAt())
                 .build();
     }
-
-    // Metadata JSON 변환 헬퍼 메서드
-    private static String toJsonString(Object metadata) {
-        // 실제 구현 시 ObjectMapper 사용
-        return metadata != null ? metadata.toString() : null;
-    }
-
-    private static java.util.Map<String, Object> parseMetadata(String json) {
-        // 실제 구현 시 ObjectMapper 사용
-        return json != null ? new java.util.HashMap<>() : null;
-    }
 }
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.fream_v2.sell_service.domain.sell.infrastructure.persistence.partition;
+
+import com.fream_v2.sell_service.global.common.time.EpochClock;
+import io.r2dbc.spi.ConnectionFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.r2dbc.dialect.DialectResolver;
+import org.springframework.data.r2dbc.dialect.PostgresDialect;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.time.YearMonth;
+
+/**
+ * 가격 변경 이력 월 파티션 관리 (PostgreSQL 전용, 그 외 DB는 단일 테이블이라 아무것도 하지 않음)
+ *
+ * 기동 시와 매일 한 번 이번 달부터 months-ahead개월 뒤까지의 파티션을 미리 만듦
+ * 파티션이 준비되기 전에 들어온 행은 기본 파티션에 저장되며, 그 범위의 파티션 생성은 실패로 기록만 남김
+ */
+@Slf4j
+@Component
+public class SellPriceHistoryPartitionManager {
+
+    private final DatabaseClient databaseClient;
+    private final EpochClock clock;
+    private final boolean postgres;
+    private final int monthsAhead;
+
+    public SellPriceHistoryPartitionManager(DatabaseClient databaseClient,
+                                            ConnectionFactory connectionFactory,
+                                            EpochClock clock,
+                                            @Value("${sell.price-history.partition-months-ahead:2}") int monthsAhead) {
+        this.databaseClient = databaseClient;
+        this.clock = clock;
+        this.postgres = DialectResolver.getDialect(connectionFactory) instanceof PostgresDialect;
+        this.monthsAhead = monthsAhead;
+    }
+
+    /**
+     * 파티션 생성은 R2DBC 스레드에서 진행되고 스케줄러 스레드는 즉시 반환
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${sell.price-history.partition-cron:0 0 3 * * *}")
+    public void ensurePartitions() {
+        if (!postgres) {
+            return;
+        }
+        YearMonth current = YearMonth.from(clock.now());
+        Flux.range(0, monthsAhead + 1)
+                .map(current::plusMonths)
+                .concatMap(month -> databaseClient.sql(createPartitionSql(month))
+                        .then()
+                        .doOnError(e -> log.warn("가격 변경 이력 파티션 생성 실패: {}", month, e))
+                        .onErrorComplete())
+                .then()
+                .subscribe();
+    }
+
+    static String createPartitionSql(YearMonth month) {
+        YearMonth next = month.plusMonths(1);
+        return String.format("CREATE TABLE IF NOT EXISTS sell_price_history_y%04dm%02d "
+                        + "PARTITION OF sell_price_history FOR VALUES FROM ('%s-01') TO ('%s-01')",
+                month.getYear(), month.getMonthValue(), month, next);
+    }
+}
@@ -0,0 +1,41 @@
+package com.fream_v2.sell_service.domain.sell.infrastructure.persistence.repository;
+
+import com.fream_v2.sell_service.domain.sell.domain.repository.SellInboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * 수신 이벤트 처리 이력 저장소 어댑터 (Infrastructure Layer)
+ */
+@Repository
+@RequiredArgsConstructor
+public class SellInboxRepositoryAdapter implements SellInboxRepository {
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * 이미 있으면 아무 행도 넣지 않는 조건부 INSERT (키 충돌 예외로 트랜잭션이 중단되지 않도록 함)
+     */
+    @Override
+    public Mono<Boolean> markProcessed(String eventId, LocalDateTime now) {
+        return databaseClient.sql("INSERT INTO sell_inbox (event_id, processed_at) "
+                        + "SELECT :eventId, :now WHERE NOT EXISTS (SELECT 1 FROM sell_inbox WHERE event_id = :eventId)")
+                .bind("eventId", eventId)
+                .bind("now", now)
+                .fetch()
+                .rowsUpdated()
+                .map(inserted -> inserted > 0);
+    }
+
+    @Override
+    public Mono<Long> deleteProcessedBefore(LocalDateTime threshold) {
+        return databaseClient.sql("DELETE FROM sell_inbox WHERE processed_at < :threshold")
+                .bind("threshold", threshold)
+                .fetch()
+                .rowsUpdated();
+    }
+}
@@ -0,0 +1,68 @@
+package com.fream_v2.sell_service.domain.sell.infrastructure.persistence.repository;
+
+import com.fream_v2.sell_service.domain.sell.domain.model.SellOffer;
+import com.fream_v2.sell_service.domain.sell.domain.repository.SellOfferRepository;
+import com.fream_v2.sell_service.global.common.util.TimeUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 가격 협상 제안 저장소 어댑터 (Infrastructure Layer)
+ */
+@Repository
+@RequiredArgsConstructor
+public class SellOfferRepositoryAdapter implements SellOfferRepository {
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<Long> insertAll(List<SellOffer> offers) {
+        if (offers.isEmpty()) {
+            return Mono.just(0L);
+        }
+
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO sell_offers (id, sell_id, seller_id, buyer_id, price, offered_at) VALUES ");
+        for (int i = 0; i < offers.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(:id").append(i).append(", :sellId").append(i).append(", :sellerId").append(i)
+                    .append(", :buyerId").append(i).append(", :price").append(i).append(", :offeredAt").append(i)
+                    .append(")");
+        }
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+        for (int i = 0; i < offers.size(); i++) {
+            SellOffer offer = offers.get(i);
+            spec = spec.bind("id" + i, offer.offerId())
+                    .bind("sellId" + i, offer.sellId())
+                    .bind("sellerId" + i, offer.sellerId())
+                    .bind("buyerId" + i, offer.buyerId())
+                    .bind("price" + i, offer.price())
+                    .bind("offeredAt" + i, offer.getOfferedAt());
+        }
+        return spec.fetch().rowsUpdated();
+    }
+
+    @Override
+    public Flux<SellOffer> findRecentBySellerId(Long sellerId, int limit) {
+        return databaseClient.sql("SELECT id, sell_id, seller_id, buyer_id, price, offered_at FROM sell_offers "
+                        + "WHERE seller_id = :sellerId ORDER BY offered_at DESC LIMIT " + limit)
+                .bind("sellerId", sellerId)
+                .map(row -> new SellOffer(
+                        row.get("id", String.class),
+                        row.get("sell_id", Long.class),
+                        row.get("seller_id", Long.class),
+                        row.get("buyer_id", Long.class),
+                        row.get("price", Long.class),
+                        TimeUtils.toEpochMillis(row.get("offered_at", LocalDateTime.class))))
+                .all();
+    }
+}
@@ -0,0 +1,90 @@
+package com.fream_v2.sell_service.domain.sell.infrastructure.persistence.repository;
+
+import com.fream_v2.sell_service.domain.sell.domain.model.SellOutboxMessage;
+import com.fream_v2.sell_service.domain.sell.domain.repository.SellOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 판매 이벤트 아웃박스 저장소 어댑터 (Infrastructure Layer)
+ */
+@Repository
+@RequiredArgsConstructor
+public class SellOutboxRepositoryAdapter implements SellOutboxRepository {
+
+    private static final String RELAY_LOCK = "relay";
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<Void> appendAll(List<SellOutboxMessage> messages) {
+        if (messages.isEmpty()) {
+            return Mono.empty();
+        }
+
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO sell_outbox (sell_id, event_type, payload, created_at) VALUES ");
+        for (int i = 0; i < messages.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(:sellId").append(i).append(", :eventType").append(i)
+                    .append(", :payload").append(i).append(", :createdAt").append(i).append(")");
+        }
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+        for (int i = 0; i < messages.size(); i++) {
+            SellOutboxMessage message = messages.get(i);
+            spec = spec.bind("sellId" + i, message.sellId())
+                    .bind("eventType" + i, message.eventType())
+                    .bind("payload" + i, message.payload())
+                    .bind("createdAt" + i, message.createdAt());
+        }
+        return spec.then();
+    }
+
+    /**
+     * 잠금 행 하나를 SKIP LOCKED로 잠가 try-lock처럼 사용 (PostgreSQL/H2 공통)
+     */
+    @Override
+    public Mono<Boolean> tryLockRelay() {
+        return databaseClient.sql("SELECT name FROM sell_outbox_relay_lock WHERE name = :name "
+                        + "FOR UPDATE SKIP LOCKED")
+                .bind("name", RELAY_LOCK)
+                .map(row -> row.get("name", String.class))
+                .one()
+                .hasElement();
+    }
+
+    @Override
+    public Flux<SellOutboxMessage> findBatch(int limit) {
+        return databaseClient.sql("SELECT id, sell_id, event_type, payload, created_at FROM sell_outbox "
+                        + "ORDER BY id LIMIT :limit")
+                .bind("limit", limit)
+                .map(row -> new SellOutboxMessage(
+                        row.get("id", Long.class),
+                        row.get("sell_id", Long.class),
+                        row.get("event_type", String.class),
+                        row.get("payload", String.class),
+                        row.get("created_at", LocalDateTime.class)))
+                .all();
+    }
+
+    @Override
+    public Mono<Long> deleteAll(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Mono.just(0L);
+        }
+        return databaseClient.sql("DELETE FROM sell_outbox WHERE id IN (:ids)")
+                .bind("ids", ids)
+                .fetch()
+                .rowsUpdated();
+    }
+}
@@ -0,0 +1,81 @@
+package com.fream_v2.sell_service.domain.sell.infrastructure.persistence.repository;
+
+import com.fream_v2.sell_service.domain.sell.domain.model.PriceChange;
+import com.fream_v2.sell_service.domain.sell.domain.repository.SellPriceHistoryRepository;
+import com.fream_v2.sell_service.global.common.util.TimeUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 판매 가격 변경 이력 저장소 어댑터 (Infrastructure Layer)
+ * 모든 조회에 changed_at 범위 조건을 두어 PostgreSQL에서는 해당 월 파티션만 스캔
+ */
+@Repository
+@RequiredArgsConstructor
+public class SellPriceHistoryRepositoryAdapter implements SellPriceHistoryRepository {
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<Long> insertAll(List<PriceChange> changes) {
+        if (changes.isEmpty()) {
+            return Mono.just(0L);
+        }
+
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO sell_price_history (sell_id, product_id, price, previous_price, changed_at) VALUES ");
+        for (int i = 0; i < changes.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(:sellId").append(i).append(", :productId").append(i).append(", :price").append(i)
+                    .append(", :previousPrice").append(i).append(", :changedAt").append(i).append(")");
+        }
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+        for (int i = 0; i < changes.size(); i++) {
+            PriceChange change = changes.get(i);
+            spec = spec.bind("sellId" + i, change.sellId())
+                    .bind("productId" + i, change.productId())
+                    .bind("price" + i, change.price())
+                    .bind("previousPrice" + i, change.previousPrice())
+                    .bind("changedAt" + i, change.getChangedAt());
+        }
+        return spec.fetch().rowsUpdated();
+    }
+
+    @Override
+    public Mono<Long> countBySellIdSince(Long sellId, LocalDateTime since) {
+        return databaseClient.sql("SELECT COUNT(*) AS cnt FROM sell_price_history "
+                        + "WHERE sell_id = :sellId AND changed_at >= :since")
+                .bind("sellId", sellId)
+                .bind("since", since)
+                .map(row -> row.get("cnt", Long.class))
+                .one();
+    }
+
+    @Override
+    public Flux<PriceChange> streamByProductId(Long productId, LocalDateTime from, LocalDateTime to, int fetchSize) {
+        return databaseClient.sql("SELECT sell_id, product_id, price, previous_price, changed_at "
+                        + "FROM sell_price_history "
+                        + "WHERE product_id = :productId AND changed_at >= :from AND changed_at < :to "
+                        + "ORDER BY changed_at")
+                .bind("productId", productId)
+                .bind("from", from)
+                .bind("to", to)
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map(row -> new PriceChange(
+                        row.get("sell_id", Long.class),
+                        row.get("product_id", Long.class),
+                        row.get("price", Long.class),
+                        row.get("previous_price", Long.class),
+                        TimeUtils.toEpochMillis(row.get("changed_at", LocalDateTime.class))))
+                .all();
+    }
+}
@@ -0,0 +1,10 @@
+package com.fream_v2.sell_service.domain.sell.infrastructure.persistence.repository;
+
+import com.fream_v2.sell_service.infrastructure.persistence.entity.SellEntity;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+
+/**
+ * 판매 엔티티 Spring Data R2DBC 리포지토리
+ */
+public interface SellR2dbcRepository extends R2dbcRepository<SellEntity, Long> {
+}
@@ -0,0 +1,381 @@
+package com.fream_v2.sell_service.domain.sell.infrastructure.persistence.repository;
+
+import com.fream_v2.sell_service.domain.sell.domain.model.ActiveListing;
+import com.fream_v2.sell_service.domain.sell.domain.model.Sell;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellCursor;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellExpiration;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellListing;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellSearchCondition;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellSortType;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellStatus;
+import com.fream_v2.sell_service.domain.sell.domain.repository.SellRepository;
+import com.fream_v2.sell_service.domain.sell.infrastructure.persistence.converter.SellRowMapper;
+import com.fream_v2.sell_service.global.common.util.TimeUtils;
+import com.fream_v2.sell_service.infrastructure.persistence.entity.SellEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 판매 저장소 어댑터 (Infrastructure Layer)
+ *
+ * 조회는 SellRowMapper로 행에서 Sell을 바로 만들고, save()만 SellEntity(@Version)를 거침
+ */
+@Repository
+@RequiredArgsConstructor
+public class SellRepositoryAdapter implements SellRepository {
+
+    private final SellR2dbcRepository sellR2dbcRepository;
+    private final R2dbcEntityTemplate template;
+    private final SellRowMapper rowMapper;
+
+    private static final String SELECT_SELLS = "SELECT " + SellRowMapper.COLUMNS + " FROM sells ";
+    private static final String[] RETURNING_COLUMNS = SellRowMapper.COLUMNS.split(",\\s*");
+    private static final List<String> IN_PROGRESS_STATUSES = List.of(
+            SellStatus.PENDING.name(), SellStatus.MATCHED.name(), SellStatus.RESERVED.name());
+
+    @Override
+    public Mono<Sell> findById(Long sellId) {
+        return template.getDatabaseClient()
+                .sql(SELECT_SELLS + "WHERE id = :id")
+                .bind("id", sellId)
+                .map(rowMapper)
+                .one();
+    }
+
+    @Override
+    public Flux<Sell> findAllById(Collection<Long> sellIds) {
+        if (sellIds.isEmpty()) {
+            return Flux.empty();
+        }
+        return template.getDatabaseClient()
+                .sql(SELECT_SELLS + "WHERE id IN (:ids)")
+                .bind("ids", sellIds)
+                .map(rowMapper)
+                .all();
+    }
+
+    @Override
+    public Mono<Sell> save(Sell sell) {
+        SellEntity entity = sell.getSellId() == null
+                ? SellEntity.fromDomain(sell)
+                : SellEntity.updateFromDomain(sell);
+        return sellR2dbcRepository.save(entity)
+                .map(SellEntity::toDomain);
+    }
+
+    @Override
+    public Mono<Sell> transitionStatus(Sell before, Sell after) {
+        return template.getDatabaseClient()
+                .sql("UPDATE sells SET status = :newStatus, updated_at = :updatedAt, "
+                        + "status_changed_at = :statusChangedAt, version = version + 1 "
+                        + "WHERE id = :id AND status = :expectedStatus AND version = :expectedVersion")
+                .bind("newStatus", after.getStatus().name())
+                .bind("updatedAt", after.getUpdatedAt())
+                .bind("statusChangedAt", after.getStatusChangedAt())
+                .bind("id", before.getSellId())
+                .bind("expectedStatus", before.getStatus().name())
+                .bind("expectedVersion", before.getVersion())
+                .fetch()
+                .rowsUpdated()
+                .filter(updated -> updated > 0)
+                .map(updated -> withVersion(after, before.getVersion() + 1));
+    }
+
+    @Override
+    public Mono<Sell> updatePrice(Sell before, Sell after) {
+        DatabaseClient.GenericExecuteSpec spec = template.getDatabaseClient()
+                .sql("UPDATE sells SET price = :price, min_price = :minPrice, updated_at = :updatedAt, "
+                        + "version = version + 1 WHERE id = :id AND version = :expectedVersion")
+                .bind("price", after.getPrice())
+                .bind("updatedAt", after.getUpdatedAt())
+                .bind("id", before.getSellId())
+                .bind("expectedVersion", before.getVersion());
+        spec = after.getMinPrice() != null
+                ? spec.bind("minPrice", after.getMinPrice())
+                : spec.bindNull("minPrice", Long.class);
+        return spec.filter(statement -> statement.returnGeneratedValues(RETURNING_COLUMNS))
+                .map(rowMapper)
+                .one();
+    }
+
+    /**
+     * 다중 행 INSERT ... VALUES (...), (...) 한 문장으로 일괄 등록하고 생성된 ID를 입력 순서대로 매핑
+     */
+    @Override
+    public Flux<Sell> insertAll(List<Sell> sells) {
+        if (sells.isEmpty()) {
+            return Flux.empty();
+        }
+
+        StringBuilder sql = new StringBuilder("INSERT INTO sells (seller_id, product_id, price, min_price, description, "
+                + "status, view_count, listed_at, expires_at, updated_at, status_changed_at) VALUES ");
+        for (int i = 0; i < sells.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(:sellerId").append(i).append(", :productId").append(i).append(", :price").append(i)
+                    .append(", :minPrice").append(i).append(", :description").append(i).append(", :status").append(i)
+                    .append(", :viewCount").append(i).append(", :listedAt").append(i).append(", :expiresAt").append(i)
+                    .append(", :updatedAt").append(i).append(", :statusChangedAt").append(i).append(")");
+        }
+
+        DatabaseClient.GenericExecuteSpec spec = template.getDatabaseClient().sql(sql.toString());
+        for (int i = 0; i < sells.size(); i++) {
+            Sell sell = sells.get(i);
+            spec = spec.bind("sellerId" + i, sell.getSellerId())
+                    .bind("productId" + i, sell.getProductId())
+                    .bind("price" + i, sell.getPrice())
+                    .bind("status" + i, sell.getStatus().name())
+                    .bind("viewCount" + i, sell.getViewCount())
+                    .bind("listedAt" + i, sell.getListedAt())
+                    .bind("expiresAt" + i, sell.getExpiresAt())
+                    .bind("updatedAt" + i, sell.getUpdatedAt());
+            spec = sell.getStatusChangedAt() != null
+                    ? spec.bind("statusChangedAt" + i, sell.getStatusChangedAt())
+                    : spec.bindNull("statusChangedAt" + i, LocalDateTime.class);
+            spec = sell.getMinPrice() != null
+                    ? spec.bind("minPrice" + i, sell.getMinPrice())
+                    : spec.bindNull("minPrice" + i, Long.class);
+            spec = sell.getDescription() != null
+                    ? spec.bind("description" + i, sell.getDescription())
+                    : spec.bindNull("description" + i, String.class);
+        }
+
+        // 입력 순서와 RETURNING 순서가 같다고 가정하지 않도록 저장된 행 전체를 돌려받아 그대로 매핑
+        return spec.filter(statement -> statement.returnGeneratedValues(RETURNING_COLUMNS))
+                .map(rowMapper)
+                .all();
+    }
+
+    /**
+     * 단일 UPDATE 문으로 여러 판매의 조회수를 증분 반영
+     * UPDATE sells SET view_count = view_count + CASE id WHEN ? THEN ? ... END WHERE id IN (...)
+     */
+    @Override
+    public Mono<Long> incrementViewCounts(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return Mono.just(0L);
+        }
+
+        StringBuilder sql = new StringBuilder("UPDATE sells SET view_count = view_count + CASE id");
+        for (int i = 0; i < deltas.size(); i++) {
+            sql.append(" WHEN :id").append(i).append(" THEN :delta").append(i);
+        }
+        sql.append(" ELSE 0 END WHERE id IN (:ids)");
+
+        DatabaseClient.GenericExecuteSpec spec = template.getDatabaseClient().sql(sql.toString());
+        int index = 0;
+        for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+            spec = spec.bind("id" + index, entry.getKey())
+                    .bind("delta" + index, entry.getValue());
+            index++;
+        }
+
+        return spec.bind("ids", deltas.keySet())
+                .fetch()
+                .rowsUpdated();
+    }
+
+    @Override
+    public Flux<SellExpiration> findPendingExpirations() {
+        return template.getDatabaseClient()
+                .sql("SELECT id, product_id, expires_at FROM sells WHERE status = :status")
+                .bind("status", SellStatus.PENDING.name())
+                .map(row -> new SellExpiration(
+                        row.get("id", Long.class),
+                        row.get("product_id", Long.class),
+                        TimeUtils.toEpochMillis(row.get("expires_at", LocalDateTime.class))))
+                .all();
+    }
+
+    @Override
+    public Flux<SellListing> findListingsBetween(LocalDateTime since, LocalDateTime until) {
+        return template.getDatabaseClient()
+                .sql("SELECT seller_id, listed_at FROM sells WHERE listed_at >= :since AND listed_at < :until")
+                .bind("since", since)
+                .bind("until", until)
+                .map(row -> new SellListing(
+                        row.get("seller_id", Long.class),
+                        TimeUtils.toEpochMillis(row.get("listed_at", LocalDateTime.class))))
+                .all();
+    }
+
+    @Override
+    public Flux<ActiveListing> findActiveListings() {
+        return template.getDatabaseClient()
+                .sql("SELECT seller_id, product_id FROM sells WHERE status IN (:statuses)")
+                .bind("statuses", IN_PROGRESS_STATUSES)
+                .map(row -> new ActiveListing(
+                        row.get("seller_id", Long.class),
+                        row.get("product_id", Long.class)))
+                .all();
+    }
+
+    @Override
+    public Mono<Boolean> existsActiveListing(Long sellerId, Long productId) {
+        return template.getDatabaseClient()
+                .sql("SELECT 1 FROM sells WHERE seller_id = :sellerId AND status IN (:statuses) "
+                        + "AND product_id = :productId LIMIT 1")
+                .bind("sellerId", sellerId)
+                .bind("statuses", IN_PROGRESS_STATUSES)
+                .bind("productId", productId)
+                .map(row -> Boolean.TRUE)
+                .first()
+                .defaultIfEmpty(Boolean.FALSE);
+    }
+
+    @Override
+    public Mono<Map<SellStatus, Long>> countInProgressByStatus() {
+        return template.getDatabaseClient()
+                .sql("SELECT status, COUNT(*) AS cnt FROM sells WHERE status IN (:statuses) GROUP BY status")
+                .bind("statuses", IN_PROGRESS_STATUSES)
+                .map(row -> Map.entry(
+                        SellStatus.decode(row.get("status", String.class)),
+                        row.get("cnt", Long.class)))
+                .all()
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    @Override
+    public Flux<Sell> expireAll(Collection<Long> sellIds, LocalDateTime now) {
+        if (sellIds.isEmpty()) {
+            return Flux.empty();
+        }
+        return template.getDatabaseClient()
+                .sql("UPDATE sells SET status = :expired, updated_at = :now, status_changed_at = :now, version = version + 1 "
+                        + "WHERE id IN (:ids) AND status = :pending AND expires_at <= :now")
+                .bind("expired", SellStatus.EXPIRED.name())
+                .bind("pending", SellStatus.PENDING.name())
+                .bind("now", now)
+                .bind("ids", sellIds)
+                .filter(statement -> statement.returnGeneratedValues(RETURNING_COLUMNS))
+                .map(rowMapper)
+                .all();
+    }
+
+    @Override
+    public Flux<Sell> findAllMatchable(LocalDateTime now) {
+        return template.getDatabaseClient()
+                .sql(SELECT_SELLS + "WHERE status = :status AND expires_at > :now")
+                .bind("status", SellStatus.PENDING.name())
+                .bind("now", now)
+                .map(rowMapper)
+                .all();
+    }
+
+    @Override
+    public Flux<Sell> findByProductIdAfter(Long productId, SellStatus status, SellSortType sortType,
+                                           SellCursor cursor, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT_SELLS)
+                .append("WHERE product_id = :productId AND status = :status");
+        if (cursor != null) {
+            sql.append(" AND ").append(keysetCondition(sortType));
+        }
+        sql.append(" ORDER BY ").append(orderBy(sortType)).append(" LIMIT ").append(limit);
+
+        DatabaseClient.GenericExecuteSpec spec = template.getDatabaseClient()
+                .sql(sql.toString())
+                .bind("productId", productId)
+                .bind("status", status.name());
+        if (cursor != null) {
+            spec = switch (sortType) {
+                case LATEST -> spec.bind("cursorKey", cursor.listedAt());
+                case PRICE_ASC -> spec.bind("cursorKey", cursor.price());
+            };
+            spec = spec.bind("cursorId", cursor.sellId());
+        }
+
+        return spec.map(rowMapper).all();
+    }
+
+    /**
+     * 동적 WHERE 조건 검색, fetchSize로 DB 커서 단위 조회
+     */
+    @Override
+    public Flux<Sell> search(SellSearchCondition condition, int fetchSize) {
+        StringBuilder sql = new StringBuilder(SELECT_SELLS).append("WHERE 1 = 1");
+        if (condition.productId() != null) {
+            sql.append(" AND product_id = :productId");
+        }
+        if (condition.sellerId() != null) {
+            sql.append(" AND seller_id = :sellerId");
+        }
+        if (condition.status() != null) {
+            sql.append(" AND status = :status");
+        }
+        if (condition.minPrice() != null) {
+            sql.append(" AND price >= :minPrice");
+        }
+        if (condition.maxPrice() != null) {
+            sql.append(" AND price <= :maxPrice");
+        }
+        sql.append(" ORDER BY id");
+
+        DatabaseClient.GenericExecuteSpec spec = template.getDatabaseClient().sql(sql.toString());
+        if (condition.productId() != null) {
+            spec = spec.bind("productId", condition.productId());
+        }
+        if (condition.sellerId() != null) {
+            spec = spec.bind("sellerId", condition.sellerId());
+        }
+        if (condition.status() != null) {
+            spec = spec.bind("status", condition.status().name());
+        }
+        if (condition.minPrice() != null) {
+            spec = spec.bind("minPrice", condition.minPrice());
+        }
+        if (condition.maxPrice() != null) {
+            spec = spec.bind("maxPrice", condition.maxPrice());
+        }
+
+        return spec.filter(statement -> statement.fetchSize(fetchSize))
+                .map(rowMapper)
+                .all();
+    }
+
+    /**
+     * 커서 이후 행 조건 (정렬 키, id) 튜플 비교를 OR 조건으로 전개
+     * (product_id, status, 정렬 키, id) 복합 인덱스 범위 스캔으로 처리됨
+     */
+    private static String keysetCondition(SellSortType sortType) {
+        return switch (sortType) {
+            case LATEST -> "(listed_at < :cursorKey OR (listed_at = :cursorKey AND id < :cursorId))";
+            case PRICE_ASC -> "(price > :cursorKey OR (price = :cursorKey AND id > :cursorId))";
+        };
+    }
+
+    private static String orderBy(SellSortType sortType) {
+        return switch (sortType) {
+            case LATEST -> "listed_at DESC, id DESC";
+            case PRICE_ASC -> "price ASC, id ASC";
+        };
+    }
+
+    private static Sell withVersion(Sell sell, Long version) {
+        return Sell.builder()
+                .sellId(sell.getSellId())
+                .sellerId(sell.getSellerId())
+                .productId(sell.getProductId())
+                .price(sell.getPrice())
+                .minPrice(sell.getMinPrice())
+                .description(sell.getDescription())
+                .status(sell.getStatus())
+                .viewCount(sell.getViewCount())
+                .metadata(sell.getMetadata())
+                .listedAtMillis(sell.getListedAtMillis())
+                .expiresAtMillis(sell.getExpiresAtMillis())
+                .updatedAtMillis(sell.getUpdatedAtMillis())
+                .statusChangedAtMillis(sell.getStatusChangedAtMillis())
+                .version(version)
+                .build();
+    }
+}
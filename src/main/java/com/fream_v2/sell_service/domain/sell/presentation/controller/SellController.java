@@ -0,0 +1,204 @@
+package com.fream_v2.sell_service.domain.sell.presentation.controller;
+
+import com.fream_v2.sell_service.domain.sell.application.matching.MatchResult;
+import com.fream_v2.sell_service.domain.sell.application.service.SellBulkRegistrationService;
+import com.fream_v2.sell_service.domain.sell.application.service.SellCommandService;
+import com.fream_v2.sell_service.domain.sell.application.service.SellMatchingService;
+import com.fream_v2.sell_service.domain.sell.application.service.SellQueryService;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellCursor;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellSearchCondition;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellSortType;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellStatus;
+import com.fream_v2.sell_service.domain.sell.presentation.dto.request.BidRequest;
+import com.fream_v2.sell_service.domain.sell.presentation.dto.request.SellPriceUpdateRequest;
+import com.fream_v2.sell_service.domain.sell.presentation.dto.request.SellRegisterRequest;
+import com.fream_v2.sell_service.domain.sell.presentation.dto.request.SellStatusChangeRequest;
+import com.fream_v2.sell_service.domain.sell.presentation.dto.response.BulkSellResult;
+import com.fream_v2.sell_service.domain.sell.presentation.dto.response.OrderBookResponse;
+import com.fream_v2.sell_service.domain.sell.presentation.dto.response.PriceCandleResponse;
+import com.fream_v2.sell_service.domain.sell.presentation.dto.response.SellResponse;
+import com.fream_v2.sell_service.global.common.time.EpochClock;
+import com.fream_v2.sell_service.global.presentation.dto.ApiResponse;
+import com.fream_v2.sell_service.global.presentation.dto.StreamingApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * 판매 API 컨트롤러
+ */
+@Tag(name = "Sell", description = "판매 API")
+@RestController
+@RequestMapping("/api/v1/sells")
+@RequiredArgsConstructor
+public class SellController {
+
+    private final SellQueryService sellQueryService;
+    private final SellCommandService sellCommandService;
+    private final SellMatchingService sellMatchingService;
+    private final SellBulkRegistrationService sellBulkRegistrationService;
+    private final EpochClock clock;
+
+    /**
+     * 판매 등록
+     */
+    @Operation(summary = "판매 등록")
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<ApiResponse<SellResponse>> registerSell(@Valid @RequestBody SellRegisterRequest request) {
+        return sellCommandService.registerSell(request.getSellerId(), request.getProductId(),
+                        request.getPrice(), request.getMinPrice(), request.getDescription())
+                .map(SellResponse::from)
+                .map(ApiResponse::success);
+    }
+
+    /**
+     * 대량 판매 등록 (NDJSON 요청 → 행별 결과 NDJSON 스트리밍)
+     * 한 줄에 SellRegisterRequest JSON 하나
+     */
+    @Operation(summary = "대량 판매 등록 (NDJSON 스트리밍)")
+    @PostMapping(value = "/bulk",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<BulkSellResult> registerSellsInBulk(@RequestBody Flux<String> lines) {
+        return sellBulkRegistrationService.register(lines);
+    }
+
+    /**
+     * 판매 조건 검색 스트리밍 (Accept: application/x-ndjson 또는 text/event-stream)
+     * 결과를 페이지로 모으지 않고 DB 커서에서 읽는 대로 한 건씩 기록
+     */
+    @Operation(summary = "판매 조건 검색 (NDJSON / SSE 스트리밍)")
+    @GetMapping(value = "/search",
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<SellResponse> searchSells(@RequestParam(required = false) Long productId,
+                                          @RequestParam(required = false) Long sellerId,
+                                          @RequestParam(required = false) SellStatus status,
+                                          @RequestParam(required = false) Long minPrice,
+                                          @RequestParam(required = false) Long maxPrice) {
+        return Flux.defer(() -> sellQueryService.searchSells(
+                        new SellSearchCondition(productId, sellerId, status, minPrice, maxPrice)))
+                .map(SellResponse::from);
+    }
+
+    /**
+     * 판매 단건 조회
+     */
+    @Operation(summary = "판매 단건 조회")
+    @GetMapping("/{sellId}")
+    public Mono<ApiResponse<SellResponse>> getSell(@PathVariable Long sellId) {
+        return sellQueryService.viewSell(sellId)
+                .map(SellResponse::from)
+                .map(ApiResponse::success);
+    }
+
+    /**
+     * 판매 가격 수정
+     */
+    @Operation(summary = "판매 가격 수정")
+    @PatchMapping("/{sellId}/price")
+    public Mono<ApiResponse<SellResponse>> updatePrice(@PathVariable Long sellId,
+                                                       @Valid @RequestBody SellPriceUpdateRequest request) {
+        return sellCommandService.updatePrice(sellId, request.getPrice(), request.getMinPrice())
+                .map(SellResponse::from)
+                .map(ApiResponse::success);
+    }
+
+    /**
+     * 판매 상태 변경
+     */
+    @Operation(summary = "판매 상태 변경")
+    @PatchMapping("/{sellId}/status")
+    public Mono<ApiResponse<SellResponse>> changeStatus(@PathVariable Long sellId,
+                                                        @Valid @RequestBody SellStatusChangeRequest request) {
+        return sellCommandService.changeStatus(sellId, request.getStatus())
+                .map(SellResponse::from)
+                .map(ApiResponse::success);
+    }
+
+    /**
+     * 상품별 판매 목록 커서 페이지 조회
+     * 응답 형식은 {@code ApiResponse<CursorPageResponse<SellResponse>>}와 같고, 조회되는 대로 응답에 기록
+     */
+    @Operation(summary = "상품별 판매 목록 조회 (커서 페이징)")
+    @GetMapping("/products/{productId}")
+    public StreamingApiResponse<SellResponse> getSellsByProduct(
+            @PathVariable Long productId,
+            @RequestParam(defaultValue = "PENDING") SellStatus status,
+            @RequestParam(defaultValue = "LATEST") SellSortType sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        Flux<SellResponse> fetched = sellQueryService.streamSellsByProduct(productId, status, sort, cursor, size)
+                .map(SellResponse::from);
+        return StreamingApiResponse.cursorPage(fetched, size, last ->
+                new SellCursor(sort, last.getPrice(), last.getListedAt(), last.getSellId()).encode());
+    }
+
+    /**
+     * 상품 호가창 조회 (최우선 매도 호가 + 가격대별 건수)
+     */
+    @Operation(summary = "상품 호가창 조회")
+    @GetMapping("/products/{productId}/order-book")
+    public Mono<ApiResponse<OrderBookResponse>> getOrderBook(@PathVariable Long productId,
+                                                             @RequestParam(defaultValue = "10") int depth) {
+        return sellQueryService.getOrderBook(productId, depth)
+                .map(OrderBookResponse::from)
+                .map(ApiResponse::success);
+    }
+
+    /**
+     * 상품 가격 차트 조회 (구간별 OHLC, 기본 최근 7일 1시간 단위)
+     * 응답 형식은 {@code ApiResponse<List<PriceCandleResponse>>}와 같고, 구간이 완성되는 대로 응답에 기록
+     */
+    @Operation(summary = "상품 가격 차트 조회 (OHLC)")
+    @GetMapping("/products/{productId}/price-history")
+    public StreamingApiResponse<PriceCandleResponse> getPriceHistory(
+            @PathVariable Long productId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "60") long intervalMinutes) {
+        LocalDateTime end = to != null ? to : clock.now();
+        LocalDateTime start = from != null ? from : end.minusDays(7);
+        return StreamingApiResponse.list(sellQueryService.getPriceCandles(productId, start, end, intervalMinutes)
+                .map(PriceCandleResponse::from));
+    }
+
+    /**
+     * 상품 호가창 실시간 구독 (SSE)
+     * 변경이 있을 때만 tick 단위로 최신 상태를 보내며, 느린 클라이언트는 중간 상태를 건너뜀
+     */
+    @Operation(summary = "상품 호가창 실시간 구독 (SSE)")
+    @GetMapping(value = "/products/{productId}/order-book/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<OrderBookResponse> streamOrderBook(@PathVariable Long productId) {
+        return sellQueryService.streamOrderBook(productId)
+                .map(OrderBookResponse::from);
+    }
+
+    /**
+     * 매수 호가 매칭 (가격-시간 우선)
+     */
+    @Operation(summary = "매수 호가 매칭")
+    @PostMapping("/products/{productId}/match")
+    public Mono<ApiResponse<MatchResult>> matchBid(@PathVariable Long productId,
+                                                   @Valid @RequestBody BidRequest request) {
+        return sellMatchingService.matchBid(request.getBuyerId(), productId, request.getPrice())
+                .map(ApiResponse::success);
+    }
+}
@@ -0,0 +1,56 @@
+package com.fream_v2.sell_service.domain.sell.presentation.controller;
+
+import com.fream_v2.sell_service.domain.sell.application.service.SellOfferService;
+import com.fream_v2.sell_service.domain.sell.presentation.dto.request.SellOfferRequest;
+import com.fream_v2.sell_service.domain.sell.presentation.dto.response.SellOfferResponse;
+import com.fream_v2.sell_service.global.presentation.dto.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 가격 협상 제안 API 컨트롤러
+ */
+@Tag(name = "Sell Offer", description = "가격 협상 제안 API")
+@RestController
+@RequestMapping("/api/v1/sells")
+@RequiredArgsConstructor
+public class SellOfferController {
+
+    private final SellOfferService sellOfferService;
+
+    /**
+     * 가격 제안 (접수 즉시 응답, 저장은 일괄 처리)
+     */
+    @Operation(summary = "가격 협상 제안")
+    @PostMapping("/{sellId}/offers")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public Mono<ApiResponse<SellOfferResponse>> submitOffer(@PathVariable Long sellId,
+                                                            @Valid @RequestBody SellOfferRequest request) {
+        return sellOfferService.submitOffer(sellId, request.getBuyerId(), request.getPrice())
+                .map(SellOfferResponse::from)
+                .map(ApiResponse::success);
+    }
+
+    /**
+     * 판매자 제안함 스트림 (SSE, 최근 제안 후 실시간 제안)
+     */
+    @Operation(summary = "판매자 제안함 스트림 (SSE)")
+    @GetMapping(value = "/sellers/{sellerId}/offers/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<SellOfferResponse> streamOffers(@PathVariable Long sellerId) {
+        return sellOfferService.streamInbox(sellerId)
+                .map(SellOfferResponse::from);
+    }
+}
@@ -0,0 +1,21 @@
+package com.fream_v2.sell_service.domain.sell.presentation.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 매수 호가 매칭 요청 DTO
+ */
+@Getter
+@NoArgsConstructor
+public class BidRequest {
+
+    @NotNull(message = "구매자 ID는 필수입니다.")
+    private Long buyerId;
+
+    @NotNull(message = "매수 호가는 필수입니다.")
+    @Positive(message = "매수 호가는 0보다 커야 합니다.")
+    private Long price;
+}
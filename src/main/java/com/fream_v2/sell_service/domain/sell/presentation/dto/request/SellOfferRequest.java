@@ -0,0 +1,21 @@
+package com.fream_v2.sell_service.domain.sell.presentation.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 가격 협상 제안 요청 DTO
+ */
+@Getter
+@NoArgsConstructor
+public class SellOfferRequest {
+
+    @NotNull(message = "구매자 ID는 필수입니다.")
+    private Long buyerId;
+
+    @NotNull(message = "제안 가격은 필수입니다.")
+    @Positive(message = "제안 가격은 0보다 커야 합니다.")
+    private Long price;
+}
@@ -0,0 +1,22 @@
+package com.fream_v2.sell_service.domain.sell.presentation.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 판매 가격 수정 요청 DTO
+ */
+@Getter
+@NoArgsConstructor
+public class SellPriceUpdateRequest {
+
+    @NotNull(message = "판매 가격은 필수입니다.")
+    @Positive(message = "판매 가격은 0보다 커야 합니다.")
+    private Long price;
+
+    @PositiveOrZero(message = "최소 가격은 0 이상이어야 합니다.")
+    private Long minPrice;
+}
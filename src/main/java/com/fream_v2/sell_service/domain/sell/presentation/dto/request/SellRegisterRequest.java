@@ -0,0 +1,32 @@
+package com.fream_v2.sell_service.domain.sell.presentation.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 판매 등록 요청 DTO
+ */
+@Getter
+@NoArgsConstructor
+public class SellRegisterRequest {
+
+    @NotNull(message = "판매자 ID는 필수입니다.")
+    private Long sellerId;
+
+    @NotNull(message = "상품 ID는 필수입니다.")
+    private Long productId;
+
+    @NotNull(message = "판매 가격은 필수입니다.")
+    @Positive(message = "판매 가격은 0보다 커야 합니다.")
+    private Long price;
+
+    @PositiveOrZero(message = "최소 가격은 0 이상이어야 합니다.")
+    private Long minPrice;
+
+    @Size(max = 2000, message = "판매 설명은 2000자를 넘을 수 없습니다.")
+    private String description;
+}
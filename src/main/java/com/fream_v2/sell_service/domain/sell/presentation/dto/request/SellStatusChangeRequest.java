@@ -0,0 +1,17 @@
+package com.fream_v2.sell_service.domain.sell.presentation.dto.request;
+
+import com.fream_v2.sell_service.domain.sell.domain.model.SellStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 판매 상태 변경 요청 DTO
+ */
+@Getter
+@NoArgsConstructor
+public class SellStatusChangeRequest {
+
+    @NotNull(message = "변경할 상태는 필수입니다.")
+    private SellStatus status;
+}
@@ -0,0 +1,46 @@
+package com.fream_v2.sell_service.domain.sell.presentation.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fream_v2.sell_service.global.presentation.exception.ErrorCode;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 대량 판매 등록 행별 결과 DTO (NDJSON 한 줄)
+ */
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkSellResult {
+    private final long line;
+    private final boolean success;
+    private final Long sellId;
+    private final String errorCode;
+    private final String message;
+
+    /**
+     * 등록 성공 결과
+     */
+    public static BulkSellResult success(long line, Long sellId) {
+        return BulkSellResult.builder()
+                .line(line)
+                .success(true)
+                .sellId(sellId)
+                .build();
+    }
+
+    /**
+     * 등록 실패 결과
+     */
+    public static BulkSellResult fail(long line, ErrorCode errorCode, String message) {
+        return BulkSellResult.builder()
+                .line(line)
+                .success(false)
+                .errorCode(errorCode.getCode())
+                .message(message != null ? message : errorCode.getMessage())
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.fream_v2.sell_service.domain.sell.presentation.dto.response;
+
+import com.fream_v2.sell_service.domain.sell.application.orderbook.OrderBookEntry;
+import com.fream_v2.sell_service.domain.sell.application.orderbook.OrderBookSnapshot;
+import com.fream_v2.sell_service.domain.sell.application.orderbook.PriceLevelView;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 상품 호가창 응답 DTO
+ */
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class OrderBookResponse {
+    private final Long productId;
+    private final Long bestAskPrice;
+    private final Long bestAskSellId;
+    private final int totalCount;
+    private final List<PriceLevelView> levels;
+
+    public static OrderBookResponse from(OrderBookSnapshot snapshot) {
+        OrderBookEntry bestAsk = snapshot.bestAsk();
+        return OrderBookResponse.builder()
+                .productId(snapshot.productId())
+                .bestAskPrice(bestAsk != null ? bestAsk.price() : null)
+                .bestAskSellId(bestAsk != null ? bestAsk.sellId() : null)
+                .totalCount(snapshot.totalCount())
+                .levels(snapshot.levels())
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.fream_v2.sell_service.domain.sell.presentation.dto.response;
+
+import com.fream_v2.sell_service.domain.sell.domain.model.PriceCandle;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 가격 차트 구간(OHLC) 응답 DTO
+ */
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PriceCandleResponse {
+    private final LocalDateTime bucketStart;
+    private final long open;
+    private final long high;
+    private final long low;
+    private final long close;
+    private final int changes;
+
+    /**
+     * 도메인 모델로부터 응답 생성
+     */
+    public static PriceCandleResponse from(PriceCandle candle) {
+        return PriceCandleResponse.builder()
+                .bucketStart(candle.getBucketStart())
+                .open(candle.open())
+                .high(candle.high())
+                .low(candle.low())
+                .close(candle.close())
+                .changes(candle.changes())
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.fream_v2.sell_service.domain.sell.presentation.dto.response;
+
+import com.fream_v2.sell_service.domain.sell.domain.model.SellOffer;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 가격 협상 제안 응답 DTO
+ */
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class SellOfferResponse {
+    private final String offerId;
+    private final Long sellId;
+    private final Long sellerId;
+    private final Long buyerId;
+    private final Long price;
+    private final LocalDateTime offeredAt;
+
+    /**
+     * 도메인 모델로부터 응답 생성
+     */
+    public static SellOfferResponse from(SellOffer offer) {
+        return SellOfferResponse.builder()
+                .offerId(offer.offerId())
+                .sellId(offer.sellId())
+                .sellerId(offer.sellerId())
+                .buyerId(offer.buyerId())
+                .price(offer.price())
+                .offeredAt(offer.getOfferedAt())
+                .build();
+    }
+}
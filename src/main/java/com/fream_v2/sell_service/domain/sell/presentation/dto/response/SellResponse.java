@@ -0,0 +1,50 @@
+package com.fream_v2.sell_service.domain.sell.presentation.dto.response;
+
+import com.fream_v2.sell_service.domain.sell.domain.model.Sell;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellStatus;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 판매 목록 응답 DTO
+ * 목록 조회에서는 메타데이터를 포함하지 않음
+ */
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class SellResponse {
+    private final Long sellId;
+    private final Long sellerId;
+    private final Long productId;
+    private final Long price;
+    private final Long minPrice;
+    private final String description;
+    private final SellStatus status;
+    private final Integer viewCount;
+    private final LocalDateTime listedAt;
+    private final LocalDateTime expiresAt;
+    private final LocalDateTime updatedAt;
+
+    /**
+     * 도메인 모델로부터 응답 생성
+     */
+    public static SellResponse from(Sell sell) {
+        return SellResponse.builder()
+                .sellId(sell.getSellId())
+                .sellerId(sell.getSellerId())
+                .productId(sell.getProductId())
+                .price(sell.getPrice())
+                .minPrice(sell.getMinPrice())
+                .description(sell.getDescription())
+                .status(sell.getStatus())
+                .viewCount(sell.getViewCount())
+                .listedAt(sell.getListedAt())
+                .expiresAt(sell.getExpiresAt())
+                .updatedAt(sell.getUpdatedAt())
+                .build();
+    }
+}
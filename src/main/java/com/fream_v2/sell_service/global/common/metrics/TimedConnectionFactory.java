@@ -0,0 +1,76 @@
+package com.fream_v2.sell_service.global.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.Wrapped;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * 커넥션 획득 시간을 기록하는 ConnectionFactory 래퍼
+ *
+ * create() 구독부터 커넥션을 받을 때까지(풀 대기 + 새 커넥션 생성)를 r2dbc.connection.acquire{outcome}로 기록
+ * 풀 자체의 지표(획득/대기 중 커넥션 수)는 Spring Boot가 Wrapped를 풀어 그대로 등록
+ */
+public class TimedConnectionFactory implements ConnectionFactory, Wrapped<ConnectionFactory>, Disposable {
+
+    private final ConnectionFactory delegate;
+    private final Timer acquired;
+    private final Timer failed;
+
+    public TimedConnectionFactory(ConnectionFactory delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.acquired = timer(meterRegistry, "success");
+        this.failed = timer(meterRegistry, "failure");
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("r2dbc.connection.acquire")
+                .description("R2DBC 커넥션 획득 시간 (풀 대기 포함)")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(100_000))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Connection> create() {
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            return Mono.<Connection>from(delegate.create())
+                    .doOnSuccess(connection -> acquired.record(Duration.ofNanos(System.nanoTime() - startedAt)))
+                    .doOnError(e -> failed.record(Duration.ofNanos(System.nanoTime() - startedAt)));
+        });
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return delegate.getMetadata();
+    }
+
+    @Override
+    public ConnectionFactory unwrap() {
+        return delegate;
+    }
+
+    /**
+     * 커넥션 풀 종료 (Spring Boot가 풀 빈에 지정한 destroy 메서드가 래퍼에서도 호출되도록 위임)
+     */
+    @Override
+    public void dispose() {
+        if (delegate instanceof Disposable disposable) {
+            disposable.dispose();
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return delegate instanceof Disposable disposable && disposable.isDisposed();
+    }
+}
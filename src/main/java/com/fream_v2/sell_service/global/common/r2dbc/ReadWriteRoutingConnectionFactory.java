@@ -0,0 +1,175 @@
+package com.fream_v2.sell_service.global.common.r2dbc;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.Wrapped;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.r2dbc.dialect.DialectResolver;
+import org.springframework.data.r2dbc.dialect.PostgresDialect;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기/쓰기 분리 ConnectionFactory (primary 1개 + 읽기 복제본 N개)
+ *
+ * - 기본은 primary, Reactor Context에 읽기 전용 표시({@link #readOnly})가 있을 때만 복제본으로 라우팅
+ *   (표시 없이 호출되는 쓰기/조회는 모두 primary이므로 잘못 라우팅돼도 최신성만 보장됨)
+ * - 커넥션 획득 시점의 context로 결정하므로 readOnly로 감싼 트랜잭션은 통째로 복제본에서 실행되고,
+ *   트랜잭션 안의 조회는 트랜잭션 커넥션(primary)을 그대로 사용
+ * - 복제본은 round robin, 지연이 maxLagMillis를 넘었거나 확인에 실패한 복제본은 건너뛰고 모두 제외되면 primary
+ * - 메타데이터/Wrapped는 primary 기준 (dialect 판별, 커넥션 풀 지표 등록)
+ */
+@Slf4j
+public class ReadWriteRoutingConnectionFactory implements ConnectionFactory, Wrapped<ConnectionFactory>, Disposable {
+
+    private static final String READ_ONLY_KEY = ReadWriteRoutingConnectionFactory.class.getName() + ".readOnly";
+
+    /**
+     * 복제본 지연(ms) 조회 - 복제 중이 아니거나 WAL을 모두 재생했으면 0
+     */
+    private static final String POSTGRESQL_LAG_SQL = "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() "
+            + "THEN 0 ELSE COALESCE(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())) * 1000, 0) END";
+    private static final String PING_SQL = "SELECT 0";
+
+    private final ConnectionFactory primary;
+    private final List<Replica> replicas;
+    private final long maxLagMillis;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReadWriteRoutingConnectionFactory(ConnectionFactory primary, List<ConnectionFactory> replicas,
+                                             long maxLagMillis) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.maxLagMillis = maxLagMillis;
+    }
+
+    /**
+     * 복제본에서 읽어도 되는 조회로 표시
+     */
+    public static <T> Mono<T> readOnly(Mono<T> source) {
+        return source.contextWrite(context -> context.put(READ_ONLY_KEY, Boolean.TRUE));
+    }
+
+    public static <T> Flux<T> readOnly(Flux<T> source) {
+        return source.contextWrite(context -> context.put(READ_ONLY_KEY, Boolean.TRUE));
+    }
+
+    @Override
+    public Mono<Connection> create() {
+        return Mono.deferContextual(context ->
+                Mono.from(route(context.getOrDefault(READ_ONLY_KEY, Boolean.FALSE)).create()));
+    }
+
+    private ConnectionFactory route(boolean readOnly) {
+        if (!readOnly || replicas.isEmpty()) {
+            return primary;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.lagMillis <= maxLagMillis) {
+                return replica.connectionFactory;
+            }
+        }
+        return primary;
+    }
+
+    /**
+     * 복제본별 지연 갱신 (PostgreSQL은 WAL 재생 지연, 그 외 DB는 연결 확인만 하고 0)
+     * 첫 확인 전, 또는 확인에 실패하거나 timeout 안에 응답하지 않은 복제본은 다음 확인 전까지 라우팅에서 제외
+     */
+    public Mono<Void> refreshReplicaLag(Duration timeout) {
+        return Flux.fromIterable(replicas)
+                .flatMap(replica -> replica.probe()
+                        .timeout(timeout)
+                        .doOnNext(lag -> {
+                            replica.lagMillis = lag;
+                            replica.failing = false;
+                        })
+                        .onErrorResume(e -> {
+                            if (!replica.failing) {
+                                log.warn("읽기 복제본 상태 확인에 실패해 라우팅에서 제외합니다: {}",
+                                        replica.connectionFactory.getMetadata().getName(), e);
+                            }
+                            replica.lagMillis = Long.MAX_VALUE;
+                            replica.failing = true;
+                            return Mono.empty();
+                        }))
+                .then();
+    }
+
+    public int getReplicaCount() {
+        return replicas.size();
+    }
+
+    /**
+     * 마지막으로 확인한 복제본 지연 (확인 전이거나 실패 시 Long.MAX_VALUE)
+     */
+    public long getReplicaLagMillis(int index) {
+        return replicas.get(index).lagMillis;
+    }
+
+    public long getMaxLagMillis() {
+        return maxLagMillis;
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return primary.getMetadata();
+    }
+
+    @Override
+    public ConnectionFactory unwrap() {
+        return primary;
+    }
+
+    /**
+     * primary와 복제본 커넥션 풀 종료
+     */
+    @Override
+    public void dispose() {
+        dispose(primary);
+        replicas.forEach(replica -> dispose(replica.connectionFactory));
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return primary instanceof Disposable disposable && disposable.isDisposed();
+    }
+
+    private static void dispose(ConnectionFactory connectionFactory) {
+        if (connectionFactory instanceof Disposable disposable) {
+            disposable.dispose();
+        }
+    }
+
+    private static final class Replica {
+        private final ConnectionFactory connectionFactory;
+        private volatile long lagMillis = Long.MAX_VALUE;
+        private volatile boolean failing;
+
+        private Replica(ConnectionFactory connectionFactory) {
+            this.connectionFactory = connectionFactory;
+        }
+
+        /**
+         * dialect 판별 실패(지원하지 않는 드라이버)도 확인 실패로 처리
+         */
+        private Mono<Long> probe() {
+            return Mono.fromCallable(() -> DialectResolver.getDialect(connectionFactory) instanceof PostgresDialect)
+                    .flatMap(postgres -> DatabaseClient.create(connectionFactory)
+                            .sql(postgres ? POSTGRESQL_LAG_SQL : PING_SQL)
+                            .map(row -> row.get(0, Number.class))
+                            .one())
+                    .map(Number::longValue);
+        }
+    }
+}
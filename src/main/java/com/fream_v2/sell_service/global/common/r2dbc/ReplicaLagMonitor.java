@@ -0,0 +1,79 @@
+package com.fream_v2.sell_service.global.common.r2dbc;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Wrapped;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 읽기 복제본 지연 주기 확인 (복제본이 설정되지 않았으면 아무것도 하지 않음)
+ *
+ * 지연은 r2dbc.replica.lag{replica}로 노출 (확인 실패 시 NaN)
+ */
+@Component
+public class ReplicaLagMonitor {
+
+    private final ReadWriteRoutingConnectionFactory routingConnectionFactory;
+    private final Duration timeout;
+    private final AtomicBoolean checking = new AtomicBoolean(false);
+
+    public ReplicaLagMonitor(ConnectionFactory connectionFactory,
+                             MeterRegistry meterRegistry,
+                             @Value("${sell.datasource.replica-lag-check-ms:1000}") long checkIntervalMs) {
+        this.routingConnectionFactory = findRouting(connectionFactory);
+        this.timeout = Duration.ofMillis(checkIntervalMs);
+
+        if (routingConnectionFactory != null) {
+            for (int i = 0; i < routingConnectionFactory.getReplicaCount(); i++) {
+                int index = i;
+                Gauge.builder("r2dbc.replica.lag", routingConnectionFactory, routing -> {
+                            long lag = routing.getReplicaLagMillis(index);
+                            return lag == Long.MAX_VALUE ? Double.NaN : lag;
+                        })
+                        .description("읽기 복제본 지연 (ms)")
+                        .tag("replica", String.valueOf(index))
+                        .register(meterRegistry);
+            }
+        }
+    }
+
+    /**
+     * 주기적 지연 확인 (응답을 기다리지 않고 반환)
+     */
+    @Scheduled(fixedDelayString = "${sell.datasource.replica-lag-check-ms:1000}")
+    public void check() {
+        refresh().subscribe();
+    }
+
+    /**
+     * 복제본 지연 갱신 (이전 확인이 끝나지 않았으면 건너뜀)
+     */
+    public Mono<Void> refresh() {
+        if (routingConnectionFactory == null || !checking.compareAndSet(false, true)) {
+            return Mono.empty();
+        }
+        return routingConnectionFactory.refreshReplicaLag(timeout)
+                .doFinally(signal -> checking.set(false));
+    }
+
+    /**
+     * 래퍼(지표 기록 등) 안쪽의 라우팅 ConnectionFactory 탐색
+     */
+    private static ReadWriteRoutingConnectionFactory findRouting(Object connectionFactory) {
+        Object current = connectionFactory;
+        while (current != null) {
+            if (current instanceof ReadWriteRoutingConnectionFactory routing) {
+                return routing;
+            }
+            current = current instanceof Wrapped<?> wrapped ? wrapped.unwrap() : null;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,85 @@
+package com.fream_v2.sell_service.global.common.time;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주기적으로 갱신되는 epoch 밀리초 시계
+ *
+ * 전용 데몬 스레드가 tick-ms 간격으로 volatile 필드를 갱신하고, 읽기는 필드 조회 한 번으로 끝남
+ * 정밀도는 tick-ms 단위 (등록/수정 시각, 만료 판단 용도로 충분)
+ * 갱신 스레드가 돌기 전(기동 전/종료 후)에는 시스템 시계를 그대로 읽음
+ * */
+@Slf4j
+@Component
+public class CachedEpochClock implements EpochClock, SmartLifecycle {
+
+    private final long tickMillis;
+    private volatile long currentMillis = System.currentTimeMillis();
+    private volatile boolean ticking;
+    private ScheduledExecutorService ticker;
+
+    public CachedEpochClock(@Value("${sell.clock.tick-ms:10}") long tickMillis) {
+        this.tickMillis = tickMillis;
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return ticking ? currentMillis : System.currentTimeMillis();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (ticker != null) {
+            return;
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "epoch-clock");
+            thread.setDaemon(true);
+            return thread;
+        });
+        currentMillis = System.currentTimeMillis();
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        ticking = true;
+        log.info("캐시 시계 시작: tick {}ms", tickMillis);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (ticker == null) {
+            return;
+        }
+        ticking = false;
+        ticker.shutdownNow();
+        ticker = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return ticker != null;
+    }
+
+    /**
+     * 다른 빈보다 먼저 시작하고 가장 늦게 종료
+     * */
+    @Override
+    public int getPhase() {
+        return Integer.MIN_VALUE;
+    }
+
+    /**
+     * 시스템 시계가 뒤로 가도 단조 증가 유지 (단일 작성자 스레드)
+     * */
+    private void tick() {
+        long now = System.currentTimeMillis();
+        if (now > currentMillis) {
+            currentMillis = now;
+        }
+    }
+}
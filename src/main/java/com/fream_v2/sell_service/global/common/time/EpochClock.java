@@ -0,0 +1,28 @@
+package com.fream_v2.sell_service.global.common.time;
+
+import com.fream_v2.sell_service.global.common.util.TimeUtils;
+
+import java.time.LocalDateTime;
+
+/**
+ * epoch 밀리초 시계
+ * 애플리케이션 컴포넌트는 빈(CachedEpochClock)으로 주입받아 읽고, 도메인 모델에는 읽은 시각을 인자로 넘김
+ * 테스트는 고정 시계를 직접 주입하므로 전역 상태가 없음
+ * */
+@FunctionalInterface
+public interface EpochClock {
+
+    /**
+     * 시스템 시계 (빈이 없는 벤치마크/도구용)
+     * */
+    EpochClock SYSTEM = System::currentTimeMillis;
+
+    long currentTimeMillis();
+
+    /**
+     * 현재 시각 (밀리초 정밀도)
+     * */
+    default LocalDateTime now() {
+        return TimeUtils.toLocalDateTime(currentTimeMillis());
+    }
+}
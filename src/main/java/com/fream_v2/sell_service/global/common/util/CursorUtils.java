@@ -0,0 +1,49 @@
+package com.fream_v2.sell_service.global.common.util;
+
+import com.fream_v2.sell_service.global.presentation.exception.CommonException;
+import com.fream_v2.sell_service.global.presentation.exception.GlobalErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서 페이징용 불투명(opaque) 커서 인코딩 유틸리티
+ * 정렬 키 값들을 구분자로 이어 붙인 뒤 URL-safe Base64로 인코딩
+ * */
+public class CursorUtils {
+
+    private static final String DELIMITER = "|";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private CursorUtils() {
+        throw new AssertionError("유틸리티 클래스는 인스턴스화 할 수 없습니다.");
+    }
+
+    /**
+     * 정렬 키 값들을 커서 문자열로 인코딩
+     * */
+    public static String encode(String... parts) {
+        String raw = String.join(DELIMITER, parts);
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 정렬 키 값들로 디코딩
+     *
+     * @param cursor 인코딩된 커서
+     * @param expectedParts 기대하는 키 개수
+     * */
+    public static String[] decode(String cursor, int expectedParts) {
+        try {
+            String raw = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != expectedParts) {
+                throw new CommonException(GlobalErrorCode.INVALID_CURSOR);
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new CommonException(GlobalErrorCode.INVALID_CURSOR, e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.fream_v2.sell_service.global.common.util;
+
+/**
+ * 현재 프로세스(노드) 식별자 유틸리티
+ * 기동 시 한 번 생성되며, 노드 간 이벤트에서 자기 자신이 만든 이벤트를 구분하는 데 사용
+ * */
+public class NodeIdUtils {
+
+    private static final String NODE_ID = UuidUtils.generate();
+
+    private NodeIdUtils() {
+        throw new AssertionError("유틸리티 클래스는 인스턴스화 할 수 없습니다.");
+    }
+
+    public static String current() {
+        return NODE_ID;
+    }
+
+    public static boolean isCurrent(String nodeId) {
+        return NODE_ID.equals(nodeId);
+    }
+}
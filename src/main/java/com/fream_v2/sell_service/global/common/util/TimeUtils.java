@@ -0,0 +1,35 @@
+package com.fream_v2.sell_service.global.common.util;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * epoch 밀리초 ↔ LocalDateTime 변환 유틸리티
+ *
+ * 도메인 모델은 시각을 epoch 밀리초(long)로 보관하고, DB/JSON 경계에서만 LocalDateTime으로 변환
+ * 현재 시각은 주입받은 EpochClock에서 읽음
+ * */
+public class TimeUtils {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private TimeUtils() {
+        throw new AssertionError("유틸리티 클래스는 인스턴스화 할 수 없습니다.");
+    }
+
+    public static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    /**
+     * null이면 미지정 값(unsetMillis)을 돌려줌 (시각을 long으로 보관하는 모델의 빌더용)
+     */
+    public static long toEpochMillis(LocalDateTime dateTime, long unsetMillis) {
+        return dateTime == null ? unsetMillis : toEpochMillis(dateTime);
+    }
+
+    public static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZONE);
+    }
+}
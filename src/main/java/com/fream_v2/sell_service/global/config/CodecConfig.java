@@ -0,0 +1,23 @@
+package com.fream_v2.sell_service.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fream_v2.sell_service.global.presentation.codec.StreamingApiResponseEncoder;
+import com.fream_v2.sell_service.global.presentation.codec.StreamingApiResponseWriter;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * WebFlux 코덱 설정
+ *
+ * StreamingApiResponse writer를 기본 Jackson writer보다 앞에 등록 (같은 ObjectMapper 사용)
+ */
+@Configuration
+public class CodecConfig {
+
+    @Bean
+    public CodecCustomizer streamingApiResponseCodecCustomizer(ObjectMapper objectMapper) {
+        return configurer -> configurer.customCodecs().register(
+                new StreamingApiResponseWriter(new StreamingApiResponseEncoder(objectMapper)));
+    }
+}
@@ -0,0 +1,137 @@
+package com.fream_v2.sell_service.global.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Schedulers;
+import reactor.kafka.receiver.MicrometerConsumerListener;
+import reactor.kafka.receiver.ReceiverOptions;
+import reactor.kafka.sender.KafkaSender;
+import reactor.kafka.sender.SenderOptions;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Kafka 공통 설정
+ *
+ * 판매 이벤트 발행용 reactive producer
+ * - 멱등 producer + acks=all: 재시도로 인한 중복/순서 뒤바뀜 없이 파티션(판매 ID) 단위 순서 보장
+ * - linger/batch/압축으로 아웃박스 batch를 적은 요청 수로 발행
+ *
+ * 거래(주문/결제) 이벤트 수신용 reactive consumer
+ * - 처리 완료 순서와 무관하게 ack하고(deferred commit), 연속된 offset까지만 batch 단위로 커밋
+ * - consumer 지표(lag 포함)를 Micrometer로 노출
+ *
+ * 판매 이벤트 캐시 무효화용 consumer
+ * - 노드마다 고유 그룹으로 모든 파티션을 구독 (브로드캐스트), 기동 이후 이벤트만 수신
+ */
+@Configuration
+public class KafkaConfig {
+
+    @Bean(destroyMethod = "close")
+    public KafkaSender<String, byte[]> sellEventSender(
+            KafkaProperties kafkaProperties,
+            @Value("${sell.outbox.producer.compression-type:lz4}") String compressionType,
+            @Value("${sell.outbox.producer.linger-ms:5}") int lingerMs,
+            @Value("${sell.outbox.producer.batch-size-bytes:65536}") int batchSizeBytes) {
+        return KafkaSender.create(sellEventSenderOptions(
+                kafkaProperties.buildProducerProperties(null), compressionType, lingerMs, batchSizeBytes));
+    }
+
+    @Bean
+    public ReceiverOptions<String, byte[]> sellTradeEventReceiverOptions(
+            KafkaProperties kafkaProperties,
+            MeterRegistry meterRegistry,
+            @Value("${sell.trade-events.topics:order-events,payment-events}") List<String> topics,
+            @Value("${sell.trade-events.group-id:${spring.application.name}}") String groupId,
+            @Value("${sell.trade-events.commit-batch-size:100}") int commitBatchSize,
+            @Value("${sell.trade-events.commit-interval-ms:1000}") long commitIntervalMs,
+            @Value("${sell.trade-events.max-deferred-commits:1000}") int maxDeferredCommits) {
+        return sellTradeEventReceiverOptions(kafkaProperties.buildConsumerProperties(null), topics, groupId,
+                commitBatchSize, Duration.ofMillis(commitIntervalMs), maxDeferredCommits)
+                .consumerListener(new MicrometerConsumerListener(meterRegistry));
+    }
+
+    @Bean
+    public ReceiverOptions<String, byte[]> sellNodeEventReceiverOptions(KafkaProperties kafkaProperties) {
+        return nodeLocalReceiverOptions(kafkaProperties.buildConsumerProperties(null));
+    }
+
+    /**
+     * 판매 이벤트 producer 옵션 (기본 producer 속성 위에 전달 보장/배치 설정을 덮어씀)
+     */
+    public static SenderOptions<String, byte[]> sellEventSenderOptions(Map<String, Object> baseProperties,
+                                                                      String compressionType,
+                                                                      int lingerMs,
+                                                                      int batchSizeBytes) {
+        Map<String, Object> properties = new HashMap<>(baseProperties);
+        properties.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        properties.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        properties.put(ProducerConfig.ACKS_CONFIG, "all");
+        properties.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        properties.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        properties.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        properties.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        properties.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSizeBytes);
+
+        // 발행 결과를 producer 네트워크 스레드가 아닌 parallel 스케줄러로 전달
+        // (기본값 immediate면 이후 아웃박스 삭제/커밋과 그 뒤에 이어지는 작업이 producer I/O 스레드를 점유)
+        return SenderOptions.<String, byte[]>create(properties)
+                .maxInFlight(1024)
+                .scheduler(Schedulers.parallel());
+    }
+
+    /**
+     * 거래 이벤트 consumer 옵션
+     *
+     * @param maxDeferredCommits 커밋되지 않은 채 ack를 기다릴 수 있는 최대 레코드 수 (초과 시 해당 파티션 poll 일시 중지)
+     */
+    public static ReceiverOptions<String, byte[]> sellTradeEventReceiverOptions(Map<String, Object> baseProperties,
+                                                                               List<String> topics,
+                                                                               String groupId,
+                                                                               int commitBatchSize,
+                                                                               Duration commitInterval,
+                                                                               int maxDeferredCommits) {
+        Map<String, Object> properties = new HashMap<>(baseProperties);
+        properties.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        properties.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        properties.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        properties.putIfAbsent(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+
+        return ReceiverOptions.<String, byte[]>create(properties)
+                .subscription(topics)
+                .commitBatchSize(commitBatchSize)
+                .commitInterval(commitInterval)
+                .maxDeferredCommits(maxDeferredCommits);
+    }
+
+    /**
+     * 노드 로컬 수신 옵션 (consumer 그룹 없이 파티션을 직접 할당받아 읽고, offset을 커밋하지 않음)
+     * 노드가 재시작되거나 교체되어도 브로커에 그룹이 남지 않음
+     * 할당할 파티션과 시작 위치는 수신기(NodeLocalSellEventReceiver)가 정함
+     */
+    public static ReceiverOptions<String, byte[]> nodeLocalReceiverOptions(Map<String, Object> baseProperties) {
+        Map<String, Object> properties = new HashMap<>(baseProperties);
+        properties.remove(ConsumerConfig.GROUP_ID_CONFIG);
+        properties.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        properties.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        properties.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+
+        return ReceiverOptions.<String, byte[]>create(properties)
+                .commitInterval(Duration.ZERO)
+                .commitBatchSize(0);
+    }
+}
@@ -0,0 +1,33 @@
+package com.fream_v2.sell_service.global.config;
+
+import com.fream_v2.sell_service.global.common.metrics.TimedConnectionFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 지표 설정
+ *
+ * 애플리케이션의 ConnectionFactory(커넥션 풀)를 획득 시간 기록 래퍼로 감쌈
+ * (DatabaseClient, 트랜잭션 매니저가 모두 래퍼를 주입받음)
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public static BeanPostProcessor timedConnectionFactoryPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof ConnectionFactory connectionFactory
+                        && !(bean instanceof TimedConnectionFactory)) {
+                    return new TimedConnectionFactory(connectionFactory, meterRegistry.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
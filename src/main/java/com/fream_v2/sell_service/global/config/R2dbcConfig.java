@@ -0,0 +1,40 @@
+package com.fream_v2.sell_service.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fream_v2.sell_service.domain.sell.infrastructure.persistence.converter.MetadataReadingConverters;
+import com.fream_v2.sell_service.domain.sell.infrastructure.persistence.converter.MetadataWritingConverters;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.r2dbc.convert.R2dbcCustomConversions;
+import org.springframework.data.r2dbc.dialect.DialectResolver;
+import org.springframework.data.r2dbc.dialect.PostgresDialect;
+import org.springframework.data.r2dbc.dialect.R2dbcDialect;
+
+import java.util.List;
+
+/**
+ * R2DBC 공통 설정
+ *
+ * 커스텀 타입 컨버터 등록
+ * - 판매 메타데이터: PostgreSQL은 jsonb(Json), 그 외 DB는 문자열 컬럼으로 매핑
+ */
+@Configuration
+public class R2dbcConfig {
+
+    @Bean
+    public R2dbcCustomConversions r2dbcCustomConversions(ConnectionFactory connectionFactory,
+                                                         ObjectMapper objectMapper) {
+        R2dbcDialect dialect = DialectResolver.getDialect(connectionFactory);
+
+        List<Object> converters = List.of(
+                new MetadataReadingConverters.FromJson(objectMapper),
+                new MetadataReadingConverters.FromText(objectMapper),
+                dialect instanceof PostgresDialect
+                        ? new MetadataWritingConverters.ToJson(objectMapper)
+                        : new MetadataWritingConverters.ToText(objectMapper)
+        );
+
+        return R2dbcCustomConversions.of(dialect, converters);
+    }
+}
@@ -0,0 +1,93 @@
+package com.fream_v2.sell_service.global.config;
+
+import com.fream_v2.sell_service.global.common.metrics.TimedConnectionFactory;
+import com.fream_v2.sell_service.global.common.r2dbc.ReadWriteRoutingConnectionFactory;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 복제본 설정
+ *
+ * sell.datasource.replica-urls가 있으면 Spring Boot가 만든 ConnectionFactory(커넥션 풀)를 primary로,
+ * 복제본 URL마다 만든 커넥션 풀을 읽기 대상으로 하는 라우팅 ConnectionFactory로 교체
+ * - 지표 래퍼(MetricsConfig)보다 먼저 적용되어 바깥에서 라우팅을 포함한 획득 시간이 기록됨
+ * - 복제본 계정은 URL에 없으면 spring.r2dbc.username/password 사용
+ */
+@Configuration
+public class ReadReplicaConfig {
+
+    /**
+     * 반환 타입을 구체 타입으로 선언해야 Ordered가 빈 생성 전에 인식되어 지표 래퍼보다 먼저 등록됨
+     */
+    @Bean
+    public static RoutingPostProcessor readReplicaRoutingPostProcessor(Environment environment) {
+        Binder binder = Binder.get(environment);
+        return new RoutingPostProcessor(
+                binder.bind("sell.datasource.replica-urls", Bindable.listOf(String.class)).orElse(List.of()),
+                environment.getProperty("spring.r2dbc.username"),
+                environment.getProperty("spring.r2dbc.password"),
+                environment.getProperty("sell.datasource.replica-pool-max-size", Integer.class, 10),
+                environment.getProperty("sell.datasource.max-replica-lag-ms", Long.class, 1000L));
+    }
+
+    /**
+     * 복제본 커넥션 풀 생성 (URL이 이미 r2dbc:pool: 이면 그대로 사용)
+     */
+    static ConnectionFactory replicaConnectionFactory(String url, String username, String password,
+                                                      int poolMaxSize, int index) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url);
+        ConnectionFactoryOptions.Builder builder = options.mutate();
+        if (!options.hasOption(ConnectionFactoryOptions.USER) && username != null) {
+            builder.option(ConnectionFactoryOptions.USER, username);
+        }
+        if (!options.hasOption(ConnectionFactoryOptions.PASSWORD) && password != null) {
+            builder.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        ConnectionFactory connectionFactory = ConnectionFactories.get(builder.build());
+        if ("pool".equals(options.getValue(ConnectionFactoryOptions.DRIVER))) {
+            return connectionFactory;
+        }
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .name("replica-" + index)
+                .maxSize(poolMaxSize)
+                .build());
+    }
+
+    public record RoutingPostProcessor(List<String> replicaUrls, String username, String password,
+                                        int replicaPoolMaxSize, long maxReplicaLagMillis)
+            implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (replicaUrls.isEmpty()
+                    || !(bean instanceof ConnectionFactory primary)
+                    || bean instanceof ReadWriteRoutingConnectionFactory
+                    || bean instanceof TimedConnectionFactory) {
+                return bean;
+            }
+            List<ConnectionFactory> replicas = new ArrayList<>(replicaUrls.size());
+            for (int i = 0; i < replicaUrls.size(); i++) {
+                replicas.add(replicaConnectionFactory(replicaUrls.get(i), username, password, replicaPoolMaxSize, i));
+            }
+            return new ReadWriteRoutingConnectionFactory(primary, replicas, maxReplicaLagMillis);
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.fream_v2.sell_service.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ *
+ * @Scheduled 기반 주기 작업 활성화 (조회수 플러시 등)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
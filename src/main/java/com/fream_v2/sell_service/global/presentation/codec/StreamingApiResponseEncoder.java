@@ -0,0 +1,198 @@
+package com.fream_v2.sell_service.global.presentation.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fream_v2.sell_service.global.presentation.dto.StreamingApiResponse;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.EncodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.HttpMessageEncoder;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link StreamingApiResponse} JSON 인코더
+ *
+ * 응답 봉투({"success":true,"data":...})의 앞부분을 첫 요소와 함께, 이후 요소는 하나씩 풀링된 DataBuffer에 기록하고
+ * 마지막 요소 뒤에 페이지 정보/timestamp로 봉투를 닫음
+ * - 첫 요소(또는 완료)가 오기 전에는 아무것도 쓰지 않으므로, 조회가 바로 실패하면 응답이 커밋되지 않아 전역 예외 처리기가 처리
+ * - 요소를 기록하기 시작한 뒤의 실패는 상태 코드를 바꿀 수 없어 연결을 끊는 것으로 끝남 (잘린 JSON)
+ * - 요소는 같은 ObjectMapper로 직렬화하므로 ApiResponse 직렬화 결과와 바이트 단위로 같음
+ * */
+public class StreamingApiResponseEncoder implements HttpMessageEncoder<StreamingApiResponse<?>> {
+
+    private static final List<MimeType> MIME_TYPES = List.of(MediaType.APPLICATION_JSON);
+
+    private static final byte[] LIST_HEAD = ascii("{\"success\":true,\"data\":[");
+    private static final byte[] PAGE_HEAD = ascii("{\"success\":true,\"data\":{\"content\":[");
+    private static final byte[] COMMA = ascii(",");
+    private static final byte[] LIST_END = ascii("]");
+    private static final byte[] PAGE_INFO_FIELD = ascii("],\"pageInfo\":");
+    private static final byte[] SIZE_FIELD = ascii("],\"size\":");
+    private static final byte[] HAS_NEXT_FIELD = ascii(",\"hasNext\":");
+    private static final byte[] NEXT_CURSOR_FIELD = ascii(",\"nextCursor\":");
+    private static final byte[] OBJECT_END = ascii("}");
+    private static final byte[] TIMESTAMP_FIELD = ascii(",\"timestamp\":");
+
+    private static final int INITIAL_BUFFER_SIZE = 256;
+
+    private final ObjectWriter writer;
+
+    public StreamingApiResponseEncoder(ObjectMapper objectMapper) {
+        this.writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public boolean canEncode(ResolvableType elementType, MimeType mimeType) {
+        return StreamingApiResponse.class.isAssignableFrom(elementType.toClass())
+                && (mimeType == null || MediaType.APPLICATION_JSON.isCompatibleWith(mimeType));
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(Publisher<? extends StreamingApiResponse<?>> inputStream,
+                                   DataBufferFactory bufferFactory, ResolvableType elementType,
+                                   MimeType mimeType, Map<String, Object> hints) {
+        return Flux.from(inputStream)
+                .concatMap(response -> encodeResponse(response, bufferFactory))
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+    }
+
+    @Override
+    public List<MimeType> getEncodableMimeTypes() {
+        return MIME_TYPES;
+    }
+
+    @Override
+    public List<MediaType> getStreamingMediaTypes() {
+        return List.of();
+    }
+
+    private <T> Flux<DataBuffer> encodeResponse(StreamingApiResponse<T> response, DataBufferFactory bufferFactory) {
+        return Flux.defer(() -> {
+            EnvelopeState<T> state = new EnvelopeState<>(response);
+            boolean cursorPage = response.getEnvelope() == StreamingApiResponse.Envelope.CURSOR_PAGE;
+            int limit = cursorPage ? response.getSize() : Integer.MAX_VALUE;
+            Flux<T> content = cursorPage ? response.getContent().take(limit + 1L) : response.getContent();
+
+            Flux<DataBuffer> elements = content
+                    .<DataBuffer>handle((element, sink) -> {
+                        if (state.count == limit) {
+                            state.hasNext = true;
+                            return;
+                        }
+                        DataBuffer buffer = bufferFactory.allocateBuffer(INITIAL_BUFFER_SIZE);
+                        try {
+                            buffer.write(state.count == 0 ? state.head() : COMMA);
+                            writeValue(buffer, element);
+                        } catch (RuntimeException e) {
+                            DataBufferUtils.release(buffer);
+                            sink.error(e);
+                            return;
+                        }
+                        state.count++;
+                        state.last = element;
+                        sink.next(buffer);
+                    });
+
+            return elements.concatWith(Mono.defer(() -> tail(state, bufferFactory)));
+        });
+    }
+
+    /**
+     * 봉투 닫기 (요소가 없었으면 앞부분도 함께 기록)
+     * */
+    private <T> Mono<DataBuffer> tail(EnvelopeState<T> state, DataBufferFactory bufferFactory) {
+        StreamingApiResponse<T> response = state.response;
+        return switch (response.getEnvelope()) {
+            case LIST -> Mono.fromSupplier(() -> write(bufferFactory, state, buffer -> {
+                buffer.write(LIST_END);
+                writeTimestamp(buffer, response.getTimestamp());
+            }));
+            case PAGE -> response.getPageInfo().map(pageInfo -> write(bufferFactory, state, buffer -> {
+                buffer.write(PAGE_INFO_FIELD);
+                writeValue(buffer, pageInfo);
+                buffer.write(OBJECT_END);
+                writeTimestamp(buffer, response.getTimestamp());
+            }));
+            case CURSOR_PAGE -> Mono.fromSupplier(() -> write(bufferFactory, state, buffer -> {
+                buffer.write(SIZE_FIELD);
+                buffer.write(ascii(Integer.toString(response.getSize())));
+                buffer.write(HAS_NEXT_FIELD);
+                buffer.write(ascii(Boolean.toString(state.hasNext)));
+                if (state.hasNext) {
+                    buffer.write(NEXT_CURSOR_FIELD);
+                    writeValue(buffer, response.getCursorOf().apply(state.last));
+                }
+                buffer.write(OBJECT_END);
+                writeTimestamp(buffer, response.getTimestamp());
+            }));
+        };
+    }
+
+    private DataBuffer write(DataBufferFactory bufferFactory, EnvelopeState<?> state, BufferWriter bufferWriter) {
+        DataBuffer buffer = bufferFactory.allocateBuffer(INITIAL_BUFFER_SIZE);
+        try {
+            if (state.count == 0) {
+                buffer.write(state.head());
+            }
+            bufferWriter.write(buffer);
+            return buffer;
+        } catch (RuntimeException e) {
+            DataBufferUtils.release(buffer);
+            throw e;
+        }
+    }
+
+    private void writeTimestamp(DataBuffer buffer, long timestamp) {
+        buffer.write(TIMESTAMP_FIELD);
+        buffer.write(ascii(Long.toString(timestamp)));
+        buffer.write(OBJECT_END);
+    }
+
+    private void writeValue(DataBuffer buffer, Object value) {
+        try (OutputStream out = buffer.asOutputStream()) {
+            writer.writeValue(out, value);
+        } catch (IOException e) {
+            throw new EncodingException("응답 요소 JSON 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @FunctionalInterface
+    private interface BufferWriter {
+        void write(DataBuffer buffer);
+    }
+
+    /**
+     * 응답 하나의 기록 상태 (요소 순서대로 한 스레드에서만 갱신)
+     * */
+    private static final class EnvelopeState<T> {
+        private final StreamingApiResponse<T> response;
+        private int count;
+        private boolean hasNext;
+        private T last;
+
+        private EnvelopeState(StreamingApiResponse<T> response) {
+            this.response = response;
+        }
+
+        private byte[] head() {
+            return response.getEnvelope() == StreamingApiResponse.Envelope.LIST ? LIST_HEAD : PAGE_HEAD;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.fream_v2.sell_service.global.presentation.codec;
+
+import com.fream_v2.sell_service.global.presentation.dto.StreamingApiResponse;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.http.codec.HttpMessageWriter;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link StreamingApiResponse} 응답 writer
+ *
+ * 인코더를 EncoderHttpMessageWriter로 등록하면 단건(Mono) 반환값의 인코딩 결과를 버퍼 하나로 간주해(singleOrEmpty)
+ * 두 번째 버퍼에서 실패하므로, 인코더가 만든 버퍼 스트림을 그대로 응답 본문에 기록하는 writer로 등록
+ * */
+public class StreamingApiResponseWriter implements HttpMessageWriter<StreamingApiResponse<?>> {
+
+    private final StreamingApiResponseEncoder encoder;
+
+    public StreamingApiResponseWriter(StreamingApiResponseEncoder encoder) {
+        this.encoder = encoder;
+    }
+
+    @Override
+    public List<MediaType> getWritableMediaTypes() {
+        return List.of(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    public boolean canWrite(ResolvableType elementType, MediaType mediaType) {
+        return encoder.canEncode(elementType, mediaType);
+    }
+
+    @Override
+    public Mono<Void> write(Publisher<? extends StreamingApiResponse<?>> inputStream, ResolvableType elementType,
+                            MediaType mediaType, ReactiveHttpOutputMessage message, Map<String, Object> hints) {
+        MediaType contentType = mediaType != null && mediaType.isConcrete() ? mediaType : MediaType.APPLICATION_JSON;
+        message.getHeaders().setContentType(contentType);
+        return message.writeWith(encoder.encode(inputStream, message.bufferFactory(), elementType, contentType, hints));
+    }
+}
@@ -0,0 +1,59 @@
+package com.fream_v2.sell_service.global.presentation.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fream_v2.sell_service.global.presentation.exception.CommonException;
+import com.fream_v2.sell_service.global.presentation.exception.GlobalErrorCode;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(키셋) 기반 페이지 응답
+ * 전체 건수(COUNT) 없이 size + 1건 조회 결과로 다음 페이지 존재 여부를 판단
+ * */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CursorPageResponse<T> {
+    private final List<T> content;
+    private final int size;
+    private final boolean hasNext;
+    private final String nextCursor;
+
+    private CursorPageResponse(List<T> content, int size, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * size + 1건까지 조회한 결과로 커서 페이지 생성
+     *
+     * @param fetched 최대 size + 1건의 조회 결과
+     * @param size 요청 페이지 크기
+     * @param cursorOf 마지막 요소로부터 다음 커서를 만드는 함수
+     * */
+    public static <T> CursorPageResponse<T> of(List<T> fetched, int size, Function<T, String> cursorOf) {
+        if (size <= 0) {
+            throw new CommonException(GlobalErrorCode.INVALID_PAGE_SIZE);
+        }
+        if (fetched == null || fetched.isEmpty()) {
+            return new CursorPageResponse<>(Collections.emptyList(), size, false, null);
+        }
+
+        boolean hasNext = fetched.size() > size;
+        List<T> content = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null;
+
+        return new CursorPageResponse<>(content, size, hasNext, nextCursor);
+    }
+
+    /**
+     * 커서 정보를 유지한 채 content 요소 변환
+     * */
+    public <R> CursorPageResponse<R> map(Function<T, R> mapper) {
+        return new CursorPageResponse<>(content.stream().map(mapper).toList(), size, hasNext, nextCursor);
+    }
+}
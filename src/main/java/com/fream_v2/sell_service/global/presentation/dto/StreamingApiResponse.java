@@ -0,0 +1,67 @@
+package com.fream_v2.sell_service.global.presentation.dto;
+
+import com.fream_v2.sell_service.global.common.dto.PageInfo;
+import com.fream_v2.sell_service.global.presentation.exception.CommonException;
+import com.fream_v2.sell_service.global.presentation.exception.GlobalErrorCode;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Function;
+
+/**
+ * 목록 데이터를 Flux 그대로 담는 성공 응답
+ *
+ * 목록 전체를 모아 ApiResponse로 만들지 않고 StreamingApiResponseEncoder가 요소를 읽는 대로 기록하며,
+ * 응답 JSON은 같은 데이터로 만든 아래 응답의 Jackson 직렬화 결과와 같음
+ * - {@link #list}: {@code ApiResponse<List<T>>}
+ * - {@link #page}: {@code ApiResponse<PageResponse<T>>}
+ * - {@link #cursorPage}: {@code ApiResponse<CursorPageResponse<T>>}
+ * */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class StreamingApiResponse<T> {
+
+    public enum Envelope {
+        LIST, PAGE, CURSOR_PAGE
+    }
+
+    private final Envelope envelope;
+    private final Flux<T> content;
+    private final Mono<PageInfo> pageInfo;
+    private final int size;
+    private final Function<T, String> cursorOf;
+    private final long timestamp;
+
+    /**
+     * 목록 응답 ({"success":true,"data":[...],"timestamp":...})
+     * */
+    public static <T> StreamingApiResponse<T> list(Flux<T> content) {
+        return new StreamingApiResponse<>(Envelope.LIST, content, null, 0, null, System.currentTimeMillis());
+    }
+
+    /**
+     * 페이지 응답 (페이지 정보는 목록을 모두 기록한 뒤 구독하므로 COUNT 쿼리와 목록 조회가 겹치지 않음)
+     * */
+    public static <T> StreamingApiResponse<T> page(Flux<T> content, Mono<PageInfo> pageInfo) {
+        return new StreamingApiResponse<>(Envelope.PAGE, content,
+                pageInfo.switchIfEmpty(Mono.error(() -> new CommonException(GlobalErrorCode.PAGE_INFO_NULL))),
+                0, null, System.currentTimeMillis());
+    }
+
+    /**
+     * 커서 페이지 응답
+     *
+     * @param fetched 최대 size + 1건의 조회 결과 (size + 1번째 요소는 다음 페이지 여부 판단에만 사용)
+     * @param cursorOf 마지막 요소로부터 다음 커서를 만드는 함수
+     * */
+    public static <T> StreamingApiResponse<T> cursorPage(Flux<T> fetched, int size, Function<T, String> cursorOf) {
+        if (size <= 0) {
+            throw new CommonException(GlobalErrorCode.INVALID_PAGE_SIZE);
+        }
+        return new StreamingApiResponse<>(Envelope.CURSOR_PAGE, fetched, null, size, cursorOf,
+                System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,116 @@
+package com.fream_v2.sell_service.global.presentation.exception;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fream_v2.sell_service.global.presentation.dto.ErrorResponse;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * ErrorCode별로 미리 인코딩해 둔 에러 응답 JSON 조각
+ *
+ * {@link ErrorResponse}를 Jackson으로 직렬화한 결과와 바이트 단위로 같은 JSON을 만들되,
+ * code/status/기본 메시지는 생성 시 한 번만 인코딩하고 요청마다 path와 timestamp만 이어 붙임
+ * 기본 메시지와 다른 사용자 정의 메시지(ID가 포함된 메시지 등)만 요청 시점에 이스케이프
+ * */
+public final class ErrorResponseTemplate {
+
+    private static final JsonStringEncoder ENCODER = JsonStringEncoder.getInstance();
+    private static final byte[] TIMESTAMP_FIELD = ",\"timestamp\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+    private static final byte QUOTE = '"';
+    private static final byte CLOSE = '}';
+    private static final int MAX_LONG_DIGITS = 20;
+
+    private final String defaultMessage;
+    private final byte[] head;
+    private final byte[] encodedDefaultMessage;
+    private final byte[] middle;
+
+    private ErrorResponseTemplate(ErrorCode errorCode) {
+        this.defaultMessage = errorCode.getMessage();
+        this.head = ("{\"code\":" + quote(errorCode.getCode()) + ",\"message\":")
+                .getBytes(StandardCharsets.UTF_8);
+        this.encodedDefaultMessage = quote(defaultMessage).getBytes(StandardCharsets.UTF_8);
+        this.middle = (",\"status\":" + errorCode.getStatus() + ",\"path\":")
+                .getBytes(StandardCharsets.US_ASCII);
+    }
+
+    public static ErrorResponseTemplate of(ErrorCode errorCode) {
+        return new ErrorResponseTemplate(errorCode);
+    }
+
+    /**
+     * 에러 응답 본문 작성 (버퍼 크기를 미리 계산해 한 번만 할당)
+     *
+     * @param message 응답 메시지 (null이면 기본 메시지)
+     * */
+    public DataBuffer write(DataBufferFactory bufferFactory, String message, String path, long timestamp) {
+        byte[] encodedMessage = message == null || message.equals(defaultMessage)
+                ? encodedDefaultMessage
+                : quoteAsUtf8(message);
+        boolean plainPath = path != null && isPlainAscii(path);
+        byte[] encodedPath = path == null ? NULL : plainPath ? null : quoteAsUtf8(path);
+        int pathLength = plainPath ? path.length() + 2 : encodedPath.length;
+
+        DataBuffer buffer = bufferFactory.allocateBuffer(head.length + encodedMessage.length + middle.length
+                + pathLength + TIMESTAMP_FIELD.length + MAX_LONG_DIGITS + 1);
+        buffer.write(head);
+        buffer.write(encodedMessage);
+        buffer.write(middle);
+        if (plainPath) {
+            buffer.write(QUOTE);
+            for (int i = 0; i < path.length(); i++) {
+                buffer.write((byte) path.charAt(i));
+            }
+            buffer.write(QUOTE);
+        } else {
+            buffer.write(encodedPath);
+        }
+        buffer.write(TIMESTAMP_FIELD);
+        writeLong(buffer, timestamp);
+        buffer.write(CLOSE);
+        return buffer;
+    }
+
+    /**
+     * 이스케이프 없이 그대로 쓸 수 있는 문자열인지 (출력 가능한 ASCII 중 따옴표/역슬래시 제외)
+     * */
+    private static boolean isPlainAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x20 || c > 0x7E || c == '"' || c == '\\') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeLong(DataBuffer buffer, long value) {
+        if (value < 0) {
+            buffer.write(Long.toString(value).getBytes(StandardCharsets.US_ASCII));
+            return;
+        }
+        long divisor = 1;
+        while (divisor <= value / 10) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            buffer.write((byte) ('0' + (value / divisor) % 10));
+        }
+    }
+
+    private static String quote(String value) {
+        return '"' + new String(ENCODER.quoteAsString(value)) + '"';
+    }
+
+    private static byte[] quoteAsUtf8(String value) {
+        byte[] escaped = ENCODER.quoteAsUTF8(value);
+        byte[] quoted = new byte[escaped.length + 2];
+        quoted[0] = QUOTE;
+        System.arraycopy(escaped, 0, quoted, 1, escaped.length);
+        quoted[quoted.length - 1] = QUOTE;
+        return quoted;
+    }
+}
@@ -31,6 +31,7 @@ public enum GlobalErrorCode implements ErrorCode {
     INVALID_TOTAL_ELEMENTS("GLOBAL_106", "전체 요소 수는 0보다 크거나 같아야 합니다.", 400),
     INVALID_TOTAL_PAGES("GLOBAL_107", "전체 페이지 수는 0보다 크거나 같아야 합니다.", 400),
     PAGE_INFO_NULL("GLOBAL_108", "페이지 정보는 null이 될 수 없습니다.", 400),
+    INVALID_CURSOR("GLOBAL_109", "유효하지 않은 커서입니다.", 400),
 
     /**
      * 인증/인가 에러(401, 403)
@@ -5,6 +5,9 @@ import lombok.Getter;
 /**
  * 모든 커스텀 예외의 기본이 되는 추상 클래스
  * ErrorCode를 포함하여 일관된 예외를 처리를 가능하게 함
+ *
+ * 상태 코드가 500 미만인 예외(만료, 이미 판매됨 등 예상된 비즈니스 결과)는 스택 트레이스를 수집하지 않음
+ * 클라이언트 에러는 스택 없이 warn 로그만 남기므로, 수집 비용(스택 순회 + 배열 할당)만 들고 쓰이지 않기 때문
  * */
 @Getter
 public abstract class GlobalException extends RuntimeException {
@@ -18,8 +21,7 @@ public abstract class GlobalException extends RuntimeException {
      * @param errorCode 에러 코드 enum 값
      * */
     protected GlobalException(ErrorCode errorCode) {
-        super(errorCode.getMessage());
-        this.errorCode = errorCode;
+        this(errorCode, errorCode.getMessage(), null);
     }
 
     /**
@@ -29,8 +31,7 @@ public abstract class GlobalException extends RuntimeException {
      * @param errorCode 에러 코드 enum 값
      * */
     protected GlobalException(ErrorCode errorCode, String message) {
-        super(message);
-        this.errorCode = errorCode;
+        this(errorCode, message, null);
     }
 
     /**
@@ -41,8 +42,7 @@ public abstract class GlobalException extends RuntimeException {
      * @param cause 원인이 되는 예외
      * */
     protected GlobalException(ErrorCode errorCode, Throwable cause) {
-        super(errorCode.getMessage(), cause);
-        this.errorCode = errorCode;
+        this(errorCode, errorCode.getMessage(), cause);
     }
 
     /**
@@ -54,8 +54,14 @@ public abstract class GlobalException extends RuntimeException {
      * @param cause 원인이 되는 예외
      * */
     protected GlobalException(ErrorCode errorCode, String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, true, isServerError(errorCode));
         this.errorCode = errorCode;
     }
-}
 
+    /**
+     * 스택 트레이스 수집 대상 여부 (서버 에러만)
+     * */
+    private static boolean isServerError(ErrorCode errorCode) {
+        return errorCode.getStatus() >= 500;
+    }
+}
@@ -1,97 +1,87 @@
 package com.fream_v2.sell_service.global.presentation.exception;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fream_v2.sell_service.global.presentation.dto.ErrorResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.web.reactive.error.ErrorWebExceptionHandler;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.support.WebExchangeBindException;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * WebFlux 전역 예외 처리기
+ *
+ * 에러 응답은 ErrorResponse 객체 생성과 ObjectMapper 직렬화 없이
+ * ErrorCode별로 미리 인코딩한 {@link ErrorResponseTemplate}에 path와 timestamp만 채워 씀
  * */
 @Slf4j
 @Component
 @Order(-2)
-@RequiredArgsConstructor
 public class GlobalExceptionHandler implements ErrorWebExceptionHandler {
 
-    private final ObjectMapper objectMapper;
+    private final ConcurrentHashMap<ErrorCode, ErrorResponseTemplate> templates = new ConcurrentHashMap<>();
+
+    public GlobalExceptionHandler() {
+        for (GlobalErrorCode errorCode : GlobalErrorCode.values()) {
+            templates.put(errorCode, ErrorResponseTemplate.of(errorCode));
+        }
+    }
 
     @Override
     public Mono<Void> handle(ServerWebExchange exchange, Throwable ex) {
-        ErrorResponse errorResponse = createErrorResponse(exchange, ex);
-        logException(ex, errorResponse);
+        ErrorCode errorCode = resolveErrorCode(ex);
+        String message = resolveMessage(ex, errorCode);
+        logException(ex, errorCode, message);
 
-        exchange.getResponse().setStatusCode(HttpStatus.valueOf(errorResponse.getStatus()));
-        exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.valueOf(errorCode.getStatus()));
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
 
-        return exchange.getResponse().writeWith(
-                Mono.fromSupplier(() -> {
-                    try {
-                        byte[] bytes = objectMapper.writeValueAsBytes(errorResponse);
-                        return exchange.getResponse().bufferFactory().wrap(bytes);
-                    } catch (JsonProcessingException e) {
-                        log.error("에러 응답 JSON 직렬화에 실패했습니다.", e);
-                        return exchange.getResponse().bufferFactory().wrap(new byte[0]);
-                    }
-                })
-        );
+        String path = exchange.getRequest().getPath().value();
+        ErrorResponseTemplate template = templates.computeIfAbsent(errorCode, ErrorResponseTemplate::of);
+        return response.writeWith(Mono.fromSupplier(() ->
+                template.write(response.bufferFactory(), message, path, System.currentTimeMillis())));
     }
 
-    private ErrorResponse createErrorResponse(ServerWebExchange exchange, Throwable ex) {
-        String path = exchange.getRequest().getPath().value();
+    private ErrorCode resolveErrorCode(Throwable ex) {
+        if (ex instanceof GlobalException globalException) {
+            return globalException.getErrorCode();
+        }
+        if (ex instanceof WebExchangeBindException) {
+            return GlobalErrorCode.INVALID_INPUT_VALUE;
+        }
+        return GlobalErrorCode.INTERNAL_SERVER_ERROR;
+    }
 
+    private String resolveMessage(Throwable ex, ErrorCode errorCode) {
         if (ex instanceof GlobalException globalException) {
-            var errorCode = globalException.getErrorCode();
-            String message = globalException.getMessage() != null
+            return globalException.getMessage() != null
                     ? globalException.getMessage()
                     : errorCode.getMessage();
-
-            return ErrorResponse.of(
-                    errorCode.getCode(),
-                    message,
-                    errorCode.getStatus(),
-                    path
-            );
         }
 
         if (ex instanceof WebExchangeBindException bindException) {
-            String message = bindException.getBindingResult()
+            return bindException.getBindingResult()
                     .getAllErrors()
                     .stream()
                     .findFirst()
                     .map(error -> error.getDefaultMessage())
-                    .orElse(GlobalErrorCode.INVALID_INPUT_VALUE.getMessage());
-
-            return ErrorResponse.of(
-                    GlobalErrorCode.INVALID_INPUT_VALUE.getCode(),
-                    message,
-                    HttpStatus.BAD_REQUEST.value(),
-                    path
-            );
+                    .orElse(errorCode.getMessage());
         }
 
-        return ErrorResponse.of(
-                GlobalErrorCode.INTERNAL_SERVER_ERROR.getCode(),
-                GlobalErrorCode.INTERNAL_SERVER_ERROR.getMessage(),
-                HttpStatus.INTERNAL_SERVER_ERROR.value(),
-                path
-        );
+        return errorCode.getMessage();
     }
 
-    private void logException(Throwable ex, ErrorResponse errorResponse) {
-        if (errorResponse.getStatus() >= 500) {
-            log.error("서버 에러 [{}]: {}", errorResponse.getCode(), errorResponse.getMessage(), ex);
+    private void logException(Throwable ex, ErrorCode errorCode, String message) {
+        if (errorCode.getStatus() >= 500) {
+            log.error("서버 에러 [{}]: {}", errorCode.getCode(), message, ex);
         } else {
-            log.warn("클라이언트 에러 [{}]: {}", errorResponse.getCode(), errorResponse.getMessage());
+            log.warn("클라이언트 에러 [{}]: {}", errorCode.getCode(), message);
         }
     }
 }
@@ -0,0 +1,89 @@
+-- ========================================
+-- Sell Service - PostgreSQL 스키마
+-- 운영 DB는 마이그레이션으로 적용 (spring.sql.init.platform=postgresql 로 자동 실행 가능)
+-- ========================================
+
+CREATE TABLE IF NOT EXISTS sells (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    seller_id   BIGINT       NOT NULL,
+    product_id  BIGINT       NOT NULL,
+    price       BIGINT       NOT NULL,
+    min_price   BIGINT,
+    description VARCHAR(2000),
+    status      VARCHAR(20)  NOT NULL,
+    view_count  INTEGER      NOT NULL DEFAULT 0,
+    metadata    JSONB,
+    listed_at   TIMESTAMP    NOT NULL,
+    expires_at  TIMESTAMP    NOT NULL,
+    updated_at  TIMESTAMP    NOT NULL,
+    status_changed_at TIMESTAMP,                  -- 현재 상태로 바뀐 시각 (상태 체류 시간 지표용, 컬럼 추가 전 행은 NULL)
+    version     BIGINT       NOT NULL DEFAULT 0  -- 조건부 상태 전이/수정용 버전
+);
+
+-- 키셋 페이징: (product_id, status) 범위 내에서 정렬 키 + id 순으로 인덱스 스캔
+CREATE INDEX IF NOT EXISTS idx_sells_product_status_listed
+    ON sells (product_id, status, listed_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_sells_product_status_price
+    ON sells (product_id, status, price, id);
+
+-- 판매자 조건 검색 스트리밍 (id 순)
+CREATE INDEX IF NOT EXISTS idx_sells_seller_status
+    ON sells (seller_id, status, id);
+
+-- 일일 등록 한도 카운터 복구 (최근 24시간 등록분 범위 스캔)
+CREATE INDEX IF NOT EXISTS idx_sells_listed_at
+    ON sells (listed_at);
+
+-- 가격 협상 제안: 접수 후 메모리에 모았다가 다중 행 INSERT로 일괄 저장 (ID는 애플리케이션 생성 UUID)
+CREATE TABLE IF NOT EXISTS sell_offers (
+    id          VARCHAR(36)  PRIMARY KEY,
+    sell_id     BIGINT       NOT NULL,
+    seller_id   BIGINT       NOT NULL,
+    buyer_id    BIGINT       NOT NULL,
+    price       BIGINT       NOT NULL,
+    offered_at  TIMESTAMP    NOT NULL
+);
+-- 판매자 제안함: 최근 제안 최신순 조회
+CREATE INDEX IF NOT EXISTS idx_sell_offers_seller_offered
+    ON sell_offers (seller_id, offered_at DESC);
+
+-- 판매 가격 변경 이력: 추가 전용, changed_at 월 단위 범위 파티션
+-- 월 파티션은 SellPriceHistoryPartitionManager가 미리 만들고, 범위를 벗어난 행은 기본 파티션에 저장
+CREATE TABLE IF NOT EXISTS sell_price_history (
+    sell_id         BIGINT       NOT NULL,
+    product_id      BIGINT       NOT NULL,
+    price           BIGINT       NOT NULL,
+    previous_price  BIGINT       NOT NULL,
+    changed_at      TIMESTAMP    NOT NULL
+) PARTITION BY RANGE (changed_at);
+CREATE TABLE IF NOT EXISTS sell_price_history_default
+    PARTITION OF sell_price_history DEFAULT;
+-- 상품별 가격 차트 (기간 범위 스트리밍)
+CREATE INDEX IF NOT EXISTS idx_sell_price_history_product_changed
+    ON sell_price_history (product_id, changed_at);
+-- 판매별 가격 변경 횟수 제한
+CREATE INDEX IF NOT EXISTS idx_sell_price_history_sell_changed
+    ON sell_price_history (sell_id, changed_at);
+
+-- 판매 이벤트 아웃박스: 판매 변경과 같은 트랜잭션으로 기록, 릴레이가 id 순으로 Kafka 발행 후 삭제
+CREATE TABLE IF NOT EXISTS sell_outbox (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    sell_id     BIGINT       NOT NULL,
+    event_type  VARCHAR(30)  NOT NULL,
+    payload     TEXT         NOT NULL,
+    created_at  TIMESTAMP    NOT NULL
+);
+
+-- 아웃박스 릴레이 단일 실행 잠금: 발행 트랜잭션마다 이 행을 잠근 노드 하나만 발행 (판매별 발행 순서 보장)
+CREATE TABLE IF NOT EXISTS sell_outbox_relay_lock (
+    name        VARCHAR(30)  PRIMARY KEY
+);
+INSERT INTO sell_outbox_relay_lock (name) VALUES ('relay') ON CONFLICT DO NOTHING;
+
+-- 수신 이벤트 처리 이력: 구매/결제 이벤트 중복 반영 방지 (보관 기간 후 삭제)
+CREATE TABLE IF NOT EXISTS sell_inbox (
+    event_id     VARCHAR(64)  PRIMARY KEY,
+    processed_at TIMESTAMP    NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_sell_inbox_processed_at
+    ON sell_inbox (processed_at);
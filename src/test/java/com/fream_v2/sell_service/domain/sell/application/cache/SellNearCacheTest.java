@@ -0,0 +1,115 @@
+package com.fream_v2.sell_service.domain.sell.application.cache;
+
+import com.fream_v2.sell_service.domain.sell.domain.event.SellChangedEvent;
+import com.fream_v2.sell_service.domain.sell.domain.model.Sell;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellStatus;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SellNearCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final SellNearCache cache = new SellNearCache(1_000, Duration.ofSeconds(30), Duration.ofHours(1),
+            nanos::get, Runnable::run);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void finishedSellsOutliveActiveOnes() {
+        Sell active = sell(1L, SellStatus.PENDING);
+        Sell sold = sell(2L, SellStatus.SOLD);
+        cache.get(1L, id -> load(active)).block();
+        cache.get(2L, id -> load(sold)).block();
+
+        nanos.addAndGet(Duration.ofMinutes(1).toNanos());
+        cache.get(1L, id -> load(active)).block();
+        cache.get(2L, id -> load(sold)).block();
+
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() {
+        Sinks.One<Sell> pending = Sinks.one();
+        CompletableFuture<Sell> first = cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return pending.asMono();
+        }).toFuture();
+        CompletableFuture<Sell> second = cache.get(1L, id -> load(sell(1L, SellStatus.PENDING))).toFuture();
+
+        pending.tryEmitValue(sell(1L, SellStatus.PENDING));
+
+        assertThat(first.join().getSellId()).isEqualTo(1L);
+        assertThat(second.join().getSellId()).isEqualTo(1L);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void loadStartsOnSubscribeAndRetriesAfterFailure() {
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<Sell> lookup = cache.get(1L, id -> Mono.defer(() -> attempts.incrementAndGet() == 1
+                ? Mono.error(new IllegalStateException("db down"))
+                : load(sell(1L, SellStatus.PENDING))));
+
+        // 조립만으로는 캐시도 DB도 건드리지 않음
+        assertThat(attempts).hasValue(0);
+        assertThat(cache.estimatedSize()).isZero();
+
+        assertThat(lookup.retry(1).block().getSellId()).isEqualTo(1L);
+        assertThat(attempts).hasValue(2);
+    }
+
+    @Test
+    void localWritesAreVisibleAndInvalidationForcesReload() {
+        Sell before = sell(1L, SellStatus.PENDING);
+        cache.get(1L, id -> load(before)).block();
+
+        Sell after = before.updatePrice(90_000L, null, System.currentTimeMillis());
+        cache.onSellChanged(SellChangedEvent.changed(before, after));
+        assertThat(cache.get(1L, id -> load(before)).block().getPrice()).isEqualTo(90_000L);
+
+        cache.invalidate(1L);
+        cache.get(1L, id -> load(after)).block();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void missingSellIsNotCached() {
+        assertThat(cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return Mono.empty();
+        }).block()).isNull();
+        cache.get(1L, id -> load(sell(1L, SellStatus.PENDING))).block();
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private Mono<Sell> load(Sell sell) {
+        return Mono.fromSupplier(() -> {
+            loads.incrementAndGet();
+            return sell;
+        });
+    }
+
+    private static Sell sell(Long sellId, SellStatus status) {
+        Sell created = Sell.createSell(1L, 100L, 100_000L, null, null, System.currentTimeMillis()).changeStatus(status, System.currentTimeMillis());
+        return Sell.builder()
+                .sellId(sellId)
+                .sellerId(created.getSellerId())
+                .productId(created.getProductId())
+                .price(created.getPrice())
+                .status(created.getStatus())
+                .viewCount(0)
+                .listedAt(created.getListedAt())
+                .expiresAt(created.getExpiresAt())
+                .updatedAt(created.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,143 @@
+package com.fream_v2.sell_service.domain.sell.application.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fream_v2.sell_service.domain.sell.domain.event.SellLifecycleEvent;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellStatus;
+import com.fream_v2.sell_service.global.common.util.NodeIdUtils;
+import com.fream_v2.sell_service.global.config.KafkaConfig;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 노드 로컬 판매 이벤트 수신기 검증 (임베디드 Kafka)
+ * 복구 시각부터 다시 읽기, 자기 노드 이벤트 제외, consumer 그룹 미생성
+ */
+class NodeLocalSellEventReceiverTest {
+
+    private static final String TOPIC = "sell-events";
+
+    private static EmbeddedKafkaKraftBroker broker;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @BeforeAll
+    static void startBroker() {
+        broker = new EmbeddedKafkaKraftBroker(1, 2, TOPIC);
+        broker.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopBroker() {
+        broker.destroy();
+    }
+
+    @Test
+    void replaysFromSnapshotSkipsOwnEventsAndLeavesNoConsumerGroup() throws Exception {
+        long now = System.currentTimeMillis();
+        long replayFrom = now - TimeUnit.MINUTES.toMillis(10);
+        RecordingHandler recording = new RecordingHandler(replayFrom);
+        NodeLocalSellEventHandler failing = event -> {
+            throw new IllegalStateException("handler failure");
+        };
+
+        try (KafkaProducer<String, byte[]> producer = producer()) {
+            send(producer, 1L, "other-node", now - TimeUnit.HOURS.toMillis(1)); // 복구 스냅샷에 포함
+            send(producer, 2L, "other-node", replayFrom + 1);                    // 복구와 수신 사이
+            send(producer, 3L, NodeIdUtils.current(), replayFrom + 1);          // 자기 노드
+            producer.send(new ProducerRecord<>(TOPIC, null, replayFrom + 2, "4", "not-json".getBytes()));
+            producer.flush();
+        }
+
+        NodeLocalSellEventReceiver receiver = new NodeLocalSellEventReceiver(
+                KafkaConfig.nodeLocalReceiverOptions(Map.of(
+                        ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString())),
+                List.of(failing, recording), objectMapper, TOPIC);
+        receiver.start();
+        try {
+            awaitSize(recording.sellIds, 1);
+            try (KafkaProducer<String, byte[]> producer = producer()) {
+                send(producer, 5L, "other-node", System.currentTimeMillis());
+                producer.flush();
+            }
+            awaitSize(recording.sellIds, 2);
+        } finally {
+            receiver.stop();
+        }
+
+        assertThat(recording.sellIds).containsExactly(2L, 5L);
+        assertThat(recording.unreadableKeys).containsExactly("4");
+        try (AdminClient admin = AdminClient.create(Map.of(
+                AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString()))) {
+            assertThat(admin.listConsumerGroups().all().get(10, TimeUnit.SECONDS)).isEmpty();
+        }
+    }
+
+    private KafkaProducer<String, byte[]> producer() {
+        return new KafkaProducer<>(Map.of(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString()),
+                new StringSerializer(), new ByteArraySerializer());
+    }
+
+    private void send(KafkaProducer<String, byte[]> producer, Long sellId, String originNodeId, long timestamp)
+            throws Exception {
+        SellLifecycleEvent event = new SellLifecycleEvent(UUID.randomUUID().toString(),
+                SellLifecycleEvent.Type.CREATED, sellId, 10L, 100L + sellId, 100_000L, null,
+                SellStatus.PENDING, null, null, LocalDateTime.now(), originNodeId);
+        // 같은 파티션에 두어 순서 검증
+        producer.send(new ProducerRecord<>(TOPIC, 0, timestamp, String.valueOf(sellId),
+                objectMapper.writeValueAsBytes(event)));
+    }
+
+    private static void awaitSize(List<?> list, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (list.size() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+        assertThat(list).hasSizeGreaterThanOrEqualTo(expected);
+    }
+
+    private static final class RecordingHandler implements NodeLocalSellEventHandler {
+
+        private final long replayFromMillis;
+        private final List<Long> sellIds = new CopyOnWriteArrayList<>();
+        private final List<String> unreadableKeys = new CopyOnWriteArrayList<>();
+
+        private RecordingHandler(long replayFromMillis) {
+            this.replayFromMillis = replayFromMillis;
+        }
+
+        @Override
+        public long replayFromMillis() {
+            return replayFromMillis;
+        }
+
+        @Override
+        public void handle(SellLifecycleEvent event) {
+            sellIds.add(event.sellId());
+        }
+
+        @Override
+        public void onUnreadable(String key) {
+            unreadableKeys.add(key);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.fream_v2.sell_service.domain.sell.application.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fream_v2.sell_service.domain.sell.application.limit.SellerDailyLimiter;
+import com.fream_v2.sell_service.domain.sell.application.listing.ActiveListingIndex;
+import com.fream_v2.sell_service.domain.sell.application.outbox.SellEventOutbox;
+import com.fream_v2.sell_service.domain.sell.application.pricehistory.PriceChangePolicy;
+import com.fream_v2.sell_service.domain.sell.application.service.SellCommandService;
+import com.fream_v2.sell_service.domain.sell.domain.event.SellTradeEvent;
+import com.fream_v2.sell_service.domain.sell.domain.model.Sell;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellStatus;
+import com.fream_v2.sell_service.domain.sell.infrastructure.persistence.converter.SellRowMapper;
+import com.fream_v2.sell_service.domain.sell.infrastructure.persistence.repository.SellInboxRepositoryAdapter;
+import com.fream_v2.sell_service.domain.sell.infrastructure.persistence.repository.SellOutboxRepositoryAdapter;
+import com.fream_v2.sell_service.domain.sell.infrastructure.persistence.repository.SellPriceHistoryRepositoryAdapter;
+import com.fream_v2.sell_service.domain.sell.infrastructure.persistence.repository.SellR2dbcRepository;
+import com.fream_v2.sell_service.domain.sell.infrastructure.persistence.repository.SellRepositoryAdapter;
+import com.fream_v2.sell_service.global.common.time.EpochClock;
+import com.fream_v2.sell_service.global.config.KafkaConfig;
+import com.fream_v2.sell_service.global.config.R2dbcConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.r2dbc.convert.MappingR2dbcConverter;
+import org.springframework.data.r2dbc.convert.R2dbcCustomConversions;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.dialect.DialectResolver;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.kafka.receiver.ReceiverOffset;
+import reactor.kafka.receiver.ReceiverOptions;
+import reactor.kafka.receiver.ReceiverRecord;
+import reactor.kafka.sender.KafkaSender;
+import reactor.kafka.sender.SenderRecord;
+import reactor.kafka.sender.SenderResult;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 거래 이벤트 consumer 검증 (임베디드 Kafka + H2 R2DBC)
+ */
+class SellTradeEventConsumerTest {
+
+    private static final String TOPIC = "order-events";
+    private static final String GROUP_ID = "sell-service-test";
+
+    private static EmbeddedKafkaKraftBroker broker;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @BeforeAll
+    static void startBroker() {
+        broker = new EmbeddedKafkaKraftBroker(1, 4, TOPIC);
+        broker.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopBroker() {
+        broker.destroy();
+    }
+
+    @Test
+    void appliesEventsInOrderPerSellIdempotentlyAndCommitsOffsets() throws Exception {
+        ConnectionFactory connectionFactory = ConnectionFactories.get(
+                "r2dbc:h2:mem:///" + UUID.randomUUID() + "?options=DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("schema-h2.sql"))
+                .populate(connectionFactory)
+                .block();
+        DatabaseClient databaseClient = DatabaseClient.create(connectionFactory);
+        SellRepositoryAdapter sellRepository = sellRepository(connectionFactory);
+        SellInboxRepositoryAdapter inboxRepository = new SellInboxRepositoryAdapter(databaseClient);
+        SellPriceHistoryRepositoryAdapter priceHistoryRepository = new SellPriceHistoryRepositoryAdapter(databaseClient);
+        SellCommandService commandService = new SellCommandService(sellRepository, inboxRepository,
+                new SellEventOutbox(new SellOutboxRepositoryAdapter(databaseClient), objectMapper, EpochClock.SYSTEM),
+                TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory)),
+                event -> { },
+                new SellerDailyLimiter(sellRepository, EpochClock.SYSTEM, new SimpleMeterRegistry(), 100, 24, 1_000),
+                new ActiveListingIndex(sellRepository, new SimpleMeterRegistry(), 1_000),
+                new PriceChangePolicy(priceHistoryRepository, EpochClock.SYSTEM, 10, true),
+                EpochClock.SYSTEM);
+
+        int sellCount = 40;
+        List<Sell> sells = sellRepository.insertAll(IntStream.range(0, sellCount)
+                        .mapToObj(i -> Sell.createSell(1L, 100L + i, 100_000L, null, null, System.currentTimeMillis())
+                                .changeStatus(SellStatus.MATCHED, System.currentTimeMillis()))
+                        .toList())
+                .collectList().block();
+
+        // 판매별: 결제 시작 → 결제 완료 → 같은 결제 완료 재전송 → 결제 후 구매자 취소(거부 대상)
+        try (KafkaProducer<String, byte[]> producer = new KafkaProducer<>(Map.of(
+                ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString()),
+                new StringSerializer(), new ByteArraySerializer())) {
+            for (Sell sell : sells) {
+                String completedId = UUID.randomUUID().toString();
+                send(producer, sell, UUID.randomUUID().toString(), SellTradeEvent.Type.PAYMENT_STARTED);
+                send(producer, sell, completedId, SellTradeEvent.Type.PAYMENT_COMPLETED);
+                send(producer, sell, completedId, SellTradeEvent.Type.PAYMENT_COMPLETED);
+                send(producer, sell, UUID.randomUUID().toString(), SellTradeEvent.Type.BUYER_CANCELLED);
+            }
+            producer.send(new ProducerRecord<>(TOPIC, "0", "not-json".getBytes()));
+            producer.flush();
+        }
+
+        KafkaSender<String, byte[]> deadLetterSender = mock();
+        SellTradeEventConsumer consumer = new SellTradeEventConsumer(
+                KafkaConfig.sellTradeEventReceiverOptions(
+                        Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString()),
+                        List.of(TOPIC), GROUP_ID, 20, Duration.ofMillis(200), 200),
+                commandService, inboxRepository, deadLetterSender, objectMapper, EpochClock.SYSTEM,
+                new SimpleMeterRegistry(), 8, 7, 8, "sell-trade-events.DLT");
+        consumer.start();
+        try {
+            long totalRecords = sellCount * 4L + 1;
+            awaitCommitted(totalRecords);
+        } finally {
+            consumer.stop();
+        }
+
+        List<Sell> after = sellRepository.findAllById(sells.stream().map(Sell::getSellId).toList())
+                .collectList().block();
+        assertThat(after).extracting(Sell::getStatus).containsOnly(SellStatus.SOLD);
+        // 판매별 RESERVED, SOLD 두 번만 반영 (재전송/거부 이벤트는 변경 없음)
+        assertThat(count(databaseClient, "sell_outbox")).isEqualTo(sellCount * 2L);
+        assertThat(count(databaseClient, "sell_inbox")).isEqualTo(sellCount * 2L);
+    }
+
+    @Test
+    void exhaustedRetriesGoToDeadLetterTopicAndAreAcknowledged() throws Exception {
+        SellCommandService failing = mock(SellCommandService.class);
+        when(failing.applyTradeEvent(any())).thenReturn(Mono.error(new IllegalStateException("db down")));
+        KafkaSender<String, byte[]> sender = mock();
+        SenderResult<Long> sent = mock();
+        List<ProducerRecord<String, byte[]>> deadLetters = new CopyOnWriteArrayList<>();
+        when(sender.send(any())).thenAnswer(invocation -> Flux.from(
+                        invocation.<Publisher<SenderRecord<String, byte[], Long>>>getArgument(0))
+                .doOnNext(deadLetters::add)
+                .map(record -> sent));
+
+        SellTradeEventConsumer consumer = new SellTradeEventConsumer(ReceiverOptions.create(), failing,
+                mock(SellInboxRepositoryAdapter.class), sender, objectMapper, EpochClock.SYSTEM,
+                new SimpleMeterRegistry(), 8, 7, 2, "sell-trade-events.DLT");
+        byte[] payload = objectMapper.writeValueAsBytes(new SellTradeEvent(UUID.randomUUID().toString(),
+                SellTradeEvent.Type.PAYMENT_COMPLETED, 1L, LocalDateTime.now()));
+        ReceiverOffset offset = mock(ReceiverOffset.class);
+
+        StepVerifier.create(consumer.consume(Flux.just(
+                        new ReceiverRecord<>(new ConsumerRecord<>(TOPIC, 3, 42L, "1", payload), offset))))
+                .expectNext(SellTradeEventConsumer.Outcome.DEAD_LETTERED)
+                .expectComplete()
+                .verify(Duration.ofSeconds(10));
+
+        verify(offset).acknowledge();
+        assertThat(deadLetters).singleElement().satisfies(record -> {
+            assertThat(record.topic()).isEqualTo("sell-trade-events.DLT");
+            assertThat(record.key()).isEqualTo("1");
+            assertThat(record.value()).isEqualTo(payload);
+            assertThat(new String(record.headers().lastHeader(SellTradeEventConsumer.HEADER_ORIGINAL_OFFSET).value()))
+                    .isEqualTo("42");
+            assertThat(new String(record.headers().lastHeader(SellTradeEventConsumer.HEADER_ORIGINAL_PARTITION).value()))
+                    .isEqualTo("3");
+        });
+    }
+
+    private void send(KafkaProducer<String, byte[]> producer, Sell sell, String eventId,
+                      SellTradeEvent.Type type) throws Exception {
+        SellTradeEvent event = new SellTradeEvent(eventId, type, sell.getSellId(), LocalDateTime.now());
+        producer.send(new ProducerRecord<>(TOPIC, String.valueOf(sell.getSellId()),
+                objectMapper.writeValueAsBytes(event)));
+    }
+
+    private void awaitCommitted(long expected) throws InterruptedException {
+        try (AdminClient admin = AdminClient.create(Map.of(
+                AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString()))) {
+            long deadline = System.currentTimeMillis() + 60_000;
+            long committed = 0;
+            while (committed < expected && System.currentTimeMillis() < deadline) {
+                Thread.sleep(200);
+                Map<TopicPartition, OffsetAndMetadata> offsets;
+                try {
+                    offsets = admin.listConsumerGroupOffsets(GROUP_ID).partitionsToOffsetAndMetadata().get();
+                } catch (Exception e) {
+                    continue;
+                }
+                committed = offsets.values().stream().mapToLong(OffsetAndMetadata::offset).sum();
+            }
+            assertThat(committed).isEqualTo(expected);
+        }
+    }
+
+    private static long count(DatabaseClient databaseClient, String table) {
+        return databaseClient.sql("SELECT COUNT(*) AS cnt FROM " + table)
+                .map(row -> row.get("cnt", Long.class))
+                .one()
+                .block();
+    }
+
+    private SellRepositoryAdapter sellRepository(ConnectionFactory connectionFactory) {
+        R2dbcCustomConversions conversions = new R2dbcConfig()
+                .r2dbcCustomConversions(connectionFactory, objectMapper);
+        R2dbcMappingContext mappingContext = new R2dbcMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        MappingR2dbcConverter converter = new MappingR2dbcConverter(mappingContext, conversions);
+        R2dbcEntityTemplate template = new R2dbcEntityTemplate(DatabaseClient.create(connectionFactory),
+                DialectResolver.getDialect(connectionFactory), converter);
+        return new SellRepositoryAdapter(
+                new R2dbcRepositoryFactory(template).getRepository(SellR2dbcRepository.class), template,
+                new SellRowMapper(new ObjectMapper()));
+    }
+}
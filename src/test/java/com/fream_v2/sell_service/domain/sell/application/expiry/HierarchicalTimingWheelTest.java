@@ -0,0 +1,70 @@
+package com.fream_v2.sell_service.domain.sell.application.expiry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK = 1_000L;
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    void expiresOnlyEntriesWhoseDeadlinePassed() {
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(TICK, 8, 3, START);
+        wheel.add(1L, 10L, START + 2_500L);
+        wheel.add(2L, 20L, START + 5_000L);
+
+        List<Long> expired = new ArrayList<>();
+        wheel.advance(START + 2_999L, (id, attachment, deadline) -> expired.add(id));
+        assertThat(expired).isEmpty();
+
+        wheel.advance(START + 3_000L, (id, attachment, deadline) -> expired.add(id));
+        assertThat(expired).containsExactly(1L);
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsEntriesAlreadyDue() {
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(TICK, 8, 3, START);
+
+        assertThat(wheel.add(1L, 0L, START - 1L)).isFalse();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void cascadesAcrossLevelsAndBeyondTopLevelRange() {
+        // 범위: 1초 x 8^3 = 512초, 그 이상은 최상위 단계에서 재배치
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(TICK, 8, 3, START);
+        Random random = new Random(7);
+        int count = 5_000;
+        long[] deadlines = new long[count];
+        for (int i = 0; i < count; i++) {
+            deadlines[i] = START + 1 + random.nextLong(2_000_000L);
+            assertThat(wheel.add(i, i * 2L, deadlines[i])).isTrue();
+        }
+
+        long[] firedAt = new long[count];
+        int fired = 0;
+        for (long now = START; now <= START + 2_100_000L; now += 3_700L) {
+            long currentNow = now;
+            fired += wheel.advance(now, (id, attachment, deadline) -> {
+                assertThat(attachment).isEqualTo(id * 2);
+                assertThat(deadline).isEqualTo(deadlines[(int) id]);
+                firedAt[(int) id] = currentNow;
+            });
+        }
+
+        assertThat(fired).isEqualTo(count);
+        assertThat(wheel.size()).isZero();
+        for (int i = 0; i < count; i++) {
+            // 만료 시각 이후, 한 번의 advance 간격 + tick 이내에 전달
+            assertThat(firedAt[i]).isGreaterThanOrEqualTo(deadlines[i]);
+            assertThat(firedAt[i] - deadlines[i]).isLessThan(3_700L + TICK);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.fream_v2.sell_service.domain.sell.application.limit;
+
+import com.fream_v2.sell_service.domain.sell.domain.exception.SellErrorCode;
+import com.fream_v2.sell_service.domain.sell.domain.exception.SellException;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellListing;
+import com.fream_v2.sell_service.domain.sell.domain.repository.SellRepository;
+import com.fream_v2.sell_service.global.common.time.ManualEpochClock;
+import com.fream_v2.sell_service.global.presentation.exception.CommonException;
+import com.fream_v2.sell_service.global.presentation.exception.GlobalErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SellerDailyLimiterTest {
+
+    private static final long START = 1_735_732_800_000L; // 2025-01-01T12:00Z (버킷 경계)
+    private static final long SELLER_ID = 10L;
+
+    private ManualEpochClock clock;
+    private SellRepository sellRepository;
+    private SellerDailyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new ManualEpochClock(START);
+        sellRepository = mock(SellRepository.class);
+        limiter = new SellerDailyLimiter(sellRepository, clock, new SimpleMeterRegistry(), 3, 24, 1_000);
+    }
+
+    @Test
+    void rejectsRegistrationsUntilWarmUpCompletes() {
+        assertThatThrownBy(() -> limiter.acquire(SELLER_ID))
+                .isInstanceOf(CommonException.class)
+                .extracting(e -> ((CommonException) e).getErrorCode())
+                .isEqualTo(GlobalErrorCode.SERVICE_UNAVAILABLE);
+
+        warmUp();
+
+        limiter.acquire(SELLER_ID);
+        assertThat(limiter.count(SELLER_ID)).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsOverLimitUntilOldestBucketLeavesWindow() {
+        warmUp();
+        limiter.acquire(SELLER_ID);
+        clock.advance(2, TimeUnit.HOURS);
+        limiter.acquire(SELLER_ID);
+        limiter.acquire(SELLER_ID);
+
+        assertThatThrownBy(() -> limiter.acquire(SELLER_ID))
+                .isInstanceOf(SellException.class)
+                .extracting(e -> ((SellException) e).getErrorCode())
+                .isEqualTo(SellErrorCode.DAILY_LIMIT_EXCEEDED);
+
+        // 첫 등록의 버킷이 윈도에서 빠지면 1건 여유
+        clock.advance(22, TimeUnit.HOURS);
+        limiter.acquire(SELLER_ID);
+        assertThat(limiter.count(SELLER_ID)).isEqualTo(3);
+    }
+
+    @Test
+    void releaseAndRemoteRecordsAdjustTheCount() {
+        warmUp();
+        long acquiredAt = limiter.acquire(SELLER_ID);
+        limiter.release(SELLER_ID, acquiredAt);
+        assertThat(limiter.count(SELLER_ID)).isZero();
+
+        clock.advance(1, TimeUnit.HOURS);
+        limiter.record(SELLER_ID, START + TimeUnit.MINUTES.toMillis(30));
+        limiter.record(SELLER_ID, START - TimeUnit.HOURS.toMillis(1)); // 스냅샷에 포함된 등록
+        limiter.record(SELLER_ID, START - TimeUnit.DAYS.toMillis(2)); // 윈도 밖
+        assertThat(limiter.count(SELLER_ID)).isEqualTo(1);
+    }
+
+    @Test
+    void warmUpMergesSnapshotWithRemoteRecordsReceivedMeanwhile() {
+        when(sellRepository.findListingsBetween(any(), any())).thenReturn(Flux.just(
+                new SellListing(SELLER_ID, START - TimeUnit.HOURS.toMillis(3)),
+                new SellListing(20L, START - TimeUnit.HOURS.toMillis(1))));
+        // 복구 중 다른 노드 등록 이벤트 (스냅샷 시각 이후)
+        clock.advance(1, TimeUnit.MINUTES);
+        limiter.record(SELLER_ID, START);
+
+        limiter.warmUp();
+
+        assertThat(limiter.isReady()).isTrue();
+        assertThat(limiter.count(SELLER_ID)).isEqualTo(2);
+        limiter.acquire(SELLER_ID);
+        assertThatThrownBy(() -> limiter.acquire(SELLER_ID)).isInstanceOf(SellException.class);
+    }
+
+    private void warmUp() {
+        when(sellRepository.findListingsBetween(any(), any())).thenReturn(Flux.empty());
+        limiter.warmUp();
+    }
+}
@@ -0,0 +1,123 @@
+package com.fream_v2.sell_service.domain.sell.application.listing;
+
+import com.fream_v2.sell_service.domain.sell.domain.exception.SellErrorCode;
+import com.fream_v2.sell_service.domain.sell.domain.exception.SellException;
+import com.fream_v2.sell_service.domain.sell.domain.model.ActiveListing;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellStatus;
+import com.fream_v2.sell_service.domain.sell.domain.repository.SellRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ActiveListingIndexTest {
+
+    private SellRepository sellRepository;
+    private ActiveListingIndex index;
+
+    @BeforeEach
+    void setUp() {
+        sellRepository = mock(SellRepository.class);
+        when(sellRepository.findActiveListings()).thenReturn(Flux.just(new ActiveListing(1L, 100L)));
+        index = new ActiveListingIndex(sellRepository, new SimpleMeterRegistry(), 16);
+        index.warmUp();
+    }
+
+    @Test
+    void rejectsSecondInProgressListingForSameSellerAndProduct() {
+        StepVerifier.create(index.reserve(1L, 100L))
+                .expectErrorSatisfies(e -> assertThat(((SellException) e).getErrorCode())
+                        .isEqualTo(SellErrorCode.ALREADY_ON_SALE))
+                .verify();
+
+        StepVerifier.create(index.reserve(1L, 101L)).verifyComplete();
+        StepVerifier.create(index.reserve(2L, 100L)).verifyComplete();
+        verify(sellRepository, never()).existsActiveListing(anyLong(), anyLong());
+    }
+
+    @Test
+    void followsStatusTransitionsAndReleases() {
+        index.apply(1L, 100L, SellStatus.PENDING, SellStatus.MATCHED);
+        assertThat(index.contains(1L, 100L)).isTrue();
+
+        index.apply(1L, 100L, SellStatus.RESERVED, SellStatus.SOLD);
+        assertThat(index.contains(1L, 100L)).isFalse();
+        StepVerifier.create(index.reserve(1L, 100L)).verifyComplete();
+
+        index.release(1L, 100L);
+        assertThat(index.contains(1L, 100L)).isFalse();
+    }
+
+    @Test
+    void keepsIdsWiderThan32BitsExact() {
+        long wide = 1L << 40;
+        StepVerifier.create(index.reserve(wide, 7L)).verifyComplete();
+
+        assertThat(index.contains(wide, 7L)).isTrue();
+        assertThat(index.contains(0L, 7L)).isFalse();
+        StepVerifier.create(index.reserve(wide, 7L)).expectError(SellException.class).verify();
+    }
+
+    @Test
+    void fallsBackToRepositoryUntilWarmUpCompletes() {
+        when(sellRepository.findActiveListings()).thenReturn(Flux.never());
+        when(sellRepository.existsActiveListing(3L, 300L)).thenReturn(Mono.just(true));
+        when(sellRepository.existsActiveListing(3L, 301L)).thenReturn(Mono.just(false));
+        ActiveListingIndex warming = new ActiveListingIndex(sellRepository, new SimpleMeterRegistry(), 16);
+        warming.warmUp();
+
+        StepVerifier.create(warming.reserve(3L, 300L)).expectError(SellException.class).verify();
+        StepVerifier.create(warming.reserve(3L, 301L)).verifyComplete();
+        assertThat(warming.contains(3L, 301L)).isTrue();
+    }
+
+    @Test
+    void retriesFailedWarmUp() throws InterruptedException {
+        when(sellRepository.findActiveListings())
+                .thenReturn(Flux.error(new IllegalStateException("db down")))
+                .thenReturn(Flux.just(new ActiveListing(4L, 400L)));
+        ActiveListingIndex warming = new ActiveListingIndex(sellRepository, new SimpleMeterRegistry(), 16);
+        warming.warmUp();
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!warming.isReady() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(warming.isReady()).isTrue();
+        assertThat(warming.contains(4L, 400L)).isTrue();
+    }
+
+    @Test
+    void packedSetMatchesHashSetUnderRandomAddsAndRemoves() {
+        PackedLongSet set = new PackedLongSet(4);
+        Set<Long> expected = new HashSet<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 200_000; i++) {
+            long key = random.nextInt(5_000);
+            if (random.nextBoolean()) {
+                assertThat(set.add(key)).isEqualTo(expected.add(key));
+            } else {
+                assertThat(set.remove(key)).isEqualTo(expected.remove(key));
+            }
+        }
+
+        assertThat(set.size()).isEqualTo(expected.size());
+        for (long key = 0; key < 5_000; key++) {
+            assertThat(set.contains(key)).isEqualTo(expected.contains(key));
+        }
+    }
+}
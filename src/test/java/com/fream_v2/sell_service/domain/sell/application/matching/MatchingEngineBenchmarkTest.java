@@ -0,0 +1,107 @@
+package com.fream_v2.sell_service.domain.sell.application.matching;
+
+import com.fream_v2.sell_service.domain.sell.application.orderbook.OrderBookEntry;
+import com.fream_v2.sell_service.domain.sell.application.orderbook.OrderBookRegistry;
+import com.fream_v2.sell_service.domain.sell.domain.repository.SellRepository;
+import com.fream_v2.sell_service.global.common.time.EpochClock;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 매칭 엔진 처리량/지연 측정 (gradle benchmarkTest 로 실행)
+ *
+ * 상품 20,000개 x 호가 50건(총 100만 건)을 적재한 뒤 무작위 상품에 매수 호가 100만 건을
+ * 최대 256건 동시 요청으로 넣고, 샤드 1개와 코어 수만큼의 샤드에서 처리량과 p50/p99/p999 지연을 비교
+ */
+@Tag("benchmark")
+class MatchingEngineBenchmarkTest {
+
+    private static final int PRODUCTS = 20_000;
+    private static final int ASKS_PER_PRODUCT = 50;
+    private static final int BIDS = 1_000_000;
+    private static final int IN_FLIGHT = 256;
+
+    @Test
+    void singleShard() {
+        run(1);
+    }
+
+    @Test
+    void shardPerCore() {
+        run(Runtime.getRuntime().availableProcessors());
+    }
+
+    private void run(int shards) {
+        ProductShardExecutor shardExecutor = new ProductShardExecutor(shards);
+        try {
+            OrderBookRegistry registry = new OrderBookRegistry(mock(SellRepository.class), shardExecutor, EpochClock.SYSTEM);
+            MatchingEngine engine = new MatchingEngine(shardExecutor, registry, EpochClock.SYSTEM);
+            preload(registry);
+
+            SplittableRandom random = new SplittableRandom(42);
+            BidOrder[] bids = new BidOrder[BIDS];
+            int[] bidsPerProduct = new int[PRODUCTS];
+            for (int i = 0; i < BIDS; i++) {
+                int productId = random.nextInt(PRODUCTS);
+                bidsPerProduct[productId]++;
+                bids[i] = new BidOrder(1_000_000L + i, (long) productId, 150_000L);
+            }
+            int expectedMatches = Arrays.stream(bidsPerProduct)
+                    .map(count -> Math.min(count, ASKS_PER_PRODUCT))
+                    .sum();
+
+            long[] latencies = new long[BIDS];
+            AtomicInteger matched = new AtomicInteger();
+            AtomicLong started = new AtomicLong(System.nanoTime());
+
+            Flux.range(0, BIDS)
+                    .flatMap(i -> Mono.defer(() -> {
+                                long t0 = System.nanoTime();
+                                return engine.match(bids[i])
+                                        .doOnNext(entry -> matched.incrementAndGet())
+                                        .doFinally(signal -> latencies[i] = System.nanoTime() - t0);
+                            }), IN_FLIGHT)
+                    .blockLast();
+
+            long elapsed = System.nanoTime() - started.get();
+            Arrays.sort(latencies);
+            double throughput = BIDS / (elapsed / 1_000_000_000.0);
+
+            System.out.printf("[matching] shards=%d products=%d asks=%d bids=%d matched=%d "
+                            + "throughput=%.0f bids/s p50=%.1fus p99=%.1fus p999=%.1fus%n",
+                    shards, PRODUCTS, PRODUCTS * ASKS_PER_PRODUCT, BIDS, matched.get(), throughput,
+                    percentile(latencies, 0.50), percentile(latencies, 0.99), percentile(latencies, 0.999));
+
+            assertThat(matched.get()).isEqualTo(expectedMatches);
+        } finally {
+            shardExecutor.shutdown();
+        }
+    }
+
+    private static void preload(OrderBookRegistry registry) {
+        long listedAt = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(1);
+        long sellId = 0;
+        for (long productId = 0; productId < PRODUCTS; productId++) {
+            for (int i = 0; i < ASKS_PER_PRODUCT; i++) {
+                long price = 100_000L + (i % 10) * 1_000L;
+                registry.bookForWrite(productId).add(new OrderBookEntry(sellId++, 1L, price,
+                        listedAt + i * 1_000L, listedAt + TimeUnit.DAYS.toMillis(30)));
+            }
+        }
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)] / 1_000.0;
+    }
+}
@@ -0,0 +1,124 @@
+package com.fream_v2.sell_service.domain.sell.application.metrics;
+
+import com.fream_v2.sell_service.domain.sell.domain.event.SellChangedEvent;
+import com.fream_v2.sell_service.domain.sell.domain.exception.SellErrorCode;
+import com.fream_v2.sell_service.domain.sell.domain.exception.SellException;
+import com.fream_v2.sell_service.domain.sell.domain.model.Sell;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellStatus;
+import com.fream_v2.sell_service.domain.sell.domain.repository.SellRepository;
+import com.fream_v2.sell_service.global.common.metrics.TimedConnectionFactory;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.ConnectionFactories;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 판매 도메인 지표 기록 검증
+ */
+class SellMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void operationLatencyAndErrorCodesAreRecordedOnSubscription() {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new StubOperations());
+        proxyFactory.addAspect(new SellMetricsAspect(meterRegistry));
+        StubOperations operations = proxyFactory.getProxy();
+
+        Mono<String> pending = operations.register(false);
+        assertThat(latencyCount("register", "success")).isZero();
+
+        pending.block();
+        assertThatThrownBy(() -> operations.register(true).block()).isInstanceOf(SellException.class);
+        assertThatThrownBy(() -> operations.match()).isInstanceOf(IllegalStateException.class);
+
+        assertThat(latencyCount("register", "success")).isEqualTo(1);
+        assertThat(latencyCount("register", "client_error")).isEqualTo(1);
+        assertThat(latencyCount("match", "server_error")).isEqualTo(1);
+        assertThat(meterRegistry.get("sell.operation.errors")
+                .tags("operation", "register", "error_code", "ALREADY_ON_SALE").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("sell.operation.errors")
+                .tags("operation", "match", "error_code", "UNHANDLED").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void statusTransitionsRecordDwellTimeAndActiveCountsRefresh() {
+        SellRepository sellRepository = mock(SellRepository.class);
+        when(sellRepository.countInProgressByStatus())
+                .thenReturn(Mono.just(Map.of(SellStatus.PENDING, 7L, SellStatus.MATCHED, 2L)));
+        SellLifecycleMetrics metrics = new SellLifecycleMetrics(sellRepository, meterRegistry);
+
+        long now = 1_735_689_600_000L;
+        // PENDING 진입 후 4초 뒤 가격 수정, 다시 1초 뒤 매칭 - 체류 시간은 수정 시각이 아닌 상태 변경 시각 기준
+        Sell pending = Sell.createSell(10L, 100L, 50_000L, null, null, now).updatePrice(45_000L, null, now + 4_000);
+        metrics.onSellChanged(SellChangedEvent.changed(pending, pending.changeStatus(SellStatus.MATCHED, now + 5_000)));
+        // 상태 변경 시각이 없는 행(컬럼 추가 전 데이터)은 기록하지 않음
+        metrics.onSellChanged(SellChangedEvent.changed(
+                sell(SellStatus.PENDING, now), sell(SellStatus.MATCHED, now + 5_000)));
+        metrics.refreshActiveListings();
+
+        Timer transition = meterRegistry.get("sell.status.transition").tags("from", "PENDING", "to", "MATCHED").timer();
+        assertThat(transition.count()).isEqualTo(1);
+        assertThat(transition.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(5_000);
+        // 허용되지 않은 전이 조합은 등록하지 않음
+        assertThat(meterRegistry.find("sell.status.transition").tags("from", "SOLD").timers()).isEmpty();
+        assertThat(meterRegistry.get("sell.listings.active").tag("status", "PENDING").gauge().value()).isEqualTo(7);
+        assertThat(meterRegistry.get("sell.listings.active").tag("status", "RESERVED").gauge().value()).isZero();
+    }
+
+    @Test
+    void connectionAcquisitionIsTimed() {
+        TimedConnectionFactory connectionFactory = new TimedConnectionFactory(ConnectionFactories.get(
+                "r2dbc:h2:mem:///" + UUID.randomUUID() + "?options=DB_CLOSE_DELAY=-1"), meterRegistry);
+
+        DatabaseClient.create(connectionFactory).sql("SELECT 1").fetch().one().block();
+
+        assertThat(meterRegistry.get("r2dbc.connection.acquire").tag("outcome", "success").timer().count())
+                .isEqualTo(1);
+    }
+
+    private long latencyCount(String operation, String outcome) {
+        return meterRegistry.get("sell.operation.latency")
+                .tags("operation", operation, "outcome", outcome)
+                .timer()
+                .count();
+    }
+
+    private static Sell sell(SellStatus status, long updatedAtMillis) {
+        return Sell.builder()
+                .sellId(1L)
+                .sellerId(10L)
+                .productId(100L)
+                .price(50_000L)
+                .status(status)
+                .updatedAtMillis(updatedAtMillis)
+                .build();
+    }
+
+    static class StubOperations {
+
+        @SellMetered(SellOperation.REGISTER)
+        public Mono<String> register(boolean duplicate) {
+            return duplicate
+                    ? Mono.error(new SellException(SellErrorCode.ALREADY_ON_SALE))
+                    : Mono.just("registered");
+        }
+
+        @SellMetered(SellOperation.MATCH)
+        public Mono<String> match() {
+            throw new IllegalStateException("unexpected");
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.fream_v2.sell_service.domain.sell.application.offer;
+
+import com.fream_v2.sell_service.domain.sell.application.service.SellOfferService;
+import com.fream_v2.sell_service.domain.sell.application.service.SellQueryService;
+import com.fream_v2.sell_service.domain.sell.domain.exception.SellErrorCode;
+import com.fream_v2.sell_service.domain.sell.domain.exception.SellException;
+import com.fream_v2.sell_service.domain.sell.domain.model.Sell;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellOffer;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellStatus;
+import com.fream_v2.sell_service.domain.sell.domain.repository.SellOfferRepository;
+import com.fream_v2.sell_service.domain.sell.infrastructure.persistence.repository.SellOfferRepositoryAdapter;
+import com.fream_v2.sell_service.global.common.time.ManualEpochClock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 가격 제안 접수 → 일괄 저장 → 판매자 제안함 전달 흐름 검증 (H2 R2DBC)
+ */
+class SellOfferFlowTest {
+
+    private static final long SELL_ID = 1L;
+    private static final long SELLER_ID = 10L;
+
+    private ManualEpochClock clock;
+    private SellQueryService queryService;
+    private SellOfferRepository offerRepository;
+    private OfferBatchWriter batchWriter;
+    private SellOfferService offerService;
+
+    @BeforeEach
+    void setUp() {
+        clock = new ManualEpochClock(1_735_689_600_000L);
+
+        ConnectionFactory connectionFactory = ConnectionFactories.get(
+                "r2dbc:h2:mem:///" + UUID.randomUUID() + "?options=DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("schema-h2.sql"))
+                .populate(connectionFactory)
+                .block();
+        offerRepository = new SellOfferRepositoryAdapter(DatabaseClient.create(connectionFactory));
+
+        queryService = mock(SellQueryService.class);
+        when(queryService.getSell(SELL_ID)).thenReturn(Mono.just(sell(SELL_ID, SellStatus.PENDING)));
+        when(queryService.getSell(2L)).thenReturn(Mono.just(sell(2L, SellStatus.SOLD)));
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SellerOfferInbox inbox = new SellerOfferInbox(meterRegistry, 16);
+        batchWriter = new OfferBatchWriter(offerRepository, inbox, meterRegistry, 100, 1_000);
+        offerService = new SellOfferService(queryService, offerRepository,
+                new OfferRateLimiter(meterRegistry, clock, 2, 10_000, 1_000), batchWriter, inbox, clock, 10);
+    }
+
+    private static Sell sell(Long sellId, SellStatus status) {
+        return Sell.builder()
+                .sellId(sellId)
+                .sellerId(SELLER_ID)
+                .productId(100L)
+                .price(50_000L)
+                .minPrice(40_000L)
+                .status(status)
+                .build();
+    }
+
+    @Test
+    void validatesAgainstMinPriceAndStatusWithoutTouchingTheQueue() {
+        StepVerifier.create(offerService.submitOffer(SELL_ID, 20L, 39_999L))
+                .expectErrorSatisfies(e -> assertThat(((SellException) e).getErrorCode())
+                        .isEqualTo(SellErrorCode.PRICE_BELOW_MINIMUM))
+                .verify();
+        StepVerifier.create(offerService.submitOffer(2L, 20L, 45_000L))
+                .expectErrorSatisfies(e -> assertThat(((SellException) e).getErrorCode())
+                        .isEqualTo(SellErrorCode.NEGOTIATION_CLOSED))
+                .verify();
+
+        assertThat(batchWriter.queuedCount()).isZero();
+    }
+
+    @Test
+    void tokenBucketLimitsEachBuyerAndSellPairUntilRefilled() {
+        offerService.submitOffer(SELL_ID, 20L, 45_000L).block();
+        offerService.submitOffer(SELL_ID, 20L, 45_000L).block();
+
+        StepVerifier.create(offerService.submitOffer(SELL_ID, 20L, 45_000L))
+                .expectErrorSatisfies(e -> assertThat(((SellException) e).getErrorCode())
+                        .isEqualTo(SellErrorCode.TOO_MANY_NEGOTIATIONS))
+                .verify();
+        StepVerifier.create(offerService.submitOffer(SELL_ID, 21L, 45_000L)).expectNextCount(1).verifyComplete();
+
+        clock.advance(10, TimeUnit.SECONDS);
+        StepVerifier.create(offerService.submitOffer(SELL_ID, 20L, 45_000L)).expectNextCount(1).verifyComplete();
+    }
+
+    @Test
+    void throttledOfferDoesNotLookUpTheSell() {
+        OfferRateLimiter limiter = mock(OfferRateLimiter.class);
+        doThrow(SellException.tooManyNegotiations(SELL_ID)).when(limiter).acquire(20L, SELL_ID);
+        SellOfferService throttled = new SellOfferService(queryService, offerRepository, limiter, batchWriter,
+                new SellerOfferInbox(new SimpleMeterRegistry(), 16), clock, 10);
+
+        StepVerifier.create(throttled.submitOffer(SELL_ID, 20L, 45_000L))
+                .expectErrorSatisfies(e -> assertThat(((SellException) e).getErrorCode())
+                        .isEqualTo(SellErrorCode.TOO_MANY_NEGOTIATIONS))
+                .verify();
+
+        verify(queryService, never()).getSell(SELL_ID);
+    }
+
+    @Test
+    void persistsQueuedOffersInOneBatchAndStreamsThemToTheSellerInbox() {
+        SellOffer first = offerService.submitOffer(SELL_ID, 20L, 41_000L).block();
+        assertThat(batchWriter.flush().block()).isEqualTo(1L);
+
+        StepVerifier.create(offerService.streamInbox(SELLER_ID))
+                .assertNext(offer -> assertThat(offer.offerId()).isEqualTo(first.offerId()))
+                .then(() -> {
+                    offerService.submitOffer(SELL_ID, 21L, 42_000L).block();
+                    offerService.submitOffer(SELL_ID, 22L, 43_000L).block();
+                    assertThat(batchWriter.flush().block()).isEqualTo(2L);
+                })
+                .assertNext(offer -> assertThat(offer.buyerId()).isEqualTo(21L))
+                .assertNext(offer -> assertThat(offer.buyerId()).isEqualTo(22L))
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(offerRepository.findRecentBySellerId(SELLER_ID, 10).collectList().block()).hasSize(3);
+    }
+}
@@ -0,0 +1,108 @@
+package com.fream_v2.sell_service.domain.sell.application.orderbook;
+
+import com.fream_v2.sell_service.domain.sell.application.matching.ProductShardExecutor;
+import com.fream_v2.sell_service.domain.sell.domain.repository.SellRepository;
+import com.fream_v2.sell_service.global.common.time.EpochClock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class OrderBookBroadcasterTest {
+
+    private static final long PRODUCT_ID = 1L;
+
+    private ProductShardExecutor shardExecutor;
+    private OrderBookRegistry registry;
+    private OrderBookBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        shardExecutor = new ProductShardExecutor(1);
+        registry = new OrderBookRegistry(mock(SellRepository.class), shardExecutor, EpochClock.SYSTEM);
+        broadcaster = new OrderBookBroadcaster(registry, EpochClock.SYSTEM, new SimpleMeterRegistry(), 5, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.stop();
+        shardExecutor.shutdown();
+    }
+
+    @Test
+    void publishesOnlyWhenBookChanges() {
+        List<OrderBookSnapshot> received = new CopyOnWriteArrayList<>();
+        broadcaster.subscribe(PRODUCT_ID).subscribe(received::add);
+
+        broadcaster.tick();
+        addAsk(1L, 100_000L);
+        broadcaster.tick();
+        broadcaster.tick();
+
+        assertThat(received).hasSize(2);
+        assertThat(received.get(0).bestAsk()).isNull();
+        assertThat(received.get(1).bestAsk().price()).isEqualTo(100_000L);
+    }
+
+    @Test
+    void slowSubscriberReceivesOnlyLatestState() {
+        SlowSubscriber slow = new SlowSubscriber();
+        broadcaster.subscribe(PRODUCT_ID).subscribe(slow);
+
+        for (long i = 1; i <= 5; i++) {
+            addAsk(i, 100_000L - i * 1_000L);
+            broadcaster.tick();
+        }
+        slow.request(Long.MAX_VALUE);
+
+        assertThat(slow.received).hasSize(1);
+        assertThat(slow.received.get(0).bestAsk().price()).isEqualTo(95_000L);
+        assertThat(slow.received.get(0).totalCount()).isEqualTo(5);
+    }
+
+    @Test
+    void publishesFromDedicatedLoopAfterStart() {
+        broadcaster.start();
+        addAsk(1L, 100_000L);
+
+        String publishingThread = broadcaster.subscribe(PRODUCT_ID)
+                .filter(snapshot -> snapshot.bestAsk() != null)
+                .map(snapshot -> Thread.currentThread().getName())
+                .blockFirst(Duration.ofSeconds(5));
+
+        assertThat(publishingThread).startsWith("order-book-broadcast");
+    }
+
+    private void addAsk(long sellId, long price) {
+        long now = System.currentTimeMillis();
+        shardExecutor.execute(PRODUCT_ID, () -> registry.bookForWrite(PRODUCT_ID)
+                .add(new OrderBookEntry(sellId, 10L, price, now, now + TimeUnit.DAYS.toMillis(1))));
+        shardExecutor.barrier().block();
+    }
+
+    /**
+     * 처음에는 요청하지 않는 구독자 (소켓 쓰기가 밀린 클라이언트)
+     */
+    private static class SlowSubscriber extends BaseSubscriber<OrderBookSnapshot> {
+        private final List<OrderBookSnapshot> received = new CopyOnWriteArrayList<>();
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+        }
+
+        @Override
+        protected void hookOnNext(OrderBookSnapshot value) {
+            received.add(value);
+        }
+    }
+}
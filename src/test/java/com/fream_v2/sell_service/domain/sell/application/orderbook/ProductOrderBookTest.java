@@ -0,0 +1,58 @@
+package com.fream_v2.sell_service.domain.sell.application.orderbook;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.DAYS;
+import static java.util.concurrent.TimeUnit.HOURS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductOrderBookTest {
+
+    private static final long NOW = 1_735_732_800_000L; // 2025-01-01T12:00Z
+
+    @Test
+    void bestAskIsLowestPriceThenEarliestListing() {
+        ProductOrderBook book = new ProductOrderBook(1L);
+        book.add(entry(1L, 120_000L, NOW - HOURS.toMillis(3)));
+        book.add(entry(2L, 100_000L, NOW - HOURS.toMillis(1)));
+        book.add(entry(3L, 100_000L, NOW - HOURS.toMillis(2)));
+
+        assertThat(book.bestAsk(NOW)).get().extracting(OrderBookEntry::sellId).isEqualTo(3L);
+        assertThat(book.depth(5)).containsExactly(
+                new PriceLevelView(100_000L, 2),
+                new PriceLevelView(120_000L, 1));
+        assertThat(book.countAt(100_000L)).isEqualTo(2);
+        assertThat(book.levelCount()).isEqualTo(2);
+    }
+
+    @Test
+    void priceUpdateMovesEntryBetweenLevels() {
+        ProductOrderBook book = new ProductOrderBook(1L);
+        book.add(entry(1L, 100_000L, NOW - HOURS.toMillis(1)));
+        book.add(entry(1L, 90_000L, NOW - HOURS.toMillis(1)));
+
+        assertThat(book.size()).isEqualTo(1);
+        assertThat(book.countAt(100_000L)).isZero();
+        assertThat(book.depth(5)).isEqualTo(List.of(new PriceLevelView(90_000L, 1)));
+    }
+
+    @Test
+    void expiredEntriesAreSkippedAndRemovalEmptiesLevel() {
+        ProductOrderBook book = new ProductOrderBook(1L);
+        book.add(new OrderBookEntry(1L, 10L, 80_000L, NOW - DAYS.toMillis(31), NOW - DAYS.toMillis(1)));
+        book.add(entry(2L, 95_000L, NOW - HOURS.toMillis(1)));
+
+        assertThat(book.bestAsk(NOW)).get().extracting(OrderBookEntry::sellId).isEqualTo(2L);
+
+        book.remove(1L);
+        book.remove(2L);
+        assertThat(book.bestAsk(NOW)).isEmpty();
+        assertThat(book.levelCount()).isZero();
+    }
+
+    private static OrderBookEntry entry(Long sellId, long price, long listedAt) {
+        return new OrderBookEntry(sellId, 10L, price, listedAt, listedAt + DAYS.toMillis(30));
+    }
+}
@@ -0,0 +1,267 @@
+package com.fream_v2.sell_service.domain.sell.application.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fream_v2.sell_service.domain.sell.domain.event.SellChangedEvent;
+import com.fream_v2.sell_service.domain.sell.domain.event.SellLifecycleEvent;
+import com.fream_v2.sell_service.domain.sell.domain.model.Sell;
+import com.fream_v2.sell_service.domain.sell.infrastructure.persistence.repository.SellOutboxRepositoryAdapter;
+import com.fream_v2.sell_service.global.common.time.EpochClock;
+import com.fream_v2.sell_service.global.config.KafkaConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.kafka.sender.KafkaSender;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 아웃박스 릴레이 → 임베디드 Kafka 발행 검증 및 처리량/지연 측정 (H2 R2DBC)
+ */
+class SellOutboxRelayTest {
+
+    private static final String TOPIC = "sell-events";
+
+    private static EmbeddedKafkaKraftBroker broker;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private DatabaseClient databaseClient;
+    private TransactionalOperator transactionalOperator;
+    private SellEventOutbox outbox;
+    private KafkaSender<String, byte[]> sender;
+    private SellOutboxRelay relay;
+    private KafkaConsumer<String, byte[]> consumer;
+
+    @BeforeAll
+    static void startBroker() {
+        broker = new EmbeddedKafkaKraftBroker(1, 3, TOPIC);
+        broker.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopBroker() {
+        broker.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        ConnectionFactory connectionFactory = ConnectionFactories.get(
+                "r2dbc:h2:mem:///" + UUID.randomUUID() + "?options=DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("schema-h2.sql"))
+                .populate(connectionFactory)
+                .block();
+        databaseClient = DatabaseClient.create(connectionFactory);
+        transactionalOperator = TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+
+        SellOutboxRepositoryAdapter outboxRepository = new SellOutboxRepositoryAdapter(databaseClient);
+        outbox = new SellEventOutbox(outboxRepository, objectMapper, EpochClock.SYSTEM);
+        sender = KafkaSender.create(KafkaConfig.sellEventSenderOptions(
+                Map.of(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString()), "lz4", 5, 65536));
+        relay = new SellOutboxRelay(outboxRepository, sender, transactionalOperator, new SimpleMeterRegistry(),
+                TOPIC, 500, 200);
+
+        Map<String, Object> consumerProps = new HashMap<>();
+        consumerProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString());
+        consumerProps.put(ConsumerConfig.GROUP_ID_CONFIG, "outbox-test-" + UUID.randomUUID());
+        consumerProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        consumer = new KafkaConsumer<>(consumerProps, new StringDeserializer(), new ByteArrayDeserializer());
+        consumer.subscribe(List.of(TOPIC));
+        // 구독 파티션 할당이 끝난 뒤부터 발행하도록 대기
+        while (consumer.assignment().isEmpty()) {
+            consumer.poll(Duration.ofMillis(100));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        relay.stop();
+        sender.close();
+        consumer.close();
+    }
+
+    @Test
+    void relaysBacklogKeyedBySellInOrder() throws Exception {
+        int sells = 500;
+        int updatesPerSell = 20;
+        // 판매별 가격을 1, 2, 3 ... 순서로 수정한 이벤트를 판매가 섞이도록 라운드 로빈으로 기록
+        for (int round = 1; round <= updatesPerSell; round++) {
+            List<SellLifecycleEvent> events = new ArrayList<>(sells);
+            for (long sellId = 1; sellId <= sells; sellId++) {
+                events.add(priceUpdated(sellId, round));
+            }
+            outbox.appendAll(events).as(transactionalOperator::transactional).block();
+        }
+        int total = sells * updatesPerSell;
+
+        long started = System.nanoTime();
+        relay.start();
+        List<ConsumerRecord<String, byte[]>> received = consume(total);
+        double seconds = (System.nanoTime() - started) / 1e9;
+
+        assertThat(received).hasSize(total);
+        Map<String, Long> lastPriceBySell = new HashMap<>();
+        for (ConsumerRecord<String, byte[]> record : received) {
+            SellLifecycleEvent event = objectMapper.readValue(record.value(), SellLifecycleEvent.class);
+            assertThat(record.key()).isEqualTo(String.valueOf(event.sellId()));
+            Long previous = lastPriceBySell.put(record.key(), event.price());
+            assertThat(event.price()).isEqualTo(previous == null ? 1L : previous + 1);
+        }
+        assertThat(outboxSize()).isZero();
+
+        System.out.printf("[outbox] backlog %d events relayed in %.2fs (%.0f events/s)%n",
+                total, seconds, total / seconds);
+    }
+
+    @Test
+    void concurrentRelaysKeepPerSellOrder() throws Exception {
+        // 노드 2개가 같은 아웃박스를 작은 batch로 비우고, A 노드는 발행이 느린 상황
+        KafkaSender<String, byte[]> otherSender = KafkaSender.create(KafkaConfig.sellEventSenderOptions(
+                Map.of(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString()), "lz4", 5, 65536));
+        @SuppressWarnings("unchecked")
+        KafkaSender<String, byte[]> slowSender = mock(KafkaSender.class);
+        when(slowSender.send(any())).thenAnswer(invocation -> Mono.delay(Duration.ofMillis(50))
+                .thenMany(sender.send(invocation.getArgument(0))));
+        SellOutboxRepositoryAdapter outboxRepository = new SellOutboxRepositoryAdapter(databaseClient);
+        SellOutboxRelay nodeA = new SellOutboxRelay(outboxRepository, slowSender, transactionalOperator,
+                new SimpleMeterRegistry(), TOPIC, 20, 10);
+        SellOutboxRelay nodeB = new SellOutboxRelay(outboxRepository, otherSender, transactionalOperator,
+                new SimpleMeterRegistry(), TOPIC, 20, 10);
+
+        int sells = 50;
+        int updatesPerSell = 20;
+        for (int round = 1; round <= updatesPerSell; round++) {
+            List<SellLifecycleEvent> events = new ArrayList<>(sells);
+            for (long sellId = 1; sellId <= sells; sellId++) {
+                events.add(priceUpdated(sellId, round));
+            }
+            outbox.appendAll(events).as(transactionalOperator::transactional).block();
+        }
+        int total = sells * updatesPerSell;
+
+        try {
+            nodeA.start();
+            nodeB.start();
+            List<ConsumerRecord<String, byte[]>> received = consume(total);
+
+            assertThat(received).hasSize(total);
+            Map<String, Long> lastPriceBySell = new HashMap<>();
+            for (ConsumerRecord<String, byte[]> record : received) {
+                SellLifecycleEvent event = objectMapper.readValue(record.value(), SellLifecycleEvent.class);
+                Long previous = lastPriceBySell.put(record.key(), event.price());
+                assertThat(event.price()).isEqualTo(previous == null ? 1L : previous + 1);
+            }
+            assertThat(outboxSize()).isZero();
+        } finally {
+            nodeA.stop();
+            nodeB.stop();
+            otherSender.close();
+        }
+    }
+
+    @Test
+    void publishesCommittedEventsPromptlyAfterWakeUp() throws Exception {
+        relay.start();
+        int total = 300;
+        long[] appendedAt = new long[total + 1];
+
+        Thread writer = new Thread(() -> {
+            for (int i = 1; i <= total; i++) {
+                appendedAt[i] = System.nanoTime();
+                outbox.append(SellChangedEvent.created(sell((long) i, 10_000L)))
+                        .as(transactionalOperator::transactional)
+                        .block();
+                relay.wakeUp();
+            }
+        });
+        writer.start();
+        List<ConsumerRecord<String, byte[]>> received = new ArrayList<>();
+        long[] latencies = new long[total];
+        while (received.size() < total) {
+            for (ConsumerRecord<String, byte[]> record : consumer.poll(Duration.ofMillis(50))) {
+                long sellId = Long.parseLong(record.key());
+                latencies[received.size()] = System.nanoTime() - appendedAt[(int) sellId];
+                received.add(record);
+            }
+        }
+        writer.join();
+
+        Arrays.sort(latencies);
+        double p50 = latencies[total / 2] / 1e6;
+        double p99 = latencies[total * 99 / 100] / 1e6;
+        System.out.printf("[outbox] commit -> consume latency p50=%.1fms p99=%.1fms%n", p50, p99);
+
+        // 주기적 확인(200ms)이 아니라 커밋 직후 깨우기 신호로 발행되어야 함
+        assertThat(p50).isLessThan(200);
+        assertThat(outboxSize()).isZero();
+    }
+
+    private List<ConsumerRecord<String, byte[]>> consume(int expected) {
+        List<ConsumerRecord<String, byte[]>> received = new ArrayList<>(expected);
+        long deadline = System.currentTimeMillis() + 60_000;
+        while (received.size() < expected && System.currentTimeMillis() < deadline) {
+            consumer.poll(Duration.ofMillis(100)).forEach(received::add);
+        }
+        return received;
+    }
+
+    private long outboxSize() {
+        return Flux.interval(Duration.ofMillis(50))
+                .concatMap(tick -> databaseClient.sql("SELECT COUNT(*) AS cnt FROM sell_outbox")
+                        .map(row -> row.get("cnt", Long.class))
+                        .one())
+                .takeUntil(count -> count == 0)
+                .take(Duration.ofSeconds(5))
+                .blockLast();
+    }
+
+    private static SellLifecycleEvent priceUpdated(Long sellId, long price) {
+        Sell before = sell(sellId, price - 1);
+        Sell after = before.updatePrice(price, null, System.currentTimeMillis());
+        return SellLifecycleEvent.from(SellChangedEvent.changed(before, after));
+    }
+
+    private static Sell sell(Long sellId, long price) {
+        Sell created = Sell.createSell(1L, 100L, price, null, null, System.currentTimeMillis());
+        return Sell.builder()
+                .sellId(sellId)
+                .sellerId(created.getSellerId())
+                .productId(created.getProductId())
+                .price(created.getPrice())
+                .status(created.getStatus())
+                .viewCount(0)
+                .listedAt(created.getListedAt())
+                .expiresAt(created.getExpiresAt())
+                .updatedAt(created.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,122 @@
+package com.fream_v2.sell_service.domain.sell.application.pricehistory;
+
+import com.fream_v2.sell_service.domain.sell.domain.event.SellChangedEvent;
+import com.fream_v2.sell_service.domain.sell.domain.exception.SellErrorCode;
+import com.fream_v2.sell_service.domain.sell.domain.exception.SellException;
+import com.fream_v2.sell_service.domain.sell.domain.model.PriceCandle;
+import com.fream_v2.sell_service.domain.sell.domain.model.PriceChange;
+import com.fream_v2.sell_service.domain.sell.domain.model.Sell;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellStatus;
+import com.fream_v2.sell_service.domain.sell.domain.repository.SellPriceHistoryRepository;
+import com.fream_v2.sell_service.domain.sell.infrastructure.persistence.repository.SellPriceHistoryRepositoryAdapter;
+import com.fream_v2.sell_service.global.common.time.ManualEpochClock;
+import com.fream_v2.sell_service.global.common.util.TimeUtils;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가격 변경 이력 저장 / OHLC 집계 / 가격 변경 규칙 검증 (H2 R2DBC)
+ */
+class PriceHistoryTest {
+
+    private static final long START_MILLIS = 1_735_689_600_000L;
+    private static final long HOUR_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private ManualEpochClock clock;
+    private SellPriceHistoryRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        clock = new ManualEpochClock(START_MILLIS);
+
+        ConnectionFactory connectionFactory = ConnectionFactories.get(
+                "r2dbc:h2:mem:///" + UUID.randomUUID() + "?options=DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("schema-h2.sql"))
+                .populate(connectionFactory)
+                .block();
+        repository = new SellPriceHistoryRepositoryAdapter(DatabaseClient.create(connectionFactory));
+    }
+
+    @Test
+    void storedChangesAreAggregatedIntoHourlyCandles() {
+        repository.insertAll(List.of(
+                new PriceChange(1L, 100L, 48_000L, 50_000L, START_MILLIS + 1_000),
+                new PriceChange(2L, 100L, 53_000L, 52_000L, START_MILLIS + 2_000),
+                new PriceChange(1L, 100L, 45_000L, 48_000L, START_MILLIS + 3_000),
+                new PriceChange(1L, 100L, 47_000L, 45_000L, START_MILLIS + 2 * HOUR_MILLIS + 10),
+                new PriceChange(3L, 200L, 10_000L, 11_000L, START_MILLIS + 1_000))).block();
+
+        List<PriceCandle> candles = PriceCandleAggregator.aggregate(repository.streamByProductId(100L,
+                                TimeUtils.toLocalDateTime(START_MILLIS),
+                                TimeUtils.toLocalDateTime(START_MILLIS + 3 * HOUR_MILLIS), 2),
+                        HOUR_MILLIS)
+                .collectList()
+                .block();
+
+        // 변경이 없는 중간 구간은 만들지 않음
+        assertThat(candles).containsExactly(
+                new PriceCandle(START_MILLIS, 50_000L, 53_000L, 45_000L, 45_000L, 3),
+                new PriceCandle(START_MILLIS + 2 * HOUR_MILLIS, 45_000L, 47_000L, 45_000L, 47_000L, 1));
+    }
+
+    @Test
+    void changeLimitCountsRecordedChangesWithinLastDay() {
+        PriceChangePolicy policy = new PriceChangePolicy(repository, clock, 3, true);
+        Sell sell = sell(50_000L);
+
+        StepVerifier.create(policy.record(SellChangedEvent.changed(sell, sell.updatePrice(49_000L, null, START_MILLIS))))
+                .verifyComplete();
+        StepVerifier.create(policy.record(SellChangedEvent.changed(sell, sell.updatePrice(48_000L, null, START_MILLIS))))
+                .verifyComplete();
+        // 가격이 그대로면 이력을 남기지 않음
+        StepVerifier.create(policy.record(SellChangedEvent.changed(sell, sell.updatePrice(50_000L, 45_000L, START_MILLIS))))
+                .verifyComplete();
+        StepVerifier.create(policy.check(sell, 47_000L)).verifyComplete();
+
+        StepVerifier.create(policy.record(SellChangedEvent.changed(sell, sell.updatePrice(47_000L, null, START_MILLIS))))
+                .verifyComplete();
+        StepVerifier.create(policy.check(sell, 47_000L))
+                .expectErrorSatisfies(e -> assertThat(((SellException) e).getErrorCode())
+                        .isEqualTo(SellErrorCode.PRICE_CHANGE_LIMIT_EXCEEDED))
+                .verify();
+
+        // 같은 가격은 변경이 아니므로 통과, 24시간이 지나면 다시 변경 가능
+        StepVerifier.create(policy.check(sell, 50_000L)).verifyComplete();
+        clock.advance(TimeUnit.DAYS.toMillis(1) + 1, TimeUnit.MILLISECONDS);
+        StepVerifier.create(policy.check(sell, 47_000L)).verifyComplete();
+    }
+
+    @Test
+    void priceIncreaseIsRejectedWhenDisallowed() {
+        PriceChangePolicy policy = new PriceChangePolicy(repository, clock, 10, false);
+
+        StepVerifier.create(policy.check(sell(50_000L), 51_000L))
+                .expectErrorSatisfies(e -> assertThat(((SellException) e).getErrorCode())
+                        .isEqualTo(SellErrorCode.CANNOT_INCREASE_PRICE))
+                .verify();
+        StepVerifier.create(policy.check(sell(50_000L), 49_000L)).verifyComplete();
+    }
+
+    private static Sell sell(Long price) {
+        return Sell.builder()
+                .sellId(1L)
+                .sellerId(10L)
+                .productId(100L)
+                .price(price)
+                .minPrice(40_000L)
+                .status(SellStatus.PENDING)
+                .build();
+    }
+}
@@ -0,0 +1,228 @@
+package com.fream_v2.sell_service.domain.sell.application.readrouting;
+
+import com.fream_v2.sell_service.domain.sell.domain.event.SellChangedEvent;
+import com.fream_v2.sell_service.domain.sell.domain.model.Sell;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellStatus;
+import com.fream_v2.sell_service.global.common.metrics.TimedConnectionFactory;
+import com.fream_v2.sell_service.global.common.r2dbc.ReadWriteRoutingConnectionFactory;
+import com.fream_v2.sell_service.global.common.r2dbc.ReplicaLagMonitor;
+import com.fream_v2.sell_service.global.common.time.ManualEpochClock;
+import com.fream_v2.sell_service.global.config.MetricsConfig;
+import com.fream_v2.sell_service.global.config.ReadReplicaConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기/쓰기 분리 라우팅 검증 (primary/복제본 역할의 H2 인메모리 DB)
+ *
+ * 각 DB의 node 테이블에 자기 이름을 넣어 두고, 조회 결과로 어느 DB에서 읽었는지 확인
+ */
+class SellReadRoutingTest {
+
+    private static final long START_MILLIS = 1_735_689_600_000L;
+    private static final long WINDOW_MILLIS = 3_000;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ManualEpochClock clock;
+    private ConnectionFactory primary;
+    private List<String> replicaUrls;
+
+    @BeforeEach
+    void setUp() {
+        clock = new ManualEpochClock(START_MILLIS);
+
+        primary = database("primary");
+        replicaUrls = new ArrayList<>();
+        for (String name : List.of("replica-0", "replica-1")) {
+            String url = url();
+            database(ConnectionFactories.get(url), name);
+            replicaUrls.add(url);
+        }
+    }
+
+    @Test
+    void readOnlyQueriesRoundRobinOverCheckedReplicasAndEverythingElseUsesPrimary() {
+        ConnectionFactory connectionFactory = postProcess(primary, String.join(",", replicaUrls));
+        DatabaseClient databaseClient = DatabaseClient.create(connectionFactory);
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(connectionFactory, meterRegistry, 1_000);
+
+        // 지표 래퍼가 라우팅 바깥을 감쌈
+        assertThat(connectionFactory).isInstanceOf(TimedConnectionFactory.class);
+        assertThat(((TimedConnectionFactory) connectionFactory).unwrap())
+                .isInstanceOf(ReadWriteRoutingConnectionFactory.class);
+
+        // 첫 지연 확인 전에는 복제본을 쓰지 않음
+        assertThat(ReadWriteRoutingConnectionFactory.readOnly(node(databaseClient)).block()).isEqualTo("primary");
+
+        monitor.refresh().block();
+        assertThat(meterRegistry.get("r2dbc.replica.lag").gauges())
+                .extracting(gauge -> gauge.value())
+                .containsExactly(0.0, 0.0);
+
+        List<String> reads = Flux.range(0, 4)
+                .concatMap(i -> ReadWriteRoutingConnectionFactory.readOnly(node(databaseClient)))
+                .collectList()
+                .block();
+        assertThat(reads).containsOnly("replica-0", "replica-1");
+        assertThat(reads.get(0)).isNotEqualTo(reads.get(1));
+        assertThat(reads.get(1)).isNotEqualTo(reads.get(2));
+
+        assertThat(node(databaseClient).block()).isEqualTo("primary");
+
+        // 트랜잭션은 시작 시점 context 기준: 표시 없는 쓰기 트랜잭션은 primary, readOnly로 감싼 트랜잭션은 복제본
+        TransactionalOperator transactionalOperator =
+                TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+        assertThat(databaseClient.sql("INSERT INTO node (name) VALUES ('written')").then()
+                .then(node(databaseClient))
+                .as(transactionalOperator::transactional)
+                .block()).isEqualTo("primary");
+        assertThat(DatabaseClient.create(primary).sql("SELECT COUNT(*) FROM node WHERE name = 'written'")
+                .map(row -> row.get(0, Long.class)).one().block()).isEqualTo(1L);
+        assertThat(ReadWriteRoutingConnectionFactory.readOnly(transactionalOperator.transactional(node(databaseClient)))
+                .block()).startsWith("replica-");
+    }
+
+    @Test
+    void failingReplicaIsSkippedAndPrimaryServesWhenNoReplicaIsHealthy() {
+        ConnectionFactory healthy = ConnectionFactories.get(replicaUrls.get(0));
+        ReadWriteRoutingConnectionFactory routing = new ReadWriteRoutingConnectionFactory(
+                primary, List.of(healthy, new FailingConnectionFactory()), 1_000);
+        DatabaseClient databaseClient = DatabaseClient.create(routing);
+
+        routing.refreshReplicaLag(Duration.ofSeconds(1)).block();
+        assertThat(routing.getReplicaLagMillis(0)).isZero();
+        assertThat(routing.getReplicaLagMillis(1)).isEqualTo(Long.MAX_VALUE);
+        assertThat(Flux.range(0, 4)
+                .concatMap(i -> ReadWriteRoutingConnectionFactory.readOnly(node(databaseClient)))
+                .collectList()
+                .block()).containsOnly("replica-0");
+
+        ReadWriteRoutingConnectionFactory allFailing = new ReadWriteRoutingConnectionFactory(
+                primary, List.of(new FailingConnectionFactory()), 1_000);
+        allFailing.refreshReplicaLag(Duration.ofSeconds(1)).block();
+        assertThat(ReadWriteRoutingConnectionFactory.readOnly(node(DatabaseClient.create(allFailing))).block())
+                .isEqualTo("primary");
+    }
+
+    @Test
+    void recentlyChangedSellAndProductStickToPrimaryForTheWindow() {
+        ConnectionFactory connectionFactory = postProcess(primary, replicaUrls.get(0));
+        DatabaseClient databaseClient = DatabaseClient.create(connectionFactory);
+        new ReplicaLagMonitor(connectionFactory, meterRegistry, 1_000).refresh().block();
+        SellReadRouting readRouting = new SellReadRouting(clock, WINDOW_MILLIS, 1_000);
+
+        assertThat(readRouting.bySell(1L, node(databaseClient)).block()).isEqualTo("replica-0");
+
+        Sell before = sell(SellStatus.PENDING);
+        readRouting.onSellChanged(SellChangedEvent.changed(before, sell(SellStatus.MATCHED)));
+
+        assertThat(readRouting.bySell(1L, node(databaseClient)).block()).isEqualTo("primary");
+        assertThat(readRouting.byProduct(100L, node(databaseClient).flux()).blockLast()).isEqualTo("primary");
+        assertThat(readRouting.bySell(2L, node(databaseClient)).block()).isEqualTo("replica-0");
+        assertThat(readRouting.byProduct(200L, node(databaseClient).flux()).blockLast()).isEqualTo("replica-0");
+        // 최신성 요구가 낮은 조회는 변경 여부와 무관하게 복제본
+        assertThat(readRouting.eventual(node(databaseClient).flux()).blockLast()).isEqualTo("replica-0");
+
+        clock.advance(WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+        assertThat(readRouting.bySell(1L, node(databaseClient)).block()).isEqualTo("replica-0");
+        assertThat(readRouting.byProduct(100L, node(databaseClient).flux()).blockLast()).isEqualTo("replica-0");
+    }
+
+    @Test
+    void withoutReplicaUrlsConnectionFactoryIsLeftAsIs() {
+        assertThat(postProcess(primary, "")).isInstanceOf(TimedConnectionFactory.class);
+        assertThat(((TimedConnectionFactory) postProcess(primary, "")).unwrap()).isSameAs(primary);
+    }
+
+    /**
+     * 애플리케이션과 같은 순서로 BeanPostProcessor 적용 (라우팅 → 지표 래퍼)
+     */
+    private ConnectionFactory postProcess(ConnectionFactory connectionFactory, String replicaUrls) {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("sell.datasource.replica-urls", replicaUrls);
+        BeanPostProcessor routing = ReadReplicaConfig.readReplicaRoutingPostProcessor(environment);
+        BeanPostProcessor metrics = MetricsConfig.timedConnectionFactoryPostProcessor(
+                new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry))
+                        .getBeanProvider(MeterRegistry.class));
+
+        Object bean = routing.postProcessAfterInitialization(connectionFactory, "connectionFactory");
+        return (ConnectionFactory) metrics.postProcessAfterInitialization(bean, "connectionFactory");
+    }
+
+    private static Mono<String> node(DatabaseClient databaseClient) {
+        return databaseClient.sql("SELECT name FROM node ORDER BY name LIMIT 1")
+                .map(row -> row.get(0, String.class))
+                .one();
+    }
+
+    private static ConnectionFactory database(String name) {
+        return database(ConnectionFactories.get(url()), name);
+    }
+
+    private static ConnectionFactory database(ConnectionFactory connectionFactory, String name) {
+        DatabaseClient databaseClient = DatabaseClient.create(connectionFactory);
+        databaseClient.sql("CREATE TABLE node (name VARCHAR(20))").then()
+                .then(databaseClient.sql("INSERT INTO node (name) VALUES ('" + name + "')").then())
+                .block();
+        return connectionFactory;
+    }
+
+    private static String url() {
+        return "r2dbc:h2:mem:///" + UUID.randomUUID() + "?options=DB_CLOSE_DELAY=-1";
+    }
+
+    private Sell sell(SellStatus status) {
+        LocalDateTime now = clock.now();
+        return Sell.builder()
+                .sellId(1L)
+                .sellerId(10L)
+                .productId(100L)
+                .price(50_000L)
+                .status(status)
+                .viewCount(0)
+                .listedAt(now)
+                .expiresAt(now.plusDays(30))
+                .updatedAt(now)
+                .build();
+    }
+
+    /**
+     * 연결할 수 없는 복제본
+     */
+    private static final class FailingConnectionFactory implements ConnectionFactory {
+
+        @Override
+        public Mono<Connection> create() {
+            return Mono.error(new IllegalStateException("복제본 연결 실패"));
+        }
+
+        @Override
+        public ConnectionFactoryMetadata getMetadata() {
+            return () -> "failing";
+        }
+    }
+}
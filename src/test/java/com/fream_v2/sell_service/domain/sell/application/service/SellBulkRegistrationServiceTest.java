@@ -0,0 +1,158 @@
+package com.fream_v2.sell_service.domain.sell.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fream_v2.sell_service.domain.sell.application.limit.SellerDailyLimiter;
+import com.fream_v2.sell_service.domain.sell.application.listing.ActiveListingIndex;
+import com.fream_v2.sell_service.domain.sell.application.outbox.SellEventOutbox;
+import com.fream_v2.sell_service.domain.sell.domain.exception.SellErrorCode;
+import com.fream_v2.sell_service.domain.sell.domain.model.Sell;
+import com.fream_v2.sell_service.domain.sell.domain.repository.SellRepository;
+import com.fream_v2.sell_service.domain.sell.presentation.dto.response.BulkSellResult;
+import com.fream_v2.sell_service.global.common.time.EpochClock;
+import com.fream_v2.sell_service.global.presentation.exception.CommonException;
+import com.fream_v2.sell_service.global.presentation.exception.GlobalErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 대량 등록 batch 결과 매칭과 실패 처리 범위 검증
+ */
+class SellBulkRegistrationServiceTest {
+
+    private SellRepository sellRepository;
+    private SellEventOutbox sellEventOutbox;
+    private ApplicationEventPublisher eventPublisher;
+    private SellerDailyLimiter sellerDailyLimiter;
+    private ActiveListingIndex activeListingIndex;
+    private SellBulkRegistrationService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        sellRepository = mock(SellRepository.class);
+        sellEventOutbox = mock(SellEventOutbox.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        sellerDailyLimiter = mock(SellerDailyLimiter.class);
+        activeListingIndex = mock(ActiveListingIndex.class);
+        TransactionalOperator transactionalOperator = mock(TransactionalOperator.class);
+
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(sellEventOutbox.appendAll(any())).thenReturn(Mono.empty());
+        when(sellerDailyLimiter.acquire(anyLong())).thenReturn(1L);
+        when(activeListingIndex.reserve(anyLong(), anyLong())).thenReturn(Mono.empty());
+
+        service = new SellBulkRegistrationService(sellRepository, sellEventOutbox, transactionalOperator,
+                eventPublisher, new ObjectMapper(), sellerDailyLimiter, activeListingIndex, EpochClock.SYSTEM, 10, 1_000);
+    }
+
+    @Test
+    void pairsStoredRowsByListingKeyAndKeepsReservationsAfterCommit() {
+        // RETURNING이 입력과 다른 순서로 돌아오고, 커밋 후 로컬 이벤트 리스너가 실패하는 상황
+        when(sellRepository.insertAll(any())).thenAnswer(invocation -> {
+            List<Sell> reversed = new ArrayList<>(invocation.<List<Sell>>getArgument(0));
+            Collections.reverse(reversed);
+            return Flux.fromIterable(reversed).map(sell -> stored(sell, 1_000L + sell.getProductId()));
+        });
+        doThrow(new IllegalStateException("listener")).when(eventPublisher).publishEvent(any(Object.class));
+
+        List<BulkSellResult> results = service.register(Flux.just(line(1L), line(2L), line(3L)))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(results).allMatch(BulkSellResult::isSuccess);
+        assertThat(results).extracting(BulkSellResult::getLine, BulkSellResult::getSellId)
+                .containsExactlyInAnyOrder(
+                        tuple(1L, 1_001L),
+                        tuple(2L, 1_002L),
+                        tuple(3L, 1_003L));
+        verify(sellerDailyLimiter, never()).release(anyLong(), anyLong());
+        verify(activeListingIndex, never()).release(anyLong(), anyLong());
+    }
+
+    @Test
+    void failedTransactionReleasesReservations() {
+        when(sellRepository.insertAll(any())).thenReturn(Flux.error(new IllegalStateException("db down")));
+
+        List<BulkSellResult> results = service.register(Flux.just(line(1L), line(2L)))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(results).noneMatch(BulkSellResult::isSuccess);
+        verify(sellerDailyLimiter, times(2)).release(10L, 1L);
+        verify(activeListingIndex).release(10L, 1L);
+        verify(activeListingIndex).release(10L, 2L);
+    }
+
+    @Test
+    void cancelledUploadReleasesReservationsOfUncommittedLines() {
+        // batch 저장 중 클라이언트 연결이 끊긴 상황
+        when(sellRepository.insertAll(any())).thenReturn(Flux.never());
+
+        StepVerifier.create(service.register(Flux.just(line(1L), line(2L))))
+                .expectSubscription()
+                .then(() -> verify(sellRepository, timeout(5_000)).insertAll(any()))
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+
+        verify(sellerDailyLimiter, times(2)).release(10L, 1L);
+        verify(activeListingIndex).release(10L, 1L);
+        verify(activeListingIndex).release(10L, 2L);
+    }
+
+    @Test
+    void nullLineAndUnavailableLimiterFailOnlyTheirLines() {
+        when(sellRepository.insertAll(any())).thenAnswer(invocation -> Flux.fromIterable(invocation.<List<Sell>>getArgument(0))
+                .map(sell -> stored(sell, 1_000L + sell.getProductId())));
+        when(sellerDailyLimiter.acquire(20L)).thenThrow(new CommonException(GlobalErrorCode.SERVICE_UNAVAILABLE));
+
+        List<BulkSellResult> results = service.register(Flux.just("null", line(1L),
+                        "{\"sellerId\":20,\"productId\":2,\"price\":100000}"))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(results).extracting(BulkSellResult::getLine, BulkSellResult::getErrorCode)
+                .containsExactlyInAnyOrder(
+                        tuple(1L, SellErrorCode.SELL_DATA_INVALID.getCode()),
+                        tuple(2L, null),
+                        tuple(3L, GlobalErrorCode.SERVICE_UNAVAILABLE.getCode()));
+        verify(sellerDailyLimiter, never()).release(anyLong(), anyLong());
+    }
+
+    private static String line(long productId) {
+        return "{\"sellerId\":10,\"productId\":" + productId + ",\"price\":100000}";
+    }
+
+    private static Sell stored(Sell sell, Long sellId) {
+        return Sell.builder()
+                .sellId(sellId)
+                .sellerId(sell.getSellerId())
+                .productId(sell.getProductId())
+                .price(sell.getPrice())
+                .status(sell.getStatus())
+                .viewCount(0)
+                .version(0L)
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.fream_v2.sell_service.domain.sell.application.service;
+
+import com.fream_v2.sell_service.domain.sell.application.limit.SellerDailyLimiter;
+import com.fream_v2.sell_service.domain.sell.application.listing.ActiveListingIndex;
+import com.fream_v2.sell_service.domain.sell.application.outbox.SellEventOutbox;
+import com.fream_v2.sell_service.domain.sell.application.pricehistory.PriceChangePolicy;
+import com.fream_v2.sell_service.domain.sell.domain.repository.SellInboxRepository;
+import com.fream_v2.sell_service.domain.sell.domain.repository.SellRepository;
+import com.fream_v2.sell_service.global.common.time.EpochClock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 판매 등록 중 취소 시 인메모리 선점 반환 검증
+ */
+class SellCommandServiceTest {
+
+    private static final long SELLER_ID = 10L;
+    private static final long PRODUCT_ID = 100L;
+
+    private SellRepository sellRepository;
+    private SellerDailyLimiter sellerDailyLimiter;
+    private ActiveListingIndex activeListingIndex;
+    private SellCommandService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        sellRepository = mock(SellRepository.class);
+        when(sellRepository.findActiveListings()).thenReturn(Flux.empty());
+        when(sellRepository.findListingsBetween(any(), any())).thenReturn(Flux.empty());
+        TransactionalOperator transactionalOperator = mock(TransactionalOperator.class);
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        sellerDailyLimiter = new SellerDailyLimiter(sellRepository, EpochClock.SYSTEM, new SimpleMeterRegistry(), 3, 24, 1_000);
+        sellerDailyLimiter.warmUp();
+        activeListingIndex = new ActiveListingIndex(sellRepository, new SimpleMeterRegistry(), 16);
+        activeListingIndex.warmUp();
+
+        service = new SellCommandService(sellRepository, mock(SellInboxRepository.class),
+                mock(SellEventOutbox.class), transactionalOperator, mock(ApplicationEventPublisher.class),
+                sellerDailyLimiter, activeListingIndex, mock(PriceChangePolicy.class), EpochClock.SYSTEM);
+    }
+
+    @Test
+    void cancelledRegistrationReleasesLimitAndListingReservation() {
+        // 저장이 끝나기 전에 클라이언트 연결이 끊긴 상황
+        when(sellRepository.save(any())).thenReturn(Mono.never());
+
+        StepVerifier.create(service.registerSell(SELLER_ID, PRODUCT_ID, 100_000L, null, null))
+                .expectSubscription()
+                .then(() -> {
+                    assertThat(sellerDailyLimiter.count(SELLER_ID)).isEqualTo(1);
+                    assertThat(activeListingIndex.contains(SELLER_ID, PRODUCT_ID)).isTrue();
+                })
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(sellerDailyLimiter.count(SELLER_ID)).isZero();
+        assertThat(activeListingIndex.contains(SELLER_ID, PRODUCT_ID)).isFalse();
+    }
+
+    @Test
+    void failedSaveReleasesLimitAndListingReservation() {
+        when(sellRepository.save(any())).thenReturn(Mono.error(new IllegalStateException("db down")));
+
+        StepVerifier.create(service.registerSell(SELLER_ID, PRODUCT_ID, 100_000L, null, null))
+                .expectError(IllegalStateException.class)
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(sellerDailyLimiter.count(SELLER_ID)).isZero();
+        assertThat(activeListingIndex.contains(SELLER_ID, PRODUCT_ID)).isFalse();
+    }
+}
@@ -0,0 +1,92 @@
+package com.fream_v2.sell_service.domain.sell.application.service;
+
+import com.fream_v2.sell_service.domain.sell.application.matching.MatchingEngine;
+import com.fream_v2.sell_service.domain.sell.application.matching.ProductShardExecutor;
+import com.fream_v2.sell_service.domain.sell.application.orderbook.OrderBookEntry;
+import com.fream_v2.sell_service.domain.sell.application.orderbook.OrderBookRegistry;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellStatus;
+import com.fream_v2.sell_service.domain.sell.domain.repository.SellRepository;
+import com.fream_v2.sell_service.global.common.time.EpochClock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 매칭 요청 취소 시 선점한 호가 복원 검증
+ */
+class SellMatchingServiceTest {
+
+    private static final long PRODUCT_ID = 100L;
+    private static final OrderBookEntry ASK = new OrderBookEntry(1L, 10L, 100_000L,
+            System.currentTimeMillis(), Long.MAX_VALUE);
+
+    private ProductShardExecutor shardExecutor;
+    private OrderBookRegistry registry;
+    private SellCommandService sellCommandService;
+    private SellMatchingService service;
+
+    @BeforeEach
+    void setUp() {
+        shardExecutor = new ProductShardExecutor(1);
+        registry = new OrderBookRegistry(mock(SellRepository.class), shardExecutor, EpochClock.SYSTEM);
+        shardExecutor.execute(PRODUCT_ID, () -> registry.bookForWrite(PRODUCT_ID).add(ASK));
+        sellCommandService = mock(SellCommandService.class);
+        service = new SellMatchingService(new MatchingEngine(shardExecutor, registry, EpochClock.SYSTEM),
+                sellCommandService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        shardExecutor.shutdown();
+    }
+
+    @Test
+    void cancelWhileSavingMatchRestoresAsk() {
+        when(sellCommandService.changeStatus(ASK.sellId(), SellStatus.MATCHED)).thenReturn(Mono.never());
+
+        StepVerifier.create(service.matchBid(20L, PRODUCT_ID, 100_000L))
+                .expectSubscription()
+                .then(() -> verify(sellCommandService, timeout(5_000)).changeStatus(ASK.sellId(), SellStatus.MATCHED))
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+
+        shardExecutor.barrier().block(Duration.ofSeconds(5));
+        assertThat(registry.getBook(PRODUCT_ID).contains(ASK.sellId())).isTrue();
+    }
+
+    @Test
+    void matchCancelledBeforeItRunsLeavesAskInBook() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        shardExecutor.execute(PRODUCT_ID, () -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        Disposable match = service.matchBid(20L, PRODUCT_ID, 100_000L).subscribe(null, e -> { });
+        match.dispose();
+        release.countDown();
+
+        shardExecutor.barrier().block(Duration.ofSeconds(5));
+        assertThat(registry.getBook(PRODUCT_ID).contains(ASK.sellId())).isTrue();
+        verify(sellCommandService, never()).changeStatus(anyLong(), any());
+    }
+}
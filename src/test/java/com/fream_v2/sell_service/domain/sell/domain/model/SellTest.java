@@ -0,0 +1,46 @@
+package com.fream_v2.sell_service.domain.sell.domain.model;
+
+import com.fream_v2.sell_service.global.common.time.ManualEpochClock;
+import com.fream_v2.sell_service.global.common.util.TimeUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SellTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private ManualEpochClock clock;
+
+    @BeforeEach
+    void setUp() {
+        clock = new ManualEpochClock(TimeUtils.toEpochMillis(START));
+    }
+
+    @Test
+    void createSellStampsTimesFromGivenClock() {
+        Sell sell = Sell.createSell(10L, 100L, 10_000L, null, null, clock.currentTimeMillis());
+
+        assertThat(sell.getListedAt()).isEqualTo(START);
+        assertThat(sell.getUpdatedAt()).isEqualTo(START);
+        assertThat(sell.getExpiresAt()).isEqualTo(START.plusDays(30));
+    }
+
+    @Test
+    void updatesAdvanceUpdatedAtAndMatchabilityEndsAtExpiry() {
+        Sell sell = Sell.createSell(10L, 100L, 10_000L, null, null, clock.currentTimeMillis());
+
+        clock.advance(5, TimeUnit.MINUTES);
+        Sell repriced = sell.updatePrice(9_000L, null, clock.currentTimeMillis());
+        assertThat(repriced.getUpdatedAt()).isEqualTo(START.plusMinutes(5));
+        assertThat(repriced.getListedAt()).isEqualTo(START);
+        assertThat(repriced.isMatchable(clock.currentTimeMillis())).isTrue();
+
+        clock.advance(30, TimeUnit.DAYS);
+        assertThat(repriced.isMatchable(clock.currentTimeMillis())).isFalse();
+    }
+}
@@ -0,0 +1,54 @@
+package com.fream_v2.sell_service.domain.sell.infrastructure.persistence.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fream_v2.sell_service.domain.sell.domain.model.Sell;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellStatus;
+import com.fream_v2.sell_service.infrastructure.persistence.entity.SellEntity;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LazyJsonMetadataTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void rawBytesAreNotParsedUntilAccessed() {
+        byte[] raw = "{\"size\":\"270\",\"box\":true}".getBytes(StandardCharsets.UTF_8);
+        LazyJsonMetadata metadata = LazyJsonMetadata.ofRaw(raw, objectMapper);
+
+        Sell sell = entityWith(metadata).toDomain()
+                .updatePrice(90_000L, null, System.currentTimeMillis())
+                .changeStatus(SellStatus.MATCHED, System.currentTimeMillis());
+
+        assertThat(metadata.isParsed()).isFalse();
+        assertThat(SellEntity.updateFromDomain(sell).getMetadata().toJsonBytes(objectMapper)).isSameAs(raw);
+
+        assertThat(sell.getMetadata()).containsEntry("size", "270").containsEntry("box", true);
+        assertThat(metadata.isParsed()).isTrue();
+    }
+
+    @Test
+    void domainMapIsSerializedOnWrite() {
+        LazyJsonMetadata metadata = LazyJsonMetadata.of(Map.of("size", "280"));
+
+        assertThat(new String(metadata.toJsonBytes(objectMapper), StandardCharsets.UTF_8))
+                .isEqualTo("{\"size\":\"280\"}");
+    }
+
+    private static SellEntity entityWith(LazyJsonMetadata metadata) {
+        return SellEntity.builder()
+                .id(1L)
+                .sellerId(10L)
+                .productId(100L)
+                .price(100_000L)
+                .minPrice(80_000L)
+                .status(SellStatus.PENDING.name())
+                .viewCount(0)
+                .metadata(metadata)
+                .build();
+    }
+}
@@ -0,0 +1,245 @@
+package com.fream_v2.sell_service.domain.sell.infrastructure.persistence.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fream_v2.sell_service.domain.sell.domain.model.ActiveListing;
+import com.fream_v2.sell_service.domain.sell.domain.model.Sell;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellCursor;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellSearchCondition;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellSortType;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellStatus;
+import com.fream_v2.sell_service.domain.sell.infrastructure.persistence.converter.LazyJsonMetadata;
+import com.fream_v2.sell_service.domain.sell.infrastructure.persistence.converter.SellRowMapper;
+import com.fream_v2.sell_service.global.common.util.TimeUtils;
+import com.fream_v2.sell_service.global.config.R2dbcConfig;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.r2dbc.convert.MappingR2dbcConverter;
+import org.springframework.data.r2dbc.convert.R2dbcCustomConversions;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.dialect.DialectResolver;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactory;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 판매 저장소 어댑터 SQL 검증 (H2 R2DBC)
+ */
+class SellRepositoryAdapterTest {
+
+    private static final long NOW = System.currentTimeMillis();
+
+    private SellRepositoryAdapter repository;
+
+    @BeforeEach
+    void setUp() {
+        ConnectionFactory connectionFactory = ConnectionFactories.get(
+                "r2dbc:h2:mem:///" + UUID.randomUUID() + "?options=DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("schema-h2.sql"))
+                .populate(connectionFactory)
+                .block();
+
+        R2dbcCustomConversions conversions = new R2dbcConfig()
+                .r2dbcCustomConversions(connectionFactory, new ObjectMapper());
+        R2dbcMappingContext mappingContext = new R2dbcMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        MappingR2dbcConverter converter = new MappingR2dbcConverter(mappingContext, conversions);
+        R2dbcEntityTemplate template = new R2dbcEntityTemplate(DatabaseClient.create(connectionFactory),
+                DialectResolver.getDialect(connectionFactory), converter);
+
+        repository = new SellRepositoryAdapter(
+                new R2dbcRepositoryFactory(template).getRepository(SellR2dbcRepository.class), template,
+                new SellRowMapper(new ObjectMapper()));
+    }
+
+    @Test
+    void insertAllReturnsStoredRows() {
+        List<Sell> sells = LongStream.rangeClosed(1, 5)
+                .mapToObj(i -> Sell.createSell(10L, 100L + i, i * 10_000L, null, "item " + i, NOW))
+                .toList();
+
+        List<Sell> saved = repository.insertAll(sells).collectList().block();
+
+        assertThat(saved).extracting(Sell::getPrice)
+                .containsExactlyInAnyOrder(10_000L, 20_000L, 30_000L, 40_000L, 50_000L);
+        assertThat(saved).extracting(Sell::getSellId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(saved).extracting(Sell::getVersion).containsOnly(0L);
+        for (Sell sell : saved) {
+            Sell stored = repository.findById(sell.getSellId()).block();
+            assertThat(stored.getProductId()).isEqualTo(sell.getProductId());
+            assertThat(stored.getPrice()).isEqualTo(sell.getPrice());
+            assertThat(stored.getDescription()).isEqualTo(sell.getDescription());
+        }
+    }
+
+    @Test
+    void keysetPagesWalkPriceOrderWithoutGaps() {
+        repository.insertAll(LongStream.rangeClosed(1, 7)
+                        .mapToObj(i -> Sell.createSell(10L, 100L, (i % 3 + 1) * 10_000L, null, null, NOW))
+                        .toList())
+                .blockLast();
+
+        List<Sell> first = repository.findByProductIdAfter(100L, SellStatus.PENDING, SellSortType.PRICE_ASC, null, 4)
+                .collectList().block();
+        SellCursor cursor = SellCursor.of(SellSortType.PRICE_ASC, first.get(first.size() - 1));
+        List<Sell> second = repository.findByProductIdAfter(100L, SellStatus.PENDING, SellSortType.PRICE_ASC, cursor, 4)
+                .collectList().block();
+
+        assertThat(first).hasSize(4);
+        assertThat(second).hasSize(3);
+        assertThat(first.get(3).getPrice()).isLessThanOrEqualTo(second.get(0).getPrice());
+        assertThat(second).extracting(Sell::getSellId).doesNotContainAnyElementsOf(
+                first.stream().map(Sell::getSellId).toList());
+    }
+
+    @Test
+    void incrementViewCountsAppliesDeltasInOneStatement() {
+        List<Sell> saved = repository.insertAll(List.of(
+                Sell.createSell(10L, 100L, 10_000L, null, null, NOW),
+                Sell.createSell(10L, 100L, 20_000L, null, null, NOW))).collectList().block();
+
+        Long updated = repository.incrementViewCounts(Map.of(
+                saved.get(0).getSellId(), 3L,
+                saved.get(1).getSellId(), 7L)).block();
+
+        assertThat(updated).isEqualTo(2L);
+        assertThat(repository.findById(saved.get(0).getSellId()).block().getViewCount()).isEqualTo(3);
+        assertThat(repository.findById(saved.get(1).getSellId()).block().getViewCount()).isEqualTo(7);
+    }
+
+    @Test
+    void expireAllReturnsOnlyRowsExpiredByThisUpdate() {
+        List<Sell> saved = repository.insertAll(List.of(
+                Sell.createSell(10L, 100L, 10_000L, null, null, NOW),
+                Sell.createSell(10L, 200L, 10_000L, null, null, NOW))).collectList().block();
+        Sell cancelled = repository.save(Sell.createSell(10L, 300L, 10_000L, null, null, NOW)).block();
+        repository.transitionStatus(cancelled, cancelled.changeStatus(SellStatus.CANCELLED, NOW)).block();
+        List<Long> sellIds = List.of(saved.get(0).getSellId(), saved.get(1).getSellId(), cancelled.getSellId());
+        LocalDateTime afterExpiry = TimeUtils.toLocalDateTime(NOW).plusDays(365);
+
+        List<Sell> expired = repository.expireAll(sellIds, afterExpiry).collectList().block();
+
+        assertThat(expired).extracting(Sell::getSellId)
+                .containsExactlyInAnyOrder(saved.get(0).getSellId(), saved.get(1).getSellId());
+        assertThat(expired).allSatisfy(sell -> {
+            assertThat(sell.getStatus()).isEqualTo(SellStatus.EXPIRED);
+            assertThat(sell.getVersion()).isEqualTo(1L);
+            assertThat(sell.getSellerId()).isEqualTo(10L);
+        });
+        // 이미 만료된 판매는 다시 반환하지 않음
+        assertThat(repository.expireAll(sellIds, afterExpiry).collectList().block()).isEmpty();
+    }
+
+    @Test
+    void transitionStatusLetsOnlyOneConcurrentWriterWin() {
+        Sell pending = repository.save(Sell.createSell(10L, 100L, 10_000L, null, null, NOW)).block();
+        assertThat(pending.getVersion()).isZero();
+
+        // 같은 버전을 읽은 두 요청이 각각 전이 시도
+        Sell matched = repository.transitionStatus(pending, pending.changeStatus(SellStatus.MATCHED, NOW)).block();
+        Sell lost = repository.transitionStatus(pending, pending.changeStatus(SellStatus.CANCELLED, NOW)).block();
+
+        assertThat(matched.getVersion()).isEqualTo(1L);
+        assertThat(lost).isNull();
+        Sell stored = repository.findById(pending.getSellId()).block();
+        assertThat(stored.getStatus()).isEqualTo(SellStatus.MATCHED);
+        assertThat(stored.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void updatePriceKeepsViewCountsFlushedAfterTheRead() {
+        Sell pending = repository.save(Sell.createSell(10L, 100L, 10_000L, null, null, NOW)).block();
+
+        // 가격 수정 요청이 판매를 읽은 뒤 조회수 증분이 반영된 상황
+        repository.incrementViewCounts(Map.of(pending.getSellId(), 7L)).block();
+        Sell updated = repository.updatePrice(pending, pending.updatePrice(9_000L, 8_000L, NOW)).block();
+        Sell stale = repository.updatePrice(pending, pending.updatePrice(8_500L, null, NOW)).block();
+
+        assertThat(updated.getPrice()).isEqualTo(9_000L);
+        assertThat(updated.getMinPrice()).isEqualTo(8_000L);
+        assertThat(updated.getViewCount()).isEqualTo(7);
+        assertThat(updated.getVersion()).isEqualTo(1L);
+        assertThat(stale).isNull();
+        assertThat(repository.findById(pending.getSellId()).block().getViewCount()).isEqualTo(7);
+    }
+
+    @Test
+    void statusChangedAtMovesOnlyWithTheStatus() {
+        Sell pending = repository.insertAll(List.of(Sell.createSell(10L, 100L, 10_000L, null, null, NOW)))
+                .blockFirst();
+        Sell repriced = repository.updatePrice(pending, pending.updatePrice(9_000L, null, NOW + 4_000)).block();
+        Sell matched = repository.transitionStatus(repriced, repriced.changeStatus(SellStatus.MATCHED, NOW + 5_000))
+                .block();
+
+        assertThat(repriced.getStatusChangedAtMillis()).isEqualTo(NOW);
+        assertThat(repriced.getUpdatedAtMillis()).isEqualTo(NOW + 4_000);
+        assertThat(matched.getStatusChangedAtMillis()).isEqualTo(NOW + 5_000);
+        assertThat(repository.findById(pending.getSellId()).block().getStatusChangedAtMillis())
+                .isEqualTo(NOW + 5_000);
+    }
+
+    @Test
+    void rowMapperReadsEveryColumnIncludingLazyMetadata() {
+        Sell saved = repository.save(Sell.builder()
+                .sellerId(10L)
+                .productId(100L)
+                .price(10_000L)
+                .status(SellStatus.PENDING)
+                .viewCount(5)
+                .metadata(Map.of("size", "270"))
+                .listedAt(LocalDateTime.of(2025, 1, 1, 12, 0))
+                .expiresAt(LocalDateTime.of(2025, 1, 31, 12, 0))
+                .updatedAt(LocalDateTime.of(2025, 1, 1, 12, 0))
+                .build()).block();
+
+        Sell read = repository.findAllById(List.of(saved.getSellId())).blockFirst();
+
+        assertThat(read).usingRecursiveComparison().ignoringFields("metadata").isEqualTo(saved);
+        assertThat(read.getMinPrice()).isNull();
+        assertThat(read.getMetadata()).isInstanceOf(LazyJsonMetadata.class).containsEntry("size", "270");
+    }
+
+    @Test
+    void searchStreamsOnlyRowsMatchingEveryCondition() {
+        repository.insertAll(List.of(
+                Sell.createSell(10L, 100L, 10_000L, null, null, NOW),
+                Sell.createSell(10L, 100L, 20_000L, null, null, NOW),
+                Sell.createSell(10L, 200L, 20_000L, null, null, NOW),
+                Sell.createSell(20L, 100L, 20_000L, null, null, NOW),
+                Sell.createSell(10L, 100L, 40_000L, null, null, NOW))).blockLast();
+
+        List<Sell> found = repository.search(
+                        new SellSearchCondition(100L, 10L, SellStatus.PENDING, 15_000L, 30_000L), 2)
+                .collectList().block();
+        List<Sell> all = repository.search(new SellSearchCondition(null, null, null, null, null), 2)
+                .collectList().block();
+
+        assertThat(found).extracting(Sell::getPrice).containsExactly(20_000L);
+        assertThat(all).hasSize(5).extracting(Sell::getSellId).isSorted();
+    }
+
+    @Test
+    void activeListingQueriesSeeOnlyInProgressSells() {
+        Sell cancelled = repository.save(Sell.createSell(10L, 100L, 10_000L, null, null, NOW)).block();
+        repository.transitionStatus(cancelled, cancelled.changeStatus(SellStatus.CANCELLED, NOW)).block();
+        repository.save(Sell.createSell(10L, 200L, 10_000L, null, null, NOW)).block();
+
+        assertThat(repository.existsActiveListing(10L, 100L).block()).isFalse();
+        assertThat(repository.existsActiveListing(10L, 200L).block()).isTrue();
+        assertThat(repository.findActiveListings().collectList().block())
+                .containsExactly(new ActiveListing(10L, 200L));
+        assertThat(repository.countInProgressByStatus().block())
+                .containsExactlyEntriesOf(Map.of(SellStatus.PENDING, 1L));
+    }
+}
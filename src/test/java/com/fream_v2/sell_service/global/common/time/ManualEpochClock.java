@@ -0,0 +1,24 @@
+package com.fream_v2.sell_service.global.common.time;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 테스트용 수동 시계 (컴포넌트에 주입해 시각을 고정/진행)
+ */
+public class ManualEpochClock implements EpochClock {
+
+    private volatile long currentMillis;
+
+    public ManualEpochClock(long startMillis) {
+        this.currentMillis = startMillis;
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return currentMillis;
+    }
+
+    public void advance(long amount, TimeUnit unit) {
+        currentMillis += unit.toMillis(amount);
+    }
+}
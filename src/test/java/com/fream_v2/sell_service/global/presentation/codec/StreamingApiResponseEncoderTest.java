@@ -0,0 +1,165 @@
+package com.fream_v2.sell_service.global.presentation.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fream_v2.sell_service.domain.sell.domain.model.Sell;
+import com.fream_v2.sell_service.domain.sell.domain.model.SellStatus;
+import com.fream_v2.sell_service.domain.sell.presentation.dto.response.SellResponse;
+import com.fream_v2.sell_service.global.common.dto.PageInfo;
+import com.fream_v2.sell_service.global.presentation.dto.ApiResponse;
+import com.fream_v2.sell_service.global.presentation.dto.CursorPageResponse;
+import com.fream_v2.sell_service.global.presentation.dto.PageResponse;
+import com.fream_v2.sell_service.global.presentation.dto.StreamingApiResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스트리밍 응답 인코딩 결과가 같은 데이터로 만든 ApiResponse의 Jackson 직렬화 결과와 같은지 검증
+ */
+class StreamingApiResponseEncoderTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final StreamingApiResponseEncoder encoder = new StreamingApiResponseEncoder(objectMapper);
+    private final Function<SellResponse, String> cursorOf = last -> "cursor-\"" + last.getSellId();
+
+    @Test
+    void listMatchesJackson() throws Exception {
+        for (List<SellResponse> sells : List.of(sells(3), sells(0))) {
+            StreamingApiResponse<SellResponse> response = StreamingApiResponse.list(Flux.fromIterable(sells));
+            assertThat(encode(response))
+                    .isEqualTo(jackson(ApiResponse.success(sells), response.getTimestamp()));
+        }
+    }
+
+    @Test
+    void pageMatchesJackson() throws Exception {
+        List<SellResponse> sells = sells(3);
+        PageInfo pageInfo = PageInfo.of(1, 3, 10, 4, 3);
+
+        StreamingApiResponse<SellResponse> response =
+                StreamingApiResponse.page(Flux.fromIterable(sells), Mono.just(pageInfo));
+
+        assertThat(encode(response))
+                .isEqualTo(jackson(ApiResponse.success(PageResponse.of(sells, pageInfo)), response.getTimestamp()));
+    }
+
+    @Test
+    void cursorPageMatchesJackson() throws Exception {
+        for (int fetchedCount : new int[]{5, 3, 0}) {
+            List<SellResponse> fetched = sells(fetchedCount);
+            StreamingApiResponse<SellResponse> response =
+                    StreamingApiResponse.cursorPage(Flux.fromIterable(fetched), 4, cursorOf);
+
+            assertThat(encode(response)).isEqualTo(jackson(
+                    ApiResponse.success(CursorPageResponse.of(fetched, 4, cursorOf)), response.getTimestamp()));
+        }
+    }
+
+    @Test
+    void failureBeforeFirstElementWritesNothing() {
+        StreamingApiResponse<SellResponse> response =
+                StreamingApiResponse.list(Flux.error(new IllegalStateException("조회 실패")));
+
+        StepVerifier.create(encoder.encode(Mono.just(response), DefaultDataBufferFactory.sharedInstance,
+                        ResolvableType.forClass(StreamingApiResponse.class), MediaType.APPLICATION_JSON, Map.of()))
+                .expectError(IllegalStateException.class)
+                .verify();
+    }
+
+    /**
+     * 컨트롤러가 단건으로 반환한 응답도 여러 버퍼로 나뉘어 그대로 기록되는지 (WebFlux 응답 경로 전체)
+     */
+    @Test
+    void controllerReturnValueIsWrittenAcrossBuffers() throws Exception {
+        List<SellResponse> sells = sells(5);
+        StreamingController controller = new StreamingController(sells);
+
+        String body = WebTestClient.bindToController(controller)
+                .httpMessageCodecs(codecs -> codecs.customCodecs().register(new StreamingApiResponseWriter(encoder)))
+                .build()
+                .get().uri("/sells")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(body).isEqualTo(jackson(
+                ApiResponse.success(CursorPageResponse.of(sells, 4, cursorOf)), controller.timestamp));
+    }
+
+    @RestController
+    private class StreamingController {
+        private final List<SellResponse> sells;
+        private long timestamp;
+
+        private StreamingController(List<SellResponse> sells) {
+            this.sells = sells;
+        }
+
+        @GetMapping("/sells")
+        public StreamingApiResponse<SellResponse> sells() {
+            StreamingApiResponse<SellResponse> response =
+                    StreamingApiResponse.cursorPage(Flux.fromIterable(sells), 4, cursorOf);
+            timestamp = response.getTimestamp();
+            return response;
+        }
+    }
+
+    private String encode(StreamingApiResponse<SellResponse> response) {
+        return DataBufferUtils.join(encoder.encode(Mono.just(response), DefaultDataBufferFactory.sharedInstance,
+                        ResolvableType.forClass(StreamingApiResponse.class), MediaType.APPLICATION_JSON, Map.of()))
+                .map(buffer -> {
+                    String json = buffer.toString(StandardCharsets.UTF_8);
+                    DataBufferUtils.release(buffer);
+                    return json;
+                })
+                .block();
+    }
+
+    /**
+     * ApiResponse는 생성 시각을 직접 채우므로 timestamp만 스트리밍 응답의 값으로 교체
+     */
+    private String jackson(ApiResponse<?> response, long timestamp) throws Exception {
+        return objectMapper.writeValueAsString(response)
+                .replace("\"timestamp\":" + response.getTimestamp(), "\"timestamp\":" + timestamp);
+    }
+
+    private static List<SellResponse> sells(int count) {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0, 0, 123_000_000);
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(i -> SellResponse.from(Sell.builder()
+                        .sellId(i)
+                        .sellerId(10L)
+                        .productId(100L)
+                        .price(100_000L + i)
+                        .minPrice(90_000L)
+                        .description("미개봉 \"새상품\"\n" + i)
+                        .status(SellStatus.PENDING)
+                        .viewCount((int) i)
+                        .listedAt(now)
+                        .expiresAt(now.plusDays(30))
+                        .updatedAt(now)
+                        .build()))
+                .toList();
+    }
+}
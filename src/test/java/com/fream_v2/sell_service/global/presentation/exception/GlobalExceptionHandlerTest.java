@@ -0,0 +1,73 @@
+package com.fream_v2.sell_service.global.presentation.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fream_v2.sell_service.domain.sell.domain.exception.SellErrorCode;
+import com.fream_v2.sell_service.domain.sell.domain.exception.SellException;
+import com.fream_v2.sell_service.global.presentation.dto.ErrorResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 미리 인코딩한 에러 응답이 ErrorResponse의 Jackson 직렬화 결과와 같은지 검증
+ */
+class GlobalExceptionHandlerTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    void encodedErrorResponseMatchesJackson() throws Exception {
+        assertMatchesJackson(new SellException(SellErrorCode.ALREADY_MATCHED), SellErrorCode.ALREADY_MATCHED);
+        assertMatchesJackson(SellException.notFound(1L), SellErrorCode.SELL_ID_NOT_FOUND);
+        assertMatchesJackson(new CommonException(GlobalErrorCode.INVALID_INPUT_VALUE, "잘못된 값 \"a\\b\"\n\t\u0001"),
+                GlobalErrorCode.INVALID_INPUT_VALUE);
+        assertMatchesJackson(new IllegalStateException("unexpected"), GlobalErrorCode.INTERNAL_SERVER_ERROR);
+    }
+
+    @Test
+    void pathsNeedingEscapeAreEncodedLikeJackson() throws Exception {
+        ErrorResponseTemplate template = ErrorResponseTemplate.of(GlobalErrorCode.BAD_REQUEST);
+        for (String path : new String[]{"/api/v1/판매", "/a\"b\\c", "/tab\t", ""}) {
+            DataBuffer buffer = template.write(DefaultDataBufferFactory.sharedInstance, null, path, 1_735_689_600_000L);
+            String expected = jacksonWithTimestamp(ErrorResponse.of(GlobalErrorCode.BAD_REQUEST, path), 1_735_689_600_000L);
+            assertThat(buffer.toString(StandardCharsets.UTF_8)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void onlyServerErrorsCaptureStackTraces() {
+        assertThat(new SellException(SellErrorCode.ALREADY_MATCHED).getStackTrace()).isEmpty();
+        assertThat(new CommonException(GlobalErrorCode.INVALID_CURSOR, new IllegalArgumentException()).getStackTrace())
+                .isEmpty();
+        assertThat(new CommonException(GlobalErrorCode.INTERNAL_SERVER_ERROR).getStackTrace()).isNotEmpty();
+    }
+
+    private void assertMatchesJackson(Throwable ex, ErrorCode errorCode) throws Exception {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/sells/1"));
+        handler.handle(exchange, ex).block();
+
+        String body = exchange.getResponse().getBodyAsString().block();
+        long timestamp = objectMapper.readTree(body).get("timestamp").asLong();
+        String message = ex instanceof GlobalException ? ex.getMessage() : errorCode.getMessage();
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.valueOf(errorCode.getStatus()));
+        assertThat(body).isEqualTo(jacksonWithTimestamp(ErrorResponse.of(errorCode, message, "/api/v1/sells/1"), timestamp));
+    }
+
+    /**
+     * ErrorResponse는 생성 시각을 직접 채우므로 직렬화 결과의 timestamp만 비교 대상 값으로 교체
+     */
+    private String jacksonWithTimestamp(ErrorResponse response, long timestamp) throws Exception {
+        String json = objectMapper.writeValueAsString(response);
+        return json.replace("\"timestamp\":" + response.getTimestamp(), "\"timestamp\":" + timestamp);
+    }
+}